@@ -3,9 +3,11 @@ package com.alivro.spring.sleepyringtail;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @ComponentScan({"com.alivro.spring.sleepyringtail"})
+@EnableScheduling
 public class SleepyRingtailApplication {
     public static void main(String[] args) {
         SpringApplication.run(SleepyRingtailApplication.class, args);
@@ -0,0 +1,116 @@
+package com.alivro.spring.sleepyringtail.alert;
+
+import com.alivro.spring.sleepyringtail.constants.MessageConstants;
+import com.alivro.spring.sleepyringtail.model.inventory.response.StockAlertResponseDto;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Notificaciones de cambios de nivel de existencia (Server-Sent Events).
+ * <p>
+ * Los servicios informan cada cambio de existencia con el nivel anterior y la cantidad nueva; solo se
+ * notifica cuando el producto cruza el stock mínimo o el máximo, sin volver a consultar el inventario.
+ * El envío se hace en un hilo propio para que un suscriptor lento no retrase las escrituras.
+ */
+@Component
+public class StockAlertPublisher {
+    private static final String MESSAGE_FORMAT = "{} {}: {}";
+
+    // Tiempo máximo de una suscripción; al expirar, el cliente vuelve a conectarse
+    private static final long SUBSCRIPTION_TIMEOUT = Duration.ofMinutes(30).toMillis();
+
+    // Nombre del evento enviado a los suscriptores
+    private static final String EVENT_NAME = "stock-level";
+
+    private final Logger logger = LoggerFactory.getLogger(StockAlertPublisher.class);
+    private final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "stock-alert-dispatch");
+        thread.setDaemon(true);
+
+        return thread;
+    });
+
+    /**
+     * Método para suscribirse a los cambios de nivel de existencia
+     *
+     * @return Flujo de eventos del suscriptor
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(SUBSCRIPTION_TIMEOUT);
+
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(emitter));
+        subscribers.add(emitter);
+
+        return emitter;
+    }
+
+    /**
+     * Método para informar un cambio de existencia. Si el producto cambia de nivel o su inventario es
+     * nuevo, se notifica a los suscriptores.
+     *
+     * @param productId         Identificador único del producto
+     * @param previousLevel     Nivel de existencia antes del cambio (null si el inventario es nuevo)
+     * @param quantityAvailable Cantidad disponible después del cambio
+     * @param minimumStock      Stock mínimo
+     * @param maximumStock      Stock máximo
+     * @return true si el producto cambió de nivel
+     */
+    public boolean stockChanged(Integer productId, StockLevel previousLevel, int quantityAvailable,
+                                int minimumStock, int maximumStock) {
+        StockLevel level = StockLevel.of(quantityAvailable, minimumStock, maximumStock);
+
+        if (previousLevel == level) {
+            return false;
+        }
+
+        StockAlertResponseDto alert = StockAlertResponseDto.builder()
+                .productId(productId)
+                .quantityAvailable(quantityAvailable)
+                .minimumStock(minimumStock)
+                .maximumStock(maximumStock)
+                .previousLevel(previousLevel)
+                .level(level)
+                .build();
+
+        logger.info(MESSAGE_FORMAT, MessageConstants.STOCK_LEVEL_CHANGED, MessageConstants.ID, productId);
+
+        if (!subscribers.isEmpty()) {
+            dispatcher.execute(() -> send(alert));
+        }
+
+        return true;
+    }
+
+    /**
+     * Método para cerrar los flujos de los suscriptores al detener la aplicación
+     */
+    @PreDestroy
+    public void close() {
+        dispatcher.shutdownNow();
+        subscribers.forEach(SseEmitter::complete);
+    }
+
+    private void send(StockAlertResponseDto alert) {
+        for (SseEmitter emitter : subscribers) {
+            try {
+                emitter.send(SseEmitter.event().name(EVENT_NAME).data(alert));
+            } catch (IOException | IllegalStateException e) {
+                // El cliente se desconectó
+                subscribers.remove(emitter);
+            }
+        }
+    }
+}
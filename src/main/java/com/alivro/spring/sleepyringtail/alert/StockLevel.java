@@ -0,0 +1,31 @@
+package com.alivro.spring.sleepyringtail.alert;
+
+/**
+ * Nivel de existencia de un producto respecto a su stock mínimo y máximo
+ */
+public enum StockLevel {
+    // Cantidad disponible menor o igual al stock mínimo
+    LOW,
+
+    // Cantidad disponible entre el stock mínimo y el máximo
+    NORMAL,
+
+    // Cantidad disponible mayor al stock máximo
+    HIGH;
+
+    /**
+     * Método para obtener el nivel de existencia de un producto
+     *
+     * @param quantityAvailable Cantidad disponible
+     * @param minimumStock      Stock mínimo
+     * @param maximumStock      Stock máximo
+     * @return Nivel de existencia
+     */
+    public static StockLevel of(int quantityAvailable, int minimumStock, int maximumStock) {
+        if (quantityAvailable <= minimumStock) {
+            return LOW;
+        }
+
+        return quantityAvailable > maximumStock ? HIGH : NORMAL;
+    }
+}
@@ -0,0 +1,378 @@
+package com.alivro.spring.sleepyringtail.buffer;
+
+import com.alivro.spring.sleepyringtail.cache.BarcodeCache;
+import com.alivro.spring.sleepyringtail.constants.MessageConstants;
+import com.alivro.spring.sleepyringtail.dao.InventoryBatchDao;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Acumulador en memoria de los ajustes de existencia (modo de escritura diferida, opcional).
+ * <p>
+ * Los productos de alta rotación reciben muchos ajustes concurrentes sobre la misma fila del
+ * inventario, que se serializan en el bloqueo de la fila. En este modo, cada ajuste se valida contra
+ * la existencia guardada más los deltas pendientes, se registra en un diario local (con fsync antes de
+ * confirmarlo) y se acumula por producto. Los deltas acumulados se guardan en un solo lote cada cierto
+ * intervalo o al alcanzar un número de ajustes pendientes.
+ * <p>
+ * El lote y la última secuencia del diario se guardan en la misma transacción; al iniciar, los
+ * registros del diario posteriores a esa secuencia se vuelven a aplicar, de modo que una caída no
+ * pierde ni duplica ajustes.
+ * <p>
+ * Las lecturas y los ajustes toman el candado de lectura; el guardado toma el de escritura, para que
+ * nunca se vea un delta contado dos veces (ya guardado y aún pendiente) o ninguna vez. Las escrituras
+ * directas en la existencia (canasta de venta y sobrescritura) también toman el de escritura, después
+ * de guardar los deltas pendientes.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class InventoryDeltaBuffer {
+    private static final String MESSAGE_FORMAT = "{} {}: {}";
+    private final Logger logger = LoggerFactory.getLogger(InventoryDeltaBuffer.class);
+    private final InventoryBatchDao inventoryBatchDao;
+    private final BarcodeCache barcodeCache;
+    private final boolean enabled;
+    private final int flushThreshold;
+    private final Path journalPath;
+
+    // Delta pendiente por ID de producto
+    private final Map<Integer, AtomicLong> pendingDeltas = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private FileChannel journal;
+    private ExecutorService flushExecutor;
+
+    /**
+     * Constructor
+     *
+     * @param inventoryBatchDao Inventory Dao para operaciones por lotes
+     * @param barcodeCache      Caché de productos por código de barras
+     * @param enabled           Indica si está activo el modo de escritura diferida
+     * @param flushThreshold    Número de ajustes pendientes que provoca un guardado inmediato
+     * @param journal           Ruta del diario local
+     */
+    @Autowired
+    public InventoryDeltaBuffer(InventoryBatchDao inventoryBatchDao, BarcodeCache barcodeCache,
+                                @Value("${inventory.write-behind.enabled:false}") boolean enabled,
+                                @Value("${inventory.write-behind.flush-threshold:1000}") int flushThreshold,
+                                @Value("${inventory.write-behind.journal:inventory-deltas.journal}") String journal) {
+        this.inventoryBatchDao = inventoryBatchDao;
+        this.barcodeCache = barcodeCache;
+        this.enabled = enabled;
+        this.flushThreshold = flushThreshold;
+        this.journalPath = Path.of(journal).toAbsolutePath();
+    }
+
+    /**
+     * Método para aplicar los registros del diario que no se guardaron antes de la última caída y
+     * abrir el diario
+     */
+    @PostConstruct
+    public void open() throws IOException {
+        if (!enabled) {
+            return;
+        }
+
+        long checkpoint = inventoryBatchDao.findCheckpoint(journalName());
+        long lastSequence = checkpoint;
+        Map<Integer, Long> deltas = new TreeMap<>();
+
+        if (Files.exists(journalPath)) {
+            for (String record : Files.readAllLines(journalPath, StandardCharsets.US_ASCII)) {
+                String[] fields = record.split(" ");
+
+                // Un registro incompleto no llegó a confirmarse
+                if (fields.length != 3) {
+                    continue;
+                }
+
+                long recordSequence = Long.parseLong(fields[0]);
+
+                if (recordSequence > checkpoint) {
+                    deltas.merge(Integer.valueOf(fields[1]), Long.valueOf(fields[2]), Long::sum);
+                    lastSequence = Math.max(lastSequence, recordSequence);
+                }
+            }
+        }
+
+        if (!deltas.isEmpty()) {
+            logger.info(MESSAGE_FORMAT, MessageConstants.RECOVER_INVENTORY_JOURNAL,
+                    MessageConstants.ID, deltas.keySet());
+
+            inventoryBatchDao.applyQuantitiesByProduct(deltas, journalName(), lastSequence);
+            barcodeCache.invalidateProducts(deltas.keySet());
+        }
+
+        sequence.set(lastSequence);
+        journal = FileChannel.open(journalPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        journal.truncate(0);
+        journal.force(true);
+
+        flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "inventory-delta-flush");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+    }
+
+    /**
+     * Método para guardar los ajustes pendientes y cerrar el diario al detener la aplicación
+     */
+    @PreDestroy
+    public void close() throws IOException {
+        if (!enabled) {
+            return;
+        }
+
+        flushExecutor.shutdown();
+        flush();
+        journal.close();
+    }
+
+    /**
+     * Método para saber si está activo el modo de escritura diferida
+     *
+     * @return true si los ajustes se acumulan en memoria
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Método para leer la existencia guardada sin que un guardado concurrente la modifique, de modo
+     * que se pueda sumar el delta pendiente
+     *
+     * @param read Lectura de la base de datos
+     * @return Resultado de la lectura
+     */
+    public <T> T read(Supplier<T> read) {
+        if (!enabled) {
+            return read.get();
+        }
+
+        lock.readLock().lock();
+
+        try {
+            return read.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Método para obtener el delta pendiente de un producto
+     *
+     * @param productId Identificador único del producto
+     * @return Delta pendiente de guardar
+     */
+    public long pending(Integer productId) {
+        AtomicLong delta = pendingDeltas.get(productId);
+
+        return delta == null ? 0 : delta.get();
+    }
+
+    /**
+     * Método para obtener los productos cuya existencia disminuirá al guardar los deltas pendientes
+     *
+     * @return Identificadores únicos de los productos con delta pendiente negativo
+     */
+    public Set<Integer> pendingDecreases() {
+        Set<Integer> productIds = new HashSet<>();
+
+        pendingDeltas.forEach((productId, delta) -> {
+            if (delta.get() < 0) {
+                productIds.add(productId);
+            }
+        });
+
+        return productIds;
+    }
+
+    /**
+     * Método para acumular un ajuste de existencia. Se debe llamar dentro de {@link #read(Supplier)},
+     * con la existencia guardada leída en la misma llamada.
+     *
+     * @param productId      Identificador único del producto
+     * @param storedQuantity Existencia guardada en la base de datos
+     * @param delta          Cantidad a sumar (positiva) o restar (negativa)
+     * @return Existencia después del ajuste, o -1 si la existencia quedaría negativa
+     */
+    public long add(Integer productId, long storedQuantity, int delta) {
+        AtomicLong pendingDelta = pendingDeltas.computeIfAbsent(productId, id -> new AtomicLong());
+        long previous;
+
+        // Reserva el ajuste en memoria; la comparación y el cambio son atómicos por producto
+        do {
+            previous = pendingDelta.get();
+
+            if (storedQuantity + previous + delta < 0) {
+                return -1;
+            }
+        } while (!pendingDelta.compareAndSet(previous, previous + delta));
+
+        try {
+            appendToJournal(productId, delta);
+        } catch (IOException e) {
+            pendingDelta.addAndGet(-delta);
+
+            throw new UncheckedIOException(e);
+        }
+
+        if (pendingCount.incrementAndGet() >= flushThreshold && flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                try {
+                    flush();
+                } finally {
+                    flushRequested.set(false);
+                }
+            });
+        }
+
+        return storedQuantity + previous + delta;
+    }
+
+    /**
+     * Método para ejecutar una escritura directa en la existencia (canasta de venta o sobrescritura).
+     * Antes se guardan los deltas pendientes, y no se admiten ajustes ni lecturas hasta que termina la
+     * escritura: así esta se valida contra la existencia real y ningún ajuste se valida contra la
+     * existencia anterior a ella. La escritura debe confirmar su transacción antes de terminar.
+     *
+     * @param write Escritura en la base de datos, con su propia transacción
+     * @return Resultado de la escritura
+     */
+    public <T> T exclusive(Supplier<T> write) {
+        if (!enabled) {
+            return write.get();
+        }
+
+        lock.writeLock().lock();
+
+        try {
+            flushPending();
+
+            return write.get();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Método para guardar en un solo lote los deltas pendientes y vaciar el diario. Si el guardado
+     * falla, los deltas siguen pendientes y se reintentan en el siguiente intervalo.
+     */
+    @Scheduled(fixedDelayString = "${inventory.write-behind.flush-interval-ms:200}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+
+        lock.writeLock().lock();
+
+        try {
+            flushPending();
+        } catch (IOException | RuntimeException e) {
+            logger.warn(MESSAGE_FORMAT, MessageConstants.INVENTORY_DELTAS_NOT_FLUSHED,
+                    MessageConstants.JOURNAL, journalPath, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Método para guardar los deltas pendientes con el candado de escritura ya tomado. Si el guardado
+     * falla, los deltas siguen pendientes.
+     */
+    private void flushPending() throws IOException {
+        if (pendingCount.get() == 0) {
+            return;
+        }
+
+        // Ordenados por ID de producto para bloquear las filas siempre en el mismo orden
+        Map<Integer, Long> deltas = new TreeMap<>();
+
+        pendingDeltas.forEach((productId, delta) -> {
+            if (delta.get() != 0) {
+                deltas.put(productId, delta.get());
+            }
+        });
+
+        if (!deltas.isEmpty()) {
+            int[] updatedRows =
+                    inventoryBatchDao.applyQuantitiesByProduct(deltas, journalName(), sequence.get());
+
+            logMissingProducts(deltas, updatedRows);
+        }
+
+        journal.truncate(0);
+        journal.force(true);
+
+        pendingDeltas.clear();
+        pendingCount.set(0);
+
+        barcodeCache.invalidateProducts(deltas.keySet());
+    }
+
+    /**
+     * Método para registrar un ajuste en el diario y forzar su escritura en disco
+     *
+     * @param productId Identificador único del producto
+     * @param delta     Cantidad a sumar o restar
+     */
+    private void appendToJournal(Integer productId, int delta) throws IOException {
+        String record = sequence.incrementAndGet() + " " + productId + " " + delta + "\n";
+
+        journal.write(ByteBuffer.wrap(record.getBytes(StandardCharsets.US_ASCII)));
+        journal.force(false);
+    }
+
+    private void logMissingProducts(Map<Integer, Long> deltas, int[] updatedRows) {
+        List<Integer> productIds = List.copyOf(deltas.keySet());
+
+        for (int i = 0; i < updatedRows.length; i++) {
+            if (updatedRows[i] == 0) {
+                logger.warn(MESSAGE_FORMAT, MessageConstants.INVENTORY_DELTA_DISCARDED,
+                        MessageConstants.ID, productIds.get(i));
+            }
+        }
+    }
+
+    private String journalName() {
+        return journalPath.toString();
+    }
+}
@@ -0,0 +1,186 @@
+package com.alivro.spring.sleepyringtail.cache;
+
+import com.alivro.spring.sleepyringtail.model.product.response.ProductGetResponseDto;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Caché acotada en memoria de productos por código de barras.
+ * <p>
+ * Los códigos de barras numéricos (EAN-13, UPC-A, EAN-8) se convierten a una llave de tipo long y se
+ * guardan en una tabla de tamaño fijo con acceso directo: cada llave ocupa una única posición y una
+ * colisión reemplaza a la entrada anterior. Las lecturas y escrituras no usan bloqueos.
+ * <p>
+ * Cada invalidación incrementa una versión; un producto leído de la base de datos antes de una
+ * invalidación no se guarda, de modo que la caché no vuelve a quedar con información obsoleta.
+ */
+@Component
+public class BarcodeCache {
+    // Número de posiciones de la tabla (potencia de 2)
+    private static final int CAPACITY = 1 << 14;
+
+    // Longitud máxima de un código de barras numérico que cabe en la llave
+    private static final int MAX_BARCODE_LENGTH = 13;
+
+    private final AtomicReferenceArray<Slot> slots = new AtomicReferenceArray<>(CAPACITY);
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Método para obtener la versión actual de la caché. Se debe consultar antes de leer el producto
+     * de la base de datos y enviarse al guardarlo.
+     *
+     * @return Versión actual
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * Método para buscar un producto en la caché por su código de barras
+     *
+     * @param barcode Código de barras del producto
+     * @return Información del producto, o null si no está en la caché
+     */
+    public ProductGetResponseDto get(String barcode) {
+        long key = toKey(barcode);
+
+        if (key < 0) {
+            return null;
+        }
+
+        Slot slot = slots.get(indexOf(key));
+
+        return slot != null && slot.key() == key ? slot.product() : null;
+    }
+
+    /**
+     * Método para guardar un producto en la caché, siempre que no haya habido invalidaciones desde
+     * la versión dada
+     *
+     * @param product     Información del producto
+     * @param readVersion Versión de la caché antes de leer el producto de la base de datos
+     */
+    public void put(ProductGetResponseDto product, long readVersion) {
+        long key = toKey(product.getBarcode());
+
+        if (key < 0) {
+            return;
+        }
+
+        int index = indexOf(key);
+        Slot slot = new Slot(key, product);
+
+        slots.set(index, slot);
+
+        // Si hubo una invalidación concurrente, descarta la entrada recién guardada
+        if (version.get() != readVersion) {
+            slots.compareAndSet(index, slot, null);
+        }
+    }
+
+    /**
+     * Método para invalidar un código de barras
+     *
+     * @param barcode Código de barras del producto
+     */
+    public void invalidate(String barcode) {
+        version.incrementAndGet();
+
+        long key = toKey(barcode);
+
+        if (key < 0) {
+            return;
+        }
+
+        int index = indexOf(key);
+        Slot slot = slots.get(index);
+
+        if (slot != null && slot.key() == key) {
+            slots.compareAndSet(index, slot, null);
+        }
+    }
+
+    /**
+     * Método para invalidar un producto por su ID, cuando no se conoce su código de barras
+     *
+     * @param productId Identificador único del producto
+     */
+    public void invalidateProduct(Integer productId) {
+        invalidateProducts(Set.of(productId));
+    }
+
+    /**
+     * Método para invalidar varios productos por su ID recorriendo la tabla una sola vez
+     *
+     * @param productIds Identificadores únicos de los productos
+     */
+    public void invalidateProducts(Collection<Integer> productIds) {
+        // Búsqueda constante por cada ranura, aunque se reciba una lista
+        Set<Integer> ids = new HashSet<>(productIds);
+
+        version.incrementAndGet();
+
+        for (int i = 0; i < CAPACITY; i++) {
+            Slot slot = slots.get(i);
+
+            if (slot != null && ids.contains(slot.product().getId())) {
+                slots.compareAndSet(i, slot, null);
+            }
+        }
+    }
+
+    /**
+     * Método para vaciar la caché
+     */
+    public void clear() {
+        version.incrementAndGet();
+
+        for (int i = 0; i < CAPACITY; i++) {
+            slots.set(i, null);
+        }
+    }
+
+    /**
+     * Método para convertir un código de barras numérico a una llave. La longitud se guarda en los
+     * 4 bits inferiores para distinguir los ceros a la izquierda.
+     *
+     * @param barcode Código de barras
+     * @return Llave, o -1 si el código de barras no es numérico o es demasiado largo
+     */
+    private static long toKey(String barcode) {
+        if (barcode == null || barcode.isEmpty() || barcode.length() > MAX_BARCODE_LENGTH) {
+            return -1;
+        }
+
+        long value = 0;
+
+        for (int i = 0; i < barcode.length(); i++) {
+            char digit = barcode.charAt(i);
+
+            if (digit < '0' || digit > '9') {
+                return -1;
+            }
+
+            value = value * 10 + (digit - '0');
+        }
+
+        return value << 4 | barcode.length();
+    }
+
+    private static int indexOf(long key) {
+        int hash = Long.hashCode(key * 0x9E3779B97F4A7C15L);
+
+        return (hash ^ hash >>> 16) & (CAPACITY - 1);
+    }
+
+    /**
+     * Entrada de la caché
+     */
+    private record Slot(long key, ProductGetResponseDto product) {
+    }
+}
@@ -0,0 +1,91 @@
+package com.alivro.spring.sleepyringtail.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom sobre cadenas. Puede indicar que una cadena existe sin que exista (falso positivo),
+ * pero nunca indica que una cadena agregada no existe. Es seguro para hilos.
+ */
+public class BloomFilter {
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * Constructor
+     *
+     * @param expectedInsertions Número esperado de cadenas
+     * @param falsePositiveRate  Probabilidad de falsos positivos deseada con ese número de cadenas
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long insertions = Math.max(expectedInsertions, 1);
+        long optimalBits = (long) Math.ceil(-insertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max((optimalBits + 63) / 64, 1);
+
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = (int) Math.max(Math.round((double) bitCount / insertions * Math.log(2)), 1);
+    }
+
+    /**
+     * Método para agregar una cadena al filtro
+     *
+     * @param value Cadena
+     */
+    public void add(String value) {
+        long hash = hash(value);
+        long hash1 = hash;
+        long hash2 = hash >>> 32 | 1;
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+
+            do {
+                current = bits.get(word);
+            } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    /**
+     * Método para consultar si una cadena pudo haberse agregado al filtro
+     *
+     * @param value Cadena
+     * @return false si la cadena definitivamente no se agregó, true si pudo haberse agregado
+     */
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        long hash1 = hash;
+        long hash2 = hash >>> 32 | 1;
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+
+            if ((bits.get((int) (bit >>> 6)) & 1L << bit) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Hash FNV-1a de 64 bits sobre los caracteres, con mezcla final para repartir los bits
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+
+        return hash;
+    }
+}
@@ -0,0 +1,171 @@
+package com.alivro.spring.sleepyringtail.cache;
+
+import com.alivro.spring.sleepyringtail.constants.MessageConstants;
+import com.alivro.spring.sleepyringtail.dao.CategoryDao;
+import com.alivro.spring.sleepyringtail.model.category.projection.CategoryTreeProjection;
+import com.alivro.spring.sleepyringtail.model.category.response.CategoryTreeResponseDto;
+import com.alivro.spring.sleepyringtail.model.util.response.SubcategoryTreeResponseDto;
+import com.alivro.spring.sleepyringtail.util.response.CustomResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Instantánea inmutable del árbol de categorías y subcategorías, ya serializada como JSON.
+ * <p>
+ * El árbol se obtiene con una sola consulta y se serializa una vez; las peticiones reciben los mismos
+ * bytes y su ETag, calculado a partir de ellos. Cada cambio en categorías, subcategorías o productos
+ * incrementa una versión; la siguiente lectura reconstruye la instantánea y la reemplaza de forma
+ * atómica. Una instantánea construida a partir de una lectura anterior a un cambio nunca se sirve como
+ * vigente.
+ */
+@Component
+public class CategoryTreeCache {
+    // Número de bytes del resumen SHA-256 que forman el ETag
+    private static final int ETAG_BYTES = 16;
+
+    private final CategoryDao categoryDao;
+    private final ObjectMapper objectMapper;
+    private final AtomicLong version = new AtomicLong();
+
+    // Con hilos virtuales, un bloque synchronized que consulta la base de datos fija el hilo portador
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    /**
+     * Constructor
+     *
+     * @param categoryDao  Category Dao
+     * @param objectMapper Serializador JSON de la aplicación
+     */
+    @Autowired
+    public CategoryTreeCache(CategoryDao categoryDao, ObjectMapper objectMapper) {
+        this.categoryDao = categoryDao;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Método para obtener la instantánea vigente del árbol de categorías; si hubo cambios desde la
+     * última, se reconstruye
+     *
+     * @return Instantánea del árbol de categorías
+     */
+    public Snapshot get() {
+        Snapshot current = snapshot;
+
+        if (current != null && current.version() == version.get()) {
+            return current;
+        }
+
+        return rebuild();
+    }
+
+    /**
+     * Método para marcar la instantánea como obsoleta tras un cambio en la taxonomía o en los productos
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+
+    /**
+     * Método para reconstruir la instantánea. Solo un hilo la reconstruye a la vez; los demás esperan y
+     * reciben la misma instantánea.
+     *
+     * @return Instantánea del árbol de categorías
+     */
+    private Snapshot rebuild() {
+        rebuildLock.lock();
+
+        try {
+            // La versión se lee antes de consultar la base de datos
+            long readVersion = version.get();
+            Snapshot current = snapshot;
+
+            if (current != null && current.version() == readVersion) {
+                return current;
+            }
+
+            CustomResponse<CategoryTreeResponseDto, Void> response =
+                    CustomResponse.<CategoryTreeResponseDto, Void>builder()
+                    .status(HttpStatus.OK.value())
+                    .message(MessageConstants.FOUND_CATEGORY_TREE)
+                    .data(toTree(categoryDao.findTree()))
+                    .build();
+
+            byte[] body = objectMapper.writeValueAsBytes(response);
+            Snapshot rebuilt = new Snapshot(readVersion, body, etagOf(body));
+
+            snapshot = rebuilt;
+
+            return rebuilt;
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Método para agrupar las subcategorías por categoría conservando el orden de la consulta
+     *
+     * @param rows Subcategorías de cada categoría
+     * @return Árbol de categorías
+     */
+    private static List<CategoryTreeResponseDto> toTree(List<CategoryTreeProjection> rows) {
+        Map<Integer, CategoryTreeResponseDto> categories = new LinkedHashMap<>();
+
+        for (CategoryTreeProjection row : rows) {
+            CategoryTreeResponseDto category = categories.computeIfAbsent(row.categoryId(), id ->
+                    CategoryTreeResponseDto.builder()
+                            .id(id)
+                            .name(row.categoryName())
+                            .subcategories(new ArrayList<>())
+                            .build());
+
+            if (row.subcategoryId() != null) {
+                category.getSubcategories().add(SubcategoryTreeResponseDto.builder()
+                        .id(row.subcategoryId())
+                        .name(row.subcategoryName())
+                        .productCount(row.productCount())
+                        .build());
+                category.setProductCount(category.getProductCount() + row.productCount());
+            }
+        }
+
+        return List.copyOf(categories.values());
+    }
+
+    private static String etagOf(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+
+            return "\"" + HexFormat.of().formatHex(Arrays.copyOf(digest, ETAG_BYTES)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Instantánea del árbol de categorías
+     *
+     * @param version Versión de los datos a partir de la cual se construyó
+     * @param body    Respuesta serializada como JSON; no se debe modificar
+     * @param etag    ETag fuerte de la respuesta
+     */
+    public record Snapshot(long version, byte[] body, String etag) {
+    }
+}
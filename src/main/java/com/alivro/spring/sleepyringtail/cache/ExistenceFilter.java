@@ -0,0 +1,177 @@
+package com.alivro.spring.sleepyringtail.cache;
+
+import com.alivro.spring.sleepyringtail.constants.MessageConstants;
+import com.alivro.spring.sleepyringtail.dao.CategoryDao;
+import com.alivro.spring.sleepyringtail.dao.ProductDao;
+import com.alivro.spring.sleepyringtail.dao.SubcategoryDao;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Filtros de Bloom sobre las llaves únicas (código de barras, nombre de categoría y nombre de
+ * subcategoría), para omitir la consulta de existencia antes de guardar cuando la llave
+ * definitivamente no existe.
+ * <p>
+ * Los filtros se construyen en segundo plano al iniciar la aplicación y los servicios agregan las
+ * llaves que guardan o actualizan. Las llaves eliminadas no se quitan: solo provocan falsos positivos,
+ * es decir, una consulta de existencia de más. Mientras un filtro no esté listo, se considera que
+ * cualquier llave puede existir. La restricción UNIQUE de la base de datos sigue siendo la validación
+ * definitiva.
+ */
+@Component
+public class ExistenceFilter {
+    private static final String MESSAGE_FORMAT = "{} {}: {}";
+
+    // Probabilidad de falsos positivos al alcanzar el número esperado de llaves
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    // Margen de crecimiento sobre el número de llaves al construir los filtros
+    private static final int GROWTH_FACTOR = 2;
+
+    // Número mínimo de llaves esperadas por filtro
+    private static final int MIN_EXPECTED_KEYS = 10_000;
+
+    // Número de registros leídos por consulta al construir los filtros
+    private static final int BATCH_SIZE = 1000;
+
+    private final Logger logger = LoggerFactory.getLogger(ExistenceFilter.class);
+    private final ProductDao productDao;
+    private final SubcategoryDao subcategoryDao;
+    private final CategoryDao categoryDao;
+
+    // Filtros listos y filtros en construcción
+    private final Map<UniqueKey, BloomFilter> filters = new EnumMap<>(UniqueKey.class);
+    private final Map<UniqueKey, BloomFilter> buildingFilters = new EnumMap<>(UniqueKey.class);
+
+    /**
+     * Constructor
+     *
+     * @param productDao     Product Dao
+     * @param subcategoryDao Subcategory Dao
+     * @param categoryDao    Category Dao
+     */
+    @Autowired
+    public ExistenceFilter(ProductDao productDao, SubcategoryDao subcategoryDao, CategoryDao categoryDao) {
+        this.productDao = productDao;
+        this.subcategoryDao = subcategoryDao;
+        this.categoryDao = categoryDao;
+    }
+
+    /**
+     * Método para construir los filtros en segundo plano una vez iniciada la aplicación
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Thread builder = new Thread(this::rebuild, "existence-filter");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    /**
+     * Método para construir los filtros a partir de las llaves guardadas en la base de datos
+     */
+    public void rebuild() {
+        try {
+            build(UniqueKey.BARCODE, productDao.count(),
+                    productDao::findProjectedByIdGreaterThan, p -> p.id(), p -> p.barcode());
+            build(UniqueKey.SUBCATEGORY_NAME, subcategoryDao.count(),
+                    subcategoryDao::findProjectedByIdGreaterThan, s -> s.id(), s -> s.name());
+            build(UniqueKey.CATEGORY_NAME, categoryDao.count(),
+                    categoryDao::findProjectedByIdGreaterThan, c -> c.id(), c -> c.name());
+        } catch (RuntimeException e) {
+            logger.warn(MessageConstants.EXISTENCE_FILTERS_NOT_BUILT, e);
+        }
+    }
+
+    /**
+     * Método para consultar si una llave puede existir
+     *
+     * @param key   Tipo de llave
+     * @param value Valor de la llave
+     * @return false si la llave definitivamente no existe, true si puede existir
+     */
+    public boolean mightContain(UniqueKey key, String value) {
+        BloomFilter filter;
+
+        synchronized (this) {
+            filter = filters.get(key);
+        }
+
+        return filter == null || value == null || filter.mightContain(value);
+    }
+
+    /**
+     * Método para agregar una llave guardada o actualizada
+     *
+     * @param key   Tipo de llave
+     * @param value Valor de la llave
+     */
+    public void add(UniqueKey key, String value) {
+        if (value == null) {
+            return;
+        }
+
+        BloomFilter filter;
+        BloomFilter buildingFilter;
+
+        synchronized (this) {
+            filter = filters.get(key);
+            buildingFilter = buildingFilters.get(key);
+        }
+
+        if (filter != null) {
+            filter.add(value);
+        }
+
+        if (buildingFilter != null) {
+            buildingFilter.add(value);
+        }
+    }
+
+    private <T> void build(UniqueKey key, long count, BiFunction<Integer, Pageable, List<T>> finder,
+                           Function<T, Integer> id, Function<T, String> value) {
+        BloomFilter filter = new BloomFilter(
+                Math.max(count * GROWTH_FACTOR, MIN_EXPECTED_KEYS), FALSE_POSITIVE_RATE);
+
+        // Las llaves agregadas durante la construcción también se guardan en el nuevo filtro
+        synchronized (this) {
+            buildingFilters.put(key, filter);
+        }
+
+        try {
+            List<T> batch;
+            int after = 0;
+
+            do {
+                batch = finder.apply(after, PageRequest.ofSize(BATCH_SIZE));
+
+                for (T element : batch) {
+                    filter.add(value.apply(element));
+                    after = id.apply(element);
+                }
+            } while (batch.size() == BATCH_SIZE);
+
+            synchronized (this) {
+                filters.put(key, filter);
+            }
+
+            logger.info(MESSAGE_FORMAT, MessageConstants.BUILT_EXISTENCE_FILTER, key, count);
+        } finally {
+            synchronized (this) {
+                buildingFilters.remove(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.alivro.spring.sleepyringtail.cache;
+
+/**
+ * Llaves únicas cuya existencia se verifica antes de guardar un registro
+ */
+public enum UniqueKey {
+    BARCODE,
+    CATEGORY_NAME,
+    SUBCATEGORY_NAME
+}
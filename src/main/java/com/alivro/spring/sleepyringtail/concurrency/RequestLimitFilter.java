@@ -0,0 +1,180 @@
+package com.alivro.spring.sleepyringtail.concurrency;
+
+import com.alivro.spring.sleepyringtail.constants.MessageConstants;
+import com.alivro.spring.sleepyringtail.handler.ResponseHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Límite de peticiones simultáneas para el modo de hilos virtuales.
+ * <p>
+ * Con hilos de plataforma, el tamaño del pool de Tomcat limita cuántas peticiones esperan una conexión
+ * de HikariCP. Con hilos virtuales no hay tal límite: miles de peticiones pueden esperar en la cola del
+ * pool hasta agotar su tiempo de espera. Este filtro admite a lo más un número de peticiones por cada
+ * conexión del pool; las demás esperan un permiso un tiempo breve y, si no lo obtienen, reciben 503
+ * con Retry-After para que el cliente reintente en lugar de acumularse en el servidor.
+ * <p>
+ * Una petición asíncrona (importación o exportación en streaming) conserva su permiso hasta que
+ * termina la respuesta. Los flujos de eventos (SSE) quedan fuera del límite: permanecen abiertos hasta
+ * 30 minutos sin usar conexiones del pool y, si conservaran su permiso, unos cuantos suscriptores
+ * bastarían para rechazar todas las demás peticiones.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class RequestLimitFilter extends OncePerRequestFilter {
+    private static final String MESSAGE_FORMAT = "{} {}: {}";
+
+    // Segundos sugeridos al cliente antes de reintentar
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final Logger logger = LoggerFactory.getLogger(RequestLimitFilter.class);
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructor
+     *
+     * @param poolSize             Número máximo de conexiones del pool de HikariCP
+     * @param permitsPerConnection Peticiones simultáneas admitidas por cada conexión del pool
+     * @param acquireTimeoutMs     Espera máxima por un permiso, en milisegundos
+     * @param objectMapper         Serializador JSON de la aplicación
+     */
+    @Autowired
+    public RequestLimitFilter(@Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                              @Value("${request-limit.permits-per-connection:4}") int permitsPerConnection,
+                              @Value("${request-limit.acquire-timeout-ms:1000}") long acquireTimeoutMs,
+                              ObjectMapper objectMapper) {
+        this.permits = new Semaphore(poolSize * permitsPerConnection, true);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Método para excluir del límite las suscripciones a flujos de eventos
+     *
+     * @param request Petición HTTP
+     * @return true si el cliente solicita un flujo de eventos
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return isEventStream(request.getHeader(HttpHeaders.ACCEPT));
+    }
+
+    /**
+     * Método para atender la petición si hay un permiso disponible, o responder 503 si no lo hay
+     *
+     * @param request  Petición HTTP
+     * @param response Respuesta HTTP
+     * @param chain    Cadena de filtros
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!acquire()) {
+            logger.warn(MESSAGE_FORMAT, MessageConstants.REQUEST_LIMIT_EXCEEDED,
+                    MessageConstants.PATH, request.getRequestURI());
+
+            reject(request, response);
+            return;
+        }
+
+        boolean async = false;
+
+        try {
+            chain.doFilter(request, response);
+
+            // Un flujo de eventos solicitado sin el encabezado Accept libera su permiso al iniciar
+            if (request.isAsyncStarted() && !isEventStream(response.getContentType())) {
+                request.getAsyncContext().addListener(new ReleaseListener());
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * Método para saber cuántas peticiones más se pueden admitir
+     *
+     * @return Número de permisos disponibles
+     */
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private boolean acquire() {
+        try {
+            return permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            return false;
+        }
+    }
+
+    private static boolean isEventStream(String mediaTypes) {
+        return mediaTypes != null && mediaTypes.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        objectMapper.writeValue(response.getOutputStream(), ResponseHandler.sendErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE, MessageConstants.REQUEST_LIMIT_EXCEEDED,
+                request.getRequestURI()).getBody());
+    }
+
+    /**
+     * Libera el permiso de una petición asíncrona al terminar su respuesta (también tras un error o
+     * un tiempo de espera agotado)
+     */
+    private final class ReleaseListener implements AsyncListener {
+        @Override
+        public void onComplete(AsyncEvent event) {
+            permits.release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Un nuevo ciclo asíncrono reemplaza los receptores; se vuelve a registrar
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -7,12 +7,14 @@ public final class MessageConstants {
     // Categorías
     public static final String FIND_ALL_CATEGORIES = "Busca todas las categorías.";
     public static final String FIND_CATEGORY = "Busca categoría.";
+    public static final String FIND_CATEGORY_TREE = "Busca el árbol de categorías y subcategorías.";
     public static final String SAVE_CATEGORY = "Guarda categoría.";
     public static final String UPDATE_CATEGORY = "Actualiza categoría.";
     public static final String DELETE_CATEGORY = "Elimina categoría.";
 
     public static final String FOUND_CATEGORIES = "Categorías encontradas.";
     public static final String FOUND_CATEGORY = "Categoría encontrada.";
+    public static final String FOUND_CATEGORY_TREE = "Árbol de categorías y subcategorías encontrado.";
     public static final String SAVED_CATEGORY = "Categoría guardada.";
     public static final String UPDATED_CATEGORY = "Categoría actualizada.";
     public static final String DELETED_CATEGORY = "Categoría eliminada.";
@@ -64,18 +66,49 @@ public final class MessageConstants {
     public static final String PRODUCT_EXISTS = "El producto existe.";
     public static final String PRODUCT_ALREADY_EXISTS = "El producto ya existe.";
 
+    // Importación de productos
+    public static final String IMPORT_PRODUCTS = "Importa productos.";
+    public static final String IMPORTED_PRODUCTS = "Productos importados.";
+    public static final String PRODUCT_IMPORT_HEADER_MISSING = "El archivo CSV no tiene encabezado.";
+    public static final String PRODUCT_IMPORT_RECORD_NOT_VALID = "El registro no tiene un formato válido.";
+    public static final String PRODUCT_IMPORT_SUBCATEGORY_NOT_FOUND =
+            "subcategory: No existe una subcategoría con el nombre dado.";
+    public static final String PRODUCT_IMPORT_BATCH_NOT_SAVED =
+            "El lote del registro no se guardó; se puede volver a importar.";
+    public static final String PRODUCT_IMPORT_BARCODE_REPEATED =
+            "barcode: El código de barras se repite más adelante en el archivo; se guarda el último registro.";
+    public static final String PRODUCT_IMPORT_BARCODE_CONFLICT =
+            "barcode: Otro proceso guardó un producto con el mismo código de barras durante la importación.";
+    public static final String PRODUCT_IMPORT_PRODUCT_ID_CONFLICT =
+            "productId: Otro proceso guardó el inventario del producto durante la importación.";
+
+    // Exportación de productos
+    public static final String EXPORT_PRODUCTS = "Exporta productos.";
+    public static final String EXPORTED_PRODUCTS = "Productos exportados.";
+
     // Inventario
     public static final String FIND_ALL_INVENTORY = "Busca el inventario de todos los productos.";
     public static final String FIND_INVENTORY = "Busca el inventario del producto.";
     public static final String SAVE_INVENTORY = "Guarda el inventario del producto.";
     public static final String UPDATE_INVENTORY = "Actualiza el inventario del producto.";
     public static final String DELETE_INVENTORY = "Elimina el inventario del producto.";
+    public static final String ADJUST_INVENTORY = "Ajusta la existencia del producto.";
+    public static final String ADJUST_BASKET = "Ajusta la existencia de los productos de la canasta.";
+    public static final String FIND_INVENTORY_MOVEMENTS = "Busca los movimientos de inventario del producto.";
+    public static final String FIND_STOCK_AT = "Calcula la existencia del producto en un momento dado.";
+    public static final String FIND_LOW_STOCK = "Busca el inventario de los productos en existencia baja.";
+    public static final String SUBSCRIBE_STOCK_ALERTS = "Suscripción a los cambios de nivel de existencia.";
 
     public static final String FOUND_ALL_INVENTORY = "Inventario de todos los productos encontrado.";
     public static final String FOUND_INVENTORY = "Inventario del producto encontrado.";
     public static final String SAVED_INVENTORY = "Inventario del producto guardado.";
     public static final String UPDATED_INVENTORY = "Inventario del producto actualizado.";
     public static final String DELETED_INVENTORY = "Inventario del producto eliminado.";
+    public static final String ADJUSTED_INVENTORY = "Existencia del producto ajustada.";
+    public static final String ADJUSTED_BASKET = "Existencia de los productos de la canasta ajustada.";
+    public static final String FOUND_INVENTORY_MOVEMENTS = "Movimientos de inventario del producto encontrados.";
+    public static final String FOUND_STOCK_AT = "Existencia del producto en el momento dado calculada.";
+    public static final String FOUND_LOW_STOCK = "Inventario de los productos en existencia baja encontrado.";
 
     public static final String INVENTORY_NOT_FOUND = "Inventario del producto no encontrado.";
     public static final String INVENTORY_NOT_SAVED = "Inventario del producto no guardado.";
@@ -83,10 +116,76 @@ public final class MessageConstants {
 
     public static final String INVENTORY_EXISTS = "El producto existe en el inventario.";
     public static final String INVENTORY_ALREADY_EXISTS = "El producto ya existe en el inventario.";
+    public static final String INSUFFICIENT_STOCK = "La existencia del producto es insuficiente.";
+
+    // Escritura diferida del inventario
+    public static final String RECOVER_INVENTORY_JOURNAL = "Aplica los ajustes de existencia pendientes del diario.";
+    public static final String INVENTORY_DELTAS_NOT_FLUSHED = "Ajustes de existencia pendientes no guardados.";
+    public static final String INVENTORY_DELTA_DISCARDED =
+            "Ajuste de existencia descartado, el producto ya no está en el inventario.";
+    public static final String JOURNAL = "Diario";
+
+    // Niveles de existencia
+    public static final String STOCK_LEVEL_CHANGED = "El producto cambió de nivel de existencia.";
+
+    // Libro de inventario
+    public static final String SAVED_INVENTORY_SNAPSHOTS = "Instantáneas de existencia guardadas.";
+    public static final String INVENTORY_SNAPSHOTS_NOT_SAVED = "Instantáneas de existencia no guardadas.";
+
+    // Sugerencias de compra
+    public static final String GENERATE_PURCHASE_SUGGESTIONS = "Calcula las sugerencias de compra.";
+    public static final String FIND_PURCHASE_SUGGESTIONS = "Busca las sugerencias de compra.";
+
+    public static final String GENERATED_PURCHASE_SUGGESTIONS = "Sugerencias de compra calculadas.";
+    public static final String FOUND_PURCHASE_SUGGESTIONS = "Sugerencias de compra encontradas.";
+
+    public static final String PURCHASE_SUGGESTIONS_NOT_FOUND = "No existen sugerencias de compra calculadas.";
+    public static final String PURCHASE_SUGGESTIONS_NOT_GENERATED = "Sugerencias de compra no calculadas.";
+
+    // Caché de segundo nivel
+    public static final String FIND_CACHE_STATISTICS = "Busca las estadísticas de la caché de segundo nivel.";
+    public static final String FOUND_CACHE_STATISTICS = "Estadísticas de la caché de segundo nivel encontradas.";
+
+    // Filtros de existencia
+    public static final String BUILT_EXISTENCE_FILTER = "Filtro de existencia construido.";
+    public static final String EXISTENCE_FILTERS_NOT_BUILT = "Filtros de existencia no construidos.";
+
+    // Índice de búsqueda de productos
+    public static final String BUILT_PRODUCT_SEARCH_INDEX = "Índice de búsqueda de productos construido.";
+    public static final String PRODUCT_SEARCH_INDEX_NOT_BUILT = "Índice de búsqueda de productos no construido.";
+
+    // Autocompletado
+    public static final String SUGGEST = "Busca sugerencias.";
+    public static final String FOUND_SUGGESTIONS = "Sugerencias encontradas.";
+    public static final String BUILT_SUGGESTION_INDEX = "Índice de autocompletado construido.";
+    public static final String SUGGESTION_INDEX_NOT_BUILT = "Índice de autocompletado no construido.";
+
+    // Integridad de datos
+    public static final String DATA_INTEGRITY_VIOLATION =
+            "La información viola una restricción de integridad (por ejemplo, un valor único duplicado).";
+
+    // Paginación
+    public static final String CURSOR_NOT_VALID = "El cursor de paginación no es válido.";
+
+    // Límite de peticiones simultáneas
+    public static final String REQUEST_LIMIT_EXCEEDED =
+            "El servidor está atendiendo el máximo de peticiones simultáneas; se puede reintentar en un momento.";
 
     // Otras
+    public static final String AFTER = "Después de";
+    public static final String AT = "Momento";
     public static final String BARCODE = "Código de barras";
+    public static final String CUTOFF = "Corte";
     public static final String DESCRIPTION = "Descripción";
+    public static final String FORMAT = "Formato";
     public static final String ID = "ID";
+    public static final String LINE = "Línea";
+    public static final String MODE = "Modo";
     public static final String NAME = "Nombre";
+    public static final String NAMES = "Nombres";
+    public static final String PATH = "Ruta";
+    public static final String PREFIX = "Prefijo";
+    public static final String PRODUCTS = "Productos";
+    public static final String READ = "Registros leídos";
+    public static final String WRITTEN = "Registros escritos";
 }
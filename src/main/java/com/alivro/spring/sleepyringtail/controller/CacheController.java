@@ -0,0 +1,49 @@
+package com.alivro.spring.sleepyringtail.controller;
+
+import com.alivro.spring.sleepyringtail.constants.MessageConstants;
+import com.alivro.spring.sleepyringtail.handler.ResponseHandler;
+import com.alivro.spring.sleepyringtail.model.cache.response.CacheStatisticsResponseDto;
+import com.alivro.spring.sleepyringtail.service.ICacheService;
+import com.alivro.spring.sleepyringtail.util.response.CustomResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/cache")
+@CrossOrigin(origins = "http://localhost:4200")
+public class CacheController {
+    private final Logger logger = LoggerFactory.getLogger(CacheController.class);
+    private final ICacheService cacheService;
+
+    /**
+     * Constructor
+     *
+     * @param cacheService Cache service
+     */
+    @Autowired
+    public CacheController(ICacheService cacheService) {
+        this.cacheService = cacheService;
+    }
+
+    /**
+     * Endpoint para obtener los aciertos y fallos de cada región de la caché de segundo nivel
+     *
+     * @return Estadísticas de cada región
+     */
+    @GetMapping("/statistics")
+    public ResponseEntity<CustomResponse<CacheStatisticsResponseDto, Void>> getStatistics() {
+        List<CacheStatisticsResponseDto> statistics = cacheService.findStatistics();
+
+        logger.info(MessageConstants.FOUND_CACHE_STATISTICS);
+
+        return ResponseHandler.sendResponse(
+                HttpStatus.OK, MessageConstants.FOUND_CACHE_STATISTICS, statistics, null
+        );
+    }
+}
@@ -6,6 +6,7 @@ import com.alivro.spring.sleepyringtail.model.Category;
 import com.alivro.spring.sleepyringtail.model.category.request.CategoryGenericRequestDto;
 import com.alivro.spring.sleepyringtail.model.category.response.CategoryGenericResponseDto;
 import com.alivro.spring.sleepyringtail.model.category.response.CategoryGetResponseDto;
+import com.alivro.spring.sleepyringtail.model.category.response.SerializedCategoryTreeResponseDto;
 import com.alivro.spring.sleepyringtail.service.ICategoryService;
 import com.alivro.spring.sleepyringtail.util.pagination.CustomPageMetadata;
 import com.alivro.spring.sleepyringtail.util.pagination.CustomPaginationData;
@@ -17,9 +18,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/category")
@@ -41,14 +45,19 @@ public class CategoryController {
     /**
      * Endpoint para buscar todas las categorías
      *
+     * @param after    Cursor de la página anterior. Si se indica (aunque sea vacío), se usa paginación
+     *                 por cursor sobre el ID en lugar de paginación por desplazamiento
+     * @param pageable Información de paginación
      * @return Información de todas las categorías
      */
     @GetMapping("/getAll")
     public ResponseEntity<CustomResponse<CategoryGenericResponseDto, CustomPageMetadata>> getAllCategories(
+            @RequestParam(name = "after", required = false) String after,
             @PageableDefault(page = 0, size = 5, sort = "id", direction = Sort.Direction.ASC)
             Pageable pageable) {
-        CustomPaginationData<CategoryGenericResponseDto, Category> categoriesData =
-                categoryService.findAll(pageable);
+        CustomPaginationData<CategoryGenericResponseDto, Category> categoriesData = after != null
+                ? categoryService.findAllAfter(after, pageable.getPageSize())
+                : categoryService.findAll(pageable);
 
         logger.info(MessageConstants.FOUND_CATEGORIES);
 
@@ -60,17 +69,21 @@ public class CategoryController {
     /**
      * Endpoint para buscar todas las categorías que contengan una palabra dada
      *
-     * @param word     Palabra a buscar en el nombre de la categoría
-     * @param pageable Información de paginación
+     * @param word      Palabra a buscar en el nombre de la categoría
+     * @param withTotal Si es false, se omite la consulta COUNT y los metadatos solo indican si existe
+     *                  una página siguiente
+     * @param pageable  Información de paginación
      * @return Información de todas las categorías que cumplen con el criterio de búsqueda
      */
     @GetMapping("/getAllByName/{word}")
     public ResponseEntity<CustomResponse<CategoryGenericResponseDto, CustomPageMetadata>> getAllCategoriesByName(
             @PathVariable("word") String word,
+            @RequestParam(name = "withTotal", defaultValue = "true") boolean withTotal,
             @PageableDefault(page = 0, size = 5, sort = "id", direction = Sort.Direction.ASC)
             Pageable pageable) {
-        CustomPaginationData<CategoryGenericResponseDto, Category> categoriesData =
-                categoryService.findAllByName(word, pageable);
+        CustomPaginationData<CategoryGenericResponseDto, Category> categoriesData = withTotal
+                ? categoryService.findAllByName(word, pageable)
+                : categoryService.findSliceByName(word, pageable);
 
         logger.info(MessageConstants.FOUND_CATEGORIES);
 
@@ -79,6 +92,31 @@ public class CategoryController {
         );
     }
 
+    /**
+     * Endpoint para obtener el árbol de categorías y subcategorías con el número de productos de cada una.
+     * La respuesta se sirve ya serializada; si el ETag enviado en If-None-Match coincide, se responde 304
+     * sin cuerpo.
+     *
+     * @param request Petición HTTP
+     * @return Árbol de categorías y subcategorías
+     */
+    @GetMapping("/tree")
+    public ResponseEntity<byte[]> getCategoryTree(WebRequest request) {
+        SerializedCategoryTreeResponseDto tree = categoryService.findTree();
+
+        if (request.checkNotModified(tree.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(tree.getEtag()).build();
+        }
+
+        logger.info(MessageConstants.FOUND_CATEGORY_TREE);
+
+        return ResponseEntity.ok()
+                .eTag(tree.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(tree.getBody());
+    }
+
     /**
      * Endpoint para buscar una categoría por su ID
      *
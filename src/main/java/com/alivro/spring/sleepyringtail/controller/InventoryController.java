@@ -3,8 +3,14 @@ package com.alivro.spring.sleepyringtail.controller;
 import com.alivro.spring.sleepyringtail.constants.MessageConstants;
 import com.alivro.spring.sleepyringtail.handler.ResponseHandler;
 import com.alivro.spring.sleepyringtail.model.Inventory;
+import com.alivro.spring.sleepyringtail.model.InventoryMovement;
+import com.alivro.spring.sleepyringtail.model.inventory.request.InventoryAdjustRequestDto;
+import com.alivro.spring.sleepyringtail.model.inventory.request.InventoryBasketRequestDto;
 import com.alivro.spring.sleepyringtail.model.inventory.request.InventoryGenericRequestDto;
+import com.alivro.spring.sleepyringtail.model.inventory.response.InventoryAdjustResponseDto;
 import com.alivro.spring.sleepyringtail.model.inventory.response.InventoryGenericResponseDto;
+import com.alivro.spring.sleepyringtail.model.inventory.response.InventoryMovementResponseDto;
+import com.alivro.spring.sleepyringtail.model.inventory.response.InventoryStockResponseDto;
 import com.alivro.spring.sleepyringtail.service.IInventoryService;
 import com.alivro.spring.sleepyringtail.util.pagination.CustomPageMetadata;
 import com.alivro.spring.sleepyringtail.util.pagination.CustomPaginationData;
@@ -16,9 +22,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.OffsetDateTime;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/inventory")
@@ -40,13 +52,19 @@ public class InventoryController {
     /**
      * Endpoint para buscar el inventario de todos los productos
      *
+     * @param after    Cursor de la página anterior. Si se indica (aunque sea vacío), se usa paginación
+     *                 por cursor sobre el ID en lugar de paginación por desplazamiento
+     * @param pageable Información de paginación
      * @return Información del inventario de todos los productos
      */
     @GetMapping("/getAll")
     public ResponseEntity<CustomResponse<InventoryGenericResponseDto, CustomPageMetadata>> getAllInventory(
+            @RequestParam(name = "after", required = false) String after,
             @PageableDefault(page = 0, size = 5, sort = "id", direction = Sort.Direction.ASC)
             Pageable pageable) {
-        CustomPaginationData<InventoryGenericResponseDto, Inventory> inventoryData = inventoryService.findAll(pageable);
+        CustomPaginationData<InventoryGenericResponseDto, Inventory> inventoryData = after != null
+                ? inventoryService.findAllAfter(after, pageable.getPageSize())
+                : inventoryService.findAll(pageable);
 
         logger.info(MessageConstants.FOUND_ALL_INVENTORY);
 
@@ -109,6 +127,124 @@ public class InventoryController {
         );
     }
 
+    /**
+     * Endpoint para sumar o restar una cantidad a la existencia de un producto (entradas y ventas)
+     *
+     * @param id      Identificador único del producto en el inventario
+     * @param request Cantidad a sumar o restar
+     * @return Existencia del producto después del ajuste
+     */
+    @PostMapping("/{id}/adjust")
+    public ResponseEntity<CustomResponse<InventoryAdjustResponseDto, Void>> adjustInventory(
+            @PathVariable("id") Integer id, @Valid @RequestBody InventoryAdjustRequestDto request) {
+        InventoryAdjustResponseDto adjustedInventory = inventoryService.adjust(id, request);
+
+        logger.info(MessageConstants.ADJUSTED_INVENTORY);
+
+        return ResponseHandler.sendResponse(
+                HttpStatus.OK, MessageConstants.ADJUSTED_INVENTORY, adjustedInventory
+        );
+    }
+
+    /**
+     * Endpoint para sumar o restar cantidades a la existencia de los productos de una canasta de venta.
+     * Si alguna línea no se puede aplicar, no se aplica ninguna.
+     *
+     * @param request Líneas de la canasta (producto y cantidad)
+     * @return Información del inventario de los productos después del ajuste
+     */
+    @PostMapping("/basket")
+    public ResponseEntity<CustomResponse<InventoryGenericResponseDto, Void>> adjustBasket(
+            @Valid @RequestBody InventoryBasketRequestDto request) {
+        List<InventoryGenericResponseDto> adjustedInventory = inventoryService.adjustBasket(request);
+
+        logger.info(MessageConstants.ADJUSTED_BASKET);
+
+        return ResponseHandler.sendResponse(
+                HttpStatus.OK, MessageConstants.ADJUSTED_BASKET, adjustedInventory, null
+        );
+    }
+
+    /**
+     * Endpoint para buscar el inventario de los productos en existencia baja (cantidad disponible menor
+     * o igual al stock mínimo)
+     *
+     * @param pageable Información de paginación
+     * @return Información del inventario de los productos en existencia baja
+     */
+    @GetMapping("/lowStock")
+    public ResponseEntity<CustomResponse<InventoryGenericResponseDto, CustomPageMetadata>> getLowStock(
+            @PageableDefault(page = 0, size = 20, sort = "id", direction = Sort.Direction.ASC)
+            Pageable pageable) {
+        CustomPaginationData<InventoryGenericResponseDto, Inventory> inventoryData =
+                inventoryService.findLowStock(pageable);
+
+        logger.info(MessageConstants.FOUND_LOW_STOCK);
+
+        return ResponseHandler.sendResponse(
+                HttpStatus.OK, MessageConstants.FOUND_LOW_STOCK, inventoryData.getData(),
+                inventoryData.getMetadata()
+        );
+    }
+
+    /**
+     * Endpoint para recibir como Server-Sent Events los cambios de nivel de existencia (existencia
+     * baja, normal o alta) de los productos
+     *
+     * @return Flujo de eventos
+     */
+    @GetMapping(value = "/lowStock/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStockAlerts() {
+        return inventoryService.subscribeStockAlerts();
+    }
+
+    /**
+     * Endpoint para buscar los movimientos del libro de inventario de un producto, del más reciente al
+     * más antiguo
+     *
+     * @param productId Identificador único del producto
+     * @param pageable  Información de paginación
+     * @return Movimientos de inventario del producto
+     */
+    @GetMapping("/product/{productId}/movements")
+    public ResponseEntity<CustomResponse<InventoryMovementResponseDto, CustomPageMetadata>> getMovements(
+            @PathVariable("productId") Integer productId,
+            @PageableDefault(page = 0, size = 20, sort = "id", direction = Sort.Direction.DESC)
+            Pageable pageable) {
+        CustomPaginationData<InventoryMovementResponseDto, InventoryMovement> movementData =
+                inventoryService.findMovementsByProductId(productId, pageable);
+
+        logger.info(MessageConstants.FOUND_INVENTORY_MOVEMENTS);
+
+        return ResponseHandler.sendResponse(
+                HttpStatus.OK, MessageConstants.FOUND_INVENTORY_MOVEMENTS, movementData.getData(),
+                movementData.getMetadata()
+        );
+    }
+
+    /**
+     * Endpoint para calcular la existencia de un producto en un momento dado a partir del libro de
+     * inventario
+     *
+     * @param productId Identificador único del producto
+     * @param at        Momento de la consulta en formato ISO-8601 (por defecto, el momento actual)
+     * @return Existencia del producto en ese momento
+     */
+    @GetMapping("/product/{productId}/stock")
+    public ResponseEntity<CustomResponse<InventoryStockResponseDto, Void>> getStockAt(
+            @PathVariable("productId") Integer productId,
+            @RequestParam(name = "at", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime at) {
+        InventoryStockResponseDto stock = inventoryService.findQuantityAt(
+                productId, at != null ? at : OffsetDateTime.now());
+
+        logger.info(MessageConstants.FOUND_STOCK_AT);
+
+        return ResponseHandler.sendResponse(
+                HttpStatus.OK, MessageConstants.FOUND_STOCK_AT, stock
+        );
+    }
+
     /**
      * Endpoint para eliminar del inventario un producto por su ID
      *
@@ -3,13 +3,21 @@ package com.alivro.spring.sleepyringtail.controller;
 import com.alivro.spring.sleepyringtail.constants.MessageConstants;
 import com.alivro.spring.sleepyringtail.handler.ResponseHandler;
 import com.alivro.spring.sleepyringtail.model.Product;
+import com.alivro.spring.sleepyringtail.model.product.request.ProductExportFormat;
 import com.alivro.spring.sleepyringtail.model.product.request.ProductGenericRequestDto;
+import com.alivro.spring.sleepyringtail.model.product.request.ProductImportFormat;
+import com.alivro.spring.sleepyringtail.model.product.request.ProductImportMode;
 import com.alivro.spring.sleepyringtail.model.product.response.ProductGenericResponseDto;
 import com.alivro.spring.sleepyringtail.model.product.response.ProductGetResponseDto;
+import com.alivro.spring.sleepyringtail.model.product.response.ProductImportResponseDto;
+import com.alivro.spring.sleepyringtail.model.suggestion.response.SuggestionResponseDto;
+import com.alivro.spring.sleepyringtail.service.IProductExportService;
+import com.alivro.spring.sleepyringtail.service.IProductImportService;
 import com.alivro.spring.sleepyringtail.service.IProductService;
 import com.alivro.spring.sleepyringtail.util.pagination.CustomPageMetadata;
 import com.alivro.spring.sleepyringtail.util.pagination.CustomPaginationData;
 import com.alivro.spring.sleepyringtail.util.response.CustomResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,9 +25,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/product")
@@ -27,27 +45,43 @@ import org.springframework.web.bind.annotation.*;
 public class ProductController {
     private final Logger logger = LoggerFactory.getLogger(ProductController.class);
     private final IProductService productService;
+    private final IProductImportService productImportService;
+    private final IProductExportService productExportService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Constructor
      *
-     * @param productService Product service
+     * @param productService       Product service
+     * @param productImportService Product import service
+     * @param productExportService Product export service
+     * @param objectMapper         Serializador JSON de la aplicación
      */
     @Autowired
-    public ProductController(IProductService productService) {
+    public ProductController(IProductService productService, IProductImportService productImportService,
+                             IProductExportService productExportService, ObjectMapper objectMapper) {
         this.productService = productService;
+        this.productImportService = productImportService;
+        this.productExportService = productExportService;
+        this.objectMapper = objectMapper;
     }
 
     /**
      * Endpoint para buscar todos los productos
      *
+     * @param after    Cursor de la página anterior. Si se indica (aunque sea vacío), se usa paginación
+     *                 por cursor sobre el ID en lugar de paginación por desplazamiento
+     * @param pageable Información de paginación
      * @return Información de todos los productos
      */
     @GetMapping("/getAll")
     public ResponseEntity<CustomResponse<ProductGenericResponseDto, CustomPageMetadata>> getAllProducts(
+            @RequestParam(name = "after", required = false) String after,
             @PageableDefault(page = 0, size = 5, sort = "id", direction = Sort.Direction.ASC)
             Pageable pageable) {
-        CustomPaginationData<ProductGenericResponseDto, Product> productsData = productService.findAll(pageable);
+        CustomPaginationData<ProductGenericResponseDto, Product> productsData = after != null
+                ? productService.findAllAfter(after, pageable.getPageSize())
+                : productService.findAll(pageable);
 
         logger.info(MessageConstants.FOUND_PRODUCTS);
 
@@ -56,20 +90,52 @@ public class ProductController {
         );
     }
 
+    /**
+     * Endpoint para exportar todos los productos, con su subcategoría, categoría e inventario, en un
+     * archivo CSV o NDJSON. Los productos se leen con un cursor y se escriben conforme se leen, sin
+     * paginar ni contar el catálogo.
+     *
+     * @param format Formato del archivo (NDJSON por omisión)
+     * @return Archivo con todos los productos
+     */
+    @GetMapping(value = "/export", produces = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> exportProducts(
+            @RequestParam(name = "format", defaultValue = "NDJSON") ProductExportFormat format) {
+        boolean csv = format == ProductExportFormat.CSV;
+
+        StreamingResponseBody file = output -> {
+            productExportService.exportProducts(format, output);
+
+            logger.info(MessageConstants.EXPORTED_PRODUCTS);
+        };
+
+        return ResponseEntity.ok()
+                .contentType(csv ? MediaType.parseMediaType("text/csv") : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(csv ? "products.csv" : "products.ndjson")
+                        .build()
+                        .toString())
+                .body(file);
+    }
+
     /**
      * Endpoint para buscar todos los productos que contengan una palabra dada en su nombre
      *
-     * @param word     Palabra a buscar en el nombre del producto
-     * @param pageable Información de paginación
+     * @param word      Palabra a buscar en el nombre del producto
+     * @param withTotal Si es false, se omite la consulta COUNT y los metadatos solo indican si existe
+     *                  una página siguiente
+     * @param pageable  Información de paginación
      * @return Información de todos los productos que cumplen con el criterio de búsqueda
      */
     @GetMapping("/getAllByName/{word}")
     public ResponseEntity<CustomResponse<ProductGenericResponseDto, CustomPageMetadata>> getAllProductsByName(
             @PathVariable("word") String word,
+            @RequestParam(name = "withTotal", defaultValue = "true") boolean withTotal,
             @PageableDefault(page = 0, size = 5, sort = "id", direction = Sort.Direction.ASC)
             Pageable pageable) {
-        CustomPaginationData<ProductGenericResponseDto, Product> productsData =
-                productService.findAllByName(word, pageable);
+        CustomPaginationData<ProductGenericResponseDto, Product> productsData = withTotal
+                ? productService.findAllByName(word, pageable)
+                : productService.findSliceByName(word, pageable);
 
         logger.info(MessageConstants.FOUND_PRODUCTS);
 
@@ -81,17 +147,21 @@ public class ProductController {
     /**
      * Endpoint para buscar todos los productos que contengan una palabra dada en su descripción
      *
-     * @param word     Palabra a buscar en la descripción del producto
-     * @param pageable Información de paginación
+     * @param word      Palabra a buscar en la descripción del producto
+     * @param withTotal Si es false, se omite la consulta COUNT y los metadatos solo indican si existe
+     *                  una página siguiente
+     * @param pageable  Información de paginación
      * @return Información de todos los productos que cumplen con el criterio de búsqueda
      */
     @GetMapping("/getAllByDescription/{word}")
     public ResponseEntity<CustomResponse<ProductGenericResponseDto, CustomPageMetadata>> getAllProductsByDescription(
             @PathVariable("word") String word,
+            @RequestParam(name = "withTotal", defaultValue = "true") boolean withTotal,
             @PageableDefault(page = 0, size = 5, sort = "id", direction = Sort.Direction.ASC)
             Pageable pageable) {
-        CustomPaginationData<ProductGenericResponseDto, Product> productsData =
-                productService.findAllByDescription(word, pageable);
+        CustomPaginationData<ProductGenericResponseDto, Product> productsData = withTotal
+                ? productService.findAllByDescription(word, pageable)
+                : productService.findSliceByDescription(word, pageable);
 
         logger.info(MessageConstants.FOUND_PRODUCTS);
 
@@ -100,6 +170,26 @@ public class ProductController {
         );
     }
 
+    /**
+     * Endpoint para sugerir productos, subcategorías y categorías mientras se escribe su nombre
+     *
+     * @param prefix Prefijo de alguna de las palabras del nombre
+     * @param limit  Número máximo de sugerencias
+     * @return Lista de sugerencias con el origen, ID y nombre
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<CustomResponse<SuggestionResponseDto, Void>> suggest(
+            @RequestParam(name = "prefix") String prefix,
+            @RequestParam(name = "limit", defaultValue = "10") int limit) {
+        List<SuggestionResponseDto> suggestions = productService.suggest(prefix, limit);
+
+        logger.info(MessageConstants.FOUND_SUGGESTIONS);
+
+        return ResponseHandler.sendResponse(
+                HttpStatus.OK, MessageConstants.FOUND_SUGGESTIONS, suggestions, null
+        );
+    }
+
     /**
      * Endpoint para buscar un producto por su ID
      *
@@ -117,6 +207,24 @@ public class ProductController {
         );
     }
 
+    /**
+     * Endpoint para buscar un producto por su código de barras
+     *
+     * @param barcode Código de barras único del producto
+     * @return Información del producto buscado
+     */
+    @GetMapping("/barcode/{barcode}")
+    public ResponseEntity<CustomResponse<ProductGetResponseDto, Void>> getProductByBarcode(
+            @PathVariable("barcode") String barcode) {
+        ProductGetResponseDto foundProduct = productService.findByBarcode(barcode);
+
+        logger.info(MessageConstants.FOUND_PRODUCT);
+
+        return ResponseHandler.sendResponse(
+                HttpStatus.OK, MessageConstants.FOUND_PRODUCT, foundProduct
+        );
+    }
+
     /**
      * Endpoint para guardar una nueva producto
      *
@@ -135,6 +243,46 @@ public class ProductController {
         );
     }
 
+    /**
+     * Endpoint para importar productos desde un archivo CSV (text/csv, con encabezado) o NDJSON
+     * (application/x-ndjson). El archivo se lee mientras se recibe y los productos se guardan por lotes;
+     * los que ya existen (mismo código de barras) se actualizan. Con el modo COPY, cada lote se copia a
+     * una tabla de carga y se combina con sentencias sobre conjuntos (cargas completas del catálogo).
+     * La respuesta es NDJSON: una línea por cada registro rechazado, conforme se procesa el archivo, y
+     * al final una línea con el resumen.
+     *
+     * @param contentType Tipo de contenido del archivo
+     * @param mode        Forma de guardar los registros (BATCH por omisión)
+     * @param body        Contenido del archivo
+     * @return Errores de los registros rechazados y resumen de la importación
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importProducts(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            @RequestParam(name = "mode", defaultValue = "BATCH") ProductImportMode mode, InputStream body) {
+        ProductImportFormat format = MediaType.APPLICATION_NDJSON.includes(contentType)
+                ? ProductImportFormat.NDJSON
+                : ProductImportFormat.CSV;
+
+        StreamingResponseBody report = output -> {
+            ProductImportResponseDto summary = productImportService.importProducts(
+                    body, format, mode, error -> writeLine(output, error));
+
+            logger.info(MessageConstants.IMPORTED_PRODUCTS);
+
+            writeLine(output, CustomResponse.builder()
+                    .status(HttpStatus.OK.value())
+                    .message(MessageConstants.IMPORTED_PRODUCTS)
+                    .data(List.of(summary))
+                    .build());
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(report);
+    }
+
     /**
      * Endpoint para actualizar la información de un producto
      *
@@ -170,4 +318,19 @@ public class ProductController {
                 HttpStatus.OK, MessageConstants.DELETED_PRODUCT
         );
     }
+
+    /**
+     * Método para escribir un objeto como una línea de la respuesta NDJSON
+     *
+     * @param output Respuesta
+     * @param value  Objeto a escribir
+     */
+    private void writeLine(OutputStream output, Object value) {
+        try {
+            output.write(objectMapper.writeValueAsBytes(value));
+            output.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -0,0 +1,96 @@
+package com.alivro.spring.sleepyringtail.controller;
+
+import com.alivro.spring.sleepyringtail.constants.MessageConstants;
+import com.alivro.spring.sleepyringtail.handler.ResponseHandler;
+import com.alivro.spring.sleepyringtail.model.PurchaseSuggestion;
+import com.alivro.spring.sleepyringtail.model.purchase.response.PurchaseSuggestionResponseDto;
+import com.alivro.spring.sleepyringtail.model.purchase.response.PurchaseSuggestionRunResponseDto;
+import com.alivro.spring.sleepyringtail.model.purchase.response.PurchaseSuggestionSummaryResponseDto;
+import com.alivro.spring.sleepyringtail.service.IPurchaseSuggestionService;
+import com.alivro.spring.sleepyringtail.util.pagination.CustomPageMetadata;
+import com.alivro.spring.sleepyringtail.util.pagination.CustomPaginationData;
+import com.alivro.spring.sleepyringtail.util.response.CustomResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/purchaseSuggestion")
+@CrossOrigin(origins = "http://localhost:4200")
+public class PurchaseSuggestionController {
+    private final Logger logger = LoggerFactory.getLogger(PurchaseSuggestionController.class);
+    private final IPurchaseSuggestionService purchaseSuggestionService;
+
+    /**
+     * Constructor
+     *
+     * @param purchaseSuggestionService Purchase suggestion service
+     */
+    @Autowired
+    public PurchaseSuggestionController(IPurchaseSuggestionService purchaseSuggestionService) {
+        this.purchaseSuggestionService = purchaseSuggestionService;
+    }
+
+    /**
+     * Endpoint para buscar las sugerencias de compra del cálculo más reciente, agrupadas por categoría
+     * y subcategoría
+     *
+     * @param pageable Información de paginación
+     * @return Sugerencias de compra
+     */
+    @GetMapping("/latest")
+    public ResponseEntity<CustomResponse<PurchaseSuggestionResponseDto, CustomPageMetadata>> getLatest(
+            @PageableDefault(page = 0, size = 50, sort = {"categoryId", "subcategoryId", "productId"},
+                    direction = Sort.Direction.ASC)
+            Pageable pageable) {
+        CustomPaginationData<PurchaseSuggestionResponseDto, PurchaseSuggestion> suggestionData =
+                purchaseSuggestionService.findLatest(pageable);
+
+        logger.info(MessageConstants.FOUND_PURCHASE_SUGGESTIONS);
+
+        return ResponseHandler.sendResponse(
+                HttpStatus.OK, MessageConstants.FOUND_PURCHASE_SUGGESTIONS, suggestionData.getData(),
+                suggestionData.getMetadata()
+        );
+    }
+
+    /**
+     * Endpoint para buscar los totales por categoría y subcategoría del cálculo más reciente
+     *
+     * @return Totales por subcategoría
+     */
+    @GetMapping("/latest/summary")
+    public ResponseEntity<CustomResponse<PurchaseSuggestionSummaryResponseDto, Void>> getLatestSummary() {
+        List<PurchaseSuggestionSummaryResponseDto> summary = purchaseSuggestionService.findLatestSummary();
+
+        logger.info(MessageConstants.FOUND_PURCHASE_SUGGESTIONS);
+
+        return ResponseHandler.sendResponse(
+                HttpStatus.OK, MessageConstants.FOUND_PURCHASE_SUGGESTIONS, summary, null
+        );
+    }
+
+    /**
+     * Endpoint para calcular las sugerencias de compra sin esperar a la tarea periódica
+     *
+     * @return Información del cálculo
+     */
+    @PostMapping("/generate")
+    public ResponseEntity<CustomResponse<PurchaseSuggestionRunResponseDto, Void>> generate() {
+        PurchaseSuggestionRunResponseDto run = purchaseSuggestionService.generate();
+
+        logger.info(MessageConstants.GENERATED_PURCHASE_SUGGESTIONS);
+
+        return ResponseHandler.sendResponse(
+                HttpStatus.CREATED, MessageConstants.GENERATED_PURCHASE_SUGGESTIONS, run
+        );
+    }
+}
@@ -41,14 +41,19 @@ public class SubcategoryController {
     /**
      * Endpoint para buscar todas las subcategorías
      *
+     * @param after    Cursor de la página anterior. Si se indica (aunque sea vacío), se usa paginación
+     *                 por cursor sobre el ID en lugar de paginación por desplazamiento
+     * @param pageable Información de paginación
      * @return Información de todos las subcategorías
      */
     @GetMapping("/getAll")
     public ResponseEntity<CustomResponse<SubcategoryGenericResponseDto, CustomPageMetadata>> getAllSubcategories(
+            @RequestParam(name = "after", required = false) String after,
             @PageableDefault(page = 0, size = 5, sort = "id", direction = Sort.Direction.ASC)
             Pageable pageable) {
-        CustomPaginationData<SubcategoryGenericResponseDto, Subcategory> subcategoriesData =
-                subcategoryService.findAll(pageable);
+        CustomPaginationData<SubcategoryGenericResponseDto, Subcategory> subcategoriesData = after != null
+                ? subcategoryService.findAllAfter(after, pageable.getPageSize())
+                : subcategoryService.findAll(pageable);
 
         logger.info(MessageConstants.FOUND_SUBCATEGORIES);
 
@@ -60,17 +65,21 @@ public class SubcategoryController {
     /**
      * Endpoint para buscar todas las subcategorías que contengan una palabra dada
      *
-     * @param word     Palabra a buscar en el nombre de la subcategoría
-     * @param pageable Información de paginación
+     * @param word      Palabra a buscar en el nombre de la subcategoría
+     * @param withTotal Si es false, se omite la consulta COUNT y los metadatos solo indican si existe
+     *                  una página siguiente
+     * @param pageable  Información de paginación
      * @return Información de todas las subcategorías que cumplen con el criterio de búsqueda
      */
     @GetMapping("/getAllByName/{word}")
     public ResponseEntity<CustomResponse<SubcategoryGenericResponseDto, CustomPageMetadata>> getAllSubcategoriesByName(
             @PathVariable("word") String word,
+            @RequestParam(name = "withTotal", defaultValue = "true") boolean withTotal,
             @PageableDefault(page = 0, size = 5, sort = "id", direction = Sort.Direction.ASC)
             Pageable pageable) {
-        CustomPaginationData<SubcategoryGenericResponseDto, Subcategory> subcategoriesData =
-                subcategoryService.findAllByName(word, pageable);
+        CustomPaginationData<SubcategoryGenericResponseDto, Subcategory> subcategoriesData = withTotal
+                ? subcategoryService.findAllByName(word, pageable)
+                : subcategoryService.findSliceByName(word, pageable);
 
         logger.info(MessageConstants.FOUND_SUBCATEGORIES);
 
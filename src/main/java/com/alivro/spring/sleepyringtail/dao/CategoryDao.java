@@ -1,21 +1,105 @@
 package com.alivro.spring.sleepyringtail.dao;
 
 import com.alivro.spring.sleepyringtail.model.Category;
+import com.alivro.spring.sleepyringtail.model.category.projection.CategoryGenericProjection;
+import com.alivro.spring.sleepyringtail.model.category.projection.CategoryTreeProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface CategoryDao extends JpaRepository<Category, Integer> {
+    /**
+     * Método para buscar todas las categorías, seleccionando únicamente las columnas de la respuesta
+     *
+     * @param pageable Información de paginación
+     * @return Lista de categorías
+     */
+    @Query(value = """
+            SELECT new com.alivro.spring.sleepyringtail.model.category.projection.CategoryGenericProjection(
+                c.id, c.name, c.description)
+            FROM Category c
+            """,
+            countQuery = "SELECT COUNT(c) FROM Category c")
+    Page<CategoryGenericProjection> findAllProjected(Pageable pageable);
+
+    /**
+     * Método para buscar las categorías con ID mayor a uno dado, ordenados por ID
+     * (paginación por cursor). Se apoya en el índice de la llave primaria y no ejecuta la consulta COUNT.
+     *
+     * @param after    Identificador único a partir del cual se busca
+     * @param pageable Límite de resultados (primera página y sin ordenamiento)
+     * @return Lista de categorías
+     */
+    @Query("""
+            SELECT new com.alivro.spring.sleepyringtail.model.category.projection.CategoryGenericProjection(
+                c.id, c.name, c.description)
+            FROM Category c
+            WHERE c.id > :after
+            ORDER BY c.id
+            """)
+    List<CategoryGenericProjection> findProjectedByIdGreaterThan(@Param("after") Integer after, Pageable pageable);
+
     /**
      * Método para buscar todas las categorías que contengan una palabra dada
      *
-     * @param word     Palabra a buscar en el nombre de la categoría
+     * @param word     Palabra a buscar en el nombre de la categoría (con los comodines escapados)
      * @param pageable Información de paginación
      * @return Lista de categorías que cumplen con el criterio de búsqueda
      */
-    Page<Category> findByNameContainingIgnoreCase(String word, Pageable pageable);
+    @Query(value = """
+            SELECT new com.alivro.spring.sleepyringtail.model.category.projection.CategoryGenericProjection(
+                c.id, c.name, c.description)
+            FROM Category c
+            WHERE UPPER(c.name) LIKE UPPER(CONCAT('%', :word, '%')) ESCAPE '\\'
+            """,
+            countQuery = """
+                    SELECT COUNT(c) FROM Category c
+                    WHERE UPPER(c.name) LIKE UPPER(CONCAT('%', :word, '%')) ESCAPE '\\'
+                    """)
+    Page<CategoryGenericProjection> findProjectedByNameContainingIgnoreCase(
+            @Param("word") String word, Pageable pageable);
+
+    /**
+     * Método para buscar todas las categorías que contengan una palabra dada
+     * sin ejecutar la consulta COUNT. Se obtiene un elemento adicional para saber si existe una
+     * página siguiente.
+     *
+     * @param word     Palabra a buscar en el nombre de la categoría (con los comodines escapados)
+     * @param pageable Información de paginación
+     * @return Lista de categorías que cumplen con el criterio de búsqueda
+     */
+    @Query("""
+            SELECT new com.alivro.spring.sleepyringtail.model.category.projection.CategoryGenericProjection(
+                c.id, c.name, c.description)
+            FROM Category c
+            WHERE UPPER(c.name) LIKE UPPER(CONCAT('%', :word, '%')) ESCAPE '\\'
+            """)
+    Slice<CategoryGenericProjection> findSlicedByNameContainingIgnoreCase(
+            @Param("word") String word, Pageable pageable);
+
+    /**
+     * Método para buscar el árbol completo de categorías y subcategorías, con el número de productos de
+     * cada subcategoría, en una sola consulta
+     *
+     * @return Subcategorías de cada categoría, ordenadas por nombre de la categoría y de la subcategoría
+     */
+    @Query("""
+            SELECT new com.alivro.spring.sleepyringtail.model.category.projection.CategoryTreeProjection(
+                c.id, c.name, sc.id, sc.name, COUNT(p))
+            FROM Category c
+            LEFT JOIN c.subcategories sc
+            LEFT JOIN sc.products p
+            GROUP BY c.id, c.name, sc.id, sc.name
+            ORDER BY c.name, sc.name
+            """)
+    List<CategoryTreeProjection> findTree();
 
     /**
      * Método para buscar la existencia de una categoría por su nombre
@@ -0,0 +1,147 @@
+package com.alivro.spring.sleepyringtail.dao;
+
+import com.alivro.spring.sleepyringtail.model.InventoryMovement;
+import com.alivro.spring.sleepyringtail.model.MovementType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Operaciones por lotes sobre el inventario con JDBC, para aplicar varias sentencias en un solo viaje
+ * a la base de datos
+ */
+@Repository
+public class InventoryBatchDao {
+    private static final String ADJUST_QUANTITY_BY_PRODUCT = """
+            UPDATE inventory
+            SET quantity_available = quantity_available + ?
+            WHERE product_id = ? AND quantity_available + ? >= 0
+            """;
+
+    private static final String APPLY_QUANTITY_BY_PRODUCT = """
+            UPDATE inventory
+            SET quantity_available = quantity_available + ?
+            WHERE product_id = ?
+            """;
+
+    private static final String APPEND_MOVEMENT = """
+            INSERT INTO inventory_movements (product_id, movement_type, quantity, created_at)
+            VALUES (?, ?, ?, now())
+            """;
+
+    private static final String FIND_CHECKPOINT = """
+            SELECT sequence
+            FROM inventory_journal_checkpoint
+            WHERE journal = ?
+            """;
+
+    private static final String SAVE_CHECKPOINT = """
+            INSERT INTO inventory_journal_checkpoint (journal, sequence)
+            VALUES (?, ?)
+            ON CONFLICT (journal) DO UPDATE SET sequence = EXCLUDED.sequence
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructor
+     *
+     * @param jdbcTemplate JDBC template
+     */
+    @Autowired
+    public InventoryBatchDao(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Método para sumar o restar cantidades a la existencia de varios productos en un lote de
+     * sentencias condicionales. Debe ejecutarse dentro de una transacción para poder revertir el lote
+     * completo.
+     *
+     * @param deltas Cantidad a sumar o restar por ID de producto, en el orden en que se aplican
+     * @return Número de filas actualizadas por producto, en el mismo orden: 0 si el producto no existe
+     * en el inventario o su existencia quedaría negativa
+     */
+    public int[] adjustQuantitiesByProduct(Map<Integer, Integer> deltas) {
+        List<Object[]> arguments = deltas.entrySet().stream()
+                .map(delta -> new Object[]{delta.getValue(), delta.getKey(), delta.getValue()})
+                .toList();
+
+        return jdbcTemplate.batchUpdate(ADJUST_QUANTITY_BY_PRODUCT, arguments);
+    }
+
+    /**
+     * Método para agregar movimientos al libro de inventario en un lote de sentencias. Se debe ejecutar
+     * en la misma transacción que el cambio de existencia que registran.
+     *
+     * @param movements Movimientos a agregar (producto, tipo y cantidad)
+     */
+    public void appendMovements(List<InventoryMovement> movements) {
+        if (movements.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> arguments = movements.stream()
+                .map(movement -> new Object[]{
+                        movement.getProductId(), movement.getType().name(), movement.getQuantity()
+                })
+                .toList();
+
+        jdbcTemplate.batchUpdate(APPEND_MOVEMENT, arguments);
+    }
+
+    /**
+     * Método para aplicar los deltas acumulados de un diario, registrarlos en el libro de inventario y
+     * guardar la última secuencia del diario, en una transacción propia. Los deltas ya se validaron al
+     * aceptarlos, por lo que se aplican sin condición.
+     *
+     * @param deltas   Cantidad a sumar o restar por ID de producto, en el orden en que se aplican
+     * @param journal  Nombre del diario
+     * @param sequence Última secuencia del diario incluida en los deltas
+     * @return Número de filas actualizadas por producto, en el mismo orden: 0 si el producto ya no existe
+     * en el inventario
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int[] applyQuantitiesByProduct(Map<Integer, Long> deltas, String journal, long sequence) {
+        List<Object[]> arguments = deltas.entrySet().stream()
+                .map(delta -> new Object[]{delta.getValue(), delta.getKey()})
+                .toList();
+
+        int[] updatedRows = jdbcTemplate.batchUpdate(APPLY_QUANTITY_BY_PRODUCT, arguments);
+        List<InventoryMovement> movements = new ArrayList<>();
+        int line = 0;
+
+        for (Map.Entry<Integer, Long> delta : deltas.entrySet()) {
+            if (updatedRows[line++] != 0) {
+                movements.add(InventoryMovement.builder()
+                        .productId(delta.getKey())
+                        .type(MovementType.ADJUSTMENT)
+                        .quantity(Math.toIntExact(delta.getValue()))
+                        .build());
+            }
+        }
+
+        appendMovements(movements);
+        jdbcTemplate.update(SAVE_CHECKPOINT, journal, sequence);
+
+        return updatedRows;
+    }
+
+    /**
+     * Método para buscar la última secuencia aplicada de un diario
+     *
+     * @param journal Nombre del diario
+     * @return Última secuencia aplicada, o 0 si nunca se ha aplicado el diario
+     */
+    public long findCheckpoint(String journal) {
+        List<Long> sequence = jdbcTemplate.queryForList(FIND_CHECKPOINT, Long.class, journal);
+
+        return sequence.isEmpty() ? 0 : sequence.get(0);
+    }
+}
@@ -1,11 +1,174 @@
 package com.alivro.spring.sleepyringtail.dao;
 
 import com.alivro.spring.sleepyringtail.model.Inventory;
+import com.alivro.spring.sleepyringtail.model.inventory.projection.InventoryGenericProjection;
+import com.alivro.spring.sleepyringtail.model.inventory.projection.InventoryQuantityProjection;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface InventoryDao extends JpaRepository<Inventory, Integer> {
+    /**
+     * Método para buscar el inventario de todos los productos, seleccionando únicamente las columnas de
+     * la respuesta
+     *
+     * @param pageable Información de paginación
+     * @return Lista del inventario de los productos
+     */
+    @Query(value = """
+            SELECT new com.alivro.spring.sleepyringtail.model.inventory.projection.InventoryGenericProjection(
+                i.id, i.quantityAvailable, i.minimumStock, i.maximumStock, p.id, p.name)
+            FROM Inventory i JOIN i.product p
+            """,
+            countQuery = "SELECT COUNT(i) FROM Inventory i")
+    Page<InventoryGenericProjection> findAllProjected(Pageable pageable);
+
+    /**
+     * Método para buscar el inventario de los productos con ID mayor a uno dado, ordenados por ID
+     * (paginación por cursor). Se apoya en el índice de la llave primaria y no ejecuta la consulta COUNT.
+     *
+     * @param after    Identificador único a partir del cual se busca
+     * @param pageable Límite de resultados (primera página y sin ordenamiento)
+     * @return Lista del inventario de los productos
+     */
+    @Query("""
+            SELECT new com.alivro.spring.sleepyringtail.model.inventory.projection.InventoryGenericProjection(
+                i.id, i.quantityAvailable, i.minimumStock, i.maximumStock, p.id, p.name)
+            FROM Inventory i JOIN i.product p
+            WHERE i.id > :after
+            ORDER BY i.id
+            """)
+    List<InventoryGenericProjection> findProjectedByIdGreaterThan(@Param("after") Integer after, Pageable pageable);
+
+    /**
+     * Método para buscar el inventario de los productos en existencia baja (cantidad disponible menor o
+     * igual al stock mínimo). La condición es la misma que la del índice parcial
+     * idx_inventory_low_stock, por lo que solo se recorren las filas en existencia baja. No ejecuta la
+     * consulta COUNT.
+     *
+     * @param pageable Información de paginación
+     * @return Porción del inventario de los productos en existencia baja
+     */
+    @Query("""
+            SELECT new com.alivro.spring.sleepyringtail.model.inventory.projection.InventoryGenericProjection(
+                i.id, i.quantityAvailable, i.minimumStock, i.maximumStock, p.id, p.name)
+            FROM Inventory i JOIN i.product p
+            WHERE i.quantityAvailable <= i.minimumStock
+            """)
+    Slice<InventoryGenericProjection> findLowStock(Pageable pageable);
+
+    /**
+     * Método para buscar el inventario de los productos en existencia baja y, además, el de los
+     * productos dados aunque su existencia guardada no sea baja. Ambas condiciones son sobre columnas
+     * de inventory (i.product.id es la llave foránea product_id), por lo que PostgreSQL combina el
+     * índice parcial idx_inventory_low_stock con el índice único de product_id en lugar de recorrer la
+     * tabla. No ejecuta la consulta COUNT.
+     *
+     * @param productIds Identificadores únicos de los productos a incluir
+     * @param pageable   Información de paginación
+     * @return Porción del inventario de los productos
+     */
+    @Query("""
+            SELECT new com.alivro.spring.sleepyringtail.model.inventory.projection.InventoryGenericProjection(
+                i.id, i.quantityAvailable, i.minimumStock, i.maximumStock, p.id, p.name)
+            FROM Inventory i JOIN i.product p
+            WHERE i.quantityAvailable <= i.minimumStock OR i.product.id IN :productIds
+            """)
+    Slice<InventoryGenericProjection> findLowStockOrProductIdIn(
+            @Param("productIds") Collection<Integer> productIds, Pageable pageable);
+
+    /**
+     * Método para buscar el inventario de varios productos por su ID, ordenado por ID de producto
+     *
+     * @param productIds Identificadores únicos de los productos
+     * @return Lista del inventario de los productos
+     */
+    @Query("""
+            SELECT new com.alivro.spring.sleepyringtail.model.inventory.projection.InventoryGenericProjection(
+                i.id, i.quantityAvailable, i.minimumStock, i.maximumStock, p.id, p.name)
+            FROM Inventory i JOIN i.product p
+            WHERE p.id IN :productIds
+            ORDER BY p.id
+            """)
+    List<InventoryGenericProjection> findProjectedByProductIdIn(@Param("productIds") Collection<Integer> productIds);
+
+    /**
+     * Método para buscar el inventario de un producto por su ID y bloquear la fila (SELECT ... FOR
+     * UPDATE) hasta el final de la transacción, de modo que ningún ajuste concurrente cambie la
+     * existencia entre la lectura y la escritura
+     *
+     * @param id Identificador único del producto en el inventario
+     * @return Inventario del producto
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Inventory i WHERE i.id = :id")
+    Optional<Inventory> findForUpdateById(@Param("id") Integer id);
+
+    /**
+     * Método para buscar el inventario de varios productos por su código de barras y bloquear las filas
+     * (SELECT ... FOR UPDATE) hasta el final de la transacción. Las filas se bloquean en orden de ID de
+     * producto para que las transacciones concurrentes no se bloqueen entre sí.
+     *
+     * @param barcodes Códigos de barras de los productos
+     * @return Inventario de los productos, ordenado por ID de producto
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT i
+            FROM Inventory i JOIN i.product p
+            WHERE p.barcode IN :barcodes
+            ORDER BY p.id
+            """)
+    List<Inventory> findForUpdateByProductBarcodeIn(@Param("barcodes") Collection<String> barcodes);
+
+    /**
+     * Método para buscar la existencia guardada de un producto por su ID en el inventario
+     *
+     * @param id Identificador único del producto en el inventario
+     * @return ID del producto y existencia guardada
+     */
+    @Query("""
+            SELECT p.id AS productId, i.quantityAvailable AS quantityAvailable,
+                i.minimumStock AS minimumStock, i.maximumStock AS maximumStock
+            FROM Inventory i JOIN i.product p
+            WHERE i.id = :id
+            """)
+    Optional<InventoryQuantityProjection> findQuantityById(@Param("id") Integer id);
+
+    /**
+     * Método para sumar o restar una cantidad a la existencia de un producto en una sola sentencia.
+     * La condición impide que la existencia quede negativa y el bloqueo de la fila durante el UPDATE
+     * evita que se pierdan ajustes concurrentes.
+     *
+     * @param id    Identificador único del producto en el inventario
+     * @param delta Cantidad a sumar (positiva) o restar (negativa)
+     * @return Existencia después del ajuste, o vacío si no existe el inventario o la existencia
+     * quedaría negativa
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE inventory
+            SET quantity_available = quantity_available + :delta
+            WHERE inventory_id = :id AND quantity_available + :delta >= 0
+            RETURNING product_id AS "productId", quantity_available AS "quantityAvailable",
+                minimum_stock AS "minimumStock", maximum_stock AS "maximumStock"
+            """,
+            nativeQuery = true)
+    Optional<InventoryQuantityProjection> adjustQuantityAvailable(
+            @Param("id") Integer id, @Param("delta") Integer delta);
+
     /**
      * Método para buscar en el inventario la existencia de un producto
      *
@@ -0,0 +1,94 @@
+package com.alivro.spring.sleepyringtail.dao;
+
+import com.alivro.spring.sleepyringtail.model.InventoryMovement;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+
+@Repository
+public interface InventoryMovementDao extends JpaRepository<InventoryMovement, Long> {
+    /**
+     * Método para buscar los movimientos de inventario de un producto, sin la consulta COUNT
+     *
+     * @param productId Identificador único del producto
+     * @param pageable  Información de paginación
+     * @return Porción de los movimientos del producto
+     */
+    Slice<InventoryMovement> findByProductId(Integer productId, Pageable pageable);
+
+    /**
+     * Método para calcular la existencia de un producto en un momento dado: la última instantánea
+     * anterior a ese momento más los movimientos posteriores a ella
+     *
+     * @param productId Identificador único del producto
+     * @param at        Momento de la consulta
+     * @return Existencia del producto en ese momento
+     */
+    @Query(value = """
+            WITH snapshot AS (
+                SELECT quantity, last_movement_id
+                FROM inventory_snapshots
+                WHERE product_id = :productId AND taken_at <= :at
+                ORDER BY taken_at DESC, snapshot_id DESC
+                LIMIT 1
+            )
+            SELECT COALESCE((SELECT quantity FROM snapshot), 0) + COALESCE(SUM(m.quantity), 0)
+            FROM inventory_movements m
+            WHERE m.product_id = :productId
+              AND m.movement_id > COALESCE((SELECT last_movement_id FROM snapshot), 0)
+              AND m.created_at <= :at
+            """,
+            nativeQuery = true)
+    Integer findQuantityAt(@Param("productId") Integer productId, @Param("at") OffsetDateTime at);
+
+    /**
+     * Método para guardar una instantánea de cada producto con movimientos anteriores al corte que
+     * no estén incluidos en su última instantánea. La sentencia declara la tabla que modifica para que
+     * Hibernate no vacíe toda la caché de segundo nivel al ejecutarla.
+     * <p>
+     * El corte solo define el ID límite de cada producto: el mayor ID de sus movimientos anteriores al
+     * corte. La instantánea incluye todos los movimientos hasta ese ID, aunque alguno tenga una fecha
+     * posterior, ya que la fecha es la del inicio de su transacción y no sigue el orden de los IDs; así
+     * ningún movimiento queda fuera de las instantáneas siguientes, que parten de ese ID.
+     *
+     * @param cutoff Momento de corte de la instantánea
+     * @return Número de instantáneas guardadas
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "inventory_snapshots"))
+    @Query(value = """
+            WITH bounds AS (
+                SELECT m.product_id, s.quantity, COALESCE(s.last_movement_id, 0) AS last_movement_id,
+                       MAX(m.movement_id) AS bound
+                FROM inventory_movements m
+                LEFT JOIN LATERAL (
+                    SELECT quantity, last_movement_id
+                    FROM inventory_snapshots
+                    WHERE product_id = m.product_id
+                    ORDER BY taken_at DESC, snapshot_id DESC
+                    LIMIT 1
+                ) s ON TRUE
+                WHERE m.movement_id > COALESCE(s.last_movement_id, 0) AND m.created_at < :cutoff
+                GROUP BY m.product_id, s.quantity, s.last_movement_id
+            )
+            INSERT INTO inventory_snapshots (product_id, quantity, last_movement_id, taken_at)
+            SELECT b.product_id, COALESCE(b.quantity, 0) + SUM(m.quantity), b.bound, :cutoff
+            FROM bounds b
+            JOIN inventory_movements m ON m.product_id = b.product_id
+                AND m.movement_id > b.last_movement_id AND m.movement_id <= b.bound
+            GROUP BY b.product_id, b.quantity, b.bound
+            """,
+            nativeQuery = true)
+    int saveSnapshots(@Param("cutoff") OffsetDateTime cutoff);
+}
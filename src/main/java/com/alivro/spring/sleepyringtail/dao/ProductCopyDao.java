@@ -0,0 +1,277 @@
+package com.alivro.spring.sleepyringtail.dao;
+
+import com.alivro.spring.sleepyringtail.model.inventory.request.InventoryGenericRequestDto;
+import com.alivro.spring.sleepyringtail.model.product.projection.ProductCopyProjection;
+import com.alivro.spring.sleepyringtail.model.product.request.ProductGenericRequestDto;
+import com.alivro.spring.sleepyringtail.model.product.request.ProductImportRecord;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Carga masiva de productos e inventario con COPY de PostgreSQL.
+ * <p>
+ * Los registros se copian a una tabla de carga temporal y se combinan con {@code products} e
+ * {@code inventory} con una sentencia por tabla y operación, sin un viaje a la base de datos por
+ * registro. Los IDs nuevos se toman de las mismas secuencias que usa Hibernate, reservando un bloque
+ * de {@value #ID_BLOCK_SIZE} IDs por cada llamada a nextval (optimizador pooled-lo).
+ */
+@Repository
+public class ProductCopyDao {
+    // Incremento de las secuencias (allocationSize de las entidades)
+    private static final int ID_BLOCK_SIZE = 50;
+
+    private static final String CREATE_STAGING = """
+            CREATE TEMPORARY TABLE product_import_staging (
+                line               BIGINT        NOT NULL PRIMARY KEY,
+                name               VARCHAR(50)   NOT NULL,
+                description        VARCHAR(150),
+                size               VARCHAR(10)   NOT NULL,
+                price              NUMERIC(8, 2) NOT NULL,
+                barcode            VARCHAR(13)   NOT NULL,
+                subcategory_id     INTEGER       NOT NULL,
+                quantity_available INTEGER,
+                minimum_stock      INTEGER,
+                maximum_stock      INTEGER,
+                product_id         INTEGER,
+                inserted           BOOLEAN       NOT NULL DEFAULT false,
+                inventory_merged   BOOLEAN       NOT NULL DEFAULT false
+            ) ON COMMIT DROP
+            """;
+
+    private static final String COPY_STAGING = """
+            COPY product_import_staging (line, name, description, size, price, barcode, subcategory_id,
+                                         quantity_available, minimum_stock, maximum_stock)
+            FROM STDIN (FORMAT csv)
+            """;
+
+    private static final String UPDATE_PRODUCTS = """
+            WITH updated AS (
+                UPDATE products p
+                SET name           = s.name,
+                    description    = s.description,
+                    size           = s.size,
+                    price          = s.price,
+                    subcategory_id = s.subcategory_id
+                FROM product_import_staging s
+                WHERE p.barcode = s.barcode
+                RETURNING p.product_id, p.barcode
+            )
+            UPDATE product_import_staging s
+            SET product_id = u.product_id
+            FROM updated u
+            WHERE s.barcode = u.barcode
+            """;
+
+    // Un producto insertado por otra transacción después de UPDATE_PRODUCTS es un conflicto
+    private static final String INSERT_PRODUCTS = """
+            WITH new_rows AS (
+                SELECT line, row_number() OVER (ORDER BY line) - 1 AS position
+                FROM product_import_staging
+                WHERE product_id IS NULL
+            ),
+            %s,
+            inserted AS (
+                INSERT INTO products (product_id, name, description, size, price, barcode, subcategory_id)
+                SELECT b.first_id + r.position %% %d, s.name, s.description, s.size, s.price, s.barcode,
+                       s.subcategory_id
+                FROM new_rows r
+                JOIN id_blocks b ON b.block = r.position / %d
+                JOIN product_import_staging s ON s.line = r.line
+                ON CONFLICT (barcode) DO NOTHING
+                RETURNING product_id, barcode
+            )
+            UPDATE product_import_staging s
+            SET product_id = i.product_id,
+                inserted   = true
+            FROM inserted i
+            WHERE s.barcode = i.barcode
+            """.formatted(idBlocks("products_seq"), ID_BLOCK_SIZE, ID_BLOCK_SIZE);
+
+    // Bloquea las filas en orden de producto antes de leer la existencia anterior
+    private static final String LOCK_INVENTORY = """
+            SELECT i.inventory_id
+            FROM inventory i
+            JOIN product_import_staging s ON s.product_id = i.product_id
+            WHERE s.quantity_available IS NOT NULL
+            ORDER BY i.product_id
+            FOR UPDATE OF i
+            """;
+
+    private static final String UPDATE_INVENTORY = """
+            WITH previous AS (
+                SELECT i.product_id, i.quantity_available
+                FROM inventory i
+                JOIN product_import_staging s ON s.product_id = i.product_id
+                WHERE s.quantity_available IS NOT NULL
+            ),
+            updated AS (
+                UPDATE inventory i
+                SET quantity_available = s.quantity_available,
+                    minimum_stock      = s.minimum_stock,
+                    maximum_stock      = s.maximum_stock
+                FROM product_import_staging s
+                WHERE s.product_id = i.product_id AND s.quantity_available IS NOT NULL
+                RETURNING i.product_id, i.quantity_available
+            ),
+            movements AS (
+                INSERT INTO inventory_movements (product_id, movement_type, quantity, created_at)
+                SELECT u.product_id, 'ADJUSTMENT', u.quantity_available - p.quantity_available, now()
+                FROM updated u
+                JOIN previous p ON p.product_id = u.product_id
+                WHERE u.quantity_available <> p.quantity_available
+            )
+            UPDATE product_import_staging s
+            SET inventory_merged = true
+            FROM updated u
+            WHERE s.product_id = u.product_id
+            """;
+
+    // Un inventario insertado por otra transacción después de UPDATE_INVENTORY es un conflicto
+    private static final String INSERT_INVENTORY = """
+            WITH new_rows AS (
+                SELECT line, row_number() OVER (ORDER BY line) - 1 AS position
+                FROM product_import_staging
+                WHERE product_id IS NOT NULL AND quantity_available IS NOT NULL AND NOT inventory_merged
+            ),
+            %s,
+            inserted AS (
+                INSERT INTO inventory (inventory_id, quantity_available, minimum_stock, maximum_stock, product_id)
+                SELECT b.first_id + r.position %% %d, s.quantity_available, s.minimum_stock, s.maximum_stock,
+                       s.product_id
+                FROM new_rows r
+                JOIN id_blocks b ON b.block = r.position / %d
+                JOIN product_import_staging s ON s.line = r.line
+                ON CONFLICT (product_id) DO NOTHING
+                RETURNING product_id, quantity_available
+            ),
+            movements AS (
+                INSERT INTO inventory_movements (product_id, movement_type, quantity, created_at)
+                SELECT product_id, 'RESTOCK', quantity_available, now()
+                FROM inserted
+                WHERE quantity_available <> 0
+            )
+            UPDATE product_import_staging s
+            SET inventory_merged = true
+            FROM inserted i
+            WHERE s.product_id = i.product_id
+            """.formatted(idBlocks("inventory_seq"), ID_BLOCK_SIZE, ID_BLOCK_SIZE);
+
+    private static final String FIND_MERGED = """
+            SELECT line, product_id, inserted, inventory_merged
+            FROM product_import_staging
+            WHERE product_id IS NOT NULL
+            ORDER BY line
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructor
+     *
+     * @param jdbcTemplate JDBC template
+     */
+    @Autowired
+    public ProductCopyDao(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Método para copiar los registros a la tabla de carga y combinarlos con los productos y el
+     * inventario en una sola transacción. Los productos se buscan por código de barras: los existentes
+     * se actualizan y los nuevos se insertan. Las existencias guardadas se registran en el libro de
+     * inventario como ajuste (diferencia con la existencia anterior) o reabastecimiento (inventario
+     * nuevo).
+     *
+     * @param records Registros válidos, sin códigos de barras repetidos
+     * @return Registros guardados, ordenados por línea. Un registro que no aparece chocó con un producto
+     * que otra transacción insertó con el mismo código de barras.
+     */
+    @Transactional
+    public List<ProductCopyProjection> copyAndMerge(List<ProductImportRecord> records) {
+        jdbcTemplate.execute(CREATE_STAGING);
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI()
+                        .copyIn(COPY_STAGING, new StringReader(toCsv(records)));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        jdbcTemplate.update(UPDATE_PRODUCTS);
+        jdbcTemplate.update(INSERT_PRODUCTS);
+        jdbcTemplate.queryForList(LOCK_INVENTORY, Integer.class);
+        jdbcTemplate.update(UPDATE_INVENTORY);
+        jdbcTemplate.update(INSERT_INVENTORY);
+
+        return jdbcTemplate.query(FIND_MERGED, (resultSet, rowNum) -> new ProductCopyProjection(
+                resultSet.getLong("line"),
+                resultSet.getInt("product_id"),
+                resultSet.getBoolean("inserted"),
+                resultSet.getBoolean("inventory_merged")));
+    }
+
+    /**
+     * Método para escribir los registros en formato CSV de COPY: los textos van entre comillas y un
+     * campo vacío sin comillas es NULL
+     *
+     * @param records Registros válidos
+     * @return Registros en formato CSV
+     */
+    static String toCsv(List<ProductImportRecord> records) {
+        StringBuilder csv = new StringBuilder(records.size() * 128);
+
+        for (ProductImportRecord record : records) {
+            ProductGenericRequestDto product = record.product();
+            InventoryGenericRequestDto inventory = record.inventory();
+
+            csv.append(record.line()).append(',');
+            appendText(csv, product.getName()).append(',');
+            appendText(csv, product.getDescription()).append(',');
+            appendText(csv, product.getSize()).append(',');
+            csv.append(product.getPrice().toPlainString()).append(',');
+            appendText(csv, product.getBarcode()).append(',');
+            csv.append(product.getSubcategory().getId()).append(',');
+
+            if (inventory != null) {
+                csv.append(inventory.getQuantityAvailable()).append(',')
+                        .append(inventory.getMinimumStock()).append(',')
+                        .append(inventory.getMaximumStock());
+            } else {
+                csv.append(",,");
+            }
+
+            csv.append('\n');
+        }
+
+        return csv.toString();
+    }
+
+    private static StringBuilder appendText(StringBuilder csv, String text) {
+        return text == null ? csv : csv.append('"').append(text.replace("\"", "\"\"")).append('"');
+    }
+
+    /**
+     * Método para crear la subconsulta que reserva los bloques de IDs de los registros nuevos: una
+     * llamada a nextval por cada {@value #ID_BLOCK_SIZE} registros
+     *
+     * @param sequence Nombre de la secuencia
+     * @return Subconsulta id_blocks (block, first_id)
+     */
+    private static String idBlocks(String sequence) {
+        return """
+                id_blocks AS (
+                    SELECT block - 1 AS block, nextval('%s') AS first_id
+                    FROM generate_series(1, (SELECT CEIL(COUNT(*) / %d.0)::INTEGER FROM new_rows)) AS block
+                )""".formatted(sequence, ID_BLOCK_SIZE);
+    }
+}
@@ -1,30 +1,200 @@
 package com.alivro.spring.sleepyringtail.dao;
 
 import com.alivro.spring.sleepyringtail.model.Product;
+import com.alivro.spring.sleepyringtail.model.product.projection.ProductGenericProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface ProductDao extends JpaRepository<Product, Integer> {
+    /**
+     * Método para buscar todos los productos, seleccionando únicamente las columnas de la respuesta
+     *
+     * @param pageable Información de paginación
+     * @return Lista de productos
+     */
+    @Query(value = """
+            SELECT new com.alivro.spring.sleepyringtail.model.product.projection.ProductGenericProjection(
+                p.id, p.name, p.size, p.description, p.price, p.barcode, s.id, s.name)
+            FROM Product p JOIN p.subcategory s
+            """,
+            countQuery = "SELECT COUNT(p) FROM Product p")
+    Page<ProductGenericProjection> findAllProjected(Pageable pageable);
+
+    /**
+     * Método para buscar los productos con ID mayor a uno dado, ordenados por ID
+     * (paginación por cursor). Se apoya en el índice de la llave primaria y no ejecuta la consulta COUNT.
+     *
+     * @param after    Identificador único a partir del cual se busca
+     * @param pageable Límite de resultados (primera página y sin ordenamiento)
+     * @return Lista de productos
+     */
+    @Query("""
+            SELECT new com.alivro.spring.sleepyringtail.model.product.projection.ProductGenericProjection(
+                p.id, p.name, p.size, p.description, p.price, p.barcode, s.id, s.name)
+            FROM Product p JOIN p.subcategory s
+            WHERE p.id > :after
+            ORDER BY p.id
+            """)
+    List<ProductGenericProjection> findProjectedByIdGreaterThan(@Param("after") Integer after, Pageable pageable);
+
+    /**
+     * Método para buscar un producto por su ID, seleccionando únicamente las columnas de la respuesta
+     *
+     * @param id Identificador único del producto
+     * @return Información del producto buscado
+     */
+    @Query("""
+            SELECT new com.alivro.spring.sleepyringtail.model.product.projection.ProductGenericProjection(
+                p.id, p.name, p.size, p.description, p.price, p.barcode, s.id, s.name)
+            FROM Product p JOIN p.subcategory s
+            WHERE p.id = :id
+            """)
+    Optional<ProductGenericProjection> findProjectedById(@Param("id") Integer id);
+
+    /**
+     * Método para buscar varios productos por su ID, seleccionando únicamente las columnas de la respuesta
+     *
+     * @param ids Identificadores únicos de los productos
+     * @return Información de los productos encontrados
+     */
+    @Query("""
+            SELECT new com.alivro.spring.sleepyringtail.model.product.projection.ProductGenericProjection(
+                p.id, p.name, p.size, p.description, p.price, p.barcode, s.id, s.name)
+            FROM Product p JOIN p.subcategory s
+            WHERE p.id IN :ids
+            """)
+    List<ProductGenericProjection> findProjectedByIdIn(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * Método para buscar los IDs de los productos de una subcategoría
+     *
+     * @param subcategoryId Identificador único de la subcategoría
+     * @return Identificadores únicos de los productos
+     */
+    @Query("SELECT p.id FROM Product p WHERE p.subcategory.id = :subcategoryId")
+    List<Integer> findIdsBySubcategoryId(@Param("subcategoryId") Integer subcategoryId);
+
+    /**
+     * Método para buscar todos los productos que contengan una palabra dada en su nombre. En PostgreSQL
+     * el filtro se resuelve con el índice de trigramas idx_products_name_trgm.
+     *
+     * @param word     Palabra a buscar en el nombre del producto (con los comodines escapados)
+     * @param pageable Información de paginación
+     * @return Lista de productos que cumplen con el criterio de búsqueda
+     */
+    @Query(value = """
+            SELECT new com.alivro.spring.sleepyringtail.model.product.projection.ProductGenericProjection(
+                p.id, p.name, p.size, p.description, p.price, p.barcode, s.id, s.name)
+            FROM Product p JOIN p.subcategory s
+            WHERE UPPER(p.name) LIKE UPPER(CONCAT('%', :word, '%')) ESCAPE '\\'
+            """,
+            countQuery = """
+                    SELECT COUNT(p) FROM Product p
+                    WHERE UPPER(p.name) LIKE UPPER(CONCAT('%', :word, '%')) ESCAPE '\\'
+                    """)
+    Page<ProductGenericProjection> findProjectedByNameContainingIgnoreCase(
+            @Param("word") String word, Pageable pageable);
+
     /**
      * Método para buscar todos los productos que contengan una palabra dada en su nombre
+     * sin ejecutar la consulta COUNT. Se obtiene un elemento adicional para saber si existe una
+     * página siguiente.
+     *
+     * @param word     Palabra a buscar en el nombre del producto (con los comodines escapados)
+     * @param pageable Información de paginación
+     * @return Lista de productos que cumplen con el criterio de búsqueda
+     */
+    @Query("""
+            SELECT new com.alivro.spring.sleepyringtail.model.product.projection.ProductGenericProjection(
+                p.id, p.name, p.size, p.description, p.price, p.barcode, s.id, s.name)
+            FROM Product p JOIN p.subcategory s
+            WHERE UPPER(p.name) LIKE UPPER(CONCAT('%', :word, '%')) ESCAPE '\\'
+            """)
+    Slice<ProductGenericProjection> findSlicedByNameContainingIgnoreCase(
+            @Param("word") String word, Pageable pageable);
+
+    /**
+     * Método para buscar todos los productos que contengan una palabra dada en su descripción. En PostgreSQL
+     * el filtro se resuelve con el índice de trigramas idx_products_description_trgm.
      *
-     * @param word     Palabra a buscar en el nombre del producto
+     * @param word     Palabra a buscar en la descripción del producto (con los comodines escapados)
      * @param pageable Información de paginación
      * @return Lista de productos que cumplen con el criterio de búsqueda
      */
-    Page<Product> findByNameContainingIgnoreCase(String word, Pageable pageable);
+    @Query(value = """
+            SELECT new com.alivro.spring.sleepyringtail.model.product.projection.ProductGenericProjection(
+                p.id, p.name, p.size, p.description, p.price, p.barcode, s.id, s.name)
+            FROM Product p JOIN p.subcategory s
+            WHERE UPPER(p.description) LIKE UPPER(CONCAT('%', :word, '%')) ESCAPE '\\'
+            """,
+            countQuery = """
+                    SELECT COUNT(p) FROM Product p
+                    WHERE UPPER(p.description) LIKE UPPER(CONCAT('%', :word, '%')) ESCAPE '\\'
+                    """)
+    Page<ProductGenericProjection> findProjectedByDescriptionContainingIgnoreCase(
+            @Param("word") String word, Pageable pageable);
 
     /**
      * Método para buscar todos los productos que contengan una palabra dada en su descripción
+     * sin ejecutar la consulta COUNT. Se obtiene un elemento adicional para saber si existe una
+     * página siguiente.
      *
-     * @param word     Palabra a buscar en la descripción del producto
+     * @param word     Palabra a buscar en la descripción del producto (con los comodines escapados)
      * @param pageable Información de paginación
      * @return Lista de productos que cumplen con el criterio de búsqueda
      */
-    Page<Product> findByDescriptionContainingIgnoreCase(String word, Pageable pageable);
+    @Query("""
+            SELECT new com.alivro.spring.sleepyringtail.model.product.projection.ProductGenericProjection(
+                p.id, p.name, p.size, p.description, p.price, p.barcode, s.id, s.name)
+            FROM Product p JOIN p.subcategory s
+            WHERE UPPER(p.description) LIKE UPPER(CONCAT('%', :word, '%')) ESCAPE '\\'
+            """)
+    Slice<ProductGenericProjection> findSlicedByDescriptionContainingIgnoreCase(
+            @Param("word") String word, Pageable pageable);
+
+    /**
+     * Método para buscar un producto por su ID junto con su inventario. El inventario, al ser el lado
+     * inverso de una relación uno a uno, no puede cargarse de forma perezosa y sin el grafo se obtendría
+     * con una consulta adicional. La subcategoría no se une en la consulta: se obtiene de la caché de
+     * segundo nivel.
+     *
+     * @param id Identificador único del producto
+     * @return Producto buscado
+     */
+    @Override
+    @EntityGraph(value = "Product.inventory")
+    Optional<Product> findById(Integer id);
+
+    /**
+     * Método para buscar un producto por su código de barras junto con su inventario; la subcategoría
+     * se obtiene de la caché de segundo nivel
+     *
+     * @param barcode Código de barras único del producto
+     * @return Producto buscado
+     */
+    @EntityGraph(value = "Product.inventory")
+    Optional<Product> findByBarcode(String barcode);
+
+    /**
+     * Método para buscar varios productos por su código de barras junto con su inventario, en una sola
+     * consulta
+     *
+     * @param barcodes Códigos de barras de los productos
+     * @return Productos encontrados
+     */
+    @EntityGraph(value = "Product.inventory")
+    List<Product> findAllByBarcodeIn(Collection<String> barcodes);
 
     /**
      * Método para buscar la existencia de un producto por su código de barras
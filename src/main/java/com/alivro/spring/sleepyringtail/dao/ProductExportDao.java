@@ -0,0 +1,75 @@
+package com.alivro.spring.sleepyringtail.dao;
+
+import com.alivro.spring.sleepyringtail.model.product.projection.ProductExportProjection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.function.Consumer;
+
+/**
+ * Lectura del catálogo completo con un cursor de JDBC, para exportarlo sin cargarlo en memoria
+ */
+@Repository
+public class ProductExportDao {
+    // Filas que el controlador de PostgreSQL trae por cada viaje a la base de datos
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String FIND_ALL = """
+            SELECT p.product_id, p.name, p.description, p.size, p.price, p.barcode,
+                   s.subcategory_id, s.name AS subcategory_name, c.category_id, c.name AS category_name,
+                   i.quantity_available, i.minimum_stock, i.maximum_stock
+            FROM products p
+            JOIN subcategories s ON s.subcategory_id = p.subcategory_id
+            JOIN categories c ON c.category_id = s.category_id
+            LEFT JOIN inventory i ON i.product_id = p.product_id
+            ORDER BY p.product_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructor
+     *
+     * @param jdbcTemplate JDBC template
+     */
+    @Autowired
+    public ProductExportDao(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Método para recorrer todos los productos ordenados por ID. El controlador de PostgreSQL solo usa
+     * un cursor (y trae las filas de {@value #FETCH_SIZE} en {@value #FETCH_SIZE}) dentro de una
+     * transacción; fuera de ella, lee el resultado completo en memoria.
+     *
+     * @param consumer Receptor de cada producto, en el orden del cursor
+     */
+    @Transactional(readOnly = true)
+    public void forEach(Consumer<ProductExportProjection> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    FIND_ALL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+
+            return statement;
+        }, (RowCallbackHandler) resultSet -> consumer.accept(new ProductExportProjection(
+                resultSet.getInt("product_id"),
+                resultSet.getString("name"),
+                resultSet.getString("description"),
+                resultSet.getString("size"),
+                resultSet.getBigDecimal("price"),
+                resultSet.getString("barcode"),
+                resultSet.getInt("subcategory_id"),
+                resultSet.getString("subcategory_name"),
+                resultSet.getInt("category_id"),
+                resultSet.getString("category_name"),
+                resultSet.getObject("quantity_available", Integer.class),
+                resultSet.getObject("minimum_stock", Integer.class),
+                resultSet.getObject("maximum_stock", Integer.class))));
+    }
+}
@@ -0,0 +1,83 @@
+package com.alivro.spring.sleepyringtail.dao;
+
+import com.alivro.spring.sleepyringtail.model.PurchaseSuggestion;
+import com.alivro.spring.sleepyringtail.model.purchase.projection.PurchaseSuggestionSummaryProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PurchaseSuggestionDao extends JpaRepository<PurchaseSuggestion, Long> {
+    /**
+     * Método para calcular y guardar en una sola sentencia las sugerencias de compra de una ejecución:
+     * por cada producto en existencia baja, la cantidad a pedir para llegar a su stock máximo. La base
+     * de datos recorre el inventario y escribe las sugerencias sin enviar filas a la aplicación; la
+     * condición de existencia baja es la del índice parcial idx_inventory_low_stock. La sentencia
+     * declara la tabla que modifica para que Hibernate no vacíe toda la caché de segundo nivel.
+     *
+     * @param runId Identificador único de la ejecución
+     * @return Número de sugerencias guardadas
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "purchase_suggestions"))
+    @Query(value = """
+            INSERT INTO purchase_suggestions (run_id, product_id, product_name, subcategory_id, subcategory_name,
+                category_id, category_name, quantity_available, minimum_stock, maximum_stock, quantity_to_order)
+            SELECT :runId, p.product_id, p.name, p.subcategory_id, s.name, s.category_id, c.name,
+                i.quantity_available, i.minimum_stock, i.maximum_stock, i.maximum_stock - i.quantity_available
+            FROM inventory i
+            JOIN products p ON p.product_id = i.product_id
+            JOIN subcategories s ON s.subcategory_id = p.subcategory_id
+            JOIN categories c ON c.category_id = s.category_id
+            WHERE i.quantity_available <= i.minimum_stock AND i.maximum_stock > i.quantity_available
+            """,
+            nativeQuery = true)
+    int saveSuggestions(@Param("runId") Long runId);
+
+    /**
+     * Método para buscar las sugerencias de compra de una ejecución, sin la consulta COUNT
+     *
+     * @param runId    Identificador único de la ejecución
+     * @param pageable Información de paginación
+     * @return Porción de las sugerencias de compra
+     */
+    Slice<PurchaseSuggestion> findByRunId(Long runId, Pageable pageable);
+
+    /**
+     * Método para calcular los totales de las sugerencias de compra de una ejecución por categoría y
+     * subcategoría. Se agrupa por los nombres guardados con cada sugerencia, de modo que los totales de
+     * una ejecución anterior no cambian al renombrar o eliminar una categoría o subcategoría.
+     *
+     * @param runId Identificador único de la ejecución
+     * @return Totales por subcategoría, ordenados por el nombre de la categoría y de la subcategoría
+     */
+    @Query("""
+            SELECT new com.alivro.spring.sleepyringtail.model.purchase.projection.PurchaseSuggestionSummaryProjection(
+                ps.categoryId, ps.categoryName, ps.subcategoryId, ps.subcategoryName,
+                COUNT(ps), SUM(ps.quantityToOrder))
+            FROM PurchaseSuggestion ps
+            WHERE ps.runId = :runId
+            GROUP BY ps.categoryId, ps.categoryName, ps.subcategoryId, ps.subcategoryName
+            ORDER BY ps.categoryName, ps.subcategoryName
+            """)
+    List<PurchaseSuggestionSummaryProjection> summarizeByRunId(@Param("runId") Long runId);
+
+    /**
+     * Método para eliminar las sugerencias de las ejecuciones anteriores a una dada
+     *
+     * @param runId Identificador único de la ejecución más antigua a conservar
+     * @return Número de sugerencias eliminadas
+     */
+    @Modifying
+    @Query("DELETE FROM PurchaseSuggestion ps WHERE ps.runId < :runId")
+    int deleteByRunIdLessThan(@Param("runId") Long runId);
+}
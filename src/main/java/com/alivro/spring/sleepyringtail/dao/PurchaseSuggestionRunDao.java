@@ -0,0 +1,41 @@
+package com.alivro.spring.sleepyringtail.dao;
+
+import com.alivro.spring.sleepyringtail.model.PurchaseSuggestionRun;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PurchaseSuggestionRunDao extends JpaRepository<PurchaseSuggestionRun, Long> {
+    /**
+     * Método para buscar la ejecución más reciente del cálculo de sugerencias de compra
+     *
+     * @return Ejecución más reciente
+     */
+    Optional<PurchaseSuggestionRun> findFirstByOrderByIdDesc();
+
+    /**
+     * Método para buscar los IDs de las ejecuciones, de la más reciente a la más antigua
+     *
+     * @param pageable Información de paginación
+     * @return IDs de las ejecuciones
+     */
+    @Query("SELECT r.id FROM PurchaseSuggestionRun r ORDER BY r.id DESC")
+    List<Long> findIds(Pageable pageable);
+
+    /**
+     * Método para eliminar las ejecuciones anteriores a una dada
+     *
+     * @param runId Identificador único de la ejecución más antigua a conservar
+     * @return Número de ejecuciones eliminadas
+     */
+    @Modifying
+    @Query("DELETE FROM PurchaseSuggestionRun r WHERE r.id < :runId")
+    int deleteByIdLessThan(@Param("runId") Long runId);
+}
@@ -1,21 +1,87 @@
 package com.alivro.spring.sleepyringtail.dao;
 
 import com.alivro.spring.sleepyringtail.model.Subcategory;
+import com.alivro.spring.sleepyringtail.model.subcategory.projection.SubcategoryGenericProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface SubcategoryDao extends JpaRepository<Subcategory, Integer> {
+    /**
+     * Método para buscar todas las subcategorías, seleccionando únicamente las columnas de la respuesta
+     *
+     * @param pageable Información de paginación
+     * @return Lista de subcategorías
+     */
+    @Query(value = """
+            SELECT new com.alivro.spring.sleepyringtail.model.subcategory.projection.SubcategoryGenericProjection(
+                s.id, s.name, s.description, c.id, c.name)
+            FROM Subcategory s JOIN s.category c
+            """,
+            countQuery = "SELECT COUNT(s) FROM Subcategory s")
+    Page<SubcategoryGenericProjection> findAllProjected(Pageable pageable);
+
+    /**
+     * Método para buscar las subcategorías con ID mayor a uno dado, ordenados por ID
+     * (paginación por cursor). Se apoya en el índice de la llave primaria y no ejecuta la consulta COUNT.
+     *
+     * @param after    Identificador único a partir del cual se busca
+     * @param pageable Límite de resultados (primera página y sin ordenamiento)
+     * @return Lista de subcategorías
+     */
+    @Query("""
+            SELECT new com.alivro.spring.sleepyringtail.model.subcategory.projection.SubcategoryGenericProjection(
+                s.id, s.name, s.description, c.id, c.name)
+            FROM Subcategory s JOIN s.category c
+            WHERE s.id > :after
+            ORDER BY s.id
+            """)
+    List<SubcategoryGenericProjection> findProjectedByIdGreaterThan(@Param("after") Integer after, Pageable pageable);
+
+    /**
+     * Método para buscar todas las subcategorías que contengan una palabra dada
+     *
+     * @param word     Palabra a buscar en el nombre de la subcategoría (con los comodines escapados)
+     * @param pageable Información de paginación
+     * @return Lista de subcategorías que cumplen con el criterio de búsqueda
+     */
+    @Query(value = """
+            SELECT new com.alivro.spring.sleepyringtail.model.subcategory.projection.SubcategoryGenericProjection(
+                s.id, s.name, s.description, c.id, c.name)
+            FROM Subcategory s JOIN s.category c
+            WHERE UPPER(s.name) LIKE UPPER(CONCAT('%', :word, '%')) ESCAPE '\\'
+            """,
+            countQuery = """
+                    SELECT COUNT(s) FROM Subcategory s
+                    WHERE UPPER(s.name) LIKE UPPER(CONCAT('%', :word, '%')) ESCAPE '\\'
+                    """)
+    Page<SubcategoryGenericProjection> findProjectedByNameContainingIgnoreCase(
+            @Param("word") String word, Pageable pageable);
+
     /**
      * Método para buscar todas las subcategorías que contengan una palabra dada
+     * sin ejecutar la consulta COUNT. Se obtiene un elemento adicional para saber si existe una
+     * página siguiente.
      *
-     * @param word     Palabra a buscar en el nombre de la subcategoría
+     * @param word     Palabra a buscar en el nombre de la subcategoría (con los comodines escapados)
      * @param pageable Información de paginación
      * @return Lista de subcategorías que cumplen con el criterio de búsqueda
      */
-    Page<Subcategory> findByNameContainingIgnoreCase(String word, Pageable pageable);
+    @Query("""
+            SELECT new com.alivro.spring.sleepyringtail.model.subcategory.projection.SubcategoryGenericProjection(
+                s.id, s.name, s.description, c.id, c.name)
+            FROM Subcategory s JOIN s.category c
+            WHERE UPPER(s.name) LIKE UPPER(CONCAT('%', :word, '%')) ESCAPE '\\'
+            """)
+    Slice<SubcategoryGenericProjection> findSlicedByNameContainingIgnoreCase(
+            @Param("word") String word, Pageable pageable);
 
     /**
      * Método para buscar la existencia de una subcategoría por su nombre
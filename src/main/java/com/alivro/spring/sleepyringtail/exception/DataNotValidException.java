@@ -0,0 +1,7 @@
+package com.alivro.spring.sleepyringtail.exception;
+
+public class DataNotValidException extends RuntimeException {
+    public DataNotValidException(String message) {
+        super(message);
+    }
+}
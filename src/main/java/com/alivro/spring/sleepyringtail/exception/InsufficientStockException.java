@@ -0,0 +1,7 @@
+package com.alivro.spring.sleepyringtail.exception;
+
+public class InsufficientStockException extends RuntimeException {
+    public InsufficientStockException(String message) {
+        super(message);
+    }
+}
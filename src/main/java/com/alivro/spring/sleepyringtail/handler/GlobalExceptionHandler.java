@@ -1,9 +1,13 @@
 package com.alivro.spring.sleepyringtail.handler;
 
+import com.alivro.spring.sleepyringtail.constants.MessageConstants;
 import com.alivro.spring.sleepyringtail.exception.DataAlreadyExistsException;
 import com.alivro.spring.sleepyringtail.exception.DataNotFoundException;
+import com.alivro.spring.sleepyringtail.exception.DataNotValidException;
+import com.alivro.spring.sleepyringtail.exception.InsufficientStockException;
 import com.alivro.spring.sleepyringtail.util.response.CustomErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -42,6 +46,30 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(InsufficientStockException.class)
+    public ResponseEntity<CustomErrorResponse<Void>> handleInsufficientStockException(
+            InsufficientStockException ex, HttpServletRequest request) {
+        return ResponseHandler.sendErrorResponse(
+                HttpStatus.CONFLICT, ex.getMessage(), request.getRequestURI()
+        );
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<CustomErrorResponse<Void>> handleDataIntegrityViolationException(
+            DataIntegrityViolationException ex, HttpServletRequest request) {
+        return ResponseHandler.sendErrorResponse(
+                HttpStatus.CONFLICT, MessageConstants.DATA_INTEGRITY_VIOLATION, request.getRequestURI()
+        );
+    }
+
+    @ExceptionHandler(DataNotValidException.class)
+    public ResponseEntity<CustomErrorResponse<Void>> handleDataNotValidException(
+            DataNotValidException ex, HttpServletRequest request) {
+        return ResponseHandler.sendErrorResponse(
+                HttpStatus.BAD_REQUEST, ex.getMessage(), request.getRequestURI()
+        );
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<CustomErrorResponse<Void>> handleRuntimeException(
             RuntimeException ex, HttpServletRequest request) {
@@ -0,0 +1,60 @@
+package com.alivro.spring.sleepyringtail.ledger;
+
+import com.alivro.spring.sleepyringtail.constants.MessageConstants;
+import com.alivro.spring.sleepyringtail.dao.InventoryMovementDao;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+/**
+ * Tarea periódica que guarda las instantáneas de existencia del libro de inventario, de modo que
+ * calcular la existencia de un producto en cualquier momento solo requiera sumar los movimientos de
+ * un intervalo.
+ * <p>
+ * Las instantáneas solo incluyen los movimientos anteriores a un margen de tiempo, para no dejar fuera
+ * los movimientos de transacciones que aún no se confirman.
+ */
+@Component
+public class InventorySnapshotJob {
+    private static final String MESSAGE_FORMAT = "{} {}: {}";
+    private final Logger logger = LoggerFactory.getLogger(InventorySnapshotJob.class);
+    private final InventoryMovementDao inventoryMovementDao;
+    private final Duration lag;
+
+    /**
+     * Constructor
+     *
+     * @param inventoryMovementDao Inventory movement Dao
+     * @param lagMillis            Margen entre el corte de la instantánea y el momento actual (ms)
+     */
+    @Autowired
+    public InventorySnapshotJob(InventoryMovementDao inventoryMovementDao,
+                                @Value("${inventory.snapshot.lag-ms:300000}") long lagMillis) {
+        this.inventoryMovementDao = inventoryMovementDao;
+        this.lag = Duration.ofMillis(lagMillis);
+    }
+
+    /**
+     * Método para guardar las instantáneas de los productos con movimientos nuevos
+     */
+    @Scheduled(fixedDelayString = "${inventory.snapshot.interval-ms:3600000}",
+            initialDelayString = "${inventory.snapshot.interval-ms:3600000}")
+    public void saveSnapshots() {
+        OffsetDateTime cutoff = OffsetDateTime.now().minus(lag);
+
+        try {
+            inventoryMovementDao.saveSnapshots(cutoff);
+
+            logger.info(MESSAGE_FORMAT, MessageConstants.SAVED_INVENTORY_SNAPSHOTS, MessageConstants.CUTOFF, cutoff);
+        } catch (RuntimeException e) {
+            logger.warn(MESSAGE_FORMAT, MessageConstants.INVENTORY_SNAPSHOTS_NOT_SAVED,
+                    MessageConstants.CUTOFF, cutoff, e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.alivro.spring.sleepyringtail.mapper;
+
+import com.alivro.spring.sleepyringtail.model.Category;
+import com.alivro.spring.sleepyringtail.model.category.projection.CategoryGenericProjection;
+import com.alivro.spring.sleepyringtail.model.category.request.CategoryGenericRequestDto;
+import com.alivro.spring.sleepyringtail.model.category.response.CategoryGenericResponseDto;
+import com.alivro.spring.sleepyringtail.model.category.response.CategoryGetResponseDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+import org.mapstruct.factory.Mappers;
+
+@Mapper(unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface CategoryMapper {
+    CategoryMapper INSTANCE = Mappers.getMapper(CategoryMapper.class);
+
+    /**
+     * Método para convertir una categoría en su respuesta detallada
+     *
+     * @param category Categoría
+     * @return Información de la categoría con sus subcategorías
+     */
+    CategoryGetResponseDto toGetResponseDto(Category category);
+
+    /**
+     * Método para convertir una categoría en su respuesta genérica
+     *
+     * @param category Categoría
+     * @return Información de la categoría
+     */
+    CategoryGenericResponseDto toGenericResponseDto(Category category);
+
+    /**
+     * Método para convertir la proyección de una categoría en su respuesta genérica
+     *
+     * @param category Proyección de la categoría
+     * @return Información de la categoría
+     */
+    CategoryGenericResponseDto toGenericResponseDto(CategoryGenericProjection category);
+
+    /**
+     * Método para convertir la petición de una categoría en la entidad a guardar
+     *
+     * @param request Información de la categoría
+     * @return Categoría
+     */
+    Category toEntity(CategoryGenericRequestDto request);
+}
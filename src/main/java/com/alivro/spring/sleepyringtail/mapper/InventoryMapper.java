@@ -0,0 +1,61 @@
+package com.alivro.spring.sleepyringtail.mapper;
+
+import com.alivro.spring.sleepyringtail.model.Inventory;
+import com.alivro.spring.sleepyringtail.model.InventoryMovement;
+import com.alivro.spring.sleepyringtail.model.Product;
+import com.alivro.spring.sleepyringtail.model.inventory.projection.InventoryGenericProjection;
+import com.alivro.spring.sleepyringtail.model.inventory.request.InventoryGenericRequestDto;
+import com.alivro.spring.sleepyringtail.model.inventory.response.InventoryGenericResponseDto;
+import com.alivro.spring.sleepyringtail.model.inventory.response.InventoryMovementResponseDto;
+import com.alivro.spring.sleepyringtail.model.util.request.ProductRequestDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+import org.mapstruct.factory.Mappers;
+
+@Mapper(unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface InventoryMapper {
+    InventoryMapper INSTANCE = Mappers.getMapper(InventoryMapper.class);
+
+    /**
+     * Método para convertir el inventario de un producto en su respuesta genérica
+     *
+     * @param inventory Inventario del producto
+     * @return Información del inventario del producto
+     */
+    InventoryGenericResponseDto toGenericResponseDto(Inventory inventory);
+
+    /**
+     * Método para convertir la proyección del inventario de un producto en su respuesta genérica
+     *
+     * @param inventory Proyección del inventario del producto
+     * @return Información del inventario del producto
+     */
+    @Mapping(target = "product.id", source = "productId")
+    @Mapping(target = "product.name", source = "productName")
+    InventoryGenericResponseDto toGenericResponseDto(InventoryGenericProjection inventory);
+
+    /**
+     * Método para convertir un movimiento del libro de inventario en su respuesta
+     *
+     * @param movement Movimiento de inventario
+     * @return Información del movimiento
+     */
+    InventoryMovementResponseDto toMovementResponseDto(InventoryMovement movement);
+
+    /**
+     * Método para convertir la petición del inventario de un producto en la entidad a guardar
+     *
+     * @param request Información del inventario del producto
+     * @return Inventario del producto
+     */
+    Inventory toEntity(InventoryGenericRequestDto request);
+
+    /**
+     * Método para convertir la referencia a un producto en la entidad
+     *
+     * @param request Referencia al producto
+     * @return Producto
+     */
+    Product toEntity(ProductRequestDto request);
+}
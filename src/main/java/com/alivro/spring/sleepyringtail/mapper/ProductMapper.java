@@ -0,0 +1,60 @@
+package com.alivro.spring.sleepyringtail.mapper;
+
+import com.alivro.spring.sleepyringtail.model.Product;
+import com.alivro.spring.sleepyringtail.model.Subcategory;
+import com.alivro.spring.sleepyringtail.model.product.projection.ProductGenericProjection;
+import com.alivro.spring.sleepyringtail.model.product.request.ProductGenericRequestDto;
+import com.alivro.spring.sleepyringtail.model.product.response.ProductGenericResponseDto;
+import com.alivro.spring.sleepyringtail.model.product.response.ProductGetResponseDto;
+import com.alivro.spring.sleepyringtail.model.util.request.SubcategoryRequestDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+import org.mapstruct.factory.Mappers;
+
+@Mapper(unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface ProductMapper {
+    ProductMapper INSTANCE = Mappers.getMapper(ProductMapper.class);
+
+    /**
+     * Método para convertir un producto en su respuesta detallada
+     *
+     * @param product Producto
+     * @return Información del producto con su subcategoría e inventario
+     */
+    ProductGetResponseDto toGetResponseDto(Product product);
+
+    /**
+     * Método para convertir un producto en su respuesta genérica
+     *
+     * @param product Producto
+     * @return Información del producto
+     */
+    ProductGenericResponseDto toGenericResponseDto(Product product);
+
+    /**
+     * Método para convertir la proyección de un producto en su respuesta genérica
+     *
+     * @param product Proyección del producto
+     * @return Información del producto
+     */
+    @Mapping(target = "subcategory.id", source = "subcategoryId")
+    @Mapping(target = "subcategory.name", source = "subcategoryName")
+    ProductGenericResponseDto toGenericResponseDto(ProductGenericProjection product);
+
+    /**
+     * Método para convertir la petición de un producto en la entidad a guardar
+     *
+     * @param request Información del producto
+     * @return Producto
+     */
+    Product toEntity(ProductGenericRequestDto request);
+
+    /**
+     * Método para convertir la referencia a una subcategoría en la entidad
+     *
+     * @param request Referencia a la subcategoría
+     * @return Subcategoría
+     */
+    Subcategory toEntity(SubcategoryRequestDto request);
+}
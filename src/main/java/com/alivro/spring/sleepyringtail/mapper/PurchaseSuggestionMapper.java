@@ -0,0 +1,40 @@
+package com.alivro.spring.sleepyringtail.mapper;
+
+import com.alivro.spring.sleepyringtail.model.PurchaseSuggestion;
+import com.alivro.spring.sleepyringtail.model.PurchaseSuggestionRun;
+import com.alivro.spring.sleepyringtail.model.purchase.projection.PurchaseSuggestionSummaryProjection;
+import com.alivro.spring.sleepyringtail.model.purchase.response.PurchaseSuggestionResponseDto;
+import com.alivro.spring.sleepyringtail.model.purchase.response.PurchaseSuggestionRunResponseDto;
+import com.alivro.spring.sleepyringtail.model.purchase.response.PurchaseSuggestionSummaryResponseDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+import org.mapstruct.factory.Mappers;
+
+@Mapper(unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface PurchaseSuggestionMapper {
+    PurchaseSuggestionMapper INSTANCE = Mappers.getMapper(PurchaseSuggestionMapper.class);
+
+    /**
+     * Método para convertir una sugerencia de compra en su respuesta
+     *
+     * @param suggestion Sugerencia de compra
+     * @return Información de la sugerencia de compra
+     */
+    PurchaseSuggestionResponseDto toResponseDto(PurchaseSuggestion suggestion);
+
+    /**
+     * Método para convertir los totales de una subcategoría en su respuesta
+     *
+     * @param summary Proyección de los totales de la subcategoría
+     * @return Totales de las sugerencias de compra de la subcategoría
+     */
+    PurchaseSuggestionSummaryResponseDto toSummaryResponseDto(PurchaseSuggestionSummaryProjection summary);
+
+    /**
+     * Método para convertir una ejecución del cálculo en su respuesta
+     *
+     * @param run Ejecución del cálculo
+     * @return Información de la ejecución
+     */
+    PurchaseSuggestionRunResponseDto toRunResponseDto(PurchaseSuggestionRun run);
+}
@@ -0,0 +1,60 @@
+package com.alivro.spring.sleepyringtail.mapper;
+
+import com.alivro.spring.sleepyringtail.model.Category;
+import com.alivro.spring.sleepyringtail.model.Subcategory;
+import com.alivro.spring.sleepyringtail.model.subcategory.projection.SubcategoryGenericProjection;
+import com.alivro.spring.sleepyringtail.model.subcategory.request.SubcategoryGenericRequestDto;
+import com.alivro.spring.sleepyringtail.model.subcategory.response.SubcategoryGenericResponseDto;
+import com.alivro.spring.sleepyringtail.model.subcategory.response.SubcategoryGetResponseDto;
+import com.alivro.spring.sleepyringtail.model.util.request.CategoryRequestDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+import org.mapstruct.factory.Mappers;
+
+@Mapper(unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface SubcategoryMapper {
+    SubcategoryMapper INSTANCE = Mappers.getMapper(SubcategoryMapper.class);
+
+    /**
+     * Método para convertir una subcategoría en su respuesta detallada
+     *
+     * @param subcategory Subcategoría
+     * @return Información de la subcategoría con su categoría y productos
+     */
+    SubcategoryGetResponseDto toGetResponseDto(Subcategory subcategory);
+
+    /**
+     * Método para convertir una subcategoría en su respuesta genérica
+     *
+     * @param subcategory Subcategoría
+     * @return Información de la subcategoría
+     */
+    SubcategoryGenericResponseDto toGenericResponseDto(Subcategory subcategory);
+
+    /**
+     * Método para convertir la proyección de una subcategoría en su respuesta genérica
+     *
+     * @param subcategory Proyección de la subcategoría
+     * @return Información de la subcategoría
+     */
+    @Mapping(target = "category.id", source = "categoryId")
+    @Mapping(target = "category.name", source = "categoryName")
+    SubcategoryGenericResponseDto toGenericResponseDto(SubcategoryGenericProjection subcategory);
+
+    /**
+     * Método para convertir la petición de una subcategoría en la entidad a guardar
+     *
+     * @param request Información de la subcategoría
+     * @return Subcategoría
+     */
+    Subcategory toEntity(SubcategoryGenericRequestDto request);
+
+    /**
+     * Método para convertir la referencia a una categoría en la entidad
+     *
+     * @param request Referencia a la categoría
+     * @return Categoría
+     */
+    Category toEntity(CategoryRequestDto request);
+}
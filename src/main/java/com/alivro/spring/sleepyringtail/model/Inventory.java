@@ -14,18 +14,19 @@ import lombok.NoArgsConstructor;
 @Builder(toBuilder = true)
 public class Inventory {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "inventory_seq")
+    @SequenceGenerator(name = "inventory_seq", sequenceName = "inventory_seq", allocationSize = 50)
     @Column(name = "inventory_id")
     private Integer id;
 
     @Column(name = "quantity_available", nullable = false, unique = false)
-    private Short quantityAvailable;
+    private int quantityAvailable;
 
     @Column(name = "minimum_stock", nullable = false, unique = false)
-    private Short minimumStock;
+    private int minimumStock;
 
     @Column(name = "maximum_stock", nullable = false, unique = false)
-    private Short maximumStock;
+    private int maximumStock;
 
     @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id", nullable = false, unique = true)
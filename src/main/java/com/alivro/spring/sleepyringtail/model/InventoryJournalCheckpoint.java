@@ -0,0 +1,27 @@
+package com.alivro.spring.sleepyringtail.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Última secuencia del diario de deltas de inventario aplicada a la base de datos. Se actualiza en la
+ * misma transacción que los deltas, de modo que al recuperar el diario después de una caída no se
+ * vuelven a aplicar los registros ya guardados.
+ */
+@Entity
+@Table(name = "inventory_journal_checkpoint")
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class InventoryJournalCheckpoint {
+    @Id
+    @Column(name = "journal", length = 255)
+    private String journal;
+
+    @Column(name = "sequence", nullable = false, unique = false)
+    private Long sequence;
+}
@@ -0,0 +1,42 @@
+package com.alivro.spring.sleepyringtail.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Movimiento del libro de inventario. Los movimientos solo se agregan, nunca se modifican ni se
+ * eliminan. El producto se guarda como ID, sin llave foránea, para conservar el historial de los
+ * productos eliminados.
+ */
+@Entity
+@Table(name = "inventory_movements", indexes = {
+        @Index(name = "idx_inventory_movements_product", columnList = "product_id, movement_id")
+})
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class InventoryMovement {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "movement_id")
+    private Long id;
+
+    @Column(name = "product_id", nullable = false, unique = false)
+    private Integer productId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "movement_type", length = 20, nullable = false, unique = false)
+    private MovementType type;
+
+    @Column(name = "quantity", nullable = false, unique = false)
+    private Integer quantity;
+
+    @Column(name = "created_at", nullable = false, unique = false)
+    private OffsetDateTime createdAt;
+}
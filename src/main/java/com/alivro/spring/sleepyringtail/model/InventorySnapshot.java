@@ -0,0 +1,40 @@
+package com.alivro.spring.sleepyringtail.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Existencia de un producto en un momento dado, calculada a partir de la instantánea anterior y de los
+ * movimientos posteriores a ella. Incluye todos los movimientos hasta el ID indicado.
+ */
+@Entity
+@Table(name = "inventory_snapshots", indexes = {
+        @Index(name = "idx_inventory_snapshots_product", columnList = "product_id, taken_at")
+})
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class InventorySnapshot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "snapshot_id")
+    private Long id;
+
+    @Column(name = "product_id", nullable = false, unique = false)
+    private Integer productId;
+
+    @Column(name = "quantity", nullable = false, unique = false)
+    private Integer quantity;
+
+    @Column(name = "last_movement_id", nullable = false, unique = false)
+    private Long lastMovementId;
+
+    @Column(name = "taken_at", nullable = false, unique = false)
+    private OffsetDateTime takenAt;
+}
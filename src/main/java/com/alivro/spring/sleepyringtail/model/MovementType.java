@@ -0,0 +1,18 @@
+package com.alivro.spring.sleepyringtail.model;
+
+/**
+ * Tipo de movimiento de inventario
+ */
+public enum MovementType {
+    // Venta (resta existencia)
+    SALE,
+
+    // Reabastecimiento (suma existencia)
+    RESTOCK,
+
+    // Corrección manual o ajuste de existencia
+    ADJUSTMENT,
+
+    // Devolución de un cliente (suma existencia)
+    RETURN
+}
@@ -10,13 +10,20 @@ import java.math.BigDecimal;
 
 @Entity
 @Table(name = "products")
+@NamedEntityGraph(
+        name = "Product.inventory",
+        attributeNodes = {
+                @NamedAttributeNode("inventory")
+        }
+)
 @AllArgsConstructor
 @NoArgsConstructor
 @Data
 @Builder(toBuilder = true)
 public class Product {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "products_seq")
+    @SequenceGenerator(name = "products_seq", sequenceName = "products_seq", allocationSize = 50)
     @Column(name = "product_id")
     private Integer id;
 
@@ -0,0 +1,60 @@
+package com.alivro.spring.sleepyringtail.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cantidad a pedir de un producto en existencia baja para llegar a su stock máximo. Guarda la
+ * existencia, el nombre y la clasificación del producto al momento del cálculo, de modo que las
+ * sugerencias de una ejecución se lean sin volver a consultar el catálogo.
+ */
+@Entity
+@Table(name = "purchase_suggestions", indexes = {
+        @Index(name = "idx_purchase_suggestions_run", columnList = "run_id, category_id, subcategory_id, product_id")
+})
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class PurchaseSuggestion {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "suggestion_id")
+    private Long id;
+
+    @Column(name = "run_id", nullable = false, unique = false)
+    private Long runId;
+
+    @Column(name = "product_id", nullable = false, unique = false)
+    private Integer productId;
+
+    @Column(name = "product_name", length = 50, nullable = false, unique = false)
+    private String productName;
+
+    @Column(name = "subcategory_id", nullable = false, unique = false)
+    private Integer subcategoryId;
+
+    @Column(name = "subcategory_name", length = 50, nullable = true, unique = false)
+    private String subcategoryName;
+
+    @Column(name = "category_id", nullable = false, unique = false)
+    private Integer categoryId;
+
+    @Column(name = "category_name", length = 50, nullable = true, unique = false)
+    private String categoryName;
+
+    @Column(name = "quantity_available", nullable = false, unique = false)
+    private int quantityAvailable;
+
+    @Column(name = "minimum_stock", nullable = false, unique = false)
+    private int minimumStock;
+
+    @Column(name = "maximum_stock", nullable = false, unique = false)
+    private int maximumStock;
+
+    @Column(name = "quantity_to_order", nullable = false, unique = false)
+    private int quantityToOrder;
+}
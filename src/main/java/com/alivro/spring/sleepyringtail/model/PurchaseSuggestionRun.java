@@ -0,0 +1,31 @@
+package com.alivro.spring.sleepyringtail.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Ejecución del cálculo de sugerencias de compra
+ */
+@Entity
+@Table(name = "purchase_suggestion_runs")
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class PurchaseSuggestionRun {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "run_id")
+    private Long id;
+
+    @Column(name = "created_at", nullable = false, unique = false)
+    private OffsetDateTime createdAt;
+
+    @Column(name = "product_count", nullable = false, unique = false)
+    private Integer productCount;
+}
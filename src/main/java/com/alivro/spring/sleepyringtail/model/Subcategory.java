@@ -5,18 +5,27 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 
+/**
+ * Subcategoría de productos. Se guarda en la caché de segundo nivel, ya que se lee en casi todas las
+ * peticiones de productos a través de Product.subcategory.
+ */
 @Entity
 @Table(name = "subcategories")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "taxonomy-subcategory")
 @AllArgsConstructor
 @NoArgsConstructor
 @Data
 @Builder(toBuilder = true)
 public class Subcategory {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "subcategories_seq")
+    @SequenceGenerator(name = "subcategories_seq", sequenceName = "subcategories_seq", allocationSize = 50)
     @Column(name = "subcategory_id")
     private Integer id;
 
@@ -0,0 +1,24 @@
+package com.alivro.spring.sleepyringtail.model.cache.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheStatisticsResponseDto {
+    // Nombre de la región de la caché
+    private String region;
+
+    // Número de lecturas encontradas en la caché
+    private long hitCount;
+
+    // Número de lecturas no encontradas en la caché
+    private long missCount;
+
+    // Número de entradas guardadas en la caché
+    private long putCount;
+}
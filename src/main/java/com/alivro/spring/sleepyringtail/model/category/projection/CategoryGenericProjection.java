@@ -0,0 +1,16 @@
+package com.alivro.spring.sleepyringtail.model.category.projection;
+
+/**
+ * Proyección de solo lectura con las columnas que necesita CategoryGenericResponseDto
+ */
+public record CategoryGenericProjection(
+        // Identificador único de la categoría
+        Integer id,
+
+        // Nombre de la categoría
+        String name,
+
+        // Descripción de la categoría
+        String description
+) {
+}
@@ -0,0 +1,23 @@
+package com.alivro.spring.sleepyringtail.model.category.projection;
+
+/**
+ * Proyección de solo lectura con una subcategoría del árbol de categorías y su número de productos.
+ * Una categoría sin subcategorías aparece una vez, con la subcategoría en null.
+ */
+public record CategoryTreeProjection(
+        // Identificador único de la categoría
+        Integer categoryId,
+
+        // Nombre de la categoría
+        String categoryName,
+
+        // Identificador único de la subcategoría
+        Integer subcategoryId,
+
+        // Nombre de la subcategoría
+        String subcategoryName,
+
+        // Número de productos de la subcategoría
+        long productCount
+) {
+}
@@ -0,0 +1,27 @@
+package com.alivro.spring.sleepyringtail.model.category.response;
+
+import com.alivro.spring.sleepyringtail.model.util.response.SubcategoryTreeResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CategoryTreeResponseDto {
+    // Identificador único de la categoría
+    private Integer id;
+
+    // Nombre de la categoría
+    private String name;
+
+    // Número de productos de la categoría
+    private long productCount;
+
+    // Subcategoría(s) de la categoría
+    private List<SubcategoryTreeResponseDto> subcategories;
+}
@@ -0,0 +1,18 @@
+package com.alivro.spring.sleepyringtail.model.category.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SerializedCategoryTreeResponseDto {
+    // Respuesta con el árbol de categorías, ya serializada como JSON
+    private byte[] body;
+
+    // ETag fuerte de la respuesta
+    private String etag;
+}
@@ -0,0 +1,25 @@
+package com.alivro.spring.sleepyringtail.model.inventory.projection;
+
+/**
+ * Proyección de solo lectura con las columnas que necesita InventoryGenericResponseDto
+ */
+public record InventoryGenericProjection(
+        // Identificador único en el inventario
+        Integer id,
+
+        // Cantidad disponible
+        int quantityAvailable,
+
+        // Cantidad mínima
+        int minimumStock,
+
+        // Cantidad máxima
+        int maximumStock,
+
+        // Identificador único del producto
+        Integer productId,
+
+        // Nombre del producto
+        String productName
+) {
+}
@@ -0,0 +1,19 @@
+package com.alivro.spring.sleepyringtail.model.inventory.projection;
+
+/**
+ * Proyección con la existencia de un producto. Es una interfaz porque también se obtiene de una
+ * consulta nativa (UPDATE ... RETURNING), que no admite expresiones de constructor.
+ */
+public interface InventoryQuantityProjection {
+    // Identificador único del producto
+    Integer getProductId();
+
+    // Cantidad disponible del producto
+    Integer getQuantityAvailable();
+
+    // Stock mínimo del producto
+    Integer getMinimumStock();
+
+    // Stock máximo del producto
+    Integer getMaximumStock();
+}
@@ -0,0 +1,21 @@
+package com.alivro.spring.sleepyringtail.model.inventory.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InventoryAdjustRequestDto {
+    // Cantidad a sumar (entrada) o restar (salida) de la existencia del producto
+    @NotNull(message = "El campo cantidad es obligatorio.")
+    @Min(value = -1_000_000, message = "El campo cantidad debe ser mayor o igual a -1000000.")
+    @Max(value = 1_000_000, message = "El campo cantidad debe ser menor o igual a 1000000.")
+    private Integer delta;
+}
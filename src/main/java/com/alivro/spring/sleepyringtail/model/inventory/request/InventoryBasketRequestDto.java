@@ -0,0 +1,23 @@
+package com.alivro.spring.sleepyringtail.model.inventory.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InventoryBasketRequestDto {
+    // Líneas de la canasta: producto y cantidad a sumar o restar
+    @Valid
+    @NotEmpty(message = "El campo líneas es obligatorio.")
+    @Size(max = 500, message = "El campo líneas admite como máximo 500 productos.")
+    private List<InventoryBasketLineDto> lines;
+}
@@ -16,15 +16,15 @@ import lombok.NoArgsConstructor;
 public class InventoryGenericRequestDto {
     @NotNull(message = "El campo cantidad disponible es obligatorio.")
     @PositiveOrZero(message = "El campo cantidad disponible debe ser un número positivo o cero.")
-    private Short quantityAvailable;
+    private Integer quantityAvailable;
 
     @NotNull(message = "El campo stock mínimo es obligatorio.")
     @PositiveOrZero(message = "El campo stock mínimo debe ser un número positivo o cero.")
-    private Short minimumStock;
+    private Integer minimumStock;
 
     @NotNull(message = "El campo stock máximo es obligatorio.")
     @PositiveOrZero(message = "El campo stock máximo debe ser un número positivo o cero.")
-    private Short maximumStock;
+    private Integer maximumStock;
 
     @Valid
     @NotNull(message = "El campo producto es obligatorio.")
@@ -0,0 +1,21 @@
+package com.alivro.spring.sleepyringtail.model.inventory.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InventoryAdjustResponseDto {
+    // Identificador único del producto en el inventario
+    private Integer id;
+
+    // Identificador único del producto
+    private Integer productId;
+
+    // Cantidad disponible del producto después del ajuste
+    private int quantityAvailable;
+}
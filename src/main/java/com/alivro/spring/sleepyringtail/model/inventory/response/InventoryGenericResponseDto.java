@@ -15,13 +15,13 @@ public class InventoryGenericResponseDto {
     private Integer id;
 
     // Cantidad disponible
-    private Short quantityAvailable;
+    private int quantityAvailable;
 
     // Cantidad mínima
-    private Short minimumStock;
+    private int minimumStock;
 
     // Cantidad máxima
-    private Short maximumStock;
+    private int maximumStock;
 
     // Producto
     private ProductResponseDto product;
@@ -0,0 +1,30 @@
+package com.alivro.spring.sleepyringtail.model.inventory.response;
+
+import com.alivro.spring.sleepyringtail.model.MovementType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InventoryMovementResponseDto {
+    // Identificador único del movimiento
+    private Long id;
+
+    // Identificador único del producto
+    private Integer productId;
+
+    // Tipo de movimiento
+    private MovementType type;
+
+    // Cantidad sumada (positiva) o restada (negativa) de la existencia
+    private Integer quantity;
+
+    // Fecha y hora del movimiento
+    private OffsetDateTime createdAt;
+}
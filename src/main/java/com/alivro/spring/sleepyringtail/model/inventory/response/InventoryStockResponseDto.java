@@ -0,0 +1,23 @@
+package com.alivro.spring.sleepyringtail.model.inventory.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InventoryStockResponseDto {
+    // Identificador único del producto
+    private Integer productId;
+
+    // Cantidad disponible del producto en el momento consultado
+    private Integer quantityAvailable;
+
+    // Momento consultado
+    private OffsetDateTime at;
+}
@@ -0,0 +1,31 @@
+package com.alivro.spring.sleepyringtail.model.inventory.response;
+
+import com.alivro.spring.sleepyringtail.alert.StockLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockAlertResponseDto {
+    // Identificador único del producto
+    private Integer productId;
+
+    // Cantidad disponible del producto después del cambio
+    private int quantityAvailable;
+
+    // Stock mínimo
+    private int minimumStock;
+
+    // Stock máximo
+    private int maximumStock;
+
+    // Nivel de existencia antes del cambio (null si el inventario es nuevo)
+    private StockLevel previousLevel;
+
+    // Nivel de existencia después del cambio
+    private StockLevel level;
+}
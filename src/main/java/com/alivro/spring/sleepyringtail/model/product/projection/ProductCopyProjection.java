@@ -0,0 +1,19 @@
+package com.alivro.spring.sleepyringtail.model.product.projection;
+
+/**
+ * Resultado de combinar un registro de la tabla de carga con los productos y el inventario
+ */
+public record ProductCopyProjection(
+        // Número de línea del registro en el archivo
+        long line,
+
+        // Identificador único del producto guardado
+        Integer id,
+
+        // Indica si el producto se insertó (false si se actualizó)
+        boolean inserted,
+
+        // Indica si se guardaron las existencias del registro
+        boolean inventoryMerged
+) {
+}
@@ -0,0 +1,48 @@
+package com.alivro.spring.sleepyringtail.model.product.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Proyección de solo lectura de un producto exportado, con su subcategoría, categoría e inventario
+ */
+public record ProductExportProjection(
+        // Identificador único del producto
+        Integer id,
+
+        // Nombre del producto
+        String name,
+
+        // Descripción del producto
+        String description,
+
+        // Tamaño/Presentación del producto
+        String size,
+
+        // Precio del producto
+        BigDecimal price,
+
+        // Código de barras del producto
+        String barcode,
+
+        // Identificador único de la subcategoría del producto
+        Integer subcategoryId,
+
+        // Nombre de la subcategoría del producto
+        String subcategoryName,
+
+        // Identificador único de la categoría del producto
+        Integer categoryId,
+
+        // Nombre de la categoría del producto
+        String categoryName,
+
+        // Cantidad disponible del producto (null si no tiene inventario)
+        Integer quantityAvailable,
+
+        // Stock mínimo del producto (null si no tiene inventario)
+        Integer minimumStock,
+
+        // Stock máximo del producto (null si no tiene inventario)
+        Integer maximumStock
+) {
+}
@@ -0,0 +1,33 @@
+package com.alivro.spring.sleepyringtail.model.product.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Proyección de solo lectura con las columnas que necesita ProductGenericResponseDto
+ */
+public record ProductGenericProjection(
+        // Identificador único del producto
+        Integer id,
+
+        // Nombre del producto
+        String name,
+
+        // Tamaño/Presentación del producto
+        String size,
+
+        // Descripción del producto
+        String description,
+
+        // Precio del producto
+        BigDecimal price,
+
+        // Código de barras del producto
+        String barcode,
+
+        // Identificador único de la subcategoría del producto
+        Integer subcategoryId,
+
+        // Nombre de la subcategoría del producto
+        String subcategoryName
+) {
+}
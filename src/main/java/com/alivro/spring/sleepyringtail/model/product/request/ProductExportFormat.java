@@ -0,0 +1,12 @@
+package com.alivro.spring.sleepyringtail.model.product.request;
+
+/**
+ * Formato del archivo de una exportación de productos
+ */
+public enum ProductExportFormat {
+    // Valores separados por comas, con encabezado
+    CSV,
+
+    // Un objeto JSON por línea
+    NDJSON
+}
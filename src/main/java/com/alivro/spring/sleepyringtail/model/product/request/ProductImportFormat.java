@@ -0,0 +1,12 @@
+package com.alivro.spring.sleepyringtail.model.product.request;
+
+/**
+ * Formato del archivo de importación de productos. En ambos formatos cada registro ocupa una línea.
+ */
+public enum ProductImportFormat {
+    // Valores separados por comas, con encabezado con los nombres de los campos (text/csv)
+    CSV,
+
+    // Un objeto JSON por línea (application/x-ndjson)
+    NDJSON
+}
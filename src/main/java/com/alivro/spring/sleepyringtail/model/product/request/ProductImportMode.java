@@ -0,0 +1,12 @@
+package com.alivro.spring.sleepyringtail.model.product.request;
+
+/**
+ * Forma de guardar los registros de una importación de productos
+ */
+public enum ProductImportMode {
+    // Lotes de JPA de 500 registros por transacción
+    BATCH,
+
+    // COPY de PostgreSQL a una tabla de carga y combinación con sentencias sobre conjuntos
+    COPY
+}
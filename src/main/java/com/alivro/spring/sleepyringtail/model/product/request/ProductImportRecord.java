@@ -0,0 +1,18 @@
+package com.alivro.spring.sleepyringtail.model.product.request;
+
+import com.alivro.spring.sleepyringtail.model.inventory.request.InventoryGenericRequestDto;
+
+/**
+ * Registro válido de una importación de productos, pendiente de guardar
+ */
+public record ProductImportRecord(
+        // Número de línea en el archivo
+        long line,
+
+        // Petición de guardado del producto
+        ProductGenericRequestDto product,
+
+        // Existencias del producto (sin producto asociado), o null si el registro no las incluye
+        InventoryGenericRequestDto inventory
+) {
+}
@@ -0,0 +1,46 @@
+package com.alivro.spring.sleepyringtail.model.product.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Registro de un producto a importar (una línea del archivo CSV o NDJSON). La subcategoría se indica
+ * por su nombre; las reglas de validación son las de {@link ProductGenericRequestDto}. Las existencias
+ * son opcionales; si se indica alguna, se validan con las reglas de InventoryGenericRequestDto.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductImportRequestDto {
+    // Nombre del producto
+    private String name;
+
+    // Descripción del producto
+    private String description;
+
+    // Tamaño del producto
+    private String size;
+
+    // Precio del producto
+    private BigDecimal price;
+
+    // Código de barras del producto
+    private String barcode;
+
+    // Nombre de la subcategoría del producto
+    private String subcategory;
+
+    // Cantidad disponible del producto
+    private Integer quantityAvailable;
+
+    // Stock mínimo del producto
+    private Integer minimumStock;
+
+    // Stock máximo del producto
+    private Integer maximumStock;
+}
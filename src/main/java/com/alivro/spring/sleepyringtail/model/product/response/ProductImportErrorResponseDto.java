@@ -0,0 +1,23 @@
+package com.alivro.spring.sleepyringtail.model.product.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductImportErrorResponseDto {
+    // Número de línea del registro en el archivo
+    private long line;
+
+    // Código de barras del registro, si se pudo leer
+    private String barcode;
+
+    // Errores del registro
+    private List<String> errors;
+}
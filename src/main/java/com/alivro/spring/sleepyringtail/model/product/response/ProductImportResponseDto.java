@@ -0,0 +1,24 @@
+package com.alivro.spring.sleepyringtail.model.product.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductImportResponseDto {
+    // Número de registros leídos
+    private long read;
+
+    // Número de productos nuevos
+    private long inserted;
+
+    // Número de productos existentes actualizados (mismo código de barras)
+    private long updated;
+
+    // Número de registros rechazados
+    private long rejected;
+}
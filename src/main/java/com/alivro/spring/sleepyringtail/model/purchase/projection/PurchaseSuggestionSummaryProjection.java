@@ -0,0 +1,25 @@
+package com.alivro.spring.sleepyringtail.model.purchase.projection;
+
+/**
+ * Proyección de solo lectura con los totales de las sugerencias de compra de una subcategoría
+ */
+public record PurchaseSuggestionSummaryProjection(
+        // Identificador único de la categoría
+        Integer categoryId,
+
+        // Nombre de la categoría
+        String categoryName,
+
+        // Identificador único de la subcategoría
+        Integer subcategoryId,
+
+        // Nombre de la subcategoría
+        String subcategoryName,
+
+        // Número de productos a pedir
+        long productCount,
+
+        // Cantidad total a pedir
+        long quantityToOrder
+) {
+}
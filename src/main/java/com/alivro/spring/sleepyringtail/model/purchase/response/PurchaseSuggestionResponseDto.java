@@ -0,0 +1,45 @@
+package com.alivro.spring.sleepyringtail.model.purchase.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PurchaseSuggestionResponseDto {
+    // Identificador único de la ejecución del cálculo
+    private Long runId;
+
+    // Identificador único del producto
+    private Integer productId;
+
+    // Nombre del producto
+    private String productName;
+
+    // Identificador único de la subcategoría
+    private Integer subcategoryId;
+
+    // Nombre de la subcategoría al momento del cálculo
+    private String subcategoryName;
+
+    // Identificador único de la categoría
+    private Integer categoryId;
+
+    // Nombre de la categoría al momento del cálculo
+    private String categoryName;
+
+    // Cantidad disponible al momento del cálculo
+    private int quantityAvailable;
+
+    // Cantidad mínima
+    private int minimumStock;
+
+    // Cantidad máxima
+    private int maximumStock;
+
+    // Cantidad a pedir para llegar a la cantidad máxima
+    private int quantityToOrder;
+}
@@ -0,0 +1,23 @@
+package com.alivro.spring.sleepyringtail.model.purchase.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PurchaseSuggestionRunResponseDto {
+    // Identificador único de la ejecución del cálculo
+    private Long id;
+
+    // Fecha y hora del cálculo
+    private OffsetDateTime createdAt;
+
+    // Número de productos con sugerencia de compra
+    private Integer productCount;
+}
@@ -0,0 +1,30 @@
+package com.alivro.spring.sleepyringtail.model.purchase.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PurchaseSuggestionSummaryResponseDto {
+    // Identificador único de la categoría
+    private Integer categoryId;
+
+    // Nombre de la categoría
+    private String categoryName;
+
+    // Identificador único de la subcategoría
+    private Integer subcategoryId;
+
+    // Nombre de la subcategoría
+    private String subcategoryName;
+
+    // Número de productos a pedir
+    private long productCount;
+
+    // Cantidad total a pedir
+    private long quantityToOrder;
+}
@@ -0,0 +1,22 @@
+package com.alivro.spring.sleepyringtail.model.subcategory.projection;
+
+/**
+ * Proyección de solo lectura con las columnas que necesita SubcategoryGenericResponseDto
+ */
+public record SubcategoryGenericProjection(
+        // Identificador único de la subcategoría
+        Integer id,
+
+        // Nombre de la subcategoría
+        String name,
+
+        // Descripción de la subcategoría
+        String description,
+
+        // Identificador único de la categoría de la subcategoría
+        Integer categoryId,
+
+        // Nombre de la categoría de la subcategoría
+        String categoryName
+) {
+}
@@ -0,0 +1,22 @@
+package com.alivro.spring.sleepyringtail.model.suggestion.response;
+
+import com.alivro.spring.sleepyringtail.search.SuggestionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SuggestionResponseDto {
+    // Origen de la sugerencia (producto, subcategoría o categoría)
+    private SuggestionType type;
+
+    // Identificador único del producto, subcategoría o categoría
+    private Integer id;
+
+    // Nombre del producto, subcategoría o categoría
+    private String name;
+}
@@ -14,5 +14,5 @@ public class InventoryResponseDto {
     private Integer id;
 
     // Cantidad disponible
-    private Short quantityAvailable;
+    private int quantityAvailable;
 }
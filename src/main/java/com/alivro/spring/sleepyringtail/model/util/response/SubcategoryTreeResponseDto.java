@@ -0,0 +1,21 @@
+package com.alivro.spring.sleepyringtail.model.util.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SubcategoryTreeResponseDto {
+    // Identificador único de la subcategoría
+    private Integer id;
+
+    // Nombre de la subcategoría
+    private String name;
+
+    // Número de productos de la subcategoría
+    private long productCount;
+}
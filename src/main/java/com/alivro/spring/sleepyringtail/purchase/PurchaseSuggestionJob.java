@@ -0,0 +1,41 @@
+package com.alivro.spring.sleepyringtail.purchase;
+
+import com.alivro.spring.sleepyringtail.constants.MessageConstants;
+import com.alivro.spring.sleepyringtail.service.IPurchaseSuggestionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tarea periódica que calcula las sugerencias de compra de los productos en existencia baja
+ */
+@Component
+public class PurchaseSuggestionJob {
+    private final Logger logger = LoggerFactory.getLogger(PurchaseSuggestionJob.class);
+    private final IPurchaseSuggestionService purchaseSuggestionService;
+
+    /**
+     * Constructor
+     *
+     * @param purchaseSuggestionService Purchase suggestion service
+     */
+    @Autowired
+    public PurchaseSuggestionJob(IPurchaseSuggestionService purchaseSuggestionService) {
+        this.purchaseSuggestionService = purchaseSuggestionService;
+    }
+
+    /**
+     * Método para calcular las sugerencias de compra
+     */
+    @Scheduled(fixedDelayString = "${inventory.purchase-suggestion.interval-ms:86400000}",
+            initialDelayString = "${inventory.purchase-suggestion.interval-ms:86400000}")
+    public void generate() {
+        try {
+            purchaseSuggestionService.generate();
+        } catch (RuntimeException e) {
+            logger.warn(MessageConstants.PURCHASE_SUGGESTIONS_NOT_GENERATED, e);
+        }
+    }
+}
@@ -0,0 +1,403 @@
+package com.alivro.spring.sleepyringtail.search;
+
+import com.alivro.spring.sleepyringtail.constants.MessageConstants;
+import com.alivro.spring.sleepyringtail.dao.ProductDao;
+import com.alivro.spring.sleepyringtail.mapper.ProductMapper;
+import com.alivro.spring.sleepyringtail.model.product.projection.ProductGenericProjection;
+import com.alivro.spring.sleepyringtail.model.product.response.ProductGenericResponseDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido en memoria sobre el nombre y la descripción de los productos.
+ * <p>
+ * Las palabras se indexan normalizadas (sin acentos y en minúsculas) y cada palabra se registra también
+ * por sus sufijos, de modo que una búsqueda conserva la semántica de "contiene" de las consultas
+ * LIKE '%palabra%' sin recorrer los productos. Los resultados se ordenan por relevancia: coincidencia
+ * exacta de palabra, después prefijo y después subcadena; a igual relevancia, por ID.
+ * <p>
+ * El índice se construye en segundo plano al iniciar la aplicación; mientras no esté listo, los
+ * servicios deben consultar la base de datos.
+ */
+@Component
+public class ProductSearchIndex {
+    private static final String MESSAGE_FORMAT = "{} {}: {}";
+
+    // Relevancia de cada tipo de coincidencia de una palabra de la búsqueda
+    private static final int EXACT_MATCH = 3;
+    private static final int PREFIX_MATCH = 2;
+    private static final int INFIX_MATCH = 1;
+
+    // Número de productos leídos por consulta al construir el índice
+    private static final int BATCH_SIZE = 1000;
+
+    private final Logger logger = LoggerFactory.getLogger(ProductSearchIndex.class);
+    private final ProductMapper productMapper = ProductMapper.INSTANCE;
+    private final ProductDao productDao;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Set<Integer> pendingIds = ConcurrentHashMap.newKeySet();
+    private Index index = new Index();
+    private volatile boolean ready;
+    private boolean building;
+
+    /**
+     * Constructor
+     *
+     * @param productDao Product Dao
+     */
+    @Autowired
+    public ProductSearchIndex(ProductDao productDao) {
+        this.productDao = productDao;
+    }
+
+    /**
+     * Método para construir el índice en segundo plano una vez iniciada la aplicación
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Thread builder = new Thread(this::rebuild, "product-search-index");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    /**
+     * Método para indicar si el índice está construido y puede responder búsquedas
+     *
+     * @return true si el índice está listo, en caso contrario, false
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Método para construir el índice a partir de todos los productos. Las modificaciones recibidas
+     * durante la construcción se aplican al terminar.
+     */
+    public void rebuild() {
+        lock.writeLock().lock();
+
+        try {
+            building = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            Index newIndex = new Index();
+            List<ProductGenericProjection> batch;
+            int after = 0;
+
+            do {
+                batch = productDao.findProjectedByIdGreaterThan(after, PageRequest.ofSize(BATCH_SIZE));
+
+                for (ProductGenericProjection product : batch) {
+                    newIndex.put(productMapper.toGenericResponseDto(product));
+                    after = product.id();
+                }
+            } while (batch.size() == BATCH_SIZE);
+
+            lock.writeLock().lock();
+
+            try {
+                index = newIndex;
+                building = false;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            logger.info(MESSAGE_FORMAT, MessageConstants.BUILT_PRODUCT_SEARCH_INDEX,
+                    MessageConstants.PRODUCTS, newIndex.documents.size());
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+
+            try {
+                building = false;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            logger.warn(MessageConstants.PRODUCT_SEARCH_INDEX_NOT_BUILT, e);
+        }
+
+        for (Integer id : pendingIds) {
+            pendingIds.remove(id);
+            refresh(id);
+        }
+    }
+
+    /**
+     * Método para actualizar en el índice un producto guardado o actualizado
+     *
+     * @param id Identificador único del producto
+     */
+    public void refresh(Integer id) {
+        if (!ready && !isBuilding()) {
+            return;
+        }
+
+        Optional<ProductGenericProjection> product = productDao.findProjectedById(id);
+
+        lock.writeLock().lock();
+
+        try {
+            if (building) {
+                pendingIds.add(id);
+            } else if (product.isPresent()) {
+                index.put(productMapper.toGenericResponseDto(product.get()));
+            } else {
+                index.remove(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Método para actualizar en el índice varios productos guardados o actualizados con una sola consulta.
+     * Los productos que ya no existen se eliminan del índice.
+     *
+     * @param ids Identificadores únicos de los productos
+     */
+    public void refreshAll(Collection<Integer> ids) {
+        if (ids.isEmpty() || (!ready && !isBuilding())) {
+            return;
+        }
+
+        List<ProductGenericProjection> products = productDao.findProjectedByIdIn(ids);
+
+        lock.writeLock().lock();
+
+        try {
+            if (building) {
+                pendingIds.addAll(ids);
+            } else {
+                Set<Integer> removedIds = new HashSet<>(ids);
+
+                products.forEach(product -> {
+                    index.put(productMapper.toGenericResponseDto(product));
+                    removedIds.remove(product.id());
+                });
+
+                removedIds.forEach(index::remove);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Método para eliminar del índice un producto
+     *
+     * @param id Identificador único del producto
+     */
+    public void remove(Integer id) {
+        lock.writeLock().lock();
+
+        try {
+            if (building) {
+                pendingIds.add(id);
+            } else {
+                index.remove(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Método para buscar los productos que contengan todas las palabras dadas en su nombre
+     *
+     * @param word     Palabra(s) a buscar en el nombre del producto
+     * @param pageable Información de paginación (el orden es por relevancia)
+     * @return Página de productos que cumplen con el criterio de búsqueda
+     */
+    public Page<ProductGenericResponseDto> searchByName(String word, Pageable pageable) {
+        return search(word, pageable, true);
+    }
+
+    /**
+     * Método para buscar los productos que contengan todas las palabras dadas en su descripción
+     *
+     * @param word     Palabra(s) a buscar en la descripción del producto
+     * @param pageable Información de paginación (el orden es por relevancia)
+     * @return Página de productos que cumplen con el criterio de búsqueda
+     */
+    public Page<ProductGenericResponseDto> searchByDescription(String word, Pageable pageable) {
+        return search(word, pageable, false);
+    }
+
+    private boolean isBuilding() {
+        lock.readLock().lock();
+
+        try {
+            return building;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Page<ProductGenericResponseDto> search(String word, Pageable pageable, boolean byName) {
+        List<String> queryTokens = TextNormalizer.tokenize(word);
+
+        lock.readLock().lock();
+
+        try {
+            Field field = byName ? index.name : index.description;
+            Map<Integer, Integer> scores = null;
+
+            // Todas las palabras de la búsqueda deben coincidir; la relevancia es la suma de las coincidencias
+            for (String queryToken : queryTokens) {
+                Map<Integer, Integer> matches = field.match(queryToken);
+
+                if (scores == null) {
+                    scores = matches;
+                } else {
+                    scores.keySet().retainAll(matches.keySet());
+                    scores.replaceAll((id, score) -> score + matches.get(id));
+                }
+
+                if (scores.isEmpty()) {
+                    break;
+                }
+            }
+
+            if (scores == null || scores.isEmpty()) {
+                return new PageImpl<>(List.of(), pageable, 0);
+            }
+
+            List<ProductGenericResponseDto> ranked = scores.entrySet().stream()
+                    .sorted(Map.Entry.<Integer, Integer>comparingByValue(Comparator.reverseOrder())
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .map(entry -> index.documents.get(entry.getKey()))
+                    .toList();
+
+            if (pageable.isUnpaged()) {
+                return new PageImpl<>(ranked);
+            }
+
+            int from = (int) Math.min(pageable.getOffset(), ranked.size());
+            int to = Math.min(from + pageable.getPageSize(), ranked.size());
+
+            return new PageImpl<>(List.copyOf(ranked.subList(from, to)), pageable, ranked.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Documentos indexados y sus campos de búsqueda
+     */
+    private static final class Index {
+        private final Map<Integer, ProductGenericResponseDto> documents = new HashMap<>();
+        private final Field name = new Field();
+        private final Field description = new Field();
+
+        private void put(ProductGenericResponseDto product) {
+            remove(product.getId());
+
+            documents.put(product.getId(), product);
+            name.add(product.getId(), TextNormalizer.tokenize(product.getName()));
+            description.add(product.getId(), TextNormalizer.tokenize(product.getDescription()));
+        }
+
+        private void remove(Integer id) {
+            if (documents.remove(id) != null) {
+                name.remove(id);
+                description.remove(id);
+            }
+        }
+    }
+
+    /**
+     * Índice invertido de un campo: palabra → productos, y sufijo → palabras que lo contienen
+     */
+    private static final class Field {
+        private final Map<Integer, Set<String>> termsByDocument = new HashMap<>();
+        private final TreeMap<String, Set<Integer>> postings = new TreeMap<>();
+        private final TreeMap<String, Set<String>> suffixes = new TreeMap<>();
+
+        private void add(Integer id, List<String> tokens) {
+            Set<String> terms = new HashSet<>(tokens);
+            termsByDocument.put(id, terms);
+
+            for (String term : terms) {
+                postings.computeIfAbsent(term, key -> {
+                    for (int i = 0; i < key.length(); i++) {
+                        suffixes.computeIfAbsent(key.substring(i), suffix -> new HashSet<>()).add(key);
+                    }
+
+                    return new HashSet<>();
+                }).add(id);
+            }
+        }
+
+        private void remove(Integer id) {
+            Set<String> terms = termsByDocument.remove(id);
+
+            if (terms == null) {
+                return;
+            }
+
+            for (String term : terms) {
+                Set<Integer> documents = postings.get(term);
+                documents.remove(id);
+
+                if (documents.isEmpty()) {
+                    postings.remove(term);
+
+                    for (int i = 0; i < term.length(); i++) {
+                        String suffix = term.substring(i);
+                        Set<String> suffixTerms = suffixes.get(suffix);
+                        suffixTerms.remove(term);
+
+                        if (suffixTerms.isEmpty()) {
+                            suffixes.remove(suffix);
+                        }
+                    }
+                }
+            }
+        }
+
+        private Map<Integer, Integer> match(String queryToken) {
+            Map<Integer, Integer> scores = new HashMap<>();
+
+            // Las palabras que contienen la búsqueda son las que tienen un sufijo que empieza con ella
+            for (Set<String> terms : suffixes.subMap(queryToken, queryToken + Character.MAX_VALUE).values()) {
+                for (String term : terms) {
+                    int score = term.equals(queryToken) ? EXACT_MATCH
+                            : term.startsWith(queryToken) ? PREFIX_MATCH
+                            : INFIX_MATCH;
+
+                    for (Integer id : postings.get(term)) {
+                        scores.merge(id, score, Math::max);
+                    }
+                }
+            }
+
+            return scores;
+        }
+    }
+}
@@ -0,0 +1,474 @@
+package com.alivro.spring.sleepyringtail.search;
+
+import com.alivro.spring.sleepyringtail.constants.MessageConstants;
+import com.alivro.spring.sleepyringtail.dao.CategoryDao;
+import com.alivro.spring.sleepyringtail.dao.ProductDao;
+import com.alivro.spring.sleepyringtail.dao.SubcategoryDao;
+import com.alivro.spring.sleepyringtail.model.suggestion.response.SuggestionResponseDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Índice de autocompletado por prefijo sobre los nombres de productos, subcategorías y categorías.
+ * <p>
+ * Los nombres se guardan normalizados (sin acentos y en minúsculas) en un árbol de prefijos compacto
+ * (radix tree): las ramas sin bifurcaciones se fusionan en una sola arista y los hijos de cada nodo se
+ * guardan en un arreglo ordenado. Cada nombre se indexa a partir de cada una de sus palabras, de modo
+ * que "napo" sugiere "Vaca Napolitana". Las sugerencias se devuelven en orden alfabético de la clave.
+ * <p>
+ * El índice se construye en segundo plano al iniciar la aplicación y los servicios lo actualizan al
+ * guardar, actualizar o eliminar registros.
+ */
+@Component
+public class SuggestionIndex {
+    private static final String MESSAGE_FORMAT = "{} {}: {}";
+
+    // Número máximo de sugerencias por consulta
+    public static final int MAX_LIMIT = 50;
+
+    // Número de registros leídos por consulta al construir el índice
+    private static final int BATCH_SIZE = 1000;
+
+    private final Logger logger = LoggerFactory.getLogger(SuggestionIndex.class);
+    private final ProductDao productDao;
+    private final SubcategoryDao subcategoryDao;
+    private final CategoryDao categoryDao;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Consumer<Trie>> pendingChanges = new ArrayList<>();
+    private Trie trie = new Trie();
+    private volatile boolean ready;
+    private boolean building;
+
+    /**
+     * Constructor
+     *
+     * @param productDao     Product Dao
+     * @param subcategoryDao Subcategory Dao
+     * @param categoryDao    Category Dao
+     */
+    @Autowired
+    public SuggestionIndex(ProductDao productDao, SubcategoryDao subcategoryDao, CategoryDao categoryDao) {
+        this.productDao = productDao;
+        this.subcategoryDao = subcategoryDao;
+        this.categoryDao = categoryDao;
+    }
+
+    /**
+     * Método para construir el índice en segundo plano una vez iniciada la aplicación
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Thread builder = new Thread(this::rebuild, "suggestion-index");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    /**
+     * Método para indicar si el índice está construido y puede responder consultas
+     *
+     * @return true si el índice está listo, en caso contrario, false
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Método para construir el índice a partir de todos los productos, subcategorías y categorías.
+     * Los cambios recibidos durante la construcción se aplican al terminar.
+     */
+    public void rebuild() {
+        lock.writeLock().lock();
+
+        try {
+            building = true;
+            pendingChanges.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Trie newTrie = new Trie();
+        boolean loaded = false;
+
+        try {
+            load(productDao::findProjectedByIdGreaterThan, p -> p.id(), p -> p.name(),
+                    SuggestionType.PRODUCT, newTrie);
+            load(subcategoryDao::findProjectedByIdGreaterThan, s -> s.id(), s -> s.name(),
+                    SuggestionType.SUBCATEGORY, newTrie);
+            load(categoryDao::findProjectedByIdGreaterThan, c -> c.id(), c -> c.name(),
+                    SuggestionType.CATEGORY, newTrie);
+
+            loaded = true;
+        } catch (RuntimeException e) {
+            logger.warn(MessageConstants.SUGGESTION_INDEX_NOT_BUILT, e);
+        }
+
+        lock.writeLock().lock();
+
+        try {
+            if (loaded) {
+                pendingChanges.forEach(change -> change.accept(newTrie));
+                trie = newTrie;
+                ready = true;
+
+                logger.info(MESSAGE_FORMAT, MessageConstants.BUILT_SUGGESTION_INDEX,
+                        MessageConstants.NAMES, newTrie.size());
+            }
+
+            pendingChanges.clear();
+            building = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Método para agregar o reemplazar el nombre de un producto, subcategoría o categoría
+     *
+     * @param type Origen del nombre
+     * @param id   Identificador único
+     * @param name Nombre
+     */
+    public void put(SuggestionType type, Integer id, String name) {
+        apply(current -> current.put(new Entry(type, id, name)));
+    }
+
+    /**
+     * Método para eliminar el nombre de un producto, subcategoría o categoría
+     *
+     * @param type Origen del nombre
+     * @param id   Identificador único
+     */
+    public void remove(SuggestionType type, Integer id) {
+        apply(current -> current.remove(type, id));
+    }
+
+    /**
+     * Método para buscar los nombres que tengan alguna palabra que empiece con un prefijo dado
+     *
+     * @param prefix Prefijo a buscar
+     * @param limit  Número máximo de sugerencias
+     * @return Lista de sugerencias
+     */
+    public List<SuggestionResponseDto> suggest(String prefix, int limit) {
+        String key = TextNormalizer.normalize(prefix).strip();
+
+        if (key.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+
+        try {
+            return trie.find(key, Math.min(limit, MAX_LIMIT)).stream()
+                    .map(entry -> SuggestionResponseDto.builder()
+                            .type(entry.type())
+                            .id(entry.id())
+                            .name(entry.name())
+                            .build())
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(Consumer<Trie> change) {
+        lock.writeLock().lock();
+
+        try {
+            if (building) {
+                pendingChanges.add(change);
+            } else if (ready) {
+                change.accept(trie);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static <T> void load(BiFunction<Integer, Pageable, List<T>> finder, Function<T, Integer> id,
+                                 Function<T, String> name, SuggestionType type, Trie trie) {
+        List<T> batch;
+        int after = 0;
+
+        do {
+            batch = finder.apply(after, PageRequest.ofSize(BATCH_SIZE));
+
+            for (T element : batch) {
+                trie.put(new Entry(type, id.apply(element), name.apply(element)));
+                after = id.apply(element);
+            }
+        } while (batch.size() == BATCH_SIZE);
+    }
+
+    /**
+     * Nombre indexado
+     */
+    private record Entry(SuggestionType type, Integer id, String name) {
+    }
+
+    /**
+     * Identificador de un nombre indexado
+     */
+    private record EntryKey(SuggestionType type, Integer id) {
+    }
+
+    /**
+     * Nodo del árbol: la etiqueta es el fragmento de la clave en la arista que llega al nodo
+     */
+    private static final class Node {
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final Entry[] NO_ENTRIES = new Entry[0];
+
+        private String label;
+        private Node[] children = NO_CHILDREN;
+        private Entry[] entries = NO_ENTRIES;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private int findChild(char first) {
+            int low = 0;
+            int high = children.length - 1;
+
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                char middleFirst = children[middle].label.charAt(0);
+
+                if (middleFirst < first) {
+                    low = middle + 1;
+                } else if (middleFirst > first) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+
+            return -(low + 1);
+        }
+    }
+
+    /**
+     * Árbol de prefijos compacto. No es seguro para hilos; el acceso se sincroniza en SuggestionIndex.
+     */
+    private static final class Trie {
+        private final Node root = new Node("");
+        private final Map<EntryKey, Entry> entries = new HashMap<>();
+
+        private int size() {
+            return entries.size();
+        }
+
+        private void put(Entry entry) {
+            remove(entry.type(), entry.id());
+
+            String name = TextNormalizer.normalize(entry.name()).strip();
+
+            if (name.isEmpty()) {
+                return;
+            }
+
+            entries.put(new EntryKey(entry.type(), entry.id()), entry);
+
+            for (String key : keys(name)) {
+                insert(key, entry);
+            }
+        }
+
+        private void remove(SuggestionType type, Integer id) {
+            Entry entry = entries.remove(new EntryKey(type, id));
+
+            if (entry == null) {
+                return;
+            }
+
+            for (String key : keys(TextNormalizer.normalize(entry.name()).strip())) {
+                delete(root, key, 0, entry);
+            }
+        }
+
+        private List<Entry> find(String prefix, int limit) {
+            Node node = root;
+            int position = 0;
+
+            // Desciende hasta el nodo cuyas claves empiezan con el prefijo
+            while (position < prefix.length()) {
+                int index = node.findChild(prefix.charAt(position));
+
+                if (index < 0) {
+                    return List.of();
+                }
+
+                Node child = node.children[index];
+                int remaining = prefix.length() - position;
+
+                if (remaining <= child.label.length()) {
+                    if (!child.label.startsWith(prefix.substring(position))) {
+                        return List.of();
+                    }
+                } else if (!prefix.startsWith(child.label, position)) {
+                    return List.of();
+                }
+
+                node = child;
+                position += child.label.length();
+            }
+
+            // Recorre el subárbol en orden alfabético hasta reunir el número de sugerencias
+            Set<Entry> found = new LinkedHashSet<>();
+            Deque<Node> pending = new ArrayDeque<>();
+            pending.push(node);
+
+            while (!pending.isEmpty() && found.size() < limit) {
+                Node current = pending.pop();
+
+                for (Entry entry : current.entries) {
+                    found.add(entry);
+
+                    if (found.size() == limit) {
+                        break;
+                    }
+                }
+
+                for (int i = current.children.length - 1; i >= 0; i--) {
+                    pending.push(current.children[i]);
+                }
+            }
+
+            return new ArrayList<>(found);
+        }
+
+        private void insert(String key, Entry entry) {
+            Node node = root;
+            int position = 0;
+
+            while (position < key.length()) {
+                int index = node.findChild(key.charAt(position));
+
+                if (index < 0) {
+                    Node leaf = new Node(key.substring(position));
+                    leaf.entries = new Entry[]{entry};
+                    node.children = insertAt(node.children, -(index + 1), leaf);
+
+                    return;
+                }
+
+                Node child = node.children[index];
+                int common = commonPrefixLength(child.label, key, position);
+
+                // Divide la arista si la clave solo comparte una parte de la etiqueta
+                if (common < child.label.length()) {
+                    Node split = new Node(child.label.substring(0, common));
+                    child.label = child.label.substring(common);
+                    split.children = new Node[]{child};
+                    node.children[index] = split;
+                    child = split;
+                }
+
+                node = child;
+                position += common;
+            }
+
+            if (!Arrays.asList(node.entries).contains(entry)) {
+                node.entries = Arrays.copyOf(node.entries, node.entries.length + 1);
+                node.entries[node.entries.length - 1] = entry;
+            }
+        }
+
+        private void delete(Node node, String key, int position, Entry entry) {
+            if (position == key.length()) {
+                node.entries = Arrays.stream(node.entries)
+                        .filter(current -> !current.equals(entry))
+                        .toArray(Entry[]::new);
+
+                return;
+            }
+
+            int index = node.findChild(key.charAt(position));
+
+            if (index < 0) {
+                return;
+            }
+
+            Node child = node.children[index];
+
+            if (!key.startsWith(child.label, position)) {
+                return;
+            }
+
+            delete(child, key, position + child.label.length(), entry);
+
+            // Elimina los nodos vacíos y vuelve a fusionar las aristas sin bifurcación
+            if (child.entries.length == 0 && child.children.length == 0) {
+                node.children = removeAt(node.children, index);
+            } else if (child.entries.length == 0 && child.children.length == 1) {
+                Node grandchild = child.children[0];
+                grandchild.label = child.label + grandchild.label;
+                node.children[index] = grandchild;
+            }
+        }
+
+        private static List<String> keys(String name) {
+            List<String> keys = new ArrayList<>();
+            keys.add(name);
+
+            for (int i = 1; i < name.length(); i++) {
+                if (!Character.isLetterOrDigit(name.charAt(i - 1)) && Character.isLetterOrDigit(name.charAt(i))) {
+                    keys.add(name.substring(i));
+                }
+            }
+
+            return keys;
+        }
+
+        private static int commonPrefixLength(String label, String key, int position) {
+            int max = Math.min(label.length(), key.length() - position);
+            int length = 0;
+
+            while (length < max && label.charAt(length) == key.charAt(position + length)) {
+                length++;
+            }
+
+            return length;
+        }
+
+        private static Node[] insertAt(Node[] nodes, int index, Node node) {
+            Node[] result = new Node[nodes.length + 1];
+            System.arraycopy(nodes, 0, result, 0, index);
+            result[index] = node;
+            System.arraycopy(nodes, index, result, index + 1, nodes.length - index);
+
+            return result;
+        }
+
+        private static Node[] removeAt(Node[] nodes, int index) {
+            Node[] result = new Node[nodes.length - 1];
+            System.arraycopy(nodes, 0, result, 0, index);
+            System.arraycopy(nodes, index + 1, result, index, nodes.length - index - 1);
+
+            return result;
+        }
+    }
+}
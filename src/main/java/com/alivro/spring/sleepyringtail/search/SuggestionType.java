@@ -0,0 +1,10 @@
+package com.alivro.spring.sleepyringtail.search;
+
+/**
+ * Origen de una sugerencia de autocompletado
+ */
+public enum SuggestionType {
+    PRODUCT,
+    SUBCATEGORY,
+    CATEGORY
+}
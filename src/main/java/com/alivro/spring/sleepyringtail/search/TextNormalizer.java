@@ -0,0 +1,47 @@
+package com.alivro.spring.sleepyringtail.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalización de texto para las búsquedas en memoria: minúsculas, sin acentos ni diéresis
+ * ("Lácteos" → "lacteos") y separado en palabras.
+ */
+public final class TextNormalizer {
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private TextNormalizer() {
+    }
+
+    /**
+     * Método para normalizar un texto
+     *
+     * @param text Texto a normalizar
+     * @return Texto en minúsculas y sin acentos, o cadena vacía si el texto es nulo
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Método para normalizar un texto y separarlo en palabras
+     *
+     * @param text Texto a separar
+     * @return Palabras normalizadas del texto
+     */
+    public static List<String> tokenize(String text) {
+        return Arrays.stream(SEPARATORS.split(normalize(text)))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+}
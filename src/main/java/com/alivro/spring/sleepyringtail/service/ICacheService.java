@@ -0,0 +1,14 @@
+package com.alivro.spring.sleepyringtail.service;
+
+import com.alivro.spring.sleepyringtail.model.cache.response.CacheStatisticsResponseDto;
+
+import java.util.List;
+
+public interface ICacheService {
+    /**
+     * Método para obtener las estadísticas de las regiones de la caché de segundo nivel
+     *
+     * @return Estadísticas de cada región
+     */
+    List<CacheStatisticsResponseDto> findStatistics();
+}
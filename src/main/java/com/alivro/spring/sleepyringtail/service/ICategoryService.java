@@ -4,6 +4,7 @@ import com.alivro.spring.sleepyringtail.model.Category;
 import com.alivro.spring.sleepyringtail.model.category.request.CategoryGenericRequestDto;
 import com.alivro.spring.sleepyringtail.model.category.response.CategoryGenericResponseDto;
 import com.alivro.spring.sleepyringtail.model.category.response.CategoryGetResponseDto;
+import com.alivro.spring.sleepyringtail.model.category.response.SerializedCategoryTreeResponseDto;
 import com.alivro.spring.sleepyringtail.util.pagination.CustomPaginationData;
 import org.springframework.data.domain.Pageable;
 
@@ -16,6 +17,15 @@ public interface ICategoryService {
      */
     CustomPaginationData<CategoryGenericResponseDto, Category> findAll(Pageable pageable);
 
+    /**
+     * Método para buscar todas las categorías mediante paginación por cursor
+     *
+     * @param cursor Cursor de la página anterior (vacío para la primera página)
+     * @param size   Tamaño de la página
+     * @return Información de las categorías y el cursor de la siguiente página
+     */
+    CustomPaginationData<CategoryGenericResponseDto, Category> findAllAfter(String cursor, int size);
+
     /**
      * Método para buscar las categorías que contengan una palabra dada
      *
@@ -25,6 +35,23 @@ public interface ICategoryService {
      */
     CustomPaginationData<CategoryGenericResponseDto, Category> findAllByName(String word, Pageable pageable);
 
+    /**
+     * Método para buscar las categorías que contengan una palabra dada,
+     * sin obtener el número total de elementos
+     *
+     * @param word     Palabra a buscar en el nombre de la categoría
+     * @param pageable Información de paginación
+     * @return Información de las categorías que cumplen con el criterio de búsqueda
+     */
+    CustomPaginationData<CategoryGenericResponseDto, Category> findSliceByName(String word, Pageable pageable);
+
+    /**
+     * Método para obtener el árbol de categorías y subcategorías con el número de productos de cada una
+     *
+     * @return Árbol de categorías, ya serializado, con su ETag
+     */
+    SerializedCategoryTreeResponseDto findTree();
+
     /**
      * Método para buscar una categoría por su ID
      *
@@ -1,10 +1,20 @@
 package com.alivro.spring.sleepyringtail.service;
 
 import com.alivro.spring.sleepyringtail.model.Inventory;
+import com.alivro.spring.sleepyringtail.model.InventoryMovement;
+import com.alivro.spring.sleepyringtail.model.inventory.request.InventoryAdjustRequestDto;
+import com.alivro.spring.sleepyringtail.model.inventory.request.InventoryBasketRequestDto;
 import com.alivro.spring.sleepyringtail.model.inventory.request.InventoryGenericRequestDto;
+import com.alivro.spring.sleepyringtail.model.inventory.response.InventoryAdjustResponseDto;
 import com.alivro.spring.sleepyringtail.model.inventory.response.InventoryGenericResponseDto;
+import com.alivro.spring.sleepyringtail.model.inventory.response.InventoryMovementResponseDto;
+import com.alivro.spring.sleepyringtail.model.inventory.response.InventoryStockResponseDto;
 import com.alivro.spring.sleepyringtail.util.pagination.CustomPaginationData;
 import org.springframework.data.domain.Pageable;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.OffsetDateTime;
+import java.util.List;
 
 public interface IInventoryService {
     /**
@@ -15,6 +25,15 @@ public interface IInventoryService {
      */
     CustomPaginationData<InventoryGenericResponseDto, Inventory> findAll(Pageable pageable);
 
+    /**
+     * Método para buscar el inventario de todos los productos mediante paginación por cursor
+     *
+     * @param cursor Cursor de la página anterior (vacío para la primera página)
+     * @param size   Tamaño de la página
+     * @return Información del inventario de los productos y el cursor de la siguiente página
+     */
+    CustomPaginationData<InventoryGenericResponseDto, Inventory> findAllAfter(String cursor, int size);
+
     /**
      * Método para buscar el inventario de un producto por su ID
      *
@@ -40,6 +59,59 @@ public interface IInventoryService {
      */
     InventoryGenericResponseDto update(Integer id, InventoryGenericRequestDto request);
 
+    /**
+     * Método para sumar o restar una cantidad a la existencia de un producto
+     *
+     * @param id      Identificador único del producto en el inventario
+     * @param request Cantidad a sumar o restar
+     * @return Existencia del producto después del ajuste
+     */
+    InventoryAdjustResponseDto adjust(Integer id, InventoryAdjustRequestDto request);
+
+    /**
+     * Método para sumar o restar cantidades a la existencia de varios productos (canasta de venta).
+     * Si alguna línea no se puede aplicar, no se aplica ninguna.
+     *
+     * @param request Líneas de la canasta
+     * @return Información del inventario de los productos después del ajuste
+     */
+    List<InventoryGenericResponseDto> adjustBasket(InventoryBasketRequestDto request);
+
+    /**
+     * Método para buscar el inventario de los productos en existencia baja
+     *
+     * @param pageable Información de paginación
+     * @return Información del inventario de los productos en existencia baja
+     */
+    CustomPaginationData<InventoryGenericResponseDto, Inventory> findLowStock(Pageable pageable);
+
+    /**
+     * Método para suscribirse a los cambios de nivel de existencia de los productos
+     *
+     * @return Flujo de eventos del suscriptor
+     */
+    SseEmitter subscribeStockAlerts();
+
+    /**
+     * Método para buscar los movimientos del libro de inventario de un producto
+     *
+     * @param productId Identificador único del producto
+     * @param pageable  Información de paginación
+     * @return Movimientos de inventario del producto
+     */
+    CustomPaginationData<InventoryMovementResponseDto, InventoryMovement> findMovementsByProductId(
+            Integer productId, Pageable pageable);
+
+    /**
+     * Método para calcular la existencia de un producto en un momento dado a partir del libro de
+     * inventario
+     *
+     * @param productId Identificador único del producto
+     * @param at        Momento de la consulta
+     * @return Existencia del producto en ese momento
+     */
+    InventoryStockResponseDto findQuantityAt(Integer productId, OffsetDateTime at);
+
     /**
      * Método para eliminar del inventario un producto por su ID
      *
@@ -0,0 +1,18 @@
+package com.alivro.spring.sleepyringtail.service;
+
+import com.alivro.spring.sleepyringtail.model.product.request.ProductExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface IProductExportService {
+    /**
+     * Método para exportar todos los productos, con su subcategoría, categoría e inventario, en un
+     * archivo CSV o NDJSON. Los productos se escriben conforme se leen de la base de datos.
+     *
+     * @param format Formato del archivo
+     * @param output Destino del archivo
+     * @return Número de productos exportados
+     */
+    long exportProducts(ProductExportFormat format, OutputStream output) throws IOException;
+}
@@ -0,0 +1,26 @@
+package com.alivro.spring.sleepyringtail.service;
+
+import com.alivro.spring.sleepyringtail.model.product.request.ProductImportFormat;
+import com.alivro.spring.sleepyringtail.model.product.request.ProductImportMode;
+import com.alivro.spring.sleepyringtail.model.product.response.ProductImportErrorResponseDto;
+import com.alivro.spring.sleepyringtail.model.product.response.ProductImportResponseDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+public interface IProductImportService {
+    /**
+     * Método para importar productos desde un archivo CSV o NDJSON. El archivo se lee registro por
+     * registro; los productos se guardan por lotes y los que ya existen (mismo código de barras) se
+     * actualizan, junto con sus existencias si el registro las incluye.
+     *
+     * @param body   Contenido del archivo
+     * @param format Formato del archivo
+     * @param mode   Forma de guardar los registros
+     * @param errors Receptor de los errores de cada registro rechazado o guardado parcialmente
+     * @return Resumen de la importación
+     */
+    ProductImportResponseDto importProducts(InputStream body, ProductImportFormat format, ProductImportMode mode,
+                                            Consumer<ProductImportErrorResponseDto> errors) throws IOException;
+}
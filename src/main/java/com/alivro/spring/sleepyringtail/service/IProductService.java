@@ -4,9 +4,12 @@ import com.alivro.spring.sleepyringtail.model.Product;
 import com.alivro.spring.sleepyringtail.model.product.request.ProductGenericRequestDto;
 import com.alivro.spring.sleepyringtail.model.product.response.ProductGenericResponseDto;
 import com.alivro.spring.sleepyringtail.model.product.response.ProductGetResponseDto;
+import com.alivro.spring.sleepyringtail.model.suggestion.response.SuggestionResponseDto;
 import com.alivro.spring.sleepyringtail.util.pagination.CustomPaginationData;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface IProductService {
     /**
      * Método para buscar todos los productos
@@ -15,6 +18,15 @@ public interface IProductService {
      */
     CustomPaginationData<ProductGenericResponseDto, Product> findAll(Pageable pageable);
 
+    /**
+     * Método para buscar todos los productos mediante paginación por cursor
+     *
+     * @param cursor Cursor de la página anterior (vacío para la primera página)
+     * @param size   Tamaño de la página
+     * @return Información de los productos y el cursor de la siguiente página
+     */
+    CustomPaginationData<ProductGenericResponseDto, Product> findAllAfter(String cursor, int size);
+
     /**
      * Método para buscar los productos que contengan una palabra dada en su nombre
      *
@@ -24,6 +36,16 @@ public interface IProductService {
      */
     CustomPaginationData<ProductGenericResponseDto, Product> findAllByName(String word, Pageable pageable);
 
+    /**
+     * Método para buscar los productos que contengan una palabra dada en su nombre,
+     * sin obtener el número total de elementos
+     *
+     * @param word     Palabra a buscar en el nombre del producto
+     * @param pageable Información de paginación
+     * @return Información de los productos que cumplen con el criterio de búsqueda
+     */
+    CustomPaginationData<ProductGenericResponseDto, Product> findSliceByName(String word, Pageable pageable);
+
     /**
      * Método para buscar los productos que contengan una palabra dada en su descripción
      *
@@ -33,6 +55,26 @@ public interface IProductService {
      */
     CustomPaginationData<ProductGenericResponseDto, Product> findAllByDescription(String word, Pageable pageable);
 
+    /**
+     * Método para buscar los productos que contengan una palabra dada en su descripción,
+     * sin obtener el número total de elementos
+     *
+     * @param word     Palabra a buscar en la descripción del producto
+     * @param pageable Información de paginación
+     * @return Información de los productos que cumplen con el criterio de búsqueda
+     */
+    CustomPaginationData<ProductGenericResponseDto, Product> findSliceByDescription(String word, Pageable pageable);
+
+    /**
+     * Método para sugerir productos, subcategorías y categorías cuyo nombre tenga alguna palabra que
+     * empiece con un prefijo dado
+     *
+     * @param prefix Prefijo a buscar
+     * @param limit  Número máximo de sugerencias
+     * @return Lista de sugerencias
+     */
+    List<SuggestionResponseDto> suggest(String prefix, int limit);
+
     /**
      * Método para buscar un producto por su ID
      *
@@ -41,6 +83,14 @@ public interface IProductService {
      */
     ProductGetResponseDto findById(Integer id);
 
+    /**
+     * Método para buscar un producto por su código de barras
+     *
+     * @param barcode Código de barras único del producto
+     * @return Información del producto buscado
+     */
+    ProductGetResponseDto findByBarcode(String barcode);
+
     /**
      * Método para guardar un nuevo producto
      *
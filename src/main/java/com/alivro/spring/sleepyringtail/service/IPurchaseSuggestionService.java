@@ -0,0 +1,35 @@
+package com.alivro.spring.sleepyringtail.service;
+
+import com.alivro.spring.sleepyringtail.model.PurchaseSuggestion;
+import com.alivro.spring.sleepyringtail.model.purchase.response.PurchaseSuggestionResponseDto;
+import com.alivro.spring.sleepyringtail.model.purchase.response.PurchaseSuggestionRunResponseDto;
+import com.alivro.spring.sleepyringtail.model.purchase.response.PurchaseSuggestionSummaryResponseDto;
+import com.alivro.spring.sleepyringtail.util.pagination.CustomPaginationData;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+public interface IPurchaseSuggestionService {
+    /**
+     * Método para calcular las sugerencias de compra de todos los productos en existencia baja
+     *
+     * @return Información de la ejecución del cálculo
+     */
+    PurchaseSuggestionRunResponseDto generate();
+
+    /**
+     * Método para buscar las sugerencias de compra de la ejecución más reciente
+     *
+     * @param pageable Información de paginación
+     * @return Sugerencias de compra
+     */
+    CustomPaginationData<PurchaseSuggestionResponseDto, PurchaseSuggestion> findLatest(Pageable pageable);
+
+    /**
+     * Método para calcular los totales por categoría y subcategoría de las sugerencias de compra de la
+     * ejecución más reciente
+     *
+     * @return Totales por subcategoría
+     */
+    List<PurchaseSuggestionSummaryResponseDto> findLatestSummary();
+}
@@ -15,6 +15,15 @@ public interface ISubcategoryService {
      */
     CustomPaginationData<SubcategoryGenericResponseDto, Subcategory> findAll(Pageable pageable);
 
+    /**
+     * Método para buscar todas las subcategorías mediante paginación por cursor
+     *
+     * @param cursor Cursor de la página anterior (vacío para la primera página)
+     * @param size   Tamaño de la página
+     * @return Información de las subcategorías y el cursor de la siguiente página
+     */
+    CustomPaginationData<SubcategoryGenericResponseDto, Subcategory> findAllAfter(String cursor, int size);
+
     /**
      * Método para buscar las subcategorías que contengan una palabra dada
      *
@@ -24,6 +33,16 @@ public interface ISubcategoryService {
      */
     CustomPaginationData<SubcategoryGenericResponseDto, Subcategory> findAllByName(String word, Pageable pageable);
 
+    /**
+     * Método para buscar las subcategorías que contengan una palabra dada,
+     * sin obtener el número total de elementos
+     *
+     * @param word     Palabra a buscar en el nombre de la subcategoría
+     * @param pageable Información de paginación
+     * @return Información de las subcategorías que cumplen con el criterio de búsqueda
+     */
+    CustomPaginationData<SubcategoryGenericResponseDto, Subcategory> findSliceByName(String word, Pageable pageable);
+
     /**
      * Método para buscar una subcategoría por su ID
      *
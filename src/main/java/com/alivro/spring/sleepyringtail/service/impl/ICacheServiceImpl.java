@@ -0,0 +1,60 @@
+package com.alivro.spring.sleepyringtail.service.impl;
+
+import com.alivro.spring.sleepyringtail.constants.MessageConstants;
+import com.alivro.spring.sleepyringtail.model.cache.response.CacheStatisticsResponseDto;
+import com.alivro.spring.sleepyringtail.service.ICacheService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+
+@Service
+public class ICacheServiceImpl implements ICacheService {
+    private final Logger logger = LoggerFactory.getLogger(ICacheServiceImpl.class);
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Constructor
+     *
+     * @param entityManagerFactory Entity manager factory
+     */
+    @Autowired
+    public ICacheServiceImpl(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Método para obtener las estadísticas de las regiones de la caché de segundo nivel. Los contadores
+     * se acumulan desde el inicio de la aplicación; si las estadísticas de Hibernate están desactivadas,
+     * son 0.
+     *
+     * @return Estadísticas de cada región, ordenadas por nombre
+     */
+    @Override
+    public List<CacheStatisticsResponseDto> findStatistics() {
+        logger.info(MessageConstants.FIND_CACHE_STATISTICS);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(region -> {
+                    CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+
+                    return CacheStatisticsResponseDto.builder()
+                            .region(region)
+                            .hitCount(regionStatistics.getHitCount())
+                            .missCount(regionStatistics.getMissCount())
+                            .putCount(regionStatistics.getPutCount())
+                            .build();
+                })
+                .toList();
+    }
+}
@@ -1,21 +1,32 @@
 package com.alivro.spring.sleepyringtail.service.impl;
 
+import com.alivro.spring.sleepyringtail.cache.CategoryTreeCache;
+import com.alivro.spring.sleepyringtail.cache.ExistenceFilter;
+import com.alivro.spring.sleepyringtail.cache.UniqueKey;
 import com.alivro.spring.sleepyringtail.constants.MessageConstants;
 import com.alivro.spring.sleepyringtail.dao.CategoryDao;
 import com.alivro.spring.sleepyringtail.exception.DataAlreadyExistsException;
 import com.alivro.spring.sleepyringtail.exception.DataNotFoundException;
+import com.alivro.spring.sleepyringtail.mapper.CategoryMapper;
 import com.alivro.spring.sleepyringtail.model.Category;
+import com.alivro.spring.sleepyringtail.model.category.projection.CategoryGenericProjection;
 import com.alivro.spring.sleepyringtail.model.category.request.CategoryGenericRequestDto;
 import com.alivro.spring.sleepyringtail.model.category.response.CategoryGenericResponseDto;
 import com.alivro.spring.sleepyringtail.model.category.response.CategoryGetResponseDto;
+import com.alivro.spring.sleepyringtail.model.category.response.SerializedCategoryTreeResponseDto;
+import com.alivro.spring.sleepyringtail.search.SuggestionIndex;
+import com.alivro.spring.sleepyringtail.search.SuggestionType;
 import com.alivro.spring.sleepyringtail.service.ICategoryService;
+import com.alivro.spring.sleepyringtail.util.pagination.CustomCursor;
 import com.alivro.spring.sleepyringtail.util.pagination.CustomPaginationData;
-import org.modelmapper.ModelMapper;
+import com.alivro.spring.sleepyringtail.util.query.LikePattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -25,17 +36,27 @@ import java.util.Optional;
 public class ICategoryServiceImpl implements ICategoryService {
     private static final String MESSAGE_FORMAT = "{} {}: {}";
     private final Logger logger = LoggerFactory.getLogger(ICategoryServiceImpl.class);
-    private final ModelMapper modelMapper = new ModelMapper();
+    private final CategoryMapper categoryMapper = CategoryMapper.INSTANCE;
     private final CategoryDao categoryDao;
+    private final SuggestionIndex suggestionIndex;
+    private final ExistenceFilter existenceFilter;
+    private final CategoryTreeCache categoryTreeCache;
 
     /**
      * Constructor
      *
-     * @param categoryDao Category Dao
+     * @param categoryDao       Category Dao
+     * @param suggestionIndex   Índice de autocompletado
+     * @param existenceFilter   Filtros de existencia de las llaves únicas
+     * @param categoryTreeCache Instantánea del árbol de categorías
      */
     @Autowired
-    public ICategoryServiceImpl(CategoryDao categoryDao) {
+    public ICategoryServiceImpl(CategoryDao categoryDao, SuggestionIndex suggestionIndex,
+                                ExistenceFilter existenceFilter, CategoryTreeCache categoryTreeCache) {
         this.categoryDao = categoryDao;
+        this.suggestionIndex = suggestionIndex;
+        this.existenceFilter = existenceFilter;
+        this.categoryTreeCache = categoryTreeCache;
     }
 
     /**
@@ -48,16 +69,44 @@ public class ICategoryServiceImpl implements ICategoryService {
     public CustomPaginationData<CategoryGenericResponseDto, Category> findAll(Pageable pageable) {
         logger.info(MessageConstants.FIND_ALL_CATEGORIES);
 
-        Page<Category> categoriesPage = categoryDao.findAll(pageable);
+        Page<CategoryGenericProjection> categoriesPage = categoryDao.findAllProjected(pageable);
 
         // Información de las categorías
         List<CategoryGenericResponseDto> foundCategories = categoriesPage.stream()
-                .map(c -> modelMapper.map(c, CategoryGenericResponseDto.class))
+                .map(categoryMapper::toGenericResponseDto)
                 .toList();
 
         return new CustomPaginationData<>(foundCategories, categoriesPage);
     }
 
+    /**
+     * Método para buscar todas las categorías mediante paginación por cursor
+     *
+     * @param cursor Cursor de la página anterior (vacío para la primera página)
+     * @param size   Tamaño de la página
+     * @return Información de las categorías y el cursor de la siguiente página
+     */
+    @Override
+    public CustomPaginationData<CategoryGenericResponseDto, Category> findAllAfter(String cursor, int size) {
+        logger.info(MESSAGE_FORMAT, MessageConstants.FIND_ALL_CATEGORIES, MessageConstants.AFTER, cursor);
+
+        // Se solicita un elemento adicional para saber si existe una página siguiente
+        List<CategoryGenericProjection> categoriesSlice = categoryDao.findProjectedByIdGreaterThan(
+                CustomCursor.decode(cursor), PageRequest.ofSize(size + 1));
+
+        boolean hasNext = categoriesSlice.size() > size;
+        List<CategoryGenericProjection> categoriesPage = hasNext ? categoriesSlice.subList(0, size) : categoriesSlice;
+
+        // Información de las categorías
+        List<CategoryGenericResponseDto> foundCategories = categoriesPage.stream()
+                .map(categoryMapper::toGenericResponseDto)
+                .toList();
+
+        String nextCursor = hasNext ? CustomCursor.encode(categoriesPage.get(size - 1).id()) : null;
+
+        return new CustomPaginationData<>(foundCategories, size, nextCursor);
+    }
+
     /**
      * Método para buscar las categorías que contengan una palabra dada
      *
@@ -69,16 +118,57 @@ public class ICategoryServiceImpl implements ICategoryService {
     public CustomPaginationData<CategoryGenericResponseDto, Category> findAllByName(String word, Pageable pageable) {
         logger.info(MESSAGE_FORMAT, MessageConstants.FIND_ALL_CATEGORIES, MessageConstants.NAME, word);
 
-        Page<Category> categoriesPage = categoryDao.findByNameContainingIgnoreCase(word, pageable);
+        Page<CategoryGenericProjection> categoriesPage =
+                categoryDao.findProjectedByNameContainingIgnoreCase(LikePattern.escape(word), pageable);
 
         // Información de las categorías
         List<CategoryGenericResponseDto> foundCategories = categoriesPage.stream()
-                .map(c -> modelMapper.map(c, CategoryGenericResponseDto.class))
+                .map(categoryMapper::toGenericResponseDto)
                 .toList();
 
         return new CustomPaginationData<>(foundCategories, categoriesPage);
     }
 
+    /**
+     * Método para buscar las categorías que contengan una palabra dada,
+     * sin obtener el número total de elementos
+     *
+     * @param word     Palabra a buscar en el nombre de la categoría
+     * @param pageable Información de paginación
+     * @return Información de las categorías que cumplen con el criterio de búsqueda
+     */
+    @Override
+    public CustomPaginationData<CategoryGenericResponseDto, Category> findSliceByName(String word, Pageable pageable) {
+        logger.info(MESSAGE_FORMAT, MessageConstants.FIND_ALL_CATEGORIES, MessageConstants.NAME, word);
+
+        Slice<CategoryGenericProjection> categoriesSlice =
+                categoryDao.findSlicedByNameContainingIgnoreCase(LikePattern.escape(word), pageable);
+
+        // Información de las categorías
+        List<CategoryGenericResponseDto> foundCategories = categoriesSlice.stream()
+                .map(categoryMapper::toGenericResponseDto)
+                .toList();
+
+        return new CustomPaginationData<>(foundCategories, categoriesSlice);
+    }
+
+    /**
+     * Método para obtener el árbol de categorías y subcategorías con el número de productos de cada una
+     *
+     * @return Árbol de categorías, ya serializado, con su ETag
+     */
+    @Override
+    public SerializedCategoryTreeResponseDto findTree() {
+        logger.info(MessageConstants.FIND_CATEGORY_TREE);
+
+        CategoryTreeCache.Snapshot tree = categoryTreeCache.get();
+
+        return SerializedCategoryTreeResponseDto.builder()
+                .body(tree.body())
+                .etag(tree.etag())
+                .build();
+    }
+
     /**
      * Método para buscar una categoría por su ID
      *
@@ -97,7 +187,7 @@ public class ICategoryServiceImpl implements ICategoryService {
             throw new DataNotFoundException(MessageConstants.CATEGORY_NOT_FOUND);
         }
 
-        return modelMapper.map(foundCategory.get(), CategoryGetResponseDto.class);
+        return categoryMapper.toGetResponseDto(foundCategory.get());
     }
 
     /**
@@ -113,7 +203,8 @@ public class ICategoryServiceImpl implements ICategoryService {
         logger.info(MESSAGE_FORMAT, MessageConstants.FIND_CATEGORY, MessageConstants.NAME, name);
 
         // Verifica si ya existe una categoría con el mismo nombre
-        if (categoryDao.existsByName(name)) {
+        // (el filtro de existencia evita la consulta cuando la llave definitivamente no existe)
+        if (existenceFilter.mightContain(UniqueKey.CATEGORY_NAME, name) && categoryDao.existsByName(name)) {
             logger.info(MessageConstants.CATEGORY_ALREADY_EXISTS);
             logger.info(MessageConstants.CATEGORY_NOT_SAVED);
 
@@ -125,10 +216,14 @@ public class ICategoryServiceImpl implements ICategoryService {
 
         // Guarda la información de la nueva categoría
         Category savedCategory = categoryDao.save(
-                modelMapper.map(request, Category.class)
+                categoryMapper.toEntity(request)
         );
 
-        return modelMapper.map(savedCategory, CategoryGenericResponseDto.class);
+        existenceFilter.add(UniqueKey.CATEGORY_NAME, savedCategory.getName());
+        suggestionIndex.put(SuggestionType.CATEGORY, savedCategory.getId(), savedCategory.getName());
+        categoryTreeCache.invalidate();
+
+        return categoryMapper.toGenericResponseDto(savedCategory);
     }
 
     /**
@@ -163,7 +258,11 @@ public class ICategoryServiceImpl implements ICategoryService {
         // Actualiza la información de la categoría
         Category updatedCategory = categoryDao.save(categoryToUpdate);
 
-        return modelMapper.map(updatedCategory, CategoryGenericResponseDto.class);
+        existenceFilter.add(UniqueKey.CATEGORY_NAME, updatedCategory.getName());
+        suggestionIndex.put(SuggestionType.CATEGORY, updatedCategory.getId(), updatedCategory.getName());
+        categoryTreeCache.invalidate();
+
+        return categoryMapper.toGenericResponseDto(updatedCategory);
     }
 
     /**
@@ -176,5 +275,8 @@ public class ICategoryServiceImpl implements ICategoryService {
         logger.info("{} ID: {}", MessageConstants.DELETE_CATEGORY, id);
 
         categoryDao.deleteById(id);
+
+        suggestionIndex.remove(SuggestionType.CATEGORY, id);
+        categoryTreeCache.invalidate();
     }
 }
@@ -1,41 +1,92 @@
 package com.alivro.spring.sleepyringtail.service.impl;
 
+import com.alivro.spring.sleepyringtail.alert.StockAlertPublisher;
+import com.alivro.spring.sleepyringtail.alert.StockLevel;
+import com.alivro.spring.sleepyringtail.buffer.InventoryDeltaBuffer;
+import com.alivro.spring.sleepyringtail.cache.BarcodeCache;
 import com.alivro.spring.sleepyringtail.constants.MessageConstants;
+import com.alivro.spring.sleepyringtail.dao.InventoryBatchDao;
 import com.alivro.spring.sleepyringtail.dao.InventoryDao;
+import com.alivro.spring.sleepyringtail.dao.InventoryMovementDao;
 import com.alivro.spring.sleepyringtail.exception.DataAlreadyExistsException;
 import com.alivro.spring.sleepyringtail.exception.DataNotFoundException;
+import com.alivro.spring.sleepyringtail.exception.InsufficientStockException;
+import com.alivro.spring.sleepyringtail.mapper.InventoryMapper;
 import com.alivro.spring.sleepyringtail.model.Inventory;
+import com.alivro.spring.sleepyringtail.model.InventoryMovement;
+import com.alivro.spring.sleepyringtail.model.MovementType;
 import com.alivro.spring.sleepyringtail.model.Product;
+import com.alivro.spring.sleepyringtail.model.inventory.projection.InventoryGenericProjection;
+import com.alivro.spring.sleepyringtail.model.inventory.projection.InventoryQuantityProjection;
+import com.alivro.spring.sleepyringtail.model.inventory.request.InventoryAdjustRequestDto;
+import com.alivro.spring.sleepyringtail.model.inventory.request.InventoryBasketRequestDto;
 import com.alivro.spring.sleepyringtail.model.inventory.request.InventoryGenericRequestDto;
+import com.alivro.spring.sleepyringtail.model.inventory.response.InventoryAdjustResponseDto;
 import com.alivro.spring.sleepyringtail.model.inventory.response.InventoryGenericResponseDto;
+import com.alivro.spring.sleepyringtail.model.inventory.response.InventoryMovementResponseDto;
+import com.alivro.spring.sleepyringtail.model.inventory.response.InventoryStockResponseDto;
 import com.alivro.spring.sleepyringtail.service.IInventoryService;
+import com.alivro.spring.sleepyringtail.util.pagination.CustomCursor;
 import com.alivro.spring.sleepyringtail.util.pagination.CustomPaginationData;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
-
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 
 @Service
 public class IInventoryServiceImpl implements IInventoryService {
     private static final String MESSAGE_FORMAT = "{} {}: {}";
     private final Logger logger = LoggerFactory.getLogger(IInventoryServiceImpl.class);
-    private final ModelMapper modelMapper = new ModelMapper();
+    private final InventoryMapper inventoryMapper = InventoryMapper.INSTANCE;
     private final InventoryDao inventoryDao;
+    private final InventoryBatchDao inventoryBatchDao;
+    private final InventoryMovementDao inventoryMovementDao;
+    private final BarcodeCache barcodeCache;
+    private final InventoryDeltaBuffer deltaBuffer;
+    private final StockAlertPublisher stockAlertPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * Constructor
      *
-     * @param inventoryDao Inventory Dao
+     * @param inventoryDao         Inventory Dao
+     * @param inventoryBatchDao    Inventory Dao para operaciones por lotes
+     * @param inventoryMovementDao Inventory movement Dao
+     * @param barcodeCache         Caché de productos por código de barras
+     * @param deltaBuffer          Acumulador de ajustes de existencia (escritura diferida)
+     * @param stockAlertPublisher  Notificaciones de cambios de nivel de existencia
+     * @param transactionTemplate  Plantilla para ejecutar las escrituras directas en la existencia
      */
     @Autowired
-    public IInventoryServiceImpl(InventoryDao inventoryDao) {
+    public IInventoryServiceImpl(InventoryDao inventoryDao, InventoryBatchDao inventoryBatchDao,
+                                 InventoryMovementDao inventoryMovementDao, BarcodeCache barcodeCache,
+                                 InventoryDeltaBuffer deltaBuffer, StockAlertPublisher stockAlertPublisher,
+                                 TransactionTemplate transactionTemplate) {
         this.inventoryDao = inventoryDao;
+        this.inventoryBatchDao = inventoryBatchDao;
+        this.inventoryMovementDao = inventoryMovementDao;
+        this.barcodeCache = barcodeCache;
+        this.deltaBuffer = deltaBuffer;
+        this.stockAlertPublisher = stockAlertPublisher;
+        this.transactionTemplate = transactionTemplate;
     }
 
     /**
@@ -48,14 +99,49 @@ public class IInventoryServiceImpl implements IInventoryService {
     public CustomPaginationData<InventoryGenericResponseDto, Inventory> findAll(Pageable pageable) {
         logger.info(MessageConstants.FIND_ALL_INVENTORY);
 
-        Page<Inventory> inventoryPage = inventoryDao.findAll(pageable);
+        return deltaBuffer.read(() -> {
+            Page<InventoryGenericProjection> inventoryPage = inventoryDao.findAllProjected(pageable);
 
-        // Información del inventario de todos los productos
-        List<InventoryGenericResponseDto> foundInventory = inventoryPage.stream()
-                .map(inventoryProduct -> modelMapper.map(inventoryProduct, InventoryGenericResponseDto.class))
-                .toList();
+            // Información del inventario de todos los productos
+            List<InventoryGenericResponseDto> foundInventory = inventoryPage.stream()
+                    .map(inventoryMapper::toGenericResponseDto)
+                    .map(this::withPendingDelta)
+                    .toList();
 
-        return new CustomPaginationData<>(foundInventory, inventoryPage);
+            return new CustomPaginationData<>(foundInventory, inventoryPage);
+        });
+    }
+
+    /**
+     * Método para buscar el inventario de todos los productos mediante paginación por cursor
+     *
+     * @param cursor Cursor de la página anterior (vacío para la primera página)
+     * @param size   Tamaño de la página
+     * @return Información del inventario de los productos y el cursor de la siguiente página
+     */
+    @Override
+    public CustomPaginationData<InventoryGenericResponseDto, Inventory> findAllAfter(String cursor, int size) {
+        logger.info(MESSAGE_FORMAT, MessageConstants.FIND_ALL_INVENTORY, MessageConstants.AFTER, cursor);
+
+        return deltaBuffer.read(() -> {
+            // Se solicita un elemento adicional para saber si existe una página siguiente
+            List<InventoryGenericProjection> inventorySlice = inventoryDao.findProjectedByIdGreaterThan(
+                    CustomCursor.decode(cursor), PageRequest.ofSize(size + 1));
+
+            boolean hasNext = inventorySlice.size() > size;
+            List<InventoryGenericProjection> inventoryPage =
+                    hasNext ? inventorySlice.subList(0, size) : inventorySlice;
+
+            // Información del inventario de los productos
+            List<InventoryGenericResponseDto> foundInventory = inventoryPage.stream()
+                    .map(inventoryMapper::toGenericResponseDto)
+                    .map(this::withPendingDelta)
+                    .toList();
+
+            String nextCursor = hasNext ? CustomCursor.encode(inventoryPage.get(size - 1).id()) : null;
+
+            return new CustomPaginationData<>(foundInventory, size, nextCursor);
+        });
     }
 
     /**
@@ -68,15 +154,17 @@ public class IInventoryServiceImpl implements IInventoryService {
     public InventoryGenericResponseDto findById(Integer id) {
         logger.info(MESSAGE_FORMAT, MessageConstants.FIND_INVENTORY, MessageConstants.ID, id);
 
-        Optional<Inventory> foundInventory = inventoryDao.findById(id);
+        return deltaBuffer.read(() -> {
+            Optional<Inventory> foundInventory = inventoryDao.findById(id);
 
-        if (foundInventory.isEmpty()) {
-            logger.info(MessageConstants.INVENTORY_NOT_FOUND);
+            if (foundInventory.isEmpty()) {
+                logger.info(MessageConstants.INVENTORY_NOT_FOUND);
 
-            throw new DataNotFoundException(MessageConstants.INVENTORY_NOT_FOUND);
-        }
+                throw new DataNotFoundException(MessageConstants.INVENTORY_NOT_FOUND);
+            }
 
-        return modelMapper.map(foundInventory.get(), InventoryGenericResponseDto.class);
+            return withPendingDelta(inventoryMapper.toGenericResponseDto(foundInventory.get()));
+        });
     }
 
     /**
@@ -86,6 +174,7 @@ public class IInventoryServiceImpl implements IInventoryService {
      * @return Información del inventario del producto guardado
      */
     @Override
+    @Transactional
     public InventoryGenericResponseDto save(InventoryGenericRequestDto request) {
         Integer id = request.getProduct().getId();
 
@@ -104,10 +193,20 @@ public class IInventoryServiceImpl implements IInventoryService {
 
         // Guarda la información del stock del producto
         Inventory savedInventory = inventoryDao.save(
-                modelMapper.map(request, Inventory.class)
+                inventoryMapper.toEntity(request)
         );
 
-        return modelMapper.map(savedInventory, InventoryGenericResponseDto.class);
+        // La existencia inicial se registra como reabastecimiento
+        recordMovement(id, MovementType.RESTOCK, request.getQuantityAvailable());
+
+        // El inventario forma parte de la información del producto en la caché
+        invalidateAfterCommit(List.of(id));
+
+        // Un inventario nuevo no tiene nivel anterior; se notifica su nivel inicial
+        publishAfterCommit(id, null, savedInventory.getQuantityAvailable(),
+                savedInventory.getMinimumStock(), savedInventory.getMaximumStock());
+
+        return inventoryMapper.toGenericResponseDto(savedInventory);
     }
 
     /**
@@ -121,7 +220,22 @@ public class IInventoryServiceImpl implements IInventoryService {
     public InventoryGenericResponseDto update(Integer id, InventoryGenericRequestDto request) {
         logger.info(MESSAGE_FORMAT, MessageConstants.FIND_INVENTORY, MessageConstants.ID, id);
 
-        Optional<Inventory> foundProductStock = inventoryDao.findById(id);
+        // La existencia se sobrescribe, por lo que los ajustes pendientes se guardan antes y no se
+        // admiten ajustes nuevos hasta confirmar la transacción (modo de escritura diferida)
+        return deltaBuffer.exclusive(() -> transactionTemplate.execute(status -> overwrite(id, request)));
+    }
+
+    /**
+     * Método para sobrescribir la información del inventario de un producto
+     *
+     * @param id      Identificador único del producto en el inventario
+     * @param request Información del inventario del producto a actualizar
+     * @return Información del inventario del producto actualizado
+     */
+    private InventoryGenericResponseDto overwrite(Integer id, InventoryGenericRequestDto request) {
+        // La fila se bloquea para que el movimiento registrado sea la diferencia con la existencia
+        // que realmente se sobrescribe, aunque se ajuste al mismo tiempo
+        Optional<Inventory> foundProductStock = inventoryDao.findForUpdateById(id);
 
         // Verifica si existe en el inventario un producto con el ID dado
         if (foundProductStock.isEmpty()) {
@@ -133,7 +247,11 @@ public class IInventoryServiceImpl implements IInventoryService {
 
         // Información del inventario del producto a actualizar
         Inventory inventoryToUpdate = foundProductStock.get();
-        Product product = modelMapper.map(request.getProduct(), Product.class);
+        Integer previousProductId = inventoryToUpdate.getProduct().getId();
+        int previousQuantity = inventoryToUpdate.getQuantityAvailable();
+        StockLevel previousLevel = StockLevel.of(previousQuantity,
+                inventoryToUpdate.getMinimumStock(), inventoryToUpdate.getMaximumStock());
+        Product product = inventoryMapper.toEntity(request.getProduct());
 
         inventoryToUpdate.setQuantityAvailable(request.getQuantityAvailable());
         inventoryToUpdate.setMinimumStock(request.getMinimumStock());
@@ -147,7 +265,298 @@ public class IInventoryServiceImpl implements IInventoryService {
         // Actualiza la información del inventario del producto
         Inventory updatedInventoryProduct = inventoryDao.save(inventoryToUpdate);
 
-        return modelMapper.map(updatedInventoryProduct, InventoryGenericResponseDto.class);
+        // La sobrescritura de la existencia se registra como la diferencia respecto a la anterior
+        if (previousProductId.equals(product.getId())) {
+            recordMovement(product.getId(), MovementType.ADJUSTMENT, request.getQuantityAvailable() - previousQuantity);
+        } else {
+            recordMovement(previousProductId, MovementType.ADJUSTMENT, -previousQuantity);
+            recordMovement(product.getId(), MovementType.ADJUSTMENT, request.getQuantityAvailable());
+        }
+
+        // El inventario forma parte de la información del producto en la caché
+        invalidateAfterCommit(List.of(previousProductId, product.getId()));
+
+        publishAfterCommit(product.getId(), previousLevel, updatedInventoryProduct.getQuantityAvailable(),
+                updatedInventoryProduct.getMinimumStock(), updatedInventoryProduct.getMaximumStock());
+
+        return inventoryMapper.toGenericResponseDto(updatedInventoryProduct);
+    }
+
+    /**
+     * Método para sumar o restar una cantidad a la existencia de un producto. El ajuste se hace con
+     * una sola sentencia condicional, sin leer antes el inventario.
+     *
+     * @param id      Identificador único del producto en el inventario
+     * @param request Cantidad a sumar o restar
+     * @return Existencia del producto después del ajuste
+     */
+    @Override
+    public InventoryAdjustResponseDto adjust(Integer id, InventoryAdjustRequestDto request) {
+        logger.info(MESSAGE_FORMAT, MessageConstants.ADJUST_INVENTORY, MessageConstants.ID, id);
+
+        // El acumulador se bloquea sin una conexión tomada: el guardado de los ajustes pendientes
+        // necesita una conexión mientras mantiene el bloqueo (modo de escritura diferida)
+        if (deltaBuffer.isEnabled()) {
+            return adjustBuffered(id, request.getDelta());
+        }
+
+        return transactionTemplate.execute(status -> adjustStored(id, request.getDelta()));
+    }
+
+    /**
+     * Método para sumar o restar una cantidad a la existencia guardada de un producto
+     *
+     * @param id    Identificador único del producto en el inventario
+     * @param delta Cantidad a sumar o restar
+     * @return Existencia del producto después del ajuste
+     */
+    private InventoryAdjustResponseDto adjustStored(Integer id, Integer delta) {
+        Optional<InventoryQuantityProjection> adjustedInventory = inventoryDao.adjustQuantityAvailable(id, delta);
+
+        // Si no se actualizó la fila, el inventario no existe o la existencia quedaría negativa
+        if (adjustedInventory.isEmpty()) {
+            if (!inventoryDao.existsById(id)) {
+                logger.info(MessageConstants.INVENTORY_NOT_FOUND);
+
+                throw new DataNotFoundException(MessageConstants.INVENTORY_NOT_FOUND);
+            }
+
+            logger.info(MessageConstants.INSUFFICIENT_STOCK);
+
+            throw new InsufficientStockException(MessageConstants.INSUFFICIENT_STOCK);
+        }
+
+        InventoryQuantityProjection quantity = adjustedInventory.get();
+
+        recordMovement(quantity.getProductId(), MovementType.ADJUSTMENT, delta);
+
+        // El inventario forma parte de la información del producto en la caché
+        invalidateAfterCommit(List.of(quantity.getProductId()));
+
+        publishAdjustment(quantity, quantity.getQuantityAvailable(), delta);
+
+        return InventoryAdjustResponseDto.builder()
+                .id(id)
+                .productId(quantity.getProductId())
+                .quantityAvailable(quantity.getQuantityAvailable())
+                .build();
+    }
+
+    /**
+     * Método para acumular un ajuste de existencia en memoria (modo de escritura diferida). Se valida
+     * contra la existencia guardada más los ajustes pendientes y se guarda después, junto con los
+     * demás ajustes pendientes, en un solo lote.
+     *
+     * @param id    Identificador único del producto en el inventario
+     * @param delta Cantidad a sumar o restar
+     * @return Existencia del producto después del ajuste
+     */
+    private InventoryAdjustResponseDto adjustBuffered(Integer id, Integer delta) {
+        return deltaBuffer.read(() -> {
+            Optional<InventoryQuantityProjection> storedInventory = inventoryDao.findQuantityById(id);
+
+            if (storedInventory.isEmpty()) {
+                logger.info(MessageConstants.INVENTORY_NOT_FOUND);
+
+                throw new DataNotFoundException(MessageConstants.INVENTORY_NOT_FOUND);
+            }
+
+            InventoryQuantityProjection stored = storedInventory.get();
+            long quantity = deltaBuffer.add(stored.getProductId(), stored.getQuantityAvailable(), delta);
+
+            if (quantity < 0) {
+                logger.info(MessageConstants.INSUFFICIENT_STOCK);
+
+                throw new InsufficientStockException(MessageConstants.INSUFFICIENT_STOCK);
+            }
+
+            publishAdjustment(stored, (int) quantity, delta);
+
+            return InventoryAdjustResponseDto.builder()
+                    .id(id)
+                    .productId(stored.getProductId())
+                    .quantityAvailable((int) quantity)
+                    .build();
+        });
+    }
+
+    /**
+     * Método para sumar o restar cantidades a la existencia de varios productos (canasta de venta)
+     * en una sola transacción y un solo lote de sentencias. Si alguna línea no se puede aplicar, se
+     * revierte la transacción completa.
+     *
+     * @param request Líneas de la canasta
+     * @return Información del inventario de los productos después del ajuste
+     */
+    @Override
+    public List<InventoryGenericResponseDto> adjustBasket(InventoryBasketRequestDto request) {
+        // Agrupa las líneas por producto y las ordena por ID, de modo que las canastas concurrentes
+        // bloqueen las filas en el mismo orden y no se produzcan interbloqueos
+        Map<Integer, Integer> deltas = new TreeMap<>();
+        request.getLines().forEach(line -> deltas.merge(line.getProductId(), line.getDelta(), Integer::sum));
+
+        logger.info(MESSAGE_FORMAT, MessageConstants.ADJUST_BASKET, MessageConstants.ID, deltas.keySet());
+
+        // La sentencia condicional no ve los ajustes pendientes, por lo que se guardan antes y no se
+        // admiten ajustes nuevos hasta confirmar la transacción (modo de escritura diferida)
+        return deltaBuffer.exclusive(() -> transactionTemplate.execute(status -> applyBasket(deltas)));
+    }
+
+    /**
+     * Método para aplicar las líneas de una canasta de venta, agrupadas y ordenadas por producto
+     *
+     * @param deltas Cantidad a sumar o restar por ID de producto
+     * @return Información del inventario de los productos después del ajuste
+     */
+    private List<InventoryGenericResponseDto> applyBasket(Map<Integer, Integer> deltas) {
+        int[] updatedRows = inventoryBatchDao.adjustQuantitiesByProduct(deltas);
+
+        List<Integer> rejectedIds = new ArrayList<>();
+        int line = 0;
+
+        for (Integer productId : deltas.keySet()) {
+            if (updatedRows[line++] == 0) {
+                rejectedIds.add(productId);
+            }
+        }
+
+        // La excepción revierte la transacción, por lo que no se aplica ninguna línea
+        if (!rejectedIds.isEmpty()) {
+            List<Integer> missingIds = rejectedIds.stream()
+                    .filter(productId -> !inventoryDao.existsByProductId(productId))
+                    .toList();
+
+            if (!missingIds.isEmpty()) {
+                logger.info(MESSAGE_FORMAT, MessageConstants.INVENTORY_NOT_FOUND, MessageConstants.ID, missingIds);
+
+                throw new DataNotFoundException(String.format(
+                        "%s %s: %s", MessageConstants.INVENTORY_NOT_FOUND, MessageConstants.ID, missingIds));
+            }
+
+            logger.info(MESSAGE_FORMAT, MessageConstants.INSUFFICIENT_STOCK, MessageConstants.ID, rejectedIds);
+
+            throw new InsufficientStockException(String.format(
+                    "%s %s: %s", MessageConstants.INSUFFICIENT_STOCK, MessageConstants.ID, rejectedIds));
+        }
+
+        // Las líneas que restan existencia son ventas y las que suman, devoluciones
+        inventoryBatchDao.appendMovements(deltas.entrySet().stream()
+                .filter(delta -> delta.getValue() != 0)
+                .map(delta -> InventoryMovement.builder()
+                        .productId(delta.getKey())
+                        .type(delta.getValue() < 0 ? MovementType.SALE : MovementType.RETURN)
+                        .quantity(delta.getValue())
+                        .build())
+                .toList());
+
+        invalidateAfterCommit(deltas.keySet());
+
+        // Información del inventario de los productos
+        List<InventoryGenericProjection> adjustedInventory = inventoryDao.findProjectedByProductIdIn(deltas.keySet());
+
+        // El nivel anterior se obtiene de la existencia antes del ajuste, sin volver a consultarla
+        adjustedInventory.forEach(inventory -> publishAfterCommit(inventory.productId(),
+                StockLevel.of(inventory.quantityAvailable() - deltas.get(inventory.productId()),
+                        inventory.minimumStock(), inventory.maximumStock()),
+                inventory.quantityAvailable(), inventory.minimumStock(), inventory.maximumStock()));
+
+        return adjustedInventory.stream()
+                .map(inventoryMapper::toGenericResponseDto)
+                .toList();
+    }
+
+    /**
+     * Método para buscar el inventario de los productos en existencia baja. La consulta usa el índice
+     * parcial de existencia baja, por lo que solo recorre los productos que cumplen la condición.
+     * <p>
+     * En modo de escritura diferida, la condición se evalúa sobre la existencia guardada más el ajuste
+     * pendiente: se consultan también los productos con ajustes pendientes negativos y se descartan
+     * los que, con el ajuste, ya no están en existencia baja. Una página puede traer menos elementos
+     * que el tamaño solicitado.
+     *
+     * @param pageable Información de paginación
+     * @return Información del inventario de los productos en existencia baja
+     */
+    @Override
+    public CustomPaginationData<InventoryGenericResponseDto, Inventory> findLowStock(Pageable pageable) {
+        logger.info(MessageConstants.FIND_LOW_STOCK);
+
+        return deltaBuffer.read(() -> {
+            Set<Integer> pendingDecreases = deltaBuffer.pendingDecreases();
+            Slice<InventoryGenericProjection> inventorySlice = pendingDecreases.isEmpty()
+                    ? inventoryDao.findLowStock(pageable)
+                    : inventoryDao.findLowStockOrProductIdIn(pendingDecreases, pageable);
+
+            // Información del inventario de los productos en existencia baja
+            List<InventoryGenericResponseDto> foundInventory = inventorySlice.stream()
+                    .map(inventoryMapper::toGenericResponseDto)
+                    .map(this::withPendingDelta)
+                    .filter(inventory -> StockLevel.of(inventory.getQuantityAvailable(),
+                            inventory.getMinimumStock(), inventory.getMaximumStock()) == StockLevel.LOW)
+                    .toList();
+
+            return new CustomPaginationData<>(foundInventory, inventorySlice);
+        });
+    }
+
+    /**
+     * Método para suscribirse a los cambios de nivel de existencia de los productos
+     *
+     * @return Flujo de eventos del suscriptor
+     */
+    @Override
+    public SseEmitter subscribeStockAlerts() {
+        logger.info(MessageConstants.SUBSCRIBE_STOCK_ALERTS);
+
+        return stockAlertPublisher.subscribe();
+    }
+
+    /**
+     * Método para buscar los movimientos del libro de inventario de un producto
+     *
+     * @param productId Identificador único del producto
+     * @param pageable  Información de paginación
+     * @return Movimientos de inventario del producto
+     */
+    @Override
+    public CustomPaginationData<InventoryMovementResponseDto, InventoryMovement> findMovementsByProductId(
+            Integer productId, Pageable pageable) {
+        logger.info(MESSAGE_FORMAT, MessageConstants.FIND_INVENTORY_MOVEMENTS, MessageConstants.ID, productId);
+
+        Slice<InventoryMovement> movementSlice = inventoryMovementDao.findByProductId(productId, pageable);
+
+        // Movimientos de inventario del producto
+        List<InventoryMovementResponseDto> foundMovements = movementSlice.stream()
+                .map(inventoryMapper::toMovementResponseDto)
+                .toList();
+
+        return new CustomPaginationData<>(foundMovements, movementSlice);
+    }
+
+    /**
+     * Método para calcular la existencia de un producto en un momento dado a partir de la última
+     * instantánea anterior a ese momento y de los movimientos posteriores a ella
+     *
+     * @param productId Identificador único del producto
+     * @param at        Momento de la consulta
+     * @return Existencia del producto en ese momento
+     */
+    @Override
+    public InventoryStockResponseDto findQuantityAt(Integer productId, OffsetDateTime at) {
+        logger.info(MESSAGE_FORMAT, MessageConstants.FIND_STOCK_AT, MessageConstants.ID, productId);
+
+        // Sin inventario, el libro no tiene movimientos y la existencia calculada sería 0
+        if (!inventoryDao.existsByProductId(productId)) {
+            logger.info(MessageConstants.INVENTORY_NOT_FOUND);
+
+            throw new DataNotFoundException(MessageConstants.INVENTORY_NOT_FOUND);
+        }
+
+        return InventoryStockResponseDto.builder()
+                .productId(productId)
+                .quantityAvailable(inventoryMovementDao.findQuantityAt(productId, at))
+                .at(at)
+                .build();
     }
 
     /**
@@ -160,5 +569,107 @@ public class IInventoryServiceImpl implements IInventoryService {
         logger.info(MESSAGE_FORMAT, MessageConstants.DELETE_INVENTORY, MessageConstants.ID, id);
 
         inventoryDao.deleteById(id);
+
+        // Solo se conoce el ID del inventario, no el del producto
+        barcodeCache.clear();
+    }
+
+    /**
+     * Método para registrar un movimiento en el libro de inventario
+     *
+     * @param productId Identificador único del producto
+     * @param type      Tipo de movimiento
+     * @param quantity  Cantidad sumada o restada; si es 0 no se registra
+     */
+    private void recordMovement(Integer productId, MovementType type, int quantity) {
+        if (quantity == 0) {
+            return;
+        }
+
+        inventoryBatchDao.appendMovements(List.of(InventoryMovement.builder()
+                .productId(productId)
+                .type(type)
+                .quantity(quantity)
+                .build()));
+    }
+
+    /**
+     * Método para sumar a la existencia guardada el ajuste pendiente del producto (modo de escritura
+     * diferida)
+     *
+     * @param inventory Información del inventario del producto
+     * @return Información del inventario del producto con la existencia actual
+     */
+    private InventoryGenericResponseDto withPendingDelta(InventoryGenericResponseDto inventory) {
+        long pendingDelta = deltaBuffer.pending(inventory.getProduct().getId());
+
+        if (pendingDelta != 0) {
+            inventory.setQuantityAvailable(Math.toIntExact(inventory.getQuantityAvailable() + pendingDelta));
+        }
+
+        return inventory;
+    }
+
+    /**
+     * Método para invalidar los productos en la caché una vez confirmada la transacción en curso, para
+     * que una lectura concurrente no vuelva a guardar la existencia anterior
+     *
+     * @param productIds Identificadores únicos de los productos
+     */
+    private void invalidateAfterCommit(Collection<Integer> productIds) {
+        List<Integer> ids = List.copyOf(productIds);
+
+        afterCommit(() -> barcodeCache.invalidateProducts(ids));
+    }
+
+    /**
+     * Método para informar el resultado de un ajuste de existencia; el nivel anterior se obtiene
+     * restando el ajuste a la existencia nueva
+     *
+     * @param inventory         Stock mínimo y máximo del producto
+     * @param quantityAvailable Cantidad disponible después del ajuste
+     * @param delta             Cantidad sumada o restada
+     */
+    private void publishAdjustment(InventoryQuantityProjection inventory, int quantityAvailable, int delta) {
+        publishAfterCommit(inventory.getProductId(),
+                StockLevel.of(quantityAvailable - delta, inventory.getMinimumStock(), inventory.getMaximumStock()),
+                quantityAvailable, inventory.getMinimumStock(), inventory.getMaximumStock());
+    }
+
+    /**
+     * Método para notificar un cambio de nivel de existencia una vez confirmada la transacción en
+     * curso, para no anunciar un cambio que después se revierte
+     *
+     * @param productId         Identificador único del producto
+     * @param previousLevel     Nivel de existencia antes del cambio (null si el inventario es nuevo)
+     * @param quantityAvailable Cantidad disponible después del cambio
+     * @param minimumStock      Stock mínimo
+     * @param maximumStock      Stock máximo
+     */
+    private void publishAfterCommit(Integer productId, StockLevel previousLevel, int quantityAvailable,
+                                    int minimumStock, int maximumStock) {
+        afterCommit(() -> stockAlertPublisher.stockChanged(
+                productId, previousLevel, quantityAvailable, minimumStock, maximumStock));
+    }
+
+    /**
+     * Método para ejecutar una acción una vez confirmada la transacción en curso, o de inmediato si no
+     * hay una transacción activa
+     *
+     * @param action Acción a ejecutar
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
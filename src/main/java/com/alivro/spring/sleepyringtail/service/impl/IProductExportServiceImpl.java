@@ -0,0 +1,90 @@
+package com.alivro.spring.sleepyringtail.service.impl;
+
+import com.alivro.spring.sleepyringtail.constants.MessageConstants;
+import com.alivro.spring.sleepyringtail.dao.ProductExportDao;
+import com.alivro.spring.sleepyringtail.model.product.projection.ProductExportProjection;
+import com.alivro.spring.sleepyringtail.model.product.request.ProductExportFormat;
+import com.alivro.spring.sleepyringtail.service.IProductExportService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class IProductExportServiceImpl implements IProductExportService {
+    private static final String MESSAGE_FORMAT = "{} {}: {}";
+    private final Logger logger = LoggerFactory.getLogger(IProductExportServiceImpl.class);
+    // Columnas en el orden de la proyección, igual que en NDJSON
+    private final CsvMapper csvMapper = CsvMapper.builder()
+            .disable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .build();
+    private final ProductExportDao productExportDao;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructor
+     *
+     * @param productExportDao Product Dao para exportaciones
+     * @param objectMapper     Serializador JSON de la aplicación
+     */
+    @Autowired
+    public IProductExportServiceImpl(ProductExportDao productExportDao, ObjectMapper objectMapper) {
+        this.productExportDao = productExportDao;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Método para exportar todos los productos, con su subcategoría, categoría e inventario, en un
+     * archivo CSV o NDJSON. Los productos se escriben conforme se leen de la base de datos.
+     *
+     * @param format Formato del archivo
+     * @param output Destino del archivo
+     * @return Número de productos exportados
+     */
+    @Override
+    public long exportProducts(ProductExportFormat format, OutputStream output) throws IOException {
+        logger.info(MESSAGE_FORMAT, MessageConstants.EXPORT_PRODUCTS, MessageConstants.FORMAT, format);
+
+        // Sin vaciar el búfer después de cada producto; el servidor envía la respuesta por bloques
+        ObjectWriter writer = (format == ProductExportFormat.CSV
+                ? csvMapper.writer(csvMapper.schemaFor(ProductExportProjection.class).withHeader())
+                : objectMapper.writer().withRootValueSeparator("\n"))
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        AtomicLong written = new AtomicLong();
+
+        try (SequenceWriter products = writer.writeValues(output)) {
+            productExportDao.forEach(product -> {
+                try {
+                    products.write(product);
+                    written.incrementAndGet();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // El cliente cerró la conexión: la transacción del cursor ya se revirtió
+            throw e.getCause();
+        }
+
+        if (format == ProductExportFormat.NDJSON && written.get() > 0) {
+            output.write('\n');
+        }
+
+        logger.info(MESSAGE_FORMAT, MessageConstants.EXPORTED_PRODUCTS, MessageConstants.WRITTEN, written);
+
+        return written.get();
+    }
+}
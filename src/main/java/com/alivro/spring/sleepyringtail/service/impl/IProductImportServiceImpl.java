@@ -0,0 +1,741 @@
+package com.alivro.spring.sleepyringtail.service.impl;
+
+import com.alivro.spring.sleepyringtail.alert.StockAlertPublisher;
+import com.alivro.spring.sleepyringtail.alert.StockLevel;
+import com.alivro.spring.sleepyringtail.buffer.InventoryDeltaBuffer;
+import com.alivro.spring.sleepyringtail.cache.BarcodeCache;
+import com.alivro.spring.sleepyringtail.cache.CategoryTreeCache;
+import com.alivro.spring.sleepyringtail.cache.ExistenceFilter;
+import com.alivro.spring.sleepyringtail.cache.UniqueKey;
+import com.alivro.spring.sleepyringtail.constants.MessageConstants;
+import com.alivro.spring.sleepyringtail.dao.InventoryBatchDao;
+import com.alivro.spring.sleepyringtail.dao.InventoryDao;
+import com.alivro.spring.sleepyringtail.dao.ProductCopyDao;
+import com.alivro.spring.sleepyringtail.dao.ProductDao;
+import com.alivro.spring.sleepyringtail.dao.SubcategoryDao;
+import com.alivro.spring.sleepyringtail.model.Inventory;
+import com.alivro.spring.sleepyringtail.model.InventoryMovement;
+import com.alivro.spring.sleepyringtail.model.MovementType;
+import com.alivro.spring.sleepyringtail.model.Product;
+import com.alivro.spring.sleepyringtail.model.inventory.request.InventoryGenericRequestDto;
+import com.alivro.spring.sleepyringtail.model.product.projection.ProductCopyProjection;
+import com.alivro.spring.sleepyringtail.model.product.request.ProductGenericRequestDto;
+import com.alivro.spring.sleepyringtail.model.product.request.ProductImportFormat;
+import com.alivro.spring.sleepyringtail.model.product.request.ProductImportMode;
+import com.alivro.spring.sleepyringtail.model.product.request.ProductImportRecord;
+import com.alivro.spring.sleepyringtail.model.product.request.ProductImportRequestDto;
+import com.alivro.spring.sleepyringtail.model.product.response.ProductImportErrorResponseDto;
+import com.alivro.spring.sleepyringtail.model.product.response.ProductImportResponseDto;
+import com.alivro.spring.sleepyringtail.model.subcategory.projection.SubcategoryGenericProjection;
+import com.alivro.spring.sleepyringtail.model.util.request.SubcategoryRequestDto;
+import com.alivro.spring.sleepyringtail.search.ProductSearchIndex;
+import com.alivro.spring.sleepyringtail.search.SuggestionIndex;
+import com.alivro.spring.sleepyringtail.search.SuggestionType;
+import com.alivro.spring.sleepyringtail.service.IProductImportService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvReadException;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ObjLongConsumer;
+import java.util.stream.Collectors;
+
+@Service
+public class IProductImportServiceImpl implements IProductImportService {
+    private static final String MESSAGE_FORMAT = "{} {}: {}";
+
+    // Número de registros guardados por transacción (múltiplo de hibernate.jdbc.batch_size)
+    private static final int BATCH_SIZE = 500;
+
+    // Número de registros copiados por transacción en el modo COPY
+    private static final int COPY_BATCH_SIZE = 10_000;
+
+    // Campos de existencias del registro, validados con las reglas de InventoryGenericRequestDto
+    private static final List<String> INVENTORY_FIELDS =
+            List.of("quantityAvailable", "minimumStock", "maximumStock");
+
+    // Marca de orden de bytes que algunos editores agregan al inicio de un archivo UTF-8
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Logger logger = LoggerFactory.getLogger(IProductImportServiceImpl.class);
+    private final CsvMapper csvMapper = CsvMapper.builder()
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .enable(CsvParser.Feature.SKIP_EMPTY_LINES)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+    private final ProductDao productDao;
+    private final SubcategoryDao subcategoryDao;
+    private final InventoryDao inventoryDao;
+    private final InventoryBatchDao inventoryBatchDao;
+    private final ProductCopyDao productCopyDao;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ProductSearchIndex productSearchIndex;
+    private final SuggestionIndex suggestionIndex;
+    private final BarcodeCache barcodeCache;
+    private final ExistenceFilter existenceFilter;
+    private final CategoryTreeCache categoryTreeCache;
+    private final InventoryDeltaBuffer deltaBuffer;
+    private final StockAlertPublisher stockAlertPublisher;
+
+    /**
+     * Constructor
+     *
+     * @param productDao          Product Dao
+     * @param subcategoryDao      Subcategory Dao
+     * @param inventoryDao        Inventory Dao
+     * @param inventoryBatchDao   Inventory Dao para operaciones por lotes
+     * @param productCopyDao      Product Dao para cargas con COPY
+     * @param transactionTemplate Plantilla para ejecutar cada lote en su propia transacción
+     * @param validator           Validador de las peticiones
+     * @param objectMapper        Serializador JSON de la aplicación
+     * @param productSearchIndex  Índice de búsqueda de productos
+     * @param suggestionIndex     Índice de autocompletado
+     * @param barcodeCache        Caché de productos por código de barras
+     * @param existenceFilter     Filtros de existencia de las llaves únicas
+     * @param categoryTreeCache   Instantánea del árbol de categorías
+     * @param deltaBuffer         Acumulador de ajustes de existencia (escritura diferida)
+     * @param stockAlertPublisher Notificaciones de cambios de nivel de existencia
+     */
+    @Autowired
+    public IProductImportServiceImpl(ProductDao productDao, SubcategoryDao subcategoryDao,
+                                     InventoryDao inventoryDao, InventoryBatchDao inventoryBatchDao,
+                                     ProductCopyDao productCopyDao, TransactionTemplate transactionTemplate, Validator validator,
+                                     ObjectMapper objectMapper, ProductSearchIndex productSearchIndex,
+                                     SuggestionIndex suggestionIndex, BarcodeCache barcodeCache,
+                                     ExistenceFilter existenceFilter, CategoryTreeCache categoryTreeCache,
+                                     InventoryDeltaBuffer deltaBuffer, StockAlertPublisher stockAlertPublisher) {
+        this.productDao = productDao;
+        this.subcategoryDao = subcategoryDao;
+        this.inventoryDao = inventoryDao;
+        this.inventoryBatchDao = inventoryBatchDao;
+        this.productCopyDao = productCopyDao;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.productSearchIndex = productSearchIndex;
+        this.suggestionIndex = suggestionIndex;
+        this.barcodeCache = barcodeCache;
+        this.existenceFilter = existenceFilter;
+        this.categoryTreeCache = categoryTreeCache;
+        this.deltaBuffer = deltaBuffer;
+        this.stockAlertPublisher = stockAlertPublisher;
+    }
+
+    /**
+     * Método para importar productos desde un archivo CSV o NDJSON. El archivo se lee registro por
+     * registro; los productos se guardan por lotes y los que ya existen (mismo código de barras) se
+     * actualizan, junto con sus existencias si el registro las incluye.
+     *
+     * @param body   Contenido del archivo
+     * @param format Formato del archivo
+     * @param mode   Forma de guardar los registros
+     * @param errors Receptor de los errores de cada registro rechazado o guardado parcialmente
+     * @return Resumen de la importación
+     */
+    @Override
+    public ProductImportResponseDto importProducts(InputStream body, ProductImportFormat format,
+                                                   ProductImportMode mode,
+                                                   Consumer<ProductImportErrorResponseDto> errors)
+            throws IOException {
+        logger.info(MESSAGE_FORMAT, MessageConstants.IMPORT_PRODUCTS, MessageConstants.MODE, mode);
+
+        // Las subcategorías se resuelven por nombre con una sola consulta al inicio de la importación
+        Map<String, Integer> subcategoryIds = subcategoryDao.findAllProjected(Pageable.unpaged()).stream()
+                .collect(Collectors.toMap(SubcategoryGenericProjection::name, SubcategoryGenericProjection::id));
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        Counters counters = new Counters();
+        int batchSize = mode == ProductImportMode.COPY ? COPY_BATCH_SIZE : BATCH_SIZE;
+        List<ProductImportRecord> batch = new ArrayList<>(batchSize);
+
+        // Cada registro leído se valida y se agrega al lote; el lote completo se guarda
+        ObjLongConsumer<ProductImportRequestDto> addRecord = (record, line) -> {
+            ProductImportRecord pending = new ProductImportRecord(line,
+                    toRequest(record, subcategoryIds), toInventory(record));
+            List<String> recordErrors = validate(pending);
+
+            if (!recordErrors.isEmpty()) {
+                errors.accept(reject(counters, line, record.getBarcode(), recordErrors));
+                return;
+            }
+
+            batch.add(pending);
+
+            if (batch.size() == batchSize) {
+                saveBatch(batch, mode, counters, errors);
+                batch.clear();
+            }
+        };
+
+        if (format == ProductImportFormat.CSV) {
+            readCsv(reader, addRecord, counters, errors);
+        } else {
+            readNdjson(reader, addRecord, counters, errors);
+        }
+
+        saveBatch(batch, mode, counters, errors);
+
+        logger.info(MESSAGE_FORMAT, MessageConstants.IMPORTED_PRODUCTS, MessageConstants.READ, counters.read);
+
+        return counters.toResponseDto();
+    }
+
+    /**
+     * Método para leer los registros de un archivo CSV. Un campo entre comillas puede contener saltos
+     * de línea, por lo que los registros se leen del flujo con el analizador de CSV y no línea por
+     * línea; la línea de cada registro es la de su inicio según el analizador.
+     *
+     * @param reader    Contenido del archivo
+     * @param addRecord Receptor de cada registro leído y de su línea
+     * @param counters  Contadores de la importación
+     * @param errors    Receptor de los errores
+     */
+    private void readCsv(BufferedReader reader, ObjLongConsumer<ProductImportRequestDto> addRecord,
+                         Counters counters, Consumer<ProductImportErrorResponseDto> errors) throws IOException {
+        skipByteOrderMark(reader);
+
+        MappingIterator<ProductImportRequestDto> records;
+
+        // Las columnas se toman del encabezado, que el analizador lee al crear el iterador
+        try {
+            records = csvMapper.readerFor(ProductImportRequestDto.class)
+                    .with(CsvSchema.emptySchema().withHeader())
+                    .readValues(reader);
+        } catch (CsvReadException e) {
+            errors.accept(ProductImportErrorResponseDto.builder()
+                    .line(1L)
+                    .errors(List.of(MessageConstants.PRODUCT_IMPORT_HEADER_MISSING))
+                    .build());
+
+            return;
+        }
+
+        try (records) {
+            while (records.hasNextValue()) {
+                // El analizador ya omitió las líneas vacías y se encuentra al inicio del registro
+                long line = records.getCurrentLocation().getLineNr();
+                ProductImportRequestDto record;
+
+                counters.read++;
+
+                try {
+                    record = records.nextValue();
+                } catch (JsonProcessingException e) {
+                    errors.accept(reject(counters, line, null, MessageConstants.PRODUCT_IMPORT_RECORD_NOT_VALID));
+                    continue;
+                }
+
+                addRecord.accept(record, line);
+            }
+        }
+    }
+
+    /**
+     * Método para leer los registros de un archivo NDJSON, uno por línea. Un registro JSON no contiene
+     * saltos de línea sin escapar, por lo que un registro inválido no afecta a los siguientes.
+     *
+     * @param reader    Contenido del archivo
+     * @param addRecord Receptor de cada registro leído y de su línea
+     * @param counters  Contadores de la importación
+     * @param errors    Receptor de los errores
+     */
+    private void readNdjson(BufferedReader reader, ObjLongConsumer<ProductImportRequestDto> addRecord,
+                            Counters counters, Consumer<ProductImportErrorResponseDto> errors) throws IOException {
+        ObjectReader recordReader = objectMapper.readerFor(ProductImportRequestDto.class);
+        long lineNumber = 0;
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+
+            if (line.isBlank()) {
+                continue;
+            }
+
+            counters.read++;
+
+            try {
+                addRecord.accept(recordReader.readValue(line), lineNumber);
+            } catch (JsonProcessingException e) {
+                errors.accept(reject(counters, lineNumber, null, MessageConstants.PRODUCT_IMPORT_RECORD_NOT_VALID));
+            }
+        }
+    }
+
+    /**
+     * Método para omitir la marca de orden de bytes que algunos editores agregan al inicio de un
+     * archivo UTF-8
+     *
+     * @param reader Contenido del archivo
+     */
+    private static void skipByteOrderMark(BufferedReader reader) throws IOException {
+        reader.mark(1);
+
+        if (reader.read() != BYTE_ORDER_MARK) {
+            reader.reset();
+        }
+    }
+
+    /**
+     * Método para convertir un registro en la petición de guardado, resolviendo la subcategoría por su
+     * nombre
+     *
+     * @param record         Registro del archivo
+     * @param subcategoryIds ID de cada subcategoría por su nombre
+     * @return Petición de guardado
+     */
+    private static ProductGenericRequestDto toRequest(ProductImportRequestDto record,
+                                                      Map<String, Integer> subcategoryIds) {
+        SubcategoryRequestDto subcategory = record.getSubcategory() == null ? null
+                : SubcategoryRequestDto.builder()
+                .id(subcategoryIds.get(record.getSubcategory()))
+                .name(record.getSubcategory())
+                .build();
+
+        return ProductGenericRequestDto.builder()
+                .name(record.getName())
+                .description(record.getDescription())
+                .size(record.getSize())
+                .price(record.getPrice())
+                .barcode(record.getBarcode())
+                .subcategory(subcategory)
+                .build();
+    }
+
+    /**
+     * Método para obtener las existencias de un registro
+     *
+     * @param record Registro del archivo
+     * @return Existencias sin producto asociado, o null si el registro no indica ninguna
+     */
+    private static InventoryGenericRequestDto toInventory(ProductImportRequestDto record) {
+        if (record.getQuantityAvailable() == null && record.getMinimumStock() == null
+                && record.getMaximumStock() == null) {
+            return null;
+        }
+
+        return InventoryGenericRequestDto.builder()
+                .quantityAvailable(record.getQuantityAvailable())
+                .minimumStock(record.getMinimumStock())
+                .maximumStock(record.getMaximumStock())
+                .build();
+    }
+
+    /**
+     * Método para validar el registro con las mismas reglas que el guardado de un producto y de su
+     * inventario
+     *
+     * @param record Registro válido pendiente de guardar
+     * @return Errores con el formato "campo: mensaje", ordenados
+     */
+    private List<String> validate(ProductImportRecord record) {
+        ProductGenericRequestDto request = record.product();
+        boolean subcategoryNotFound = request.getSubcategory() != null && request.getSubcategory().getId() == null;
+        List<String> recordErrors = new ArrayList<>();
+
+        validator.validate(request).forEach(violation -> {
+            String field = violation.getPropertyPath().toString();
+
+            // La subcategoría se indica por su nombre, no por su ID
+            if (!(subcategoryNotFound && field.startsWith("subcategory"))) {
+                recordErrors.add(field + ": " + violation.getMessage());
+            }
+        });
+
+        if (subcategoryNotFound) {
+            recordErrors.add(MessageConstants.PRODUCT_IMPORT_SUBCATEGORY_NOT_FOUND);
+        }
+
+        // El producto de las existencias es el del mismo registro
+        if (record.inventory() != null) {
+            INVENTORY_FIELDS.forEach(field -> validator.validateProperty(record.inventory(), field)
+                    .forEach(violation -> recordErrors.add(field + ": " + violation.getMessage())));
+        }
+
+        recordErrors.sort(null);
+
+        return recordErrors;
+    }
+
+    /**
+     * Método para guardar un lote de registros en una sola transacción. Si la transacción falla, todos
+     * los registros del lote se rechazan.
+     * <p>
+     * Las existencias se sobrescriben, por lo que los ajustes pendientes se guardan antes y no se
+     * admiten ajustes nuevos hasta confirmar la transacción (modo de escritura diferida).
+     *
+     * @param batch    Registros válidos
+     * @param mode     Forma de guardar los registros
+     * @param counters Contadores de la importación
+     * @param errors   Receptor de los errores
+     */
+    private void saveBatch(List<ProductImportRecord> batch, ProductImportMode mode, Counters counters,
+                           Consumer<ProductImportErrorResponseDto> errors) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        if (mode == ProductImportMode.COPY) {
+            copyBatch(batch, counters, errors);
+            return;
+        }
+
+        SavedBatch savedBatch;
+
+        try {
+            savedBatch = deltaBuffer.exclusive(() -> transactionTemplate.execute(status -> upsert(batch)));
+        } catch (RuntimeException e) {
+            rejectBatch(batch, counters, errors, e);
+            return;
+        }
+
+        counters.inserted += savedBatch.inserted();
+        counters.updated += batch.size() - savedBatch.inserted();
+
+        Set<Integer> ids = new HashSet<>();
+
+        for (Product product : savedBatch.products()) {
+            index(product.getId(), product.getBarcode(), product.getName(), ids);
+        }
+
+        refresh(ids, savedBatch.existingIds());
+
+        // Los cambios de nivel se notifican una vez confirmada la transacción
+        savedBatch.stockChanges().forEach(change -> {
+            Inventory inventory = change.product().getInventory();
+
+            stockAlertPublisher.stockChanged(change.product().getId(), change.previousLevel(),
+                    inventory.getQuantityAvailable(), inventory.getMinimumStock(), inventory.getMaximumStock());
+        });
+    }
+
+    /**
+     * Método para guardar un lote de registros con COPY en una sola transacción. Un código de barras
+     * repetido en el lote se guarda con su último registro; los anteriores se rechazan. Igual que en
+     * el guardado por lotes, los ajustes pendientes se guardan antes de sobrescribir las existencias.
+     *
+     * @param batch    Registros válidos
+     * @param counters Contadores de la importación
+     * @param errors   Receptor de los errores
+     */
+    private void copyBatch(List<ProductImportRecord> batch, Counters counters,
+                           Consumer<ProductImportErrorResponseDto> errors) {
+        // La combinación con sentencias sobre conjuntos necesita un solo registro por código de barras
+        Map<String, ProductImportRecord> latest = new LinkedHashMap<>();
+
+        for (ProductImportRecord record : batch) {
+            ProductImportRecord previous = latest.put(record.product().getBarcode(), record);
+
+            if (previous != null) {
+                errors.accept(reject(counters, previous.line(), previous.product().getBarcode(),
+                        MessageConstants.PRODUCT_IMPORT_BARCODE_REPEATED));
+            }
+        }
+
+        List<ProductImportRecord> records = List.copyOf(latest.values());
+        Map<Long, ProductCopyProjection> merged;
+
+        try {
+            merged = deltaBuffer.exclusive(() -> productCopyDao.copyAndMerge(records)).stream()
+                    .collect(Collectors.toMap(ProductCopyProjection::line, Function.identity()));
+        } catch (RuntimeException e) {
+            rejectBatch(records, counters, errors, e);
+            return;
+        }
+
+        Set<Integer> ids = new HashSet<>();
+        Set<Integer> existingIds = new HashSet<>();
+
+        for (ProductImportRecord record : records) {
+            ProductGenericRequestDto request = record.product();
+            ProductCopyProjection product = merged.get(record.line());
+
+            if (product == null) {
+                errors.accept(reject(counters, record.line(), request.getBarcode(),
+                        MessageConstants.PRODUCT_IMPORT_BARCODE_CONFLICT));
+                continue;
+            }
+
+            if (product.inserted()) {
+                counters.inserted++;
+            } else {
+                counters.updated++;
+                existingIds.add(product.id());
+            }
+
+            // El producto se guardó, pero no sus existencias
+            if (record.inventory() != null && !product.inventoryMerged()) {
+                errors.accept(error(record.line(), request.getBarcode(),
+                        List.of(MessageConstants.PRODUCT_IMPORT_PRODUCT_ID_CONFLICT)));
+            }
+
+            index(product.id(), request.getBarcode(), request.getName(), ids);
+        }
+
+        refresh(ids, existingIds);
+    }
+
+    /**
+     * Método para insertar o actualizar los productos de un lote. Los productos existentes se buscan
+     * con una sola consulta; los nuevos se insertan por lotes de JDBC y los existentes se actualizan al
+     * confirmar la transacción. Los cambios de existencia se registran en el libro de inventario.
+     * <p>
+     * Los inventarios que se sobrescriben se bloquean antes de leerlos, en orden de ID de producto,
+     * para que el movimiento registrado sea la diferencia con la existencia que realmente se
+     * sobrescribe y los lotes concurrentes no se bloqueen entre sí.
+     *
+     * @param batch Registros válidos
+     * @return Productos guardados
+     */
+    private SavedBatch upsert(List<ProductImportRecord> batch) {
+        Set<String> barcodes = batch.stream()
+                .map(record -> record.product().getBarcode())
+                .collect(Collectors.toSet());
+        Set<String> inventoryBarcodes = batch.stream()
+                .filter(record -> record.inventory() != null)
+                .map(record -> record.product().getBarcode())
+                .collect(Collectors.toSet());
+        Map<String, Product> products = new HashMap<>();
+        Set<Integer> existingIds = new HashSet<>();
+
+        // Los productos se cargan con los inventarios ya bloqueados en el contexto de persistencia
+        if (!inventoryBarcodes.isEmpty()) {
+            inventoryDao.findForUpdateByProductBarcodeIn(inventoryBarcodes);
+        }
+
+        for (Product product : productDao.findAllByBarcodeIn(barcodes)) {
+            products.put(product.getBarcode(), product);
+            existingIds.add(product.getId());
+        }
+
+        List<Product> newProducts = new ArrayList<>();
+        List<Inventory> newInventories = new ArrayList<>();
+        List<PendingMovement> pendingMovements = new ArrayList<>();
+        Map<String, StockChange> stockChanges = new LinkedHashMap<>();
+
+        for (ProductImportRecord record : batch) {
+            ProductGenericRequestDto request = record.product();
+            Product product = products.get(request.getBarcode());
+
+            // Un código de barras repetido en el archivo actualiza el producto del registro anterior
+            if (product == null) {
+                product = Product.builder().barcode(request.getBarcode()).build();
+                products.put(product.getBarcode(), product);
+                newProducts.add(product);
+            }
+
+            product.setName(request.getName());
+            product.setDescription(request.getDescription());
+            product.setSize(request.getSize());
+            product.setPrice(request.getPrice());
+            product.setSubcategory(subcategoryDao.getReferenceById(request.getSubcategory().getId()));
+
+            if (record.inventory() != null) {
+                // Con un código de barras repetido, el nivel anterior es el de antes del lote
+                stockChanges.putIfAbsent(product.getBarcode(), new StockChange(product, previousLevel(product)));
+                pendingMovements.add(updateInventory(product, record.inventory(), newInventories));
+            }
+        }
+
+        productDao.saveAll(newProducts);
+
+        if (!pendingMovements.isEmpty()) {
+            inventoryDao.saveAll(newInventories);
+
+            // Los movimientos se agregan con JDBC: los productos nuevos deben existir antes
+            productDao.flush();
+            inventoryBatchDao.appendMovements(pendingMovements.stream()
+                    .filter(movement -> movement.quantity() != 0)
+                    .map(movement -> InventoryMovement.builder()
+                            .productId(movement.product().getId())
+                            .type(movement.type())
+                            .quantity(movement.quantity())
+                            .build())
+                    .toList());
+        }
+
+        return new SavedBatch(List.copyOf(products.values()), existingIds, newProducts.size(),
+                List.copyOf(stockChanges.values()));
+    }
+
+    /**
+     * Método para obtener el nivel de existencia de un producto antes de asignar sus existencias
+     *
+     * @param product Producto guardado o por guardar
+     * @return Nivel de existencia, o null si el producto no tiene inventario
+     */
+    private static StockLevel previousLevel(Product product) {
+        Inventory inventory = product.getInventory();
+
+        return inventory == null ? null : StockLevel.of(inventory.getQuantityAvailable(),
+                inventory.getMinimumStock(), inventory.getMaximumStock());
+    }
+
+    /**
+     * Método para asignar las existencias de un producto, creando su inventario si no tiene
+     *
+     * @param product        Producto guardado o por guardar
+     * @param request        Existencias del registro
+     * @param newInventories Inventarios nuevos del lote
+     * @return Movimiento a registrar en el libro de inventario
+     */
+    private static PendingMovement updateInventory(Product product, InventoryGenericRequestDto request,
+                                                   List<Inventory> newInventories) {
+        Inventory inventory = product.getInventory();
+        MovementType type = MovementType.ADJUSTMENT;
+        int previousQuantity = 0;
+
+        if (inventory == null) {
+            inventory = Inventory.builder().product(product).build();
+            product.setInventory(inventory);
+            newInventories.add(inventory);
+            type = MovementType.RESTOCK;
+        } else {
+            previousQuantity = inventory.getQuantityAvailable();
+        }
+
+        inventory.setQuantityAvailable(request.getQuantityAvailable());
+        inventory.setMinimumStock(request.getMinimumStock());
+        inventory.setMaximumStock(request.getMaximumStock());
+
+        return new PendingMovement(product, type, request.getQuantityAvailable() - previousQuantity);
+    }
+
+    /**
+     * Método para agregar un producto guardado a los índices en memoria
+     *
+     * @param id      Identificador único del producto
+     * @param barcode Código de barras del producto
+     * @param name    Nombre del producto
+     * @param ids     IDs de los productos guardados en el lote
+     */
+    private void index(Integer id, String barcode, String name, Set<Integer> ids) {
+        ids.add(id);
+        existenceFilter.add(UniqueKey.BARCODE, barcode);
+        suggestionIndex.put(SuggestionType.PRODUCT, id, name);
+    }
+
+    /**
+     * Método para actualizar las cachés e índices en memoria una vez confirmada la transacción de un
+     * lote
+     *
+     * @param ids         IDs de los productos guardados
+     * @param existingIds IDs de los productos que ya existían
+     */
+    private void refresh(Set<Integer> ids, Set<Integer> existingIds) {
+        if (!existingIds.isEmpty()) {
+            barcodeCache.invalidateProducts(existingIds);
+        }
+
+        productSearchIndex.refreshAll(ids);
+        categoryTreeCache.invalidate();
+    }
+
+    private void rejectBatch(List<ProductImportRecord> batch, Counters counters,
+                             Consumer<ProductImportErrorResponseDto> errors, RuntimeException e) {
+        logger.warn(MESSAGE_FORMAT, MessageConstants.PRODUCT_IMPORT_BATCH_NOT_SAVED,
+                MessageConstants.LINE, batch.get(0).line(), e);
+
+        batch.forEach(record -> errors.accept(reject(counters, record.line(),
+                record.product().getBarcode(), MessageConstants.PRODUCT_IMPORT_BATCH_NOT_SAVED)));
+    }
+
+    private static ProductImportErrorResponseDto reject(Counters counters, long line, String barcode,
+                                                        String error) {
+        return reject(counters, line, barcode, List.of(error));
+    }
+
+    private static ProductImportErrorResponseDto reject(Counters counters, long line, String barcode,
+                                                        List<String> errors) {
+        counters.rejected++;
+
+        return error(line, barcode, errors);
+    }
+
+    private static ProductImportErrorResponseDto error(long line, String barcode, List<String> errors) {
+        return ProductImportErrorResponseDto.builder()
+                .line(line)
+                .barcode(barcode)
+                .errors(errors)
+                .build();
+    }
+
+    /**
+     * Resultado de guardar un lote
+     *
+     * @param products     Productos guardados
+     * @param existingIds  IDs de los productos que ya existían
+     * @param inserted     Número de productos nuevos
+     * @param stockChanges Cambios de existencia por notificar
+     */
+    private record SavedBatch(List<Product> products, Set<Integer> existingIds, int inserted,
+                              List<StockChange> stockChanges) {
+    }
+
+    /**
+     * Cambio de existencia de un producto, pendiente de notificar hasta confirmar la transacción
+     *
+     * @param product       Producto con sus existencias asignadas
+     * @param previousLevel Nivel de existencia antes del lote (null si el inventario es nuevo)
+     */
+    private record StockChange(Product product, StockLevel previousLevel) {
+    }
+
+    /**
+     * Movimiento de inventario pendiente de registrar, hasta conocer el ID de un producto nuevo
+     *
+     * @param product  Producto
+     * @param type     Tipo de movimiento
+     * @param quantity Cantidad sumada o restada; si es 0 no se registra
+     */
+    private record PendingMovement(Product product, MovementType type, int quantity) {
+    }
+
+    /**
+     * Contadores de la importación
+     */
+    private static final class Counters {
+        private long read;
+        private long inserted;
+        private long updated;
+        private long rejected;
+
+        private ProductImportResponseDto toResponseDto() {
+            return ProductImportResponseDto.builder()
+                    .read(read)
+                    .inserted(inserted)
+                    .updated(updated)
+                    .rejected(rejected)
+                    .build();
+        }
+    }
+}
@@ -1,22 +1,37 @@
 package com.alivro.spring.sleepyringtail.service.impl;
 
+import com.alivro.spring.sleepyringtail.buffer.InventoryDeltaBuffer;
+import com.alivro.spring.sleepyringtail.cache.BarcodeCache;
+import com.alivro.spring.sleepyringtail.cache.CategoryTreeCache;
+import com.alivro.spring.sleepyringtail.cache.ExistenceFilter;
+import com.alivro.spring.sleepyringtail.cache.UniqueKey;
 import com.alivro.spring.sleepyringtail.constants.MessageConstants;
 import com.alivro.spring.sleepyringtail.dao.ProductDao;
 import com.alivro.spring.sleepyringtail.exception.DataAlreadyExistsException;
 import com.alivro.spring.sleepyringtail.exception.DataNotFoundException;
+import com.alivro.spring.sleepyringtail.mapper.ProductMapper;
 import com.alivro.spring.sleepyringtail.model.Product;
 import com.alivro.spring.sleepyringtail.model.Subcategory;
+import com.alivro.spring.sleepyringtail.model.product.projection.ProductGenericProjection;
 import com.alivro.spring.sleepyringtail.model.product.request.ProductGenericRequestDto;
 import com.alivro.spring.sleepyringtail.model.product.response.ProductGenericResponseDto;
 import com.alivro.spring.sleepyringtail.model.product.response.ProductGetResponseDto;
+import com.alivro.spring.sleepyringtail.model.suggestion.response.SuggestionResponseDto;
+import com.alivro.spring.sleepyringtail.model.util.response.InventoryResponseDto;
+import com.alivro.spring.sleepyringtail.search.ProductSearchIndex;
+import com.alivro.spring.sleepyringtail.search.SuggestionIndex;
+import com.alivro.spring.sleepyringtail.search.SuggestionType;
 import com.alivro.spring.sleepyringtail.service.IProductService;
+import com.alivro.spring.sleepyringtail.util.pagination.CustomCursor;
 import com.alivro.spring.sleepyringtail.util.pagination.CustomPaginationData;
-import org.modelmapper.ModelMapper;
+import com.alivro.spring.sleepyringtail.util.query.LikePattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -26,18 +41,39 @@ import java.util.Optional;
 public class IProductServiceImpl implements IProductService {
     private static final String MESSAGE_FORMAT = "{} {}: {}";
     private final Logger logger = LoggerFactory.getLogger(IProductServiceImpl.class);
-    private final ModelMapper modelMapper = new ModelMapper();
+    private final ProductMapper productMapper = ProductMapper.INSTANCE;
     private final ProductDao productDao;
+    private final ProductSearchIndex productSearchIndex;
+    private final SuggestionIndex suggestionIndex;
+    private final BarcodeCache barcodeCache;
+    private final ExistenceFilter existenceFilter;
+    private final CategoryTreeCache categoryTreeCache;
+    private final InventoryDeltaBuffer deltaBuffer;
 
 
     /**
      * Constructor
      *
-     * @param productDao Product Dao
+     * @param productDao         Product Dao
+     * @param productSearchIndex Índice de búsqueda de productos
+     * @param suggestionIndex    Índice de autocompletado
+     * @param barcodeCache       Caché de productos por código de barras
+     * @param existenceFilter    Filtros de existencia de las llaves únicas
+     * @param categoryTreeCache  Instantánea del árbol de categorías
+     * @param deltaBuffer        Acumulador de ajustes de existencia (escritura diferida)
      */
     @Autowired
-    public IProductServiceImpl(ProductDao productDao) {
+    public IProductServiceImpl(ProductDao productDao, ProductSearchIndex productSearchIndex,
+                               SuggestionIndex suggestionIndex, BarcodeCache barcodeCache,
+                               ExistenceFilter existenceFilter, CategoryTreeCache categoryTreeCache,
+                               InventoryDeltaBuffer deltaBuffer) {
         this.productDao = productDao;
+        this.productSearchIndex = productSearchIndex;
+        this.suggestionIndex = suggestionIndex;
+        this.barcodeCache = barcodeCache;
+        this.existenceFilter = existenceFilter;
+        this.categoryTreeCache = categoryTreeCache;
+        this.deltaBuffer = deltaBuffer;
     }
 
     /**
@@ -49,16 +85,44 @@ public class IProductServiceImpl implements IProductService {
     public CustomPaginationData<ProductGenericResponseDto, Product> findAll(Pageable pageable) {
         logger.info(MessageConstants.FIND_ALL_PRODUCTS);
 
-        Page<Product> productsPage = productDao.findAll(pageable);
+        Page<ProductGenericProjection> productsPage = productDao.findAllProjected(pageable);
 
         // Información de los productos
         List<ProductGenericResponseDto> foundProducts = productsPage.stream()
-                .map(product -> modelMapper.map(product, ProductGenericResponseDto.class))
+                .map(productMapper::toGenericResponseDto)
                 .toList();
 
         return new CustomPaginationData<>(foundProducts, productsPage);
     }
 
+    /**
+     * Método para buscar todos los productos mediante paginación por cursor
+     *
+     * @param cursor Cursor de la página anterior (vacío para la primera página)
+     * @param size   Tamaño de la página
+     * @return Información de los productos y el cursor de la siguiente página
+     */
+    @Override
+    public CustomPaginationData<ProductGenericResponseDto, Product> findAllAfter(String cursor, int size) {
+        logger.info(MESSAGE_FORMAT, MessageConstants.FIND_ALL_PRODUCTS, MessageConstants.AFTER, cursor);
+
+        // Se solicita un elemento adicional para saber si existe una página siguiente
+        List<ProductGenericProjection> productsSlice = productDao.findProjectedByIdGreaterThan(
+                CustomCursor.decode(cursor), PageRequest.ofSize(size + 1));
+
+        boolean hasNext = productsSlice.size() > size;
+        List<ProductGenericProjection> productsPage = hasNext ? productsSlice.subList(0, size) : productsSlice;
+
+        // Información de los productos
+        List<ProductGenericResponseDto> foundProducts = productsPage.stream()
+                .map(productMapper::toGenericResponseDto)
+                .toList();
+
+        String nextCursor = hasNext ? CustomCursor.encode(productsPage.get(size - 1).id()) : null;
+
+        return new CustomPaginationData<>(foundProducts, size, nextCursor);
+    }
+
     /**
      * Método para buscar los productos que contengan una palabra dada en su nombre
      *
@@ -70,16 +134,54 @@ public class IProductServiceImpl implements IProductService {
     public CustomPaginationData<ProductGenericResponseDto, Product> findAllByName(String word, Pageable pageable) {
         logger.info(MESSAGE_FORMAT, MessageConstants.FIND_ALL_PRODUCTS, MessageConstants.NAME, word);
 
-        Page<Product> productPage = productDao.findByNameContainingIgnoreCase(word, pageable);
+        // Con el índice construido, los productos se ordenan por relevancia
+        if (productSearchIndex.isReady()) {
+            Page<ProductGenericResponseDto> foundPage = productSearchIndex.searchByName(word, pageable);
+
+            return new CustomPaginationData<>(foundPage.getContent(), foundPage);
+        }
+
+        Page<ProductGenericProjection> productPage =
+                productDao.findProjectedByNameContainingIgnoreCase(LikePattern.escape(word), pageable);
 
-        // Información de las categorías
+        // Información de los productos
         List<ProductGenericResponseDto> foundProducts = productPage.stream()
-                .map(product -> modelMapper.map(product, ProductGenericResponseDto.class))
+                .map(productMapper::toGenericResponseDto)
                 .toList();
 
         return new CustomPaginationData<>(foundProducts, productPage);
     }
 
+    /**
+     * Método para buscar los productos que contengan una palabra dada en su nombre,
+     * sin obtener el número total de elementos
+     *
+     * @param word     Palabra a buscar en el nombre del producto
+     * @param pageable Información de paginación
+     * @return Información de los productos que cumplen con el criterio de búsqueda
+     */
+    @Override
+    public CustomPaginationData<ProductGenericResponseDto, Product> findSliceByName(String word, Pageable pageable) {
+        logger.info(MESSAGE_FORMAT, MessageConstants.FIND_ALL_PRODUCTS, MessageConstants.NAME, word);
+
+        // Con el índice construido, los productos se ordenan por relevancia
+        if (productSearchIndex.isReady()) {
+            Slice<ProductGenericResponseDto> foundSlice = productSearchIndex.searchByName(word, pageable);
+
+            return new CustomPaginationData<>(foundSlice.getContent(), foundSlice);
+        }
+
+        Slice<ProductGenericProjection> productsSlice =
+                productDao.findSlicedByNameContainingIgnoreCase(LikePattern.escape(word), pageable);
+
+        // Información de los productos
+        List<ProductGenericResponseDto> foundProducts = productsSlice.stream()
+                .map(productMapper::toGenericResponseDto)
+                .toList();
+
+        return new CustomPaginationData<>(foundProducts, productsSlice);
+    }
+
     /**
      * Método para buscar los productos que contengan una palabra dada en su descripción
      *
@@ -91,16 +193,84 @@ public class IProductServiceImpl implements IProductService {
     public CustomPaginationData<ProductGenericResponseDto, Product> findAllByDescription(String word, Pageable pageable) {
         logger.info(MESSAGE_FORMAT, MessageConstants.FIND_ALL_PRODUCTS, MessageConstants.DESCRIPTION, word);
 
-        Page<Product> productPage = productDao.findByDescriptionContainingIgnoreCase(word, pageable);
+        // Con el índice construido, los productos se ordenan por relevancia
+        if (productSearchIndex.isReady()) {
+            Page<ProductGenericResponseDto> foundPage = productSearchIndex.searchByDescription(word, pageable);
+
+            return new CustomPaginationData<>(foundPage.getContent(), foundPage);
+        }
 
-        // Información de las categorías
+        Page<ProductGenericProjection> productPage =
+                productDao.findProjectedByDescriptionContainingIgnoreCase(LikePattern.escape(word), pageable);
+
+        // Información de los productos
         List<ProductGenericResponseDto> foundProducts = productPage.stream()
-                .map(product -> modelMapper.map(product, ProductGenericResponseDto.class))
+                .map(productMapper::toGenericResponseDto)
                 .toList();
 
         return new CustomPaginationData<>(foundProducts, productPage);
     }
 
+    /**
+     * Método para buscar los productos que contengan una palabra dada en su descripción,
+     * sin obtener el número total de elementos
+     *
+     * @param word     Palabra a buscar en la descripción del producto
+     * @param pageable Información de paginación
+     * @return Información de los productos que cumplen con el criterio de búsqueda
+     */
+    @Override
+    public CustomPaginationData<ProductGenericResponseDto, Product> findSliceByDescription(String word, Pageable pageable) {
+        logger.info(MESSAGE_FORMAT, MessageConstants.FIND_ALL_PRODUCTS, MessageConstants.DESCRIPTION, word);
+
+        // Con el índice construido, los productos se ordenan por relevancia
+        if (productSearchIndex.isReady()) {
+            Slice<ProductGenericResponseDto> foundSlice = productSearchIndex.searchByDescription(word, pageable);
+
+            return new CustomPaginationData<>(foundSlice.getContent(), foundSlice);
+        }
+
+        Slice<ProductGenericProjection> productsSlice =
+                productDao.findSlicedByDescriptionContainingIgnoreCase(LikePattern.escape(word), pageable);
+
+        // Información de los productos
+        List<ProductGenericResponseDto> foundProducts = productsSlice.stream()
+                .map(productMapper::toGenericResponseDto)
+                .toList();
+
+        return new CustomPaginationData<>(foundProducts, productsSlice);
+    }
+
+    /**
+     * Método para sugerir productos, subcategorías y categorías cuyo nombre tenga alguna palabra que
+     * empiece con un prefijo dado
+     *
+     * @param prefix Prefijo a buscar
+     * @param limit  Número máximo de sugerencias
+     * @return Lista de sugerencias
+     */
+    @Override
+    public List<SuggestionResponseDto> suggest(String prefix, int limit) {
+        logger.info(MESSAGE_FORMAT, MessageConstants.SUGGEST, MessageConstants.PREFIX, prefix);
+
+        if (suggestionIndex.isReady()) {
+            return suggestionIndex.suggest(prefix, limit);
+        }
+
+        // Mientras se construye el índice, se sugieren solo productos desde la base de datos
+        Slice<ProductGenericProjection> productsSlice = productDao.findSlicedByNameContainingIgnoreCase(
+                LikePattern.escape(prefix),
+                PageRequest.ofSize(Math.min(Math.max(limit, 1), SuggestionIndex.MAX_LIMIT)));
+
+        return productsSlice.stream()
+                .map(product -> SuggestionResponseDto.builder()
+                        .type(SuggestionType.PRODUCT)
+                        .id(product.id())
+                        .name(product.name())
+                        .build())
+                .toList();
+    }
+
     /**
      * Método para buscar un producto por su ID
      *
@@ -111,15 +281,52 @@ public class IProductServiceImpl implements IProductService {
     public ProductGetResponseDto findById(Integer id) {
         logger.info(MESSAGE_FORMAT, MessageConstants.FIND_PRODUCT, MessageConstants.ID, id);
 
-        Optional<Product> foundProduct = productDao.findById(id);
+        return deltaBuffer.read(() -> {
+            Optional<Product> foundProduct = productDao.findById(id);
 
-        if (foundProduct.isEmpty()) {
-            logger.info(MessageConstants.PRODUCT_NOT_FOUND);
+            if (foundProduct.isEmpty()) {
+                logger.info(MessageConstants.PRODUCT_NOT_FOUND);
 
-            throw new DataNotFoundException(MessageConstants.PRODUCT_NOT_FOUND);
-        }
+                throw new DataNotFoundException(MessageConstants.PRODUCT_NOT_FOUND);
+            }
 
-        return modelMapper.map(foundProduct.get(), ProductGetResponseDto.class);
+            return withPendingDelta(productMapper.toGetResponseDto(foundProduct.get()));
+        });
+    }
+
+    /**
+     * Método para buscar un producto por su código de barras. Si el producto está en la caché, no se
+     * consulta la base de datos.
+     *
+     * @param barcode Código de barras único del producto
+     * @return Información del producto buscado
+     */
+    @Override
+    public ProductGetResponseDto findByBarcode(String barcode) {
+        logger.info(MESSAGE_FORMAT, MessageConstants.FIND_PRODUCT, MessageConstants.BARCODE, barcode);
+
+        // La caché guarda la existencia de la base de datos; el ajuste pendiente se suma al leer
+        return deltaBuffer.read(() -> {
+            ProductGetResponseDto cachedProduct = barcodeCache.get(barcode);
+
+            if (cachedProduct != null) {
+                return withPendingDelta(cachedProduct);
+            }
+
+            long cacheVersion = barcodeCache.version();
+            Optional<Product> foundProduct = productDao.findByBarcode(barcode);
+
+            if (foundProduct.isEmpty()) {
+                logger.info(MessageConstants.PRODUCT_NOT_FOUND);
+
+                throw new DataNotFoundException(MessageConstants.PRODUCT_NOT_FOUND);
+            }
+
+            ProductGetResponseDto product = productMapper.toGetResponseDto(foundProduct.get());
+            barcodeCache.put(product, cacheVersion);
+
+            return withPendingDelta(product);
+        });
     }
 
     /**
@@ -135,7 +342,8 @@ public class IProductServiceImpl implements IProductService {
         logger.info(MESSAGE_FORMAT, MessageConstants.FIND_PRODUCT, MessageConstants.BARCODE, barcode);
 
         // Verifica si ya existe un producto con el mismo código de barras
-        if (productDao.existsByBarcode(barcode)) {
+        // (el filtro de existencia evita la consulta cuando la llave definitivamente no existe)
+        if (existenceFilter.mightContain(UniqueKey.BARCODE, barcode) && productDao.existsByBarcode(barcode)) {
             logger.info(MessageConstants.PRODUCT_ALREADY_EXISTS);
             logger.info(MessageConstants.PRODUCT_NOT_SAVED);
 
@@ -147,10 +355,16 @@ public class IProductServiceImpl implements IProductService {
 
         // Guarda la información del nuevo producto
         Product savedProduct = productDao.save(
-                modelMapper.map(request, Product.class)
+                productMapper.toEntity(request)
         );
 
-        return modelMapper.map(savedProduct, ProductGenericResponseDto.class);
+        barcodeCache.invalidate(savedProduct.getBarcode());
+        productSearchIndex.refresh(savedProduct.getId());
+        existenceFilter.add(UniqueKey.BARCODE, savedProduct.getBarcode());
+        suggestionIndex.put(SuggestionType.PRODUCT, savedProduct.getId(), savedProduct.getName());
+        categoryTreeCache.invalidate();
+
+        return productMapper.toGenericResponseDto(savedProduct);
     }
 
     /**
@@ -176,7 +390,8 @@ public class IProductServiceImpl implements IProductService {
 
         // Información del producto a actualizar
         Product productToUpdate = foundProduct.get();
-        Subcategory subcategory = modelMapper.map(request.getSubcategory(), Subcategory.class);
+        String previousBarcode = productToUpdate.getBarcode();
+        Subcategory subcategory = productMapper.toEntity(request.getSubcategory());
 
         productToUpdate.setName(request.getName());
         productToUpdate.setDescription(request.getDescription());
@@ -191,7 +406,14 @@ public class IProductServiceImpl implements IProductService {
         // Actualiza la información del producto
         Product updatedProduct = productDao.save(productToUpdate);
 
-        return modelMapper.map(updatedProduct, ProductGenericResponseDto.class);
+        barcodeCache.invalidate(previousBarcode);
+        barcodeCache.invalidate(updatedProduct.getBarcode());
+        productSearchIndex.refresh(updatedProduct.getId());
+        existenceFilter.add(UniqueKey.BARCODE, updatedProduct.getBarcode());
+        suggestionIndex.put(SuggestionType.PRODUCT, updatedProduct.getId(), updatedProduct.getName());
+        categoryTreeCache.invalidate();
+
+        return productMapper.toGenericResponseDto(updatedProduct);
     }
 
     /**
@@ -204,5 +426,39 @@ public class IProductServiceImpl implements IProductService {
         logger.info(MESSAGE_FORMAT, MessageConstants.DELETE_PRODUCT, MessageConstants.ID, id);
 
         productDao.deleteById(id);
+
+        barcodeCache.invalidateProduct(id);
+        productSearchIndex.remove(id);
+        suggestionIndex.remove(SuggestionType.PRODUCT, id);
+        categoryTreeCache.invalidate();
+    }
+
+    /**
+     * Método para sumar a la existencia guardada el ajuste pendiente del producto (modo de escritura
+     * diferida). La instancia recibida puede estar en la caché, por lo que no se modifica.
+     *
+     * @param product Información del producto
+     * @return Información del producto con la existencia actual
+     */
+    private ProductGetResponseDto withPendingDelta(ProductGetResponseDto product) {
+        long pendingDelta = deltaBuffer.pending(product.getId());
+
+        if (pendingDelta == 0 || product.getInventory() == null) {
+            return product;
+        }
+
+        InventoryResponseDto inventory = product.getInventory();
+
+        return ProductGetResponseDto.builder()
+                .id(product.getId())
+                .name(product.getName())
+                .size(product.getSize())
+                .description(product.getDescription())
+                .price(product.getPrice())
+                .barcode(product.getBarcode())
+                .subcategory(product.getSubcategory())
+                .inventory(new InventoryResponseDto(inventory.getId(),
+                        Math.toIntExact(inventory.getQuantityAvailable() + pendingDelta)))
+                .build();
     }
 }
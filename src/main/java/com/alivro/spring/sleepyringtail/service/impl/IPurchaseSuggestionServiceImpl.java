@@ -0,0 +1,132 @@
+package com.alivro.spring.sleepyringtail.service.impl;
+
+import com.alivro.spring.sleepyringtail.constants.MessageConstants;
+import com.alivro.spring.sleepyringtail.dao.PurchaseSuggestionDao;
+import com.alivro.spring.sleepyringtail.dao.PurchaseSuggestionRunDao;
+import com.alivro.spring.sleepyringtail.exception.DataNotFoundException;
+import com.alivro.spring.sleepyringtail.mapper.PurchaseSuggestionMapper;
+import com.alivro.spring.sleepyringtail.model.PurchaseSuggestion;
+import com.alivro.spring.sleepyringtail.model.PurchaseSuggestionRun;
+import com.alivro.spring.sleepyringtail.model.purchase.response.PurchaseSuggestionResponseDto;
+import com.alivro.spring.sleepyringtail.model.purchase.response.PurchaseSuggestionRunResponseDto;
+import com.alivro.spring.sleepyringtail.model.purchase.response.PurchaseSuggestionSummaryResponseDto;
+import com.alivro.spring.sleepyringtail.service.IPurchaseSuggestionService;
+import com.alivro.spring.sleepyringtail.util.pagination.CustomPaginationData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Service
+public class IPurchaseSuggestionServiceImpl implements IPurchaseSuggestionService {
+    private static final String MESSAGE_FORMAT = "{} {}: {}";
+    private final Logger logger = LoggerFactory.getLogger(IPurchaseSuggestionServiceImpl.class);
+    private final PurchaseSuggestionMapper purchaseSuggestionMapper = PurchaseSuggestionMapper.INSTANCE;
+    private final PurchaseSuggestionDao purchaseSuggestionDao;
+    private final PurchaseSuggestionRunDao purchaseSuggestionRunDao;
+    private final int retainedRuns;
+
+    /**
+     * Constructor
+     *
+     * @param purchaseSuggestionDao    Purchase suggestion Dao
+     * @param purchaseSuggestionRunDao Purchase suggestion run Dao
+     * @param retainedRuns             Número de ejecuciones del cálculo que se conservan
+     */
+    @Autowired
+    public IPurchaseSuggestionServiceImpl(PurchaseSuggestionDao purchaseSuggestionDao,
+                                          PurchaseSuggestionRunDao purchaseSuggestionRunDao,
+                                          @Value("${inventory.purchase-suggestion.retained-runs:7}") int retainedRuns) {
+        this.purchaseSuggestionDao = purchaseSuggestionDao;
+        this.purchaseSuggestionRunDao = purchaseSuggestionRunDao;
+        this.retainedRuns = Math.max(retainedRuns, 1);
+    }
+
+    /**
+     * Método para calcular las sugerencias de compra de todos los productos en existencia baja. El
+     * cálculo se hace en la base de datos con una sola sentencia; la ejecución, sus sugerencias y la
+     * eliminación de las ejecuciones antiguas se confirman juntas, por lo que una consulta nunca ve
+     * una ejecución incompleta.
+     *
+     * @return Información de la ejecución del cálculo
+     */
+    @Override
+    @Transactional
+    public PurchaseSuggestionRunResponseDto generate() {
+        logger.info(MessageConstants.GENERATE_PURCHASE_SUGGESTIONS);
+
+        PurchaseSuggestionRun run = purchaseSuggestionRunDao.save(PurchaseSuggestionRun.builder()
+                .createdAt(OffsetDateTime.now())
+                .productCount(0)
+                .build());
+
+        run.setProductCount(purchaseSuggestionDao.saveSuggestions(run.getId()));
+
+        // Conserva solo las ejecuciones más recientes
+        List<Long> retainedIds = purchaseSuggestionRunDao.findIds(PageRequest.of(retainedRuns - 1, 1));
+
+        if (!retainedIds.isEmpty()) {
+            purchaseSuggestionDao.deleteByRunIdLessThan(retainedIds.get(0));
+            purchaseSuggestionRunDao.deleteByIdLessThan(retainedIds.get(0));
+        }
+
+        logger.info(MESSAGE_FORMAT, MessageConstants.GENERATED_PURCHASE_SUGGESTIONS, MessageConstants.ID, run.getId());
+
+        return purchaseSuggestionMapper.toRunResponseDto(run);
+    }
+
+    /**
+     * Método para buscar las sugerencias de compra de la ejecución más reciente
+     *
+     * @param pageable Información de paginación
+     * @return Sugerencias de compra
+     */
+    @Override
+    public CustomPaginationData<PurchaseSuggestionResponseDto, PurchaseSuggestion> findLatest(Pageable pageable) {
+        PurchaseSuggestionRun run = findLatestRun();
+
+        logger.info(MESSAGE_FORMAT, MessageConstants.FIND_PURCHASE_SUGGESTIONS, MessageConstants.ID, run.getId());
+
+        Slice<PurchaseSuggestion> suggestionSlice = purchaseSuggestionDao.findByRunId(run.getId(), pageable);
+
+        // Sugerencias de compra de la ejecución
+        List<PurchaseSuggestionResponseDto> foundSuggestions = suggestionSlice.stream()
+                .map(purchaseSuggestionMapper::toResponseDto)
+                .toList();
+
+        return new CustomPaginationData<>(foundSuggestions, suggestionSlice);
+    }
+
+    /**
+     * Método para calcular los totales por categoría y subcategoría de las sugerencias de compra de la
+     * ejecución más reciente
+     *
+     * @return Totales por subcategoría
+     */
+    @Override
+    public List<PurchaseSuggestionSummaryResponseDto> findLatestSummary() {
+        PurchaseSuggestionRun run = findLatestRun();
+
+        logger.info(MESSAGE_FORMAT, MessageConstants.FIND_PURCHASE_SUGGESTIONS, MessageConstants.ID, run.getId());
+
+        return purchaseSuggestionDao.summarizeByRunId(run.getId()).stream()
+                .map(purchaseSuggestionMapper::toSummaryResponseDto)
+                .toList();
+    }
+
+    private PurchaseSuggestionRun findLatestRun() {
+        return purchaseSuggestionRunDao.findFirstByOrderByIdDesc().orElseThrow(() -> {
+            logger.info(MessageConstants.PURCHASE_SUGGESTIONS_NOT_FOUND);
+
+            return new DataNotFoundException(MessageConstants.PURCHASE_SUGGESTIONS_NOT_FOUND);
+        });
+    }
+}
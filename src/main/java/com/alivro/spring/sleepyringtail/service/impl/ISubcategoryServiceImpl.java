@@ -1,22 +1,35 @@
 package com.alivro.spring.sleepyringtail.service.impl;
 
+import com.alivro.spring.sleepyringtail.cache.BarcodeCache;
+import com.alivro.spring.sleepyringtail.cache.CategoryTreeCache;
+import com.alivro.spring.sleepyringtail.cache.ExistenceFilter;
+import com.alivro.spring.sleepyringtail.cache.UniqueKey;
 import com.alivro.spring.sleepyringtail.constants.MessageConstants;
+import com.alivro.spring.sleepyringtail.dao.ProductDao;
 import com.alivro.spring.sleepyringtail.dao.SubcategoryDao;
 import com.alivro.spring.sleepyringtail.exception.DataAlreadyExistsException;
 import com.alivro.spring.sleepyringtail.exception.DataNotFoundException;
+import com.alivro.spring.sleepyringtail.mapper.SubcategoryMapper;
 import com.alivro.spring.sleepyringtail.model.Category;
 import com.alivro.spring.sleepyringtail.model.Subcategory;
+import com.alivro.spring.sleepyringtail.model.subcategory.projection.SubcategoryGenericProjection;
 import com.alivro.spring.sleepyringtail.model.subcategory.request.SubcategoryGenericRequestDto;
 import com.alivro.spring.sleepyringtail.model.subcategory.response.SubcategoryGenericResponseDto;
 import com.alivro.spring.sleepyringtail.model.subcategory.response.SubcategoryGetResponseDto;
+import com.alivro.spring.sleepyringtail.search.ProductSearchIndex;
+import com.alivro.spring.sleepyringtail.search.SuggestionIndex;
+import com.alivro.spring.sleepyringtail.search.SuggestionType;
 import com.alivro.spring.sleepyringtail.service.ISubcategoryService;
+import com.alivro.spring.sleepyringtail.util.pagination.CustomCursor;
 import com.alivro.spring.sleepyringtail.util.pagination.CustomPaginationData;
-import org.modelmapper.ModelMapper;
+import com.alivro.spring.sleepyringtail.util.query.LikePattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -26,17 +39,38 @@ import java.util.Optional;
 public class ISubcategoryServiceImpl implements ISubcategoryService {
     private static final String MESSAGE_FORMAT = "{} {}: {}";
     private final Logger logger = LoggerFactory.getLogger(ISubcategoryServiceImpl.class);
-    private final ModelMapper modelMapper = new ModelMapper();
+    private final SubcategoryMapper subcategoryMapper = SubcategoryMapper.INSTANCE;
     private final SubcategoryDao subcategoryDao;
+    private final ProductDao productDao;
+    private final ProductSearchIndex productSearchIndex;
+    private final SuggestionIndex suggestionIndex;
+    private final ExistenceFilter existenceFilter;
+    private final CategoryTreeCache categoryTreeCache;
+    private final BarcodeCache barcodeCache;
 
     /**
      * Constructor
      *
-     * @param subcategoryDao Subcategory Dao
+     * @param subcategoryDao     Subcategory Dao
+     * @param productDao         Product Dao
+     * @param productSearchIndex Índice de búsqueda de productos
+     * @param suggestionIndex    Índice de autocompletado
+     * @param existenceFilter    Filtros de existencia de las llaves únicas
+     * @param categoryTreeCache  Instantánea del árbol de categorías
+     * @param barcodeCache       Caché de productos por código de barras
      */
     @Autowired
-    public ISubcategoryServiceImpl(SubcategoryDao subcategoryDao) {
+    public ISubcategoryServiceImpl(SubcategoryDao subcategoryDao, ProductDao productDao,
+                                   ProductSearchIndex productSearchIndex, SuggestionIndex suggestionIndex,
+                                   ExistenceFilter existenceFilter, CategoryTreeCache categoryTreeCache,
+                                   BarcodeCache barcodeCache) {
         this.subcategoryDao = subcategoryDao;
+        this.productDao = productDao;
+        this.productSearchIndex = productSearchIndex;
+        this.suggestionIndex = suggestionIndex;
+        this.existenceFilter = existenceFilter;
+        this.categoryTreeCache = categoryTreeCache;
+        this.barcodeCache = barcodeCache;
     }
 
     /**
@@ -48,16 +82,45 @@ public class ISubcategoryServiceImpl implements ISubcategoryService {
     public CustomPaginationData<SubcategoryGenericResponseDto, Subcategory> findAll(Pageable pageable) {
         logger.info(MessageConstants.FIND_ALL_SUBCATEGORIES);
 
-        Page<Subcategory> subcategoriesPage = subcategoryDao.findAll(pageable);
+        Page<SubcategoryGenericProjection> subcategoriesPage = subcategoryDao.findAllProjected(pageable);
 
         // Información de las subcategorías
         List<SubcategoryGenericResponseDto> foundSubcategories = subcategoriesPage.stream()
-                .map(subcategory -> modelMapper.map(subcategory, SubcategoryGenericResponseDto.class))
+                .map(subcategoryMapper::toGenericResponseDto)
                 .toList();
 
         return new CustomPaginationData<>(foundSubcategories, subcategoriesPage);
     }
 
+    /**
+     * Método para buscar todas las subcategorías mediante paginación por cursor
+     *
+     * @param cursor Cursor de la página anterior (vacío para la primera página)
+     * @param size   Tamaño de la página
+     * @return Información de las subcategorías y el cursor de la siguiente página
+     */
+    @Override
+    public CustomPaginationData<SubcategoryGenericResponseDto, Subcategory> findAllAfter(String cursor, int size) {
+        logger.info(MESSAGE_FORMAT, MessageConstants.FIND_ALL_SUBCATEGORIES, MessageConstants.AFTER, cursor);
+
+        // Se solicita un elemento adicional para saber si existe una página siguiente
+        List<SubcategoryGenericProjection> subcategoriesSlice = subcategoryDao.findProjectedByIdGreaterThan(
+                CustomCursor.decode(cursor), PageRequest.ofSize(size + 1));
+
+        boolean hasNext = subcategoriesSlice.size() > size;
+        List<SubcategoryGenericProjection> subcategoriesPage =
+                hasNext ? subcategoriesSlice.subList(0, size) : subcategoriesSlice;
+
+        // Información de las subcategorías
+        List<SubcategoryGenericResponseDto> foundSubcategories = subcategoriesPage.stream()
+                .map(subcategoryMapper::toGenericResponseDto)
+                .toList();
+
+        String nextCursor = hasNext ? CustomCursor.encode(subcategoriesPage.get(size - 1).id()) : null;
+
+        return new CustomPaginationData<>(foundSubcategories, size, nextCursor);
+    }
+
     /**
      * Método para buscar las subcategorías que contengan una palabra dada
      *
@@ -69,16 +132,40 @@ public class ISubcategoryServiceImpl implements ISubcategoryService {
     public CustomPaginationData<SubcategoryGenericResponseDto, Subcategory> findAllByName(String word, Pageable pageable) {
         logger.info(MESSAGE_FORMAT, MessageConstants.FIND_ALL_SUBCATEGORIES, MessageConstants.NAME, word);
 
-        Page<Subcategory> subcategoriesPage = subcategoryDao.findByNameContainingIgnoreCase(word, pageable);
+        Page<SubcategoryGenericProjection> subcategoriesPage =
+                subcategoryDao.findProjectedByNameContainingIgnoreCase(LikePattern.escape(word), pageable);
 
-        // Información de las categorías
+        // Información de las subcategorías
         List<SubcategoryGenericResponseDto> foundSubcategories = subcategoriesPage.stream()
-                .map(subcategory -> modelMapper.map(subcategory, SubcategoryGenericResponseDto.class))
+                .map(subcategoryMapper::toGenericResponseDto)
                 .toList();
 
         return new CustomPaginationData<>(foundSubcategories, subcategoriesPage);
     }
 
+    /**
+     * Método para buscar las subcategorías que contengan una palabra dada,
+     * sin obtener el número total de elementos
+     *
+     * @param word     Palabra a buscar en el nombre de la subcategoría
+     * @param pageable Información de paginación
+     * @return Información de las subcategorías que cumplen con el criterio de búsqueda
+     */
+    @Override
+    public CustomPaginationData<SubcategoryGenericResponseDto, Subcategory> findSliceByName(String word, Pageable pageable) {
+        logger.info(MESSAGE_FORMAT, MessageConstants.FIND_ALL_SUBCATEGORIES, MessageConstants.NAME, word);
+
+        Slice<SubcategoryGenericProjection> subcategoriesSlice =
+                subcategoryDao.findSlicedByNameContainingIgnoreCase(LikePattern.escape(word), pageable);
+
+        // Información de las subcategorías
+        List<SubcategoryGenericResponseDto> foundSubcategories = subcategoriesSlice.stream()
+                .map(subcategoryMapper::toGenericResponseDto)
+                .toList();
+
+        return new CustomPaginationData<>(foundSubcategories, subcategoriesSlice);
+    }
+
     /**
      * Método para buscar una subcategoría por su ID
      *
@@ -97,7 +184,7 @@ public class ISubcategoryServiceImpl implements ISubcategoryService {
             throw new DataNotFoundException(MessageConstants.SUBCATEGORY_NOT_FOUND);
         }
 
-        return modelMapper.map(foundSubcategory.get(), SubcategoryGetResponseDto.class);
+        return subcategoryMapper.toGetResponseDto(foundSubcategory.get());
     }
 
     /**
@@ -113,7 +200,8 @@ public class ISubcategoryServiceImpl implements ISubcategoryService {
         logger.info(MESSAGE_FORMAT, MessageConstants.FIND_SUBCATEGORY, MessageConstants.NAME, name);
 
         // Verifica si ya existe una subcategoría con el mismo nombre
-        if (subcategoryDao.existsByName(name)) {
+        // (el filtro de existencia evita la consulta cuando la llave definitivamente no existe)
+        if (existenceFilter.mightContain(UniqueKey.SUBCATEGORY_NAME, name) && subcategoryDao.existsByName(name)) {
             logger.info(MessageConstants.SUBCATEGORY_ALREADY_EXISTS);
             logger.info(MessageConstants.SUBCATEGORY_NOT_SAVED);
 
@@ -125,10 +213,14 @@ public class ISubcategoryServiceImpl implements ISubcategoryService {
 
         // Guarda la información de la nueva subcategoría
         Subcategory savedSubcategory = subcategoryDao.save(
-                modelMapper.map(request, Subcategory.class)
+                subcategoryMapper.toEntity(request)
         );
 
-        return modelMapper.map(savedSubcategory, SubcategoryGenericResponseDto.class);
+        existenceFilter.add(UniqueKey.SUBCATEGORY_NAME, savedSubcategory.getName());
+        suggestionIndex.put(SuggestionType.SUBCATEGORY, savedSubcategory.getId(), savedSubcategory.getName());
+        categoryTreeCache.invalidate();
+
+        return subcategoryMapper.toGenericResponseDto(savedSubcategory);
     }
 
     /**
@@ -154,7 +246,7 @@ public class ISubcategoryServiceImpl implements ISubcategoryService {
 
         // Información de la subcategoría a actualizar
         Subcategory categoryToUpdate = foundSubcategory.get();
-        Category category = modelMapper.map(request.getCategory(), Category.class);
+        Category category = subcategoryMapper.toEntity(request.getCategory());
 
         categoryToUpdate.setName(request.getName());
         categoryToUpdate.setDescription(request.getDescription());
@@ -166,7 +258,17 @@ public class ISubcategoryServiceImpl implements ISubcategoryService {
         // Actualiza la información de la subcategoría
         Subcategory updatedSubcategory = subcategoryDao.save(categoryToUpdate);
 
-        return modelMapper.map(updatedSubcategory, SubcategoryGenericResponseDto.class);
+        existenceFilter.add(UniqueKey.SUBCATEGORY_NAME, updatedSubcategory.getName());
+        suggestionIndex.put(SuggestionType.SUBCATEGORY, updatedSubcategory.getId(), updatedSubcategory.getName());
+        categoryTreeCache.invalidate();
+
+        // El índice de búsqueda y la caché guardan los productos con el nombre de su subcategoría
+        List<Integer> productIds = productDao.findIdsBySubcategoryId(id);
+
+        productSearchIndex.refreshAll(productIds);
+        barcodeCache.invalidateProducts(productIds);
+
+        return subcategoryMapper.toGenericResponseDto(updatedSubcategory);
     }
 
     /**
@@ -179,5 +281,8 @@ public class ISubcategoryServiceImpl implements ISubcategoryService {
         logger.info(MESSAGE_FORMAT, MessageConstants.DELETE_SUBCATEGORY, MessageConstants.ID, id);
 
         subcategoryDao.deleteById(id);
+
+        suggestionIndex.remove(SuggestionType.SUBCATEGORY, id);
+        categoryTreeCache.invalidate();
     }
 }
@@ -0,0 +1,60 @@
+package com.alivro.spring.sleepyringtail.util.pagination;
+
+import com.alivro.spring.sleepyringtail.constants.MessageConstants;
+import com.alivro.spring.sleepyringtail.exception.DataNotValidException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Cursor opaco de la paginación por cursor (keyset). Codifica el ID del último elemento entregado,
+ * de modo que la siguiente página se obtiene con "WHERE id > :after ORDER BY id" sobre la llave
+ * primaria, sin recorrer ni descartar las filas de las páginas anteriores.
+ */
+public final class CustomCursor {
+    private static final String PREFIX = "id:";
+
+    private CustomCursor() {
+    }
+
+    /**
+     * Método para codificar el cursor a partir del ID del último elemento de la página
+     *
+     * @param id Identificador único del último elemento de la página
+     * @return Cursor opaco
+     */
+    public static String encode(Integer id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Método para decodificar un cursor. Un cursor vacío corresponde a la primera página.
+     *
+     * @param cursor Cursor opaco
+     * @return Identificador único a partir del cual continúa la página
+     */
+    public static int decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+
+            if (!decoded.startsWith(PREFIX)) {
+                throw new DataNotValidException(MessageConstants.CURSOR_NOT_VALID);
+            }
+
+            int id = Integer.parseInt(decoded.substring(PREFIX.length()));
+
+            if (id < 0) {
+                throw new DataNotValidException(MessageConstants.CURSOR_NOT_VALID);
+            }
+
+            return id;
+        } catch (IllegalArgumentException e) {
+            throw new DataNotValidException(MessageConstants.CURSOR_NOT_VALID);
+        }
+    }
+}
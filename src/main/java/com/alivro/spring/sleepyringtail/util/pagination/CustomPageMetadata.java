@@ -1,5 +1,6 @@
 package com.alivro.spring.sleepyringtail.util.pagination;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -9,9 +10,10 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class CustomPageMetadata {
-    // Número de página
-    private int pageNumber;
+    // Número de página (solo en paginación por desplazamiento)
+    private Integer pageNumber;
 
     // Tamaño de la página
     private int pageSize;
@@ -19,9 +21,15 @@ public class CustomPageMetadata {
     // Número de elementos en la página
     private int numberOfElements;
 
-    // Número total de páginas
-    private int totalPages;
+    // Número total de páginas (solo en paginación por desplazamiento con conteo total)
+    private Integer totalPages;
 
-    // Número total de elementos
-    private long totalElements;
+    // Número total de elementos (solo en paginación por desplazamiento con conteo total)
+    private Long totalElements;
+
+    // Indica si existe una página siguiente (solo en paginación por cursor o sin conteo total)
+    private Boolean hasNext;
+
+    // Cursor para solicitar la siguiente página (solo en paginación por cursor)
+    private String nextCursor;
 }
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -19,7 +20,14 @@ public class CustomPaginationData<T, S> {
     // Metadatos de la paginación
     private CustomPageMetadata metadata;
 
-    public CustomPaginationData(List<T> data, Page<S> metadata) {
+    /**
+     * Constructor a partir de una página. El contenido de la página puede ser una entidad o una proyección
+     * de ella; solo se toman sus metadatos.
+     *
+     * @param data     Lista de objetos
+     * @param metadata Página de la que se obtienen los metadatos
+     */
+    public CustomPaginationData(List<T> data, Page<?> metadata) {
         this.data = data;
         this.metadata = CustomPageMetadata.builder()
                 .pageNumber(metadata.getNumber())
@@ -29,4 +37,39 @@ public class CustomPaginationData<T, S> {
                 .totalElements(metadata.getTotalElements())
                 .build();
     }
+
+    /**
+     * Constructor a partir de una porción de resultados, obtenida sin la consulta COUNT. En lugar de los
+     * totales, los metadatos indican si existe una página siguiente.
+     *
+     * @param data     Lista de objetos
+     * @param metadata Porción de la que se obtienen los metadatos
+     */
+    public CustomPaginationData(List<T> data, Slice<?> metadata) {
+        this.data = data;
+        this.metadata = CustomPageMetadata.builder()
+                .pageNumber(metadata.getNumber())
+                .pageSize(metadata.getSize())
+                .numberOfElements(metadata.getNumberOfElements())
+                .hasNext(metadata.hasNext())
+                .build();
+    }
+
+    /**
+     * Constructor a partir de una página obtenida por cursor. No incluye el número de página ni los
+     * totales, ya que requerirían una consulta COUNT adicional.
+     *
+     * @param data       Lista de objetos
+     * @param pageSize   Tamaño de la página
+     * @param nextCursor Cursor de la siguiente página, o null si es la última
+     */
+    public CustomPaginationData(List<T> data, int pageSize, String nextCursor) {
+        this.data = data;
+        this.metadata = CustomPageMetadata.builder()
+                .pageSize(pageSize)
+                .numberOfElements(data.size())
+                .hasNext(nextCursor != null)
+                .nextCursor(nextCursor)
+                .build();
+    }
 }
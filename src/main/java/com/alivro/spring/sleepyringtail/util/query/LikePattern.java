@@ -0,0 +1,37 @@
+package com.alivro.spring.sleepyringtail.util.query;
+
+/**
+ * Escape de las palabras de búsqueda usadas en condiciones LIKE. Las consultas declaran ESCAPE '\',
+ * de modo que '%', '_' y '\' se buscan como caracteres y no como comodines, igual que en las
+ * consultas derivadas "Containing" de Spring Data.
+ */
+public final class LikePattern {
+    private static final char ESCAPE_CHARACTER = '\\';
+
+    private LikePattern() {
+    }
+
+    /**
+     * Método para escapar los comodines de una palabra de búsqueda
+     *
+     * @param word Palabra a buscar
+     * @return Palabra con los comodines escapados
+     */
+    public static String escape(String word) {
+        if (word == null) {
+            return null;
+        }
+
+        StringBuilder escaped = new StringBuilder(word.length());
+
+        for (char character : word.toCharArray()) {
+            if (character == '%' || character == '_' || character == ESCAPE_CHARACTER) {
+                escaped.append(ESCAPE_CHARACTER);
+            }
+
+            escaped.append(character);
+        }
+
+        return escaped.toString();
+    }
+}
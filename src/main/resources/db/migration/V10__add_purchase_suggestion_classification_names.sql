@@ -0,0 +1,20 @@
+-- Nombres de la subcategoría y de la categoría al momento del cálculo, para que los totales de una
+-- ejecución anterior no cambien al renombrar o eliminar la clasificación de un producto.
+-- Las sugerencias ya guardadas toman los nombres actuales; las de una clasificación que ya no existe
+-- quedan sin nombre, por lo que las columnas admiten NULL.
+
+ALTER TABLE purchase_suggestions
+    ADD COLUMN IF NOT EXISTS subcategory_name VARCHAR(50),
+    ADD COLUMN IF NOT EXISTS category_name    VARCHAR(50);
+
+UPDATE purchase_suggestions ps
+SET subcategory_name = s.name
+FROM subcategories s
+WHERE s.subcategory_id = ps.subcategory_id
+  AND ps.subcategory_name IS NULL;
+
+UPDATE purchase_suggestions ps
+SET category_name = c.name
+FROM categories c
+WHERE c.category_id = ps.category_id
+  AND ps.category_name IS NULL;
@@ -0,0 +1,40 @@
+-- Esquema inicial, equivalente al generado por Hibernate a partir de las entidades.
+-- En bases de datos existentes no se ejecuta: baseline-on-migrate la marca como aplicada.
+
+CREATE TABLE categories (
+    category_id INTEGER GENERATED BY DEFAULT AS IDENTITY,
+    name        VARCHAR(50)  NOT NULL UNIQUE,
+    description VARCHAR(150),
+    PRIMARY KEY (category_id)
+);
+
+CREATE TABLE subcategories (
+    subcategory_id INTEGER GENERATED BY DEFAULT AS IDENTITY,
+    name           VARCHAR(50)  NOT NULL UNIQUE,
+    description    VARCHAR(150),
+    category_id    INTEGER      NOT NULL,
+    PRIMARY KEY (subcategory_id),
+    CONSTRAINT fk_subcategories_category FOREIGN KEY (category_id) REFERENCES categories
+);
+
+CREATE TABLE products (
+    product_id     INTEGER GENERATED BY DEFAULT AS IDENTITY,
+    name           VARCHAR(50)   NOT NULL,
+    description    VARCHAR(150),
+    size           VARCHAR(10)   NOT NULL,
+    price          NUMERIC(8, 2) NOT NULL,
+    barcode        VARCHAR(13)   NOT NULL UNIQUE,
+    subcategory_id INTEGER       NOT NULL,
+    PRIMARY KEY (product_id),
+    CONSTRAINT fk_products_subcategory FOREIGN KEY (subcategory_id) REFERENCES subcategories
+);
+
+CREATE TABLE inventory (
+    inventory_id       INTEGER GENERATED BY DEFAULT AS IDENTITY,
+    quantity_available SMALLINT NOT NULL,
+    minimum_stock      SMALLINT NOT NULL,
+    maximum_stock      SMALLINT NOT NULL,
+    product_id         INTEGER  NOT NULL UNIQUE,
+    PRIMARY KEY (inventory_id),
+    CONSTRAINT fk_inventory_product FOREIGN KEY (product_id) REFERENCES products
+);
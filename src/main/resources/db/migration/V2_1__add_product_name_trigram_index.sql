@@ -0,0 +1,7 @@
+-- Índice de trigramas para la búsqueda por subcadena en el nombre del producto.
+-- Las consultas filtran con UPPER(columna) LIKE UPPER('%palabra%'), por lo que el índice se crea
+-- sobre la misma expresión para que el planificador pueda usarlo en lugar de un recorrido secuencial.
+-- Se crea sin bloquear escrituras; Flyway ejecuta CREATE INDEX CONCURRENTLY fuera de una transacción.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_name_trgm
+    ON products USING GIN (UPPER(name) gin_trgm_ops);
@@ -0,0 +1,6 @@
+-- Índice de trigramas para la búsqueda por subcadena en la descripción del producto (misma expresión
+-- que la consulta, como en V2.1). Se crea sin bloquear escrituras; Flyway ejecuta
+-- CREATE INDEX CONCURRENTLY fuera de una transacción.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_description_trgm
+    ON products USING GIN (UPPER(description) gin_trgm_ops);
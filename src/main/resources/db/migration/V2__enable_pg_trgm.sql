@@ -0,0 +1,5 @@
+-- Extensión de trigramas para las búsquedas por subcadena de ProductDao. Los índices se crean en las
+-- migraciones V2.1 y V2.2, cada uno en su propia migración: CREATE INDEX CONCURRENTLY no se puede
+-- ejecutar dentro de una transacción ni junto con otras sentencias.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
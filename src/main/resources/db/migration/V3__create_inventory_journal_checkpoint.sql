@@ -0,0 +1,9 @@
+-- Última secuencia aplicada del diario local de deltas de inventario (modo de escritura diferida).
+-- Los deltas y la secuencia se guardan en la misma transacción; al recuperar el diario después de una
+-- caída se omiten los registros con secuencia menor o igual a la guardada.
+
+CREATE TABLE IF NOT EXISTS inventory_journal_checkpoint (
+    journal  VARCHAR(255) NOT NULL,
+    sequence BIGINT       NOT NULL,
+    PRIMARY KEY (journal)
+);
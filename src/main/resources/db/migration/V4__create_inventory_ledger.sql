@@ -0,0 +1,33 @@
+-- Libro de movimientos de inventario (solo se agregan filas) e instantáneas periódicas de la existencia.
+-- La existencia de un producto en un momento dado es la última instantánea anterior a ese momento más
+-- los movimientos posteriores a ella, por lo que el costo de la consulta está acotado por el intervalo
+-- entre instantáneas.
+
+CREATE TABLE IF NOT EXISTS inventory_movements (
+    movement_id   BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    product_id    INTEGER                     NOT NULL,
+    movement_type VARCHAR(20)                 NOT NULL,
+    quantity      INTEGER                     NOT NULL,
+    created_at    TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (movement_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_inventory_movements_product
+    ON inventory_movements (product_id, movement_id);
+
+CREATE TABLE IF NOT EXISTS inventory_snapshots (
+    snapshot_id      BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    product_id       INTEGER                     NOT NULL,
+    quantity         INTEGER                     NOT NULL,
+    last_movement_id BIGINT                      NOT NULL,
+    taken_at         TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (snapshot_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_inventory_snapshots_product
+    ON inventory_snapshots (product_id, taken_at);
+
+-- Instantánea inicial con la existencia actual, ya que el inventario existente no tiene movimientos
+INSERT INTO inventory_snapshots (product_id, quantity, last_movement_id, taken_at)
+SELECT product_id, quantity_available, 0, now()
+FROM inventory;
@@ -0,0 +1,88 @@
+-- Ampliación de las cantidades del inventario de SMALLINT a INTEGER, sin reescribir la tabla bajo un
+-- bloqueo exclusivo (fase de expansión). Se ejecuta fuera de una transacción (ver archivo .conf), de
+-- modo que cada lote del relleno se confirma por separado y no bloquea las escrituras.
+--
+-- 1. Columnas nuevas de tipo INTEGER, que un disparador mantiene sincronizadas con las anteriores
+--    mientras las instancias de la versión anterior sigan escribiendo.
+-- 2. Relleno de las filas existentes en lotes por ID.
+-- 3. Restricciones NOT NULL como CHECK validadas sin bloquear escrituras, para que el cambio de
+--    columnas (V6) no tenga que recorrer la tabla.
+
+ALTER TABLE inventory
+    ADD COLUMN IF NOT EXISTS quantity_available_int INTEGER,
+    ADD COLUMN IF NOT EXISTS minimum_stock_int      INTEGER,
+    ADD COLUMN IF NOT EXISTS maximum_stock_int      INTEGER;
+
+CREATE OR REPLACE FUNCTION inventory_sync_int_quantities() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.quantity_available_int := NEW.quantity_available;
+    NEW.minimum_stock_int := NEW.minimum_stock;
+    NEW.maximum_stock_int := NEW.maximum_stock;
+
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS inventory_sync_int_quantities ON inventory;
+
+CREATE TRIGGER inventory_sync_int_quantities
+    BEFORE INSERT OR UPDATE ON inventory
+    FOR EACH ROW
+EXECUTE FUNCTION inventory_sync_int_quantities();
+
+DO $$
+DECLARE
+    batch_size CONSTANT INTEGER := 10000;
+    last_id             INTEGER := 0;
+    max_id              INTEGER;
+BEGIN
+    SELECT COALESCE(MAX(inventory_id), 0) INTO max_id FROM inventory;
+
+    WHILE last_id < max_id LOOP
+        -- El disparador copia las cantidades de cada fila actualizada
+        UPDATE inventory
+        SET quantity_available = quantity_available
+        WHERE inventory_id > last_id
+          AND inventory_id <= last_id + batch_size
+          AND quantity_available_int IS NULL;
+
+        last_id := last_id + batch_size;
+
+        COMMIT;
+    END LOOP;
+END;
+$$;
+
+-- Sin transacción, una ejecución interrumpida puede haber creado ya alguna restricción; se agregan
+-- solo las que faltan para poder volver a ejecutar la migración
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint
+                   WHERE conrelid = 'inventory'::regclass
+                     AND conname = 'inventory_quantity_available_int_not_null') THEN
+        ALTER TABLE inventory
+            ADD CONSTRAINT inventory_quantity_available_int_not_null
+                CHECK (quantity_available_int IS NOT NULL) NOT VALID;
+    END IF;
+
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint
+                   WHERE conrelid = 'inventory'::regclass
+                     AND conname = 'inventory_minimum_stock_int_not_null') THEN
+        ALTER TABLE inventory
+            ADD CONSTRAINT inventory_minimum_stock_int_not_null
+                CHECK (minimum_stock_int IS NOT NULL) NOT VALID;
+    END IF;
+
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint
+                   WHERE conrelid = 'inventory'::regclass
+                     AND conname = 'inventory_maximum_stock_int_not_null') THEN
+        ALTER TABLE inventory
+            ADD CONSTRAINT inventory_maximum_stock_int_not_null
+                CHECK (maximum_stock_int IS NOT NULL) NOT VALID;
+    END IF;
+END;
+$$;
+
+ALTER TABLE inventory VALIDATE CONSTRAINT inventory_quantity_available_int_not_null;
+ALTER TABLE inventory VALIDATE CONSTRAINT inventory_minimum_stock_int_not_null;
+ALTER TABLE inventory VALIDATE CONSTRAINT inventory_maximum_stock_int_not_null;
@@ -0,0 +1,24 @@
+-- Fase de contracción: sustituye las columnas SMALLINT por las columnas INTEGER rellenadas en V5.
+-- Todas las sentencias solo modifican metadatos (SET NOT NULL aprovecha las restricciones CHECK ya
+-- validadas), por lo que el bloqueo exclusivo es breve y no recorre la tabla.
+
+ALTER TABLE inventory ALTER COLUMN quantity_available_int SET NOT NULL;
+ALTER TABLE inventory ALTER COLUMN minimum_stock_int SET NOT NULL;
+ALTER TABLE inventory ALTER COLUMN maximum_stock_int SET NOT NULL;
+
+ALTER TABLE inventory
+    DROP CONSTRAINT inventory_quantity_available_int_not_null,
+    DROP CONSTRAINT inventory_minimum_stock_int_not_null,
+    DROP CONSTRAINT inventory_maximum_stock_int_not_null;
+
+DROP TRIGGER inventory_sync_int_quantities ON inventory;
+DROP FUNCTION inventory_sync_int_quantities();
+
+ALTER TABLE inventory
+    DROP COLUMN quantity_available,
+    DROP COLUMN minimum_stock,
+    DROP COLUMN maximum_stock;
+
+ALTER TABLE inventory RENAME COLUMN quantity_available_int TO quantity_available;
+ALTER TABLE inventory RENAME COLUMN minimum_stock_int TO minimum_stock;
+ALTER TABLE inventory RENAME COLUMN maximum_stock_int TO maximum_stock;
@@ -0,0 +1,9 @@
+-- Índice parcial con las filas del inventario en existencia baja (cantidad disponible menor o igual al
+-- stock mínimo). Solo contiene esas filas, por lo que la consulta de existencia baja no recorre la
+-- tabla y el índice se mantiene pequeño. La condición de la consulta debe ser la misma que la del índice.
+-- Se crea sin bloquear escrituras; Flyway ejecuta CREATE INDEX CONCURRENTLY fuera de una transacción.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_inventory_low_stock
+    ON inventory (inventory_id)
+    INCLUDE (quantity_available, minimum_stock, maximum_stock, product_id)
+    WHERE quantity_available <= minimum_stock;
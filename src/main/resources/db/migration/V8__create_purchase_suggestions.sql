@@ -0,0 +1,28 @@
+-- Sugerencias de compra: por cada producto en existencia baja, la cantidad a pedir para llegar al stock
+-- máximo. Cada ejecución del cálculo guarda sus sugerencias con su propio ID de ejecución; la más
+-- reciente es la vigente y solo se conservan las últimas ejecuciones.
+
+CREATE TABLE IF NOT EXISTS purchase_suggestion_runs (
+    run_id        BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    created_at    TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    product_count INTEGER                     NOT NULL,
+    PRIMARY KEY (run_id)
+);
+
+CREATE TABLE IF NOT EXISTS purchase_suggestions (
+    suggestion_id      BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    run_id             BIGINT      NOT NULL,
+    product_id         INTEGER     NOT NULL,
+    product_name       VARCHAR(50) NOT NULL,
+    subcategory_id     INTEGER     NOT NULL,
+    category_id        INTEGER     NOT NULL,
+    quantity_available INTEGER     NOT NULL,
+    minimum_stock      INTEGER     NOT NULL,
+    maximum_stock      INTEGER     NOT NULL,
+    quantity_to_order  INTEGER     NOT NULL,
+    PRIMARY KEY (suggestion_id)
+);
+
+-- Las sugerencias de una ejecución se leen agrupadas por categoría y subcategoría
+CREATE INDEX IF NOT EXISTS idx_purchase_suggestions_run
+    ON purchase_suggestions (run_id, category_id, subcategory_id, product_id);
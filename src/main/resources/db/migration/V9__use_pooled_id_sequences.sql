@@ -0,0 +1,27 @@
+-- Generación de IDs con secuencias en lugar de columnas IDENTITY. Con IDENTITY, Hibernate debe
+-- ejecutar cada INSERT por separado para conocer el ID generado, lo que impide insertar por lotes.
+-- Cada secuencia incrementa de 50 en 50 (allocationSize de la entidad): Hibernate reserva un bloque
+-- de 50 IDs con una sola llamada y los asigna en memoria (optimizador pooled-lo).
+--
+-- Los IDs existentes no cambian; cada secuencia continúa después del ID más alto de su tabla. La
+-- columna conserva un valor por omisión con la misma secuencia para los INSERT escritos en SQL; cada
+-- uno consume un bloque completo, sin chocar con los bloques reservados por Hibernate.
+
+CREATE SEQUENCE categories_seq INCREMENT BY 50 OWNED BY categories.category_id;
+CREATE SEQUENCE subcategories_seq INCREMENT BY 50 OWNED BY subcategories.subcategory_id;
+CREATE SEQUENCE products_seq INCREMENT BY 50 OWNED BY products.product_id;
+CREATE SEQUENCE inventory_seq INCREMENT BY 50 OWNED BY inventory.inventory_id;
+
+ALTER TABLE categories ALTER COLUMN category_id DROP IDENTITY;
+ALTER TABLE categories ALTER COLUMN category_id SET DEFAULT nextval('categories_seq');
+ALTER TABLE subcategories ALTER COLUMN subcategory_id DROP IDENTITY;
+ALTER TABLE subcategories ALTER COLUMN subcategory_id SET DEFAULT nextval('subcategories_seq');
+ALTER TABLE products ALTER COLUMN product_id DROP IDENTITY;
+ALTER TABLE products ALTER COLUMN product_id SET DEFAULT nextval('products_seq');
+ALTER TABLE inventory ALTER COLUMN inventory_id DROP IDENTITY;
+ALTER TABLE inventory ALTER COLUMN inventory_id SET DEFAULT nextval('inventory_seq');
+
+SELECT setval('categories_seq', COALESCE(MAX(category_id), 0) + 1, false) FROM categories;
+SELECT setval('subcategories_seq', COALESCE(MAX(subcategory_id), 0) + 1, false) FROM subcategories;
+SELECT setval('products_seq', COALESCE(MAX(product_id), 0) + 1, false) FROM products;
+SELECT setval('inventory_seq', COALESCE(MAX(inventory_id), 0) + 1, false) FROM inventory;
@@ -0,0 +1,50 @@
+package com.alivro.spring.sleepyringtail.alert;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StockAlertPublisherTest {
+    private final StockAlertPublisher stockAlertPublisher = new StockAlertPublisher();
+
+    @AfterEach
+    public void cleanup() {
+        stockAlertPublisher.close();
+    }
+
+    @Test
+    public void of_Quantity_Return_StockLevel() {
+        assertThat(StockLevel.of(250, 250, 625)).isEqualTo(StockLevel.LOW);
+        assertThat(StockLevel.of(251, 250, 625)).isEqualTo(StockLevel.NORMAL);
+        assertThat(StockLevel.of(625, 250, 625)).isEqualTo(StockLevel.NORMAL);
+        assertThat(StockLevel.of(626, 250, 625)).isEqualTo(StockLevel.HIGH);
+    }
+
+    @Test
+    public void stockChanged_CrossesMinimumStock_Return_True() {
+        // When
+        boolean published = stockAlertPublisher.stockChanged(1, StockLevel.NORMAL, 242, 250, 625);
+
+        // Then
+        assertThat(published).isTrue();
+    }
+
+    @Test
+    public void stockChanged_NewInventory_Return_True() {
+        // When
+        boolean published = stockAlertPublisher.stockChanged(1, null, 300, 250, 625);
+
+        // Then
+        assertThat(published).isTrue();
+    }
+
+    @Test
+    public void stockChanged_SameLevel_Return_False() {
+        // When
+        boolean published = stockAlertPublisher.stockChanged(1, StockLevel.LOW, 120, 250, 625);
+
+        // Then
+        assertThat(published).isFalse();
+    }
+}
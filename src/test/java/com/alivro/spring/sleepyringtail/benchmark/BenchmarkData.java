@@ -0,0 +1,87 @@
+package com.alivro.spring.sleepyringtail.benchmark;
+
+import com.alivro.spring.sleepyringtail.model.Category;
+import com.alivro.spring.sleepyringtail.model.Inventory;
+import com.alivro.spring.sleepyringtail.model.Product;
+import com.alivro.spring.sleepyringtail.model.Subcategory;
+import com.alivro.spring.sleepyringtail.model.product.projection.ProductGenericProjection;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Datos de ejemplo compartidos por los benchmarks
+ */
+final class BenchmarkData {
+    private BenchmarkData() {
+    }
+
+    /**
+     * Método para crear una categoría con una subcategoría y sus productos, cada uno con su inventario
+     *
+     * @param numberOfProducts Número de productos de la subcategoría
+     * @return Categoría
+     */
+    static Category category(int numberOfProducts) {
+        Category category = Category.builder()
+                .id(1)
+                .name("Lácteos")
+                .description("Leche, yogur, quesos y cremas")
+                .build();
+
+        Subcategory subcategory = Subcategory.builder()
+                .id(1)
+                .name("Leche")
+                .description("Leche de vaca y de origen vegetal")
+                .category(category)
+                .build();
+
+        List<Product> products = new ArrayList<>(numberOfProducts);
+
+        for (int i = 1; i <= numberOfProducts; i++) {
+            Product product = Product.builder()
+                    .id(i)
+                    .name("Leche Entera " + i)
+                    .description("Leche entera de vaca")
+                    .size("1 L")
+                    .price(new BigDecimal("28.50"))
+                    .barcode(String.format("750105530%04d", i))
+                    .subcategory(subcategory)
+                    .build();
+
+            product.setInventory(Inventory.builder()
+                    .id(i)
+                    .quantityAvailable(20)
+                    .minimumStock(5)
+                    .maximumStock(50)
+                    .product(product)
+                    .build());
+
+            products.add(product);
+        }
+
+        subcategory.setProducts(products);
+        category.setSubcategories(List.of(subcategory));
+
+        return category;
+    }
+
+    /**
+     * Método para crear una página de proyecciones de productos, como la que devuelve el DAO
+     *
+     * @param size Número de proyecciones
+     * @return Lista de proyecciones de productos
+     */
+    static List<ProductGenericProjection> productProjections(int size) {
+        List<ProductGenericProjection> projections = new ArrayList<>(size);
+
+        for (int i = 1; i <= size; i++) {
+            projections.add(new ProductGenericProjection(
+                    i, "Leche Entera " + i, "1 L", "Leche entera de vaca", new BigDecimal("28.50"),
+                    String.format("750105530%04d", i), 1, "Leche"));
+        }
+
+        return projections;
+    }
+}
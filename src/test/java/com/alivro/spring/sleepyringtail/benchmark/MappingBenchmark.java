@@ -0,0 +1,167 @@
+package com.alivro.spring.sleepyringtail.benchmark;
+
+import com.alivro.spring.sleepyringtail.mapper.CategoryMapper;
+import com.alivro.spring.sleepyringtail.mapper.InventoryMapper;
+import com.alivro.spring.sleepyringtail.mapper.ProductMapper;
+import com.alivro.spring.sleepyringtail.mapper.SubcategoryMapper;
+import com.alivro.spring.sleepyringtail.model.Category;
+import com.alivro.spring.sleepyringtail.model.Inventory;
+import com.alivro.spring.sleepyringtail.model.Product;
+import com.alivro.spring.sleepyringtail.model.Subcategory;
+import com.alivro.spring.sleepyringtail.model.category.response.CategoryGenericResponseDto;
+import com.alivro.spring.sleepyringtail.model.category.response.CategoryGetResponseDto;
+import com.alivro.spring.sleepyringtail.model.inventory.response.InventoryGenericResponseDto;
+import com.alivro.spring.sleepyringtail.model.product.projection.ProductGenericProjection;
+import com.alivro.spring.sleepyringtail.model.product.request.ProductGenericRequestDto;
+import com.alivro.spring.sleepyringtail.model.product.response.ProductGenericResponseDto;
+import com.alivro.spring.sleepyringtail.model.product.response.ProductGetResponseDto;
+import com.alivro.spring.sleepyringtail.model.subcategory.response.SubcategoryGenericResponseDto;
+import com.alivro.spring.sleepyringtail.model.subcategory.response.SubcategoryGetResponseDto;
+import com.alivro.spring.sleepyringtail.model.util.request.SubcategoryRequestDto;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Comparación, para cada DTO de respuesta, entre el mapeo reflexivo de ModelMapper y los mappers
+ * generados en compilación por MapStruct.
+ * <p>
+ * Ejecución: mvn -Pbenchmark test -Dbenchmark.include=MappingBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+    // Número de productos de la subcategoría de ejemplo
+    private static final int NUMBER_OF_PRODUCTS = 5;
+
+    private final ModelMapper modelMapper = new ModelMapper();
+    private final ProductMapper productMapper = ProductMapper.INSTANCE;
+    private final CategoryMapper categoryMapper = CategoryMapper.INSTANCE;
+    private final SubcategoryMapper subcategoryMapper = SubcategoryMapper.INSTANCE;
+    private final InventoryMapper inventoryMapper = InventoryMapper.INSTANCE;
+
+    private Category category;
+    private Subcategory subcategory;
+    private Product product;
+    private Inventory inventory;
+    private ProductGenericProjection projection;
+    private ProductGenericRequestDto request;
+
+    @Setup
+    public void setup() {
+        category = BenchmarkData.category(NUMBER_OF_PRODUCTS);
+        subcategory = category.getSubcategories().get(0);
+        product = subcategory.getProducts().get(0);
+        inventory = product.getInventory();
+        projection = BenchmarkData.productProjections(1).get(0);
+
+        request = ProductGenericRequestDto.builder()
+                .name("Leche Entera")
+                .description("Leche entera de vaca")
+                .size("1 L")
+                .price(new BigDecimal("28.50"))
+                .barcode("7501055300075")
+                .subcategory(SubcategoryRequestDto.builder().id(1).build())
+                .build();
+    }
+
+    @Benchmark
+    public ProductGetResponseDto productToGetResponseModelMapper() {
+        return modelMapper.map(product, ProductGetResponseDto.class);
+    }
+
+    @Benchmark
+    public ProductGetResponseDto productToGetResponseMapStruct() {
+        return productMapper.toGetResponseDto(product);
+    }
+
+    @Benchmark
+    public ProductGenericResponseDto productToGenericResponseModelMapper() {
+        return modelMapper.map(product, ProductGenericResponseDto.class);
+    }
+
+    @Benchmark
+    public ProductGenericResponseDto productToGenericResponseMapStruct() {
+        return productMapper.toGenericResponseDto(product);
+    }
+
+    @Benchmark
+    public ProductGenericResponseDto productProjectionToGenericResponseMapStruct() {
+        return productMapper.toGenericResponseDto(projection);
+    }
+
+    @Benchmark
+    public Product productRequestToEntityModelMapper() {
+        return modelMapper.map(request, Product.class);
+    }
+
+    @Benchmark
+    public Product productRequestToEntityMapStruct() {
+        return productMapper.toEntity(request);
+    }
+
+    @Benchmark
+    public CategoryGetResponseDto categoryToGetResponseModelMapper() {
+        return modelMapper.map(category, CategoryGetResponseDto.class);
+    }
+
+    @Benchmark
+    public CategoryGetResponseDto categoryToGetResponseMapStruct() {
+        return categoryMapper.toGetResponseDto(category);
+    }
+
+    @Benchmark
+    public CategoryGenericResponseDto categoryToGenericResponseModelMapper() {
+        return modelMapper.map(category, CategoryGenericResponseDto.class);
+    }
+
+    @Benchmark
+    public CategoryGenericResponseDto categoryToGenericResponseMapStruct() {
+        return categoryMapper.toGenericResponseDto(category);
+    }
+
+    @Benchmark
+    public SubcategoryGetResponseDto subcategoryToGetResponseModelMapper() {
+        return modelMapper.map(subcategory, SubcategoryGetResponseDto.class);
+    }
+
+    @Benchmark
+    public SubcategoryGetResponseDto subcategoryToGetResponseMapStruct() {
+        return subcategoryMapper.toGetResponseDto(subcategory);
+    }
+
+    @Benchmark
+    public SubcategoryGenericResponseDto subcategoryToGenericResponseModelMapper() {
+        return modelMapper.map(subcategory, SubcategoryGenericResponseDto.class);
+    }
+
+    @Benchmark
+    public SubcategoryGenericResponseDto subcategoryToGenericResponseMapStruct() {
+        return subcategoryMapper.toGenericResponseDto(subcategory);
+    }
+
+    @Benchmark
+    public InventoryGenericResponseDto inventoryToGenericResponseModelMapper() {
+        return modelMapper.map(inventory, InventoryGenericResponseDto.class);
+    }
+
+    @Benchmark
+    public InventoryGenericResponseDto inventoryToGenericResponseMapStruct() {
+        return inventoryMapper.toGenericResponseDto(inventory);
+    }
+}
@@ -0,0 +1,190 @@
+package com.alivro.spring.sleepyringtail.benchmark;
+
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Búsqueda de productos por subcadena en el nombre sobre un catálogo generado de un millón de productos,
+ * con y sin los índices de trigramas de la migración V2.
+ * <p>
+ * Requiere una base de datos PostgreSQL dedicada (se aplican las migraciones y se generan los datos):
+ * <pre>
+ * BENCHMARK_JDBC_URL=jdbc:postgresql://localhost:5432/sleepy_ringtail_benchmark \
+ * BENCHMARK_JDBC_USERNAME=postgres BENCHMARK_JDBC_PASSWORD=postgres \
+ * mvn -Pbenchmark test -Dbenchmark.include=ProductSearchBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductSearchBenchmark {
+    // Número de productos del catálogo generado
+    private static final int NUMBER_OF_PRODUCTS = 1_000_000;
+
+    // Misma consulta que genera ProductDao.findProjectedByNameContainingIgnoreCase
+    private static final String SEARCH_BY_NAME = """
+            SELECT p.product_id, p.name, p.size, p.description, p.price, p.barcode, s.subcategory_id, s.name
+            FROM products p JOIN subcategories s ON s.subcategory_id = p.subcategory_id
+            WHERE UPPER(p.name) LIKE UPPER('%' || ? || '%')
+            ORDER BY p.product_id
+            LIMIT 20
+            """;
+
+    private static final String COUNT_BY_NAME = """
+            SELECT COUNT(*) FROM products p
+            WHERE UPPER(p.name) LIKE UPPER('%' || ? || '%')
+            """;
+
+    @Param({"choco", "leche entera", "xyz"})
+    private String word;
+
+    private Connection connection;
+    private PreparedStatement searchByName;
+    private PreparedStatement countByName;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        String url = System.getenv("BENCHMARK_JDBC_URL");
+
+        if (url == null) {
+            throw new IllegalStateException("BENCHMARK_JDBC_URL no está definida.");
+        }
+
+        String username = System.getenv().getOrDefault("BENCHMARK_JDBC_USERNAME", "postgres");
+        String password = System.getenv().getOrDefault("BENCHMARK_JDBC_PASSWORD", "postgres");
+
+        Flyway.configure()
+                .dataSource(url, username, password)
+                .load()
+                .migrate();
+
+        connection = DriverManager.getConnection(url, username, password);
+        generateCatalogue(connection);
+
+        searchByName = connection.prepareStatement(SEARCH_BY_NAME);
+        countByName = connection.prepareStatement(COUNT_BY_NAME);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public int searchWithTrigramIndex() throws SQLException {
+        return search(true);
+    }
+
+    @Benchmark
+    public int searchWithSequentialScan() throws SQLException {
+        return search(false);
+    }
+
+    /**
+     * Método para ejecutar la consulta de la página y la de conteo, como lo hace la paginación por
+     * desplazamiento
+     *
+     * @param useIndex Indica si el planificador puede usar índices
+     * @return Número de filas leídas más el total de coincidencias
+     */
+    private int search(boolean useIndex) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET enable_bitmapscan = " + useIndex);
+            statement.execute("SET enable_indexscan = " + useIndex);
+        }
+
+        int rows = 0;
+
+        searchByName.setString(1, word);
+
+        try (ResultSet resultSet = searchByName.executeQuery()) {
+            while (resultSet.next()) {
+                rows++;
+            }
+        }
+
+        countByName.setString(1, word);
+
+        try (ResultSet resultSet = countByName.executeQuery()) {
+            resultSet.next();
+
+            return rows + resultSet.getInt(1);
+        }
+    }
+
+    /**
+     * Método para generar, del lado del servidor, el catálogo de productos si aún no existe
+     *
+     * @param connection Conexión a la base de datos
+     */
+    private static void generateCatalogue(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM products")) {
+                resultSet.next();
+
+                if (resultSet.getInt(1) >= NUMBER_OF_PRODUCTS) {
+                    return;
+                }
+            }
+
+            statement.execute("""
+                    INSERT INTO categories (name, description) VALUES ('Benchmark', 'Catálogo generado')
+                    ON CONFLICT (name) DO NOTHING
+                    """);
+
+            statement.execute("""
+                    INSERT INTO subcategories (name, description, category_id)
+                    SELECT 'Benchmark ' || g, NULL, c.category_id
+                    FROM generate_series(1, 50) g, categories c
+                    WHERE c.name = 'Benchmark'
+                    ON CONFLICT (name) DO NOTHING
+                    """);
+
+            statement.execute("""
+                    INSERT INTO products (name, description, size, price, barcode, subcategory_id)
+                    SELECT
+                        (ARRAY['Leche', 'Queso', 'Yogurt', 'Pan', 'Galletas', 'Papas', 'Cacahuates',
+                               'Refresco', 'Jugo', 'Agua', 'Helado', 'Paleta', 'Chicle', 'Gomitas',
+                               'Chocolate', 'Vino', 'Crema', 'Mantequilla', 'Cereal', 'Café'])[1 + g % 20]
+                            || ' ' ||
+                        (ARRAY['Entera', 'Light', 'Natural', 'Fresa', 'Vainilla', 'Choco', 'Limón',
+                               'Salado', 'Picante', 'Integral', 'Tinto', 'Mineral', 'Deslactosada'])[1 + (g / 20) % 13]
+                            || ' ' || g,
+                        'Producto generado número ' || g,
+                        (ARRAY['250 ml', '500 ml', '1 L', '60 g', '200 g', '1 kg'])[1 + g % 6],
+                        round((random() * 200 + 5)::numeric, 2),
+                        lpad(g::text, 13, '0'),
+                        s.subcategory_id
+                    FROM generate_series(
+                        ((SELECT COUNT(*) FROM products) + 1)::int, %d) g
+                    JOIN subcategories s ON s.name = 'Benchmark ' || (1 + g % 50)
+                    ON CONFLICT (barcode) DO NOTHING
+                    """.formatted(NUMBER_OF_PRODUCTS));
+
+            statement.execute("ANALYZE products");
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.alivro.spring.sleepyringtail.benchmark;
+
+import com.alivro.spring.sleepyringtail.constants.MessageConstants;
+import com.alivro.spring.sleepyringtail.handler.ResponseHandler;
+import com.alivro.spring.sleepyringtail.mapper.ProductMapper;
+import com.alivro.spring.sleepyringtail.model.Product;
+import com.alivro.spring.sleepyringtail.model.product.projection.ProductGenericProjection;
+import com.alivro.spring.sleepyringtail.model.product.response.ProductGenericResponseDto;
+import com.alivro.spring.sleepyringtail.util.pagination.CustomPageMetadata;
+import com.alivro.spring.sleepyringtail.util.pagination.CustomPaginationData;
+import com.alivro.spring.sleepyringtail.util.response.CustomResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo por petición de construir la respuesta de un listado paginado: envoltura de la página en
+ * CustomPaginationData/CustomPageMetadata, construcción de la respuesta con ResponseHandler y
+ * serialización de CustomResponse con Jackson, para distintos tamaños de página.
+ * <p>
+ * Ejecución: mvn -Pbenchmark test -Dbenchmark.include=ResponseBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseBenchmark {
+    // Número total de productos del catálogo simulado
+    private static final long TOTAL_ELEMENTS = 10_000;
+
+    private final ProductMapper productMapper = ProductMapper.INSTANCE;
+
+    // Mismo ObjectMapper que configura Spring Boot por defecto
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Param({"5", "20", "100"})
+    private int pageSize;
+
+    private Page<ProductGenericProjection> page;
+    private List<ProductGenericResponseDto> data;
+    private CustomPaginationData<ProductGenericResponseDto, Product> paginationData;
+    private CustomResponse<ProductGenericResponseDto, CustomPageMetadata> response;
+
+    @Setup
+    public void setup() {
+        page = new PageImpl<>(
+                BenchmarkData.productProjections(pageSize),
+                PageRequest.of(3, pageSize, Sort.by("id")),
+                TOTAL_ELEMENTS);
+
+        data = page.stream()
+                .map(productMapper::toGenericResponseDto)
+                .toList();
+
+        paginationData = new CustomPaginationData<>(data, page);
+
+        response = ResponseHandler.sendResponse(
+                HttpStatus.OK, MessageConstants.FOUND_PRODUCTS, paginationData.getData(), paginationData.getMetadata()
+        ).getBody();
+    }
+
+    @Benchmark
+    public CustomPaginationData<ProductGenericResponseDto, Product> paginationData() {
+        return new CustomPaginationData<>(data, page);
+    }
+
+    @Benchmark
+    public ResponseEntity<CustomResponse<ProductGenericResponseDto, CustomPageMetadata>> sendResponse() {
+        return ResponseHandler.sendResponse(
+                HttpStatus.OK, MessageConstants.FOUND_PRODUCTS, paginationData.getData(), paginationData.getMetadata()
+        );
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    /**
+     * Recorrido completo desde la página del DAO hasta los bytes de la respuesta
+     */
+    @Benchmark
+    public byte[] pageToBytes() throws JsonProcessingException {
+        List<ProductGenericResponseDto> products = page.stream()
+                .map(productMapper::toGenericResponseDto)
+                .toList();
+
+        CustomPaginationData<ProductGenericResponseDto, Product> productsData =
+                new CustomPaginationData<>(products, page);
+
+        return objectMapper.writeValueAsBytes(ResponseHandler.sendResponse(
+                HttpStatus.OK, MessageConstants.FOUND_PRODUCTS, productsData.getData(), productsData.getMetadata()
+        ).getBody());
+    }
+}
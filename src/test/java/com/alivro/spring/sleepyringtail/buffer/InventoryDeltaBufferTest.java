@@ -0,0 +1,191 @@
+package com.alivro.spring.sleepyringtail.buffer;
+
+import com.alivro.spring.sleepyringtail.cache.BarcodeCache;
+import com.alivro.spring.sleepyringtail.dao.InventoryBatchDao;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class InventoryDeltaBufferTest {
+    @Mock
+    private InventoryBatchDao inventoryBatchDao;
+
+    @Mock
+    private BarcodeCache barcodeCache;
+
+    @TempDir
+    private Path directory;
+
+    private Path journal;
+    private InventoryDeltaBuffer deltaBuffer;
+
+    @BeforeEach
+    public void setup() {
+        journal = directory.resolve("inventory.journal");
+        deltaBuffer = new InventoryDeltaBuffer(inventoryBatchDao, barcodeCache, true, 1000, journal.toString());
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        deltaBuffer.close();
+    }
+
+    @Test
+    public void add_EnoughStock_Return_QuantityWithPendingDeltas() throws IOException {
+        // Given
+        deltaBuffer.open();
+
+        // When
+        long first = deltaBuffer.read(() -> deltaBuffer.add(1, 10, -3));
+        long second = deltaBuffer.read(() -> deltaBuffer.add(1, 10, -4));
+
+        // Then
+        assertThat(first).isEqualTo(7);
+        assertThat(second).isEqualTo(3);
+        assertThat(deltaBuffer.pending(1)).isEqualTo(-7);
+        assertThat(Files.readAllLines(journal)).containsExactly("1 1 -3", "2 1 -4");
+    }
+
+    @Test
+    public void add_InsufficientStock_Return_Rejected() throws IOException {
+        // Given
+        deltaBuffer.open();
+        deltaBuffer.read(() -> deltaBuffer.add(1, 10, -8));
+
+        // When
+        long rejected = deltaBuffer.read(() -> deltaBuffer.add(1, 10, -3));
+
+        // Then
+        assertThat(rejected).isEqualTo(-1);
+        assertThat(deltaBuffer.pending(1)).isEqualTo(-8);
+        assertThat(Files.readAllLines(journal)).containsExactly("1 1 -8");
+    }
+
+    @Test
+    public void flush_PendingDeltas_ApplyBatchAndTruncateJournal() throws IOException {
+        // Given
+        deltaBuffer.open();
+        deltaBuffer.read(() -> deltaBuffer.add(2, 10, -1));
+        deltaBuffer.read(() -> deltaBuffer.add(1, 10, 5));
+        deltaBuffer.read(() -> deltaBuffer.add(2, 10, -1));
+
+        given(inventoryBatchDao.applyQuantitiesByProduct(Map.of(1, 5L, 2, -2L), journal.toString(), 3))
+                .willReturn(new int[]{1, 1});
+
+        // When
+        deltaBuffer.flush();
+
+        // Then
+        assertThat(deltaBuffer.pending(1)).isZero();
+        assertThat(deltaBuffer.pending(2)).isZero();
+        assertThat(Files.size(journal)).isZero();
+
+        verify(barcodeCache, times(1)).invalidateProducts(Set.of(1, 2));
+    }
+
+    @Test
+    public void flush_BatchFails_KeepPendingDeltas() throws IOException {
+        // Given
+        deltaBuffer.open();
+        deltaBuffer.read(() -> deltaBuffer.add(1, 10, -4));
+
+        given(inventoryBatchDao.applyQuantitiesByProduct(anyMap(), anyString(), anyLong()))
+                .willThrow(new IllegalStateException("Conexión cerrada"));
+
+        // When
+        deltaBuffer.flush();
+
+        // Then
+        assertThat(deltaBuffer.pending(1)).isEqualTo(-4);
+        assertThat(Files.readAllLines(journal)).containsExactly("1 1 -4");
+    }
+
+    @Test
+    public void exclusive_PendingDeltas_FlushBeforeWrite() throws IOException {
+        // Given
+        deltaBuffer.open();
+        deltaBuffer.read(() -> deltaBuffer.add(1, 10, -4));
+
+        given(inventoryBatchDao.applyQuantitiesByProduct(Map.of(1, -4L), journal.toString(), 1))
+                .willReturn(new int[]{1});
+
+        // When
+        long pendingDuringWrite = deltaBuffer.exclusive(() -> deltaBuffer.pending(1));
+
+        // Then
+        assertThat(pendingDuringWrite).isZero();
+        assertThat(Files.size(journal)).isZero();
+    }
+
+    @Test
+    public void exclusive_FlushFails_Throw_AndSkipWrite() throws IOException {
+        // Given
+        deltaBuffer.open();
+        deltaBuffer.read(() -> deltaBuffer.add(1, 10, -4));
+
+        given(inventoryBatchDao.applyQuantitiesByProduct(anyMap(), anyString(), anyLong()))
+                .willThrow(new IllegalStateException("Conexión cerrada"));
+
+        AtomicBoolean written = new AtomicBoolean();
+
+        // When
+        assertThatThrownBy(() -> deltaBuffer.exclusive(() -> written.getAndSet(true)))
+                .isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertThat(written).isFalse();
+        assertThat(deltaBuffer.pending(1)).isEqualTo(-4);
+    }
+
+    @Test
+    public void open_JournalWithUnappliedRecords_Apply_RecordsAfterCheckpoint() throws IOException {
+        // Given
+        Files.writeString(journal, "1 1 -3\n2 1 -4\n3 2 6\n4 1 -1\n5 2");
+
+        given(inventoryBatchDao.findCheckpoint(journal.toString())).willReturn(2L);
+
+        // When
+        deltaBuffer.open();
+
+        // Then
+        verify(inventoryBatchDao, times(1))
+                .applyQuantitiesByProduct(Map.of(1, -1L, 2, 6L), journal.toString(), 4);
+        assertThat(Files.size(journal)).isZero();
+
+        // Los nuevos registros continúan la secuencia
+        deltaBuffer.read(() -> deltaBuffer.add(1, 10, -1));
+
+        assertThat(Files.readAllLines(journal)).containsExactly("5 1 -1");
+    }
+
+    @Test
+    public void open_EmptyJournal_NotApply() throws IOException {
+        // When
+        deltaBuffer.open();
+
+        // Then
+        verify(inventoryBatchDao, never()).applyQuantitiesByProduct(anyMap(), anyString(), anyLong());
+    }
+}
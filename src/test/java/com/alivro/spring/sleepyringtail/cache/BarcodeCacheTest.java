@@ -0,0 +1,96 @@
+package com.alivro.spring.sleepyringtail.cache;
+
+import com.alivro.spring.sleepyringtail.model.product.response.ProductGetResponseDto;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BarcodeCacheTest {
+    private final BarcodeCache barcodeCache = new BarcodeCache();
+
+    @Test
+    public void get_CachedBarcode_Return_CachedProduct() {
+        // Given
+        ProductGetResponseDto product = product(1, "7501030459941");
+
+        barcodeCache.put(product, barcodeCache.version());
+
+        // When
+        ProductGetResponseDto cachedProduct = barcodeCache.get("7501030459941");
+
+        // Then
+        assertThat(cachedProduct).isSameAs(product);
+    }
+
+    @Test
+    public void get_LeadingZeroBarcode_Return_Null() {
+        // Given
+        barcodeCache.put(product(1, "12345678"), barcodeCache.version());
+
+        // When
+        ProductGetResponseDto cachedProduct = barcodeCache.get("012345678");
+
+        // Then
+        assertThat(cachedProduct).isNull();
+    }
+
+    @Test
+    public void put_NonNumericBarcode_Return_Null() {
+        // Given
+        barcodeCache.put(product(1, "ABC-123"), barcodeCache.version());
+
+        // When
+        ProductGetResponseDto cachedProduct = barcodeCache.get("ABC-123");
+
+        // Then
+        assertThat(cachedProduct).isNull();
+    }
+
+    @Test
+    public void put_InvalidatedSinceRead_Return_Null() {
+        // Given
+        long readVersion = barcodeCache.version();
+
+        barcodeCache.invalidate("7501030459941");
+        barcodeCache.put(product(1, "7501030459941"), readVersion);
+
+        // When
+        ProductGetResponseDto cachedProduct = barcodeCache.get("7501030459941");
+
+        // Then
+        assertThat(cachedProduct).isNull();
+    }
+
+    @Test
+    public void invalidate_CachedBarcode_Return_Null() {
+        // Given
+        barcodeCache.put(product(1, "7501030459941"), barcodeCache.version());
+
+        // When
+        barcodeCache.invalidate("7501030459941");
+
+        // Then
+        assertThat(barcodeCache.get("7501030459941")).isNull();
+    }
+
+    @Test
+    public void invalidateProduct_CachedProduct_Return_Null() {
+        // Given
+        barcodeCache.put(product(1, "7501030459941"), barcodeCache.version());
+        barcodeCache.put(product(2, "7501086801046"), barcodeCache.version());
+
+        // When
+        barcodeCache.invalidateProduct(1);
+
+        // Then
+        assertThat(barcodeCache.get("7501030459941")).isNull();
+        assertThat(barcodeCache.get("7501086801046")).isNotNull();
+    }
+
+    private static ProductGetResponseDto product(Integer id, String barcode) {
+        return ProductGetResponseDto.builder()
+                .id(id)
+                .barcode(barcode)
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.alivro.spring.sleepyringtail.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BloomFilterTest {
+    @Test
+    public void mightContain_AddedValues_Return_True() {
+        // Given
+        BloomFilter bloomFilter = new BloomFilter(1000, 0.01);
+
+        for (int i = 0; i < 1000; i++) {
+            bloomFilter.add("75010304" + i);
+        }
+
+        // When / Then
+        for (int i = 0; i < 1000; i++) {
+            assertThat(bloomFilter.mightContain("75010304" + i)).isTrue();
+        }
+    }
+
+    @Test
+    public void mightContain_NonAddedValues_Return_FalseExceptFewFalsePositives() {
+        // Given
+        BloomFilter bloomFilter = new BloomFilter(1000, 0.01);
+
+        for (int i = 0; i < 1000; i++) {
+            bloomFilter.add("Categoría " + i);
+        }
+
+        // When
+        int falsePositives = 0;
+
+        for (int i = 0; i < 10_000; i++) {
+            if (bloomFilter.mightContain("Subcategoría " + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertThat(falsePositives).isLessThan(300);
+    }
+}
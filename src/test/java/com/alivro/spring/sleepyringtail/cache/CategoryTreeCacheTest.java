@@ -0,0 +1,95 @@
+package com.alivro.spring.sleepyringtail.cache;
+
+import com.alivro.spring.sleepyringtail.dao.CategoryDao;
+import com.alivro.spring.sleepyringtail.model.category.projection.CategoryTreeProjection;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class CategoryTreeCacheTest {
+    @Mock
+    private CategoryDao categoryDao;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private CategoryTreeCache categoryTreeCache;
+
+    @BeforeEach
+    public void setup() {
+        categoryTreeCache = new CategoryTreeCache(categoryDao, objectMapper);
+    }
+
+    @Test
+    public void get_Rows_Return_TreeGroupedByCategory() throws IOException {
+        // Given
+        given(categoryDao.findTree()).willReturn(List.of(
+                new CategoryTreeProjection(1, "Bebidas", 1, "Agua natural", 3L),
+                new CategoryTreeProjection(1, "Bebidas", 2, "Refrescos", 4L),
+                new CategoryTreeProjection(2, "Vinos", null, null, 0L)
+        ));
+
+        // When
+        CategoryTreeCache.Snapshot tree = categoryTreeCache.get();
+
+        // Then
+        JsonNode data = objectMapper.readTree(tree.body()).get("data");
+
+        assertThat(data).hasSize(2);
+        assertThat(data.get(0).get("name").asText()).isEqualTo("Bebidas");
+        assertThat(data.get(0).get("productCount").asLong()).isEqualTo(7);
+        assertThat(data.get(0).get("subcategories")).hasSize(2);
+        assertThat(data.get(0).get("subcategories").get(1).get("productCount").asLong()).isEqualTo(4);
+        assertThat(data.get(1).get("productCount").asLong()).isZero();
+        assertThat(data.get(1).get("subcategories")).isEmpty();
+        assertThat(tree.etag()).matches("\"[0-9a-f]{32}\"");
+    }
+
+    @Test
+    public void get_NoChanges_Return_SameSnapshot() {
+        // Given
+        given(categoryDao.findTree()).willReturn(List.of(
+                new CategoryTreeProjection(1, "Bebidas", 1, "Agua natural", 3L)
+        ));
+
+        CategoryTreeCache.Snapshot first = categoryTreeCache.get();
+
+        // When
+        CategoryTreeCache.Snapshot second = categoryTreeCache.get();
+
+        // Then
+        assertThat(second).isSameAs(first);
+        verify(categoryDao, times(1)).findTree();
+    }
+
+    @Test
+    public void get_AfterInvalidate_Return_RebuiltSnapshot() {
+        // Given
+        given(categoryDao.findTree())
+                .willReturn(List.of(new CategoryTreeProjection(1, "Bebidas", 1, "Agua natural", 3L)))
+                .willReturn(List.of(new CategoryTreeProjection(1, "Bebidas", 1, "Agua natural", 4L)));
+
+        CategoryTreeCache.Snapshot first = categoryTreeCache.get();
+
+        // When
+        categoryTreeCache.invalidate();
+        CategoryTreeCache.Snapshot second = categoryTreeCache.get();
+
+        // Then
+        assertThat(second.version()).isGreaterThan(first.version());
+        assertThat(second.etag()).isNotEqualTo(first.etag());
+        verify(categoryDao, times(2)).findTree();
+    }
+}
@@ -0,0 +1,115 @@
+package com.alivro.spring.sleepyringtail.concurrency;
+
+import com.alivro.spring.sleepyringtail.constants.MessageConstants;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RequestLimitFilterTest {
+    private RequestLimitFilter requestLimitFilter;
+
+    @BeforeEach
+    public void setup() {
+        // Una conexión con dos peticiones por conexión: dos permisos
+        requestLimitFilter = new RequestLimitFilter(1, 2, 10, new ObjectMapper());
+    }
+
+    @Test
+    public void doFilter_PermitAvailable_Continue_AndReleasePermit() throws Exception {
+        // Given
+        AtomicInteger permitsDuringRequest = new AtomicInteger();
+
+        // When
+        requestLimitFilter.doFilter(request(), new MockHttpServletResponse(), (request, response) ->
+                permitsDuringRequest.set(requestLimitFilter.availablePermits()));
+
+        // Then
+        assertThat(permitsDuringRequest.get()).isEqualTo(1);
+        assertThat(requestLimitFilter.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    public void doFilter_NoPermitAvailable_Return_ServiceUnavailable() throws Exception {
+        // Given
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+
+        // When
+        requestLimitFilter.doFilter(request(), new MockHttpServletResponse(), (first, firstResponse) ->
+                requestLimitFilter.doFilter(request(), new MockHttpServletResponse(), (second, secondResponse) ->
+                        requestLimitFilter.doFilter(request(), rejected, (third, thirdResponse) -> {
+                        })));
+
+        // Then
+        assertThat(rejected.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(rejected.getContentAsString()).contains(MessageConstants.REQUEST_LIMIT_EXCEEDED);
+        assertThat(requestLimitFilter.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    public void doFilter_AsyncRequest_KeepPermit_UntilComplete() throws Exception {
+        // Given
+        MockHttpServletRequest request = request();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        requestLimitFilter.doFilter(request, response, (asyncRequest, asyncResponse) ->
+                asyncRequest.startAsync());
+
+        // Then
+        assertThat(requestLimitFilter.availablePermits()).isEqualTo(1);
+
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+
+        assertThat(requestLimitFilter.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    public void doFilter_EventStreamRequest_NotTakePermit() throws Exception {
+        // Given
+        MockHttpServletRequest request = request();
+        request.addHeader("Accept", "text/event-stream");
+
+        AtomicInteger permitsDuringRequest = new AtomicInteger();
+
+        // When
+        requestLimitFilter.doFilter(request, new MockHttpServletResponse(), (asyncRequest, asyncResponse) -> {
+            asyncRequest.startAsync();
+            permitsDuringRequest.set(requestLimitFilter.availablePermits());
+        });
+
+        // Then
+        assertThat(permitsDuringRequest.get()).isEqualTo(2);
+        assertThat(requestLimitFilter.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    public void doFilter_EventStreamResponse_ReleasePermit_WhenStreamStarts() throws Exception {
+        // Given
+        MockHttpServletRequest request = request();
+
+        // When
+        requestLimitFilter.doFilter(request, new MockHttpServletResponse(), (asyncRequest, asyncResponse) -> {
+            asyncResponse.setContentType("text/event-stream");
+            asyncRequest.startAsync();
+        });
+
+        // Then
+        assertThat(requestLimitFilter.availablePermits()).isEqualTo(2);
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/product/getAll");
+        request.setAsyncSupported(true);
+
+        return request;
+    }
+}
@@ -0,0 +1,39 @@
+package com.alivro.spring.sleepyringtail.controller;
+
+import com.alivro.spring.sleepyringtail.constants.MessageConstants;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext
+public class CacheControllerTest {
+    @Autowired
+    MockMvc mockMvc;
+
+    // URL
+    private static final String url = "/api/v1/cache";
+
+    @Test
+    public void getStatistics_Return_IsOkWithTaxonomyRegions() throws Exception {
+        // When
+        ResultActions response = mockMvc.perform(get(url + "/statistics"));
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message",
+                        CoreMatchers.is(MessageConstants.FOUND_CACHE_STATISTICS)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[*].region", containsInAnyOrder(
+                        "taxonomy-category", "taxonomy-category-subcategories", "taxonomy-subcategory")));
+    }
+}
@@ -7,6 +7,7 @@ import com.alivro.spring.sleepyringtail.model.Category;
 import com.alivro.spring.sleepyringtail.model.category.request.CategoryGenericRequestDto;
 import com.alivro.spring.sleepyringtail.model.category.response.CategoryGenericResponseDto;
 import com.alivro.spring.sleepyringtail.model.category.response.CategoryGetResponseDto;
+import com.alivro.spring.sleepyringtail.model.category.response.SerializedCategoryTreeResponseDto;
 import com.alivro.spring.sleepyringtail.model.util.response.SubcategoryResponseDto;
 import com.alivro.spring.sleepyringtail.service.ICategoryService;
 import com.alivro.spring.sleepyringtail.util.pagination.CustomPageMetadata;
@@ -28,6 +29,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -143,7 +145,7 @@ public class CategoryControllerTest {
                 .pageSize(pageSize)
                 .numberOfElements(foundCategories.size())
                 .totalPages((int) Math.ceil((double) foundCategories.size() / pageSize))
-                .totalElements(foundCategories.size())
+                .totalElements((long) foundCategories.size())
                 .build();
 
         given(categoryService.findAll(pageable)).willReturn(
@@ -204,7 +206,7 @@ public class CategoryControllerTest {
                 .pageSize(pageSize)
                 .numberOfElements(0)
                 .totalPages(0)
-                .totalElements(0)
+                .totalElements(0L)
                 .build();
 
         given(categoryService.findAll(pageable)).willReturn(
@@ -256,7 +258,7 @@ public class CategoryControllerTest {
                 .pageSize(pageSize)
                 .numberOfElements(foundCategories.size())
                 .totalPages((int) Math.ceil((double) foundCategories.size() / pageSize))
-                .totalElements(foundCategories.size())
+                .totalElements((long) foundCategories.size())
                 .build();
 
         given(categoryService.findAllByName(word, pageable)).willReturn(
@@ -314,7 +316,7 @@ public class CategoryControllerTest {
                 .pageSize(pageSize)
                 .numberOfElements(0)
                 .totalPages(0)
-                .totalElements(0)
+                .totalElements(0L)
                 .build();
 
         given(categoryService.findAllByName(word, pageable)).willReturn(
@@ -346,6 +348,42 @@ public class CategoryControllerTest {
                         CoreMatchers.is(0)));
     }
 
+    @Test
+    public void getTree_NoETag_Return_IsOkWithETag() throws Exception {
+        //Given
+        String body = "{\"status\":200,\"data\":[{\"id\":1,\"name\":\"Bebidas\",\"productCount\":3}]}";
+
+        given(categoryService.findTree()).willReturn(
+                new SerializedCategoryTreeResponseDto(body.getBytes(StandardCharsets.UTF_8), "\"abc\""));
+
+        // When
+        ResultActions response = mockMvc.perform(get(url + "/tree"));
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("ETag", "\"abc\""))
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].name",
+                        CoreMatchers.is("Bebidas")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].productCount")
+                        .value(3));
+    }
+
+    @Test
+    public void getTree_MatchingETag_Return_IsNotModified() throws Exception {
+        //Given
+        given(categoryService.findTree()).willReturn(
+                new SerializedCategoryTreeResponseDto("{}".getBytes(StandardCharsets.UTF_8), "\"abc\""));
+
+        // When
+        ResultActions response = mockMvc.perform(get(url + "/tree")
+                .header("If-None-Match", "\"abc\""));
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.content().string(""));
+    }
+
     @Test
     public void get_ExistingCategory_Return_IsOk() throws Exception {
         //Given
@@ -3,9 +3,18 @@ package com.alivro.spring.sleepyringtail.controller;
 import com.alivro.spring.sleepyringtail.constants.MessageConstants;
 import com.alivro.spring.sleepyringtail.exception.DataAlreadyExistsException;
 import com.alivro.spring.sleepyringtail.exception.DataNotFoundException;
+import com.alivro.spring.sleepyringtail.exception.InsufficientStockException;
 import com.alivro.spring.sleepyringtail.model.Inventory;
+import com.alivro.spring.sleepyringtail.model.InventoryMovement;
+import com.alivro.spring.sleepyringtail.model.MovementType;
+import com.alivro.spring.sleepyringtail.model.inventory.request.InventoryAdjustRequestDto;
+import com.alivro.spring.sleepyringtail.model.inventory.request.InventoryBasketLineDto;
+import com.alivro.spring.sleepyringtail.model.inventory.request.InventoryBasketRequestDto;
 import com.alivro.spring.sleepyringtail.model.inventory.request.InventoryGenericRequestDto;
+import com.alivro.spring.sleepyringtail.model.inventory.response.InventoryAdjustResponseDto;
 import com.alivro.spring.sleepyringtail.model.inventory.response.InventoryGenericResponseDto;
+import com.alivro.spring.sleepyringtail.model.inventory.response.InventoryMovementResponseDto;
+import com.alivro.spring.sleepyringtail.model.inventory.response.InventoryStockResponseDto;
 import com.alivro.spring.sleepyringtail.model.util.request.ProductRequestDto;
 import com.alivro.spring.sleepyringtail.model.util.response.ProductResponseDto;
 import com.alivro.spring.sleepyringtail.service.IInventoryService;
@@ -27,7 +36,9 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -96,33 +107,33 @@ public class InventoryControllerTest {
 
         ardillasSaladasResponse = InventoryGenericResponseDto.builder()
                 .id(1)
-                .quantityAvailable((short) 322)
-                .minimumStock((short) 250)
-                .maximumStock((short) 625)
+                .quantityAvailable(322)
+                .minimumStock(250)
+                .maximumStock(625)
                 .product(ardillasSaladasProduct)
                 .build();
 
         estrellaMarinaResponse = InventoryGenericResponseDto.builder()
                 .id(2)
-                .quantityAvailable((short) 202)
-                .minimumStock((short) 120)
-                .maximumStock((short) 300)
+                .quantityAvailable(202)
+                .minimumStock(120)
+                .maximumStock(300)
                 .product(estrellaMarinaProduct)
                 .build();
 
         osoAlmendradoResponse = InventoryGenericResponseDto.builder()
                 .id(3)
-                .quantityAvailable((short) 271)
-                .minimumStock((short) 230)
-                .maximumStock((short) 575)
+                .quantityAvailable(271)
+                .minimumStock(230)
+                .maximumStock(575)
                 .product(osoAlmendradoProduct)
                 .build();
 
         vacaNapolitanaResponse = InventoryGenericResponseDto.builder()
                 .id(4)
-                .quantityAvailable((short) 113)
-                .minimumStock((short) 70)
-                .maximumStock((short) 175)
+                .quantityAvailable(113)
+                .minimumStock(70)
+                .maximumStock(175)
                 .product(vacaNapolitanaProduct)
                 .build();
 
@@ -133,9 +144,9 @@ public class InventoryControllerTest {
                 .build();
 
         vacaChocolateSaveRequest = InventoryGenericRequestDto.builder()
-                .quantityAvailable((short) 55)
-                .minimumStock((short) 10)
-                .maximumStock((short) 150)
+                .quantityAvailable(55)
+                .minimumStock(10)
+                .maximumStock(150)
                 .product(vacaChocolateProductRequest)
                 .build();
 
@@ -143,16 +154,16 @@ public class InventoryControllerTest {
 
         // Guardar el stock de un nuevo producto (información incompleta)
         vacaVainillaIncompleteRequest = InventoryGenericRequestDto.builder()
-                .quantityAvailable((short) 120)
-                .minimumStock((short) 80)
-                .maximumStock((short) 200)
+                .quantityAvailable(120)
+                .minimumStock(80)
+                .maximumStock(200)
                 .build();
 
         // Actualizar el stock de un producto existente
         vacaChocolateUpdateRequest = InventoryGenericRequestDto.builder()
-                .quantityAvailable((short) 150)
-                .minimumStock((short) 100)
-                .maximumStock((short) 250)
+                .quantityAvailable(150)
+                .minimumStock(100)
+                .maximumStock(250)
                 .product(vacaChocolateProductRequest)
                 .build();
 
@@ -180,7 +191,7 @@ public class InventoryControllerTest {
                 .pageSize(pageSize)
                 .numberOfElements(foundInventory.size())
                 .totalPages((int) Math.ceil((double) foundInventory.size() / pageSize))
-                .totalElements(foundInventory.size())
+                .totalElements((long) foundInventory.size())
                 .build();
 
         given(inventoryService.findAll(pageable)).willReturn(
@@ -241,7 +252,7 @@ public class InventoryControllerTest {
                 .pageSize(pageSize)
                 .numberOfElements(0)
                 .totalPages(0)
-                .totalElements(0)
+                .totalElements(0L)
                 .build();
 
         given(inventoryService.findAll(pageable)).willReturn(
@@ -352,6 +363,38 @@ public class InventoryControllerTest {
                         CoreMatchers.is("Vaca de Chocolate")));
     }
 
+    @Test
+    public void save_QuantityAboveShortRange_Return_IsCreated() throws Exception {
+        // Given
+        InventoryGenericRequestDto bulkRequest = InventoryGenericRequestDto.builder()
+                .quantityAvailable(48_000)
+                .minimumStock(10_000)
+                .maximumStock(60_000)
+                .product(vacaChocolateSaveRequest.getProduct())
+                .build();
+        InventoryGenericResponseDto bulkResponse = InventoryGenericResponseDto.builder()
+                .id(5)
+                .quantityAvailable(48_000)
+                .minimumStock(10_000)
+                .maximumStock(60_000)
+                .product(vacaChocolateSavedResponse.getProduct())
+                .build();
+
+        given(inventoryService.save(bulkRequest)).willReturn(bulkResponse);
+
+        // When
+        ResultActions response = mockMvc.perform(post(url + "/save")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(bulkRequest)));
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].quantityAvailable",
+                        CoreMatchers.is(48_000)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].maximumStock",
+                        CoreMatchers.is(60_000)));
+    }
+
     @Test
     public void save_ExistingInventory_Return_IsConflict() throws Exception {
         // Given
@@ -429,6 +472,200 @@ public class InventoryControllerTest {
                         CoreMatchers.is(MessageConstants.INVENTORY_NOT_FOUND)));
     }
 
+    @Test
+    public void adjust_EnoughStock_Return_IsOk() throws Exception {
+        // Given
+        InventoryAdjustRequestDto sale = new InventoryAdjustRequestDto(-2);
+
+        given(inventoryService.adjust(1, sale)).willReturn(new InventoryAdjustResponseDto(1, 1, 320));
+
+        // When
+        ResultActions response = mockMvc.perform(post(url + "/{id}/adjust", 1)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(sale)));
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message",
+                        CoreMatchers.is(MessageConstants.ADJUSTED_INVENTORY)));
+
+        response.andExpect(MockMvcResultMatchers.jsonPath("$.data[0].productId",
+                        CoreMatchers.is(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].quantityAvailable",
+                        CoreMatchers.is(320)));
+    }
+
+    @Test
+    public void adjust_InsufficientStock_Return_IsConflict() throws Exception {
+        // Given
+        given(inventoryService.adjust(anyInt(), any(InventoryAdjustRequestDto.class)))
+                .willThrow(new InsufficientStockException(MessageConstants.INSUFFICIENT_STOCK));
+
+        // When
+        ResultActions response = mockMvc.perform(post(url + "/{id}/adjust", 1)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new InventoryAdjustRequestDto(-500))));
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isConflict())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[0]",
+                        CoreMatchers.is(MessageConstants.INSUFFICIENT_STOCK)));
+    }
+
+    @Test
+    public void adjust_MissingDelta_Return_IsBadRequest() throws Exception {
+        // When
+        ResultActions response = mockMvc.perform(post(url + "/{id}/adjust", 1)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new InventoryAdjustRequestDto())));
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[0]",
+                        CoreMatchers.is("delta: El campo cantidad es obligatorio.")));
+    }
+
+    @Test
+    public void adjustBasket_EnoughStock_Return_IsOk() throws Exception {
+        // Given
+        InventoryBasketRequestDto basket = new InventoryBasketRequestDto(List.of(
+                new InventoryBasketLineDto(1, -2),
+                new InventoryBasketLineDto(2, -1)
+        ));
+
+        given(inventoryService.adjustBasket(basket))
+                .willReturn(List.of(ardillasSaladasResponse, estrellaMarinaResponse));
+
+        // When
+        ResultActions response = mockMvc.perform(post(url + "/basket")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(basket)));
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message",
+                        CoreMatchers.is(MessageConstants.ADJUSTED_BASKET)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data", hasSize(2)));
+
+        response.andExpect(MockMvcResultMatchers.jsonPath("$.data[0].product.id",
+                        CoreMatchers.is(ardillasSaladasResponse.getProduct().getId())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[1].product.id",
+                        CoreMatchers.is(estrellaMarinaResponse.getProduct().getId())));
+    }
+
+    @Test
+    public void adjustBasket_InsufficientStock_Return_IsConflict() throws Exception {
+        // Given
+        String message = MessageConstants.INSUFFICIENT_STOCK + " " + MessageConstants.ID + ": [2]";
+
+        given(inventoryService.adjustBasket(any(InventoryBasketRequestDto.class)))
+                .willThrow(new InsufficientStockException(message));
+
+        // When
+        ResultActions response = mockMvc.perform(post(url + "/basket")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new InventoryBasketRequestDto(List.of(
+                        new InventoryBasketLineDto(2, -500))))));
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isConflict())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[0]", CoreMatchers.is(message)));
+    }
+
+    @Test
+    public void adjustBasket_EmptyBasket_Return_IsBadRequest() throws Exception {
+        // When
+        ResultActions response = mockMvc.perform(post(url + "/basket")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new InventoryBasketRequestDto(List.of()))));
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[0]",
+                        CoreMatchers.is("lines: El campo líneas es obligatorio.")));
+    }
+
+    @Test
+    public void getLowStock_ExistingInventory_Return_IsOk() throws Exception {
+        // Given
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("id").ascending());
+
+        given(inventoryService.findLowStock(pageable)).willReturn(
+                new CustomPaginationData<InventoryGenericResponseDto, Inventory>(
+                        List.of(vacaNapolitanaResponse),
+                        CustomPageMetadata.builder().pageSize(20).hasNext(false).build()));
+
+        // When
+        ResultActions response = mockMvc.perform(get(url + "/lowStock"));
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message",
+                        CoreMatchers.is(MessageConstants.FOUND_LOW_STOCK)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data", hasSize(1)));
+    }
+
+    @Test
+    public void streamStockAlerts_Return_AsyncStarted() throws Exception {
+        // Given
+        given(inventoryService.subscribeStockAlerts()).willReturn(new SseEmitter());
+
+        // When
+        ResultActions response = mockMvc.perform(get(url + "/lowStock/stream")
+                .accept(MediaType.TEXT_EVENT_STREAM));
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.request().asyncStarted());
+    }
+
+    @Test
+    public void getMovements_ExistingProduct_Return_IsOk() throws Exception {
+        // Given
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("id").descending());
+        List<InventoryMovementResponseDto> movements = List.of(
+                new InventoryMovementResponseDto(9L, 1, MovementType.SALE, -2, OffsetDateTime.now()),
+                new InventoryMovementResponseDto(4L, 1, MovementType.RESTOCK, 50, OffsetDateTime.now())
+        );
+
+        given(inventoryService.findMovementsByProductId(1, pageable)).willReturn(
+                new CustomPaginationData<InventoryMovementResponseDto, InventoryMovement>(
+                        movements, CustomPageMetadata.builder().pageSize(20).hasNext(false).build()));
+
+        // When
+        ResultActions response = mockMvc.perform(get(url + "/product/{productId}/movements", 1));
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message",
+                        CoreMatchers.is(MessageConstants.FOUND_INVENTORY_MOVEMENTS)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data", hasSize(2)));
+
+        response.andExpect(MockMvcResultMatchers.jsonPath("$.data[0].type",
+                        CoreMatchers.is("SALE")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].quantity",
+                        CoreMatchers.is(-2)));
+    }
+
+    @Test
+    public void getStockAt_GivenMoment_Return_IsOk() throws Exception {
+        // Given
+        OffsetDateTime at = OffsetDateTime.parse("2026-01-15T10:00:00Z");
+
+        given(inventoryService.findQuantityAt(1, at)).willReturn(new InventoryStockResponseDto(1, 318, at));
+
+        // When
+        ResultActions response = mockMvc.perform(get(url + "/product/{productId}/stock", 1)
+                .param("at", "2026-01-15T10:00:00Z"));
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message",
+                        CoreMatchers.is(MessageConstants.FOUND_STOCK_AT)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].quantityAvailable",
+                        CoreMatchers.is(318)));
+    }
+
     @Test
     public void delete_Inventory_Return_IsOk() throws Exception {
         // Given
@@ -3,14 +3,25 @@ package com.alivro.spring.sleepyringtail.controller;
 import com.alivro.spring.sleepyringtail.constants.MessageConstants;
 import com.alivro.spring.sleepyringtail.exception.DataAlreadyExistsException;
 import com.alivro.spring.sleepyringtail.exception.DataNotFoundException;
+import com.alivro.spring.sleepyringtail.exception.DataNotValidException;
 import com.alivro.spring.sleepyringtail.model.Product;
+import com.alivro.spring.sleepyringtail.model.product.request.ProductExportFormat;
 import com.alivro.spring.sleepyringtail.model.product.request.ProductGenericRequestDto;
+import com.alivro.spring.sleepyringtail.model.product.request.ProductImportFormat;
+import com.alivro.spring.sleepyringtail.model.product.request.ProductImportMode;
 import com.alivro.spring.sleepyringtail.model.product.response.ProductGenericResponseDto;
 import com.alivro.spring.sleepyringtail.model.product.response.ProductGetResponseDto;
+import com.alivro.spring.sleepyringtail.model.product.response.ProductImportErrorResponseDto;
+import com.alivro.spring.sleepyringtail.model.product.response.ProductImportResponseDto;
+import com.alivro.spring.sleepyringtail.model.suggestion.response.SuggestionResponseDto;
 import com.alivro.spring.sleepyringtail.model.util.request.SubcategoryRequestDto;
 import com.alivro.spring.sleepyringtail.model.util.response.InventoryResponseDto;
 import com.alivro.spring.sleepyringtail.model.util.response.SubcategoryResponseDto;
+import com.alivro.spring.sleepyringtail.search.SuggestionType;
+import com.alivro.spring.sleepyringtail.service.IProductExportService;
+import com.alivro.spring.sleepyringtail.service.IProductImportService;
 import com.alivro.spring.sleepyringtail.service.IProductService;
+import com.alivro.spring.sleepyringtail.util.pagination.CustomCursor;
 import com.alivro.spring.sleepyringtail.util.pagination.CustomPageMetadata;
 import com.alivro.spring.sleepyringtail.util.pagination.CustomPaginationData;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -21,6 +32,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -30,13 +42,18 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -51,6 +68,12 @@ public class ProductControllerTest {
     @MockBean
     private IProductService productService;
 
+    @MockBean
+    private IProductImportService productImportService;
+
+    @MockBean
+    private IProductExportService productExportService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -143,7 +166,7 @@ public class ProductControllerTest {
         // Buscar por ID
         InventoryResponseDto inventoryProduct = InventoryResponseDto.builder()
                 .id(1)
-                .quantityAvailable((short) 322)
+                .quantityAvailable(322)
                 .build();
 
         ardillasSaladasGetResponse = ProductGetResponseDto.builder()
@@ -222,7 +245,7 @@ public class ProductControllerTest {
                 .pageSize(pageSize)
                 .numberOfElements(foundProducts.size())
                 .totalPages((int) Math.ceil((double) foundProducts.size() / pageSize))
-                .totalElements(foundProducts.size())
+                .totalElements((long) foundProducts.size())
                 .build();
 
         given(productService.findAll(pageable)).willReturn(
@@ -283,7 +306,7 @@ public class ProductControllerTest {
                 .pageSize(pageSize)
                 .numberOfElements(0)
                 .totalPages(0)
-                .totalElements(0)
+                .totalElements(0L)
                 .build();
 
         given(productService.findAll(pageable)).willReturn(
@@ -315,6 +338,95 @@ public class ProductControllerTest {
                         CoreMatchers.is(0)));
     }
 
+    @Test
+    public void suggest_ExistingNames_Return_IsOk() throws Exception {
+        //Given
+        List<SuggestionResponseDto> suggestions = new ArrayList<>();
+        suggestions.add(new SuggestionResponseDto(SuggestionType.CATEGORY, 3, "Helados"));
+        suggestions.add(new SuggestionResponseDto(SuggestionType.SUBCATEGORY, 3, "Helado base leche"));
+
+        given(productService.suggest("hel", 5)).willReturn(suggestions);
+
+        // When
+        ResultActions response = mockMvc.perform(get(url + "/suggest")
+                .param("prefix", "hel")
+                .param("limit", "5")
+        );
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message",
+                        CoreMatchers.is(MessageConstants.FOUND_SUGGESTIONS)));
+
+        response.andExpect(MockMvcResultMatchers.jsonPath("$.data", hasSize(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].type",
+                        CoreMatchers.is("CATEGORY")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[1].name",
+                        CoreMatchers.is("Helado base leche")));
+    }
+
+    @Test
+    public void getAll_AfterCursor_ExistingProducts_Return_IsOk() throws Exception {
+        //Given
+        int pageSize = 2;
+        String cursor = CustomCursor.encode(2);
+        String nextCursor = CustomCursor.encode(4);
+
+        List<ProductGenericResponseDto> foundProducts = new ArrayList<>();
+        foundProducts.add(osoAlmendradoGetAllResponse);
+        foundProducts.add(vacaNapolitanaGetAllResponse);
+
+        given(productService.findAllAfter(cursor, pageSize)).willReturn(
+                new CustomPaginationData<>(foundProducts, pageSize, nextCursor)
+        );
+
+        // When
+        ResultActions response = mockMvc.perform(get(url + "/getAll")
+                .param("after", cursor)
+                .param("size", "2")
+        );
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message",
+                        CoreMatchers.is(MessageConstants.FOUND_PRODUCTS)));
+
+        response.andExpect(MockMvcResultMatchers.jsonPath("$.data", hasSize(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].name",
+                        CoreMatchers.is("Oso Almendrado")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[1].name",
+                        CoreMatchers.is("Vaca Napolitana")));
+
+        response.andExpect(MockMvcResultMatchers.jsonPath("$.metadata.pageSize",
+                        CoreMatchers.is(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.metadata.numberOfElements",
+                        CoreMatchers.is(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.metadata.hasNext",
+                        CoreMatchers.is(true)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.metadata.nextCursor",
+                        CoreMatchers.is(nextCursor)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.metadata.pageNumber").doesNotExist())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.metadata.totalPages").doesNotExist())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.metadata.totalElements").doesNotExist());
+    }
+
+    @Test
+    public void getAll_InvalidCursor_Return_IsBadRequest() throws Exception {
+        //Given
+        given(productService.findAllAfter("no-es-un-cursor", 5))
+                .willThrow(new DataNotValidException(MessageConstants.CURSOR_NOT_VALID));
+
+        // When
+        ResultActions response = mockMvc.perform(get(url + "/getAll")
+                .param("after", "no-es-un-cursor")
+        );
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[0]",
+                        CoreMatchers.is(MessageConstants.CURSOR_NOT_VALID)));
+    }
+
     @Test
     public void getAllByName_OrderByNameAsc_ExistingProducts_Return_IsOk() throws Exception {
         //Given
@@ -335,7 +447,7 @@ public class ProductControllerTest {
                 .pageSize(pageSize)
                 .numberOfElements(foundProducts.size())
                 .totalPages((int) Math.ceil((double) foundProducts.size() / pageSize))
-                .totalElements(foundProducts.size())
+                .totalElements((long) foundProducts.size())
                 .build();
 
         given(productService.findAllByName(word, pageable)).willReturn(
@@ -375,6 +487,60 @@ public class ProductControllerTest {
                         CoreMatchers.is(2)));
     }
 
+    @Test
+    public void getAllByName_WithoutTotal_ExistingProducts_Return_IsOk() throws Exception {
+        //Given
+        String word = "na";
+        int pageNumber = 0;
+        int pageSize = 5;
+        String sortBy = "name";
+        Pageable pageable = PageRequest.ofSize(pageSize)
+                .withPage(pageNumber)
+                .withSort(Sort.by(sortBy).ascending());
+
+        List<ProductGenericResponseDto> foundProducts = new ArrayList<>();
+        foundProducts.add(estrellaMarinaGetAllResponse);
+        foundProducts.add(vacaNapolitanaGetAllResponse);
+
+        CustomPageMetadata metadata = CustomPageMetadata.builder()
+                .pageNumber(pageNumber)
+                .pageSize(pageSize)
+                .numberOfElements(foundProducts.size())
+                .hasNext(false)
+                .build();
+
+        given(productService.findSliceByName(word, pageable)).willReturn(
+                CustomPaginationData.<ProductGenericResponseDto, Product>builder()
+                        .data(foundProducts)
+                        .metadata(metadata)
+                        .build()
+        );
+
+        // When
+        ResultActions response = mockMvc.perform(get(url + "/getAllByName/{word}", "na")
+                .param("withTotal", "false")
+                .param("page", "0")
+                .param("size", "5")
+                .param("sort", "name,asc")
+        );
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message",
+                        CoreMatchers.is(MessageConstants.FOUND_PRODUCTS)));
+
+        response.andExpect(MockMvcResultMatchers.jsonPath("$.data", hasSize(2)));
+
+        response.andExpect(MockMvcResultMatchers.jsonPath("$.metadata.pageNumber",
+                        CoreMatchers.is(0)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.metadata.numberOfElements",
+                        CoreMatchers.is(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.metadata.hasNext",
+                        CoreMatchers.is(false)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.metadata.totalPages").doesNotExist())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.metadata.totalElements").doesNotExist());
+    }
+
     @Test
     public void getAllByName_NoExistingProducts_Return_IsOk() throws Exception {
         //Given
@@ -393,7 +559,7 @@ public class ProductControllerTest {
                 .pageSize(pageSize)
                 .numberOfElements(0)
                 .totalPages(0)
-                .totalElements(0)
+                .totalElements(0L)
                 .build();
 
         given(productService.findAllByName(word, pageable)).willReturn(
@@ -445,7 +611,7 @@ public class ProductControllerTest {
                 .pageSize(pageSize)
                 .numberOfElements(foundProducts.size())
                 .totalPages((int) Math.ceil((double) foundProducts.size() / pageSize))
-                .totalElements(foundProducts.size())
+                .totalElements((long) foundProducts.size())
                 .build();
 
         given(productService.findAllByDescription(word, pageable)).willReturn(
@@ -507,7 +673,7 @@ public class ProductControllerTest {
                 .pageSize(pageSize)
                 .numberOfElements(0)
                 .totalPages(0)
-                .totalElements(0)
+                .totalElements(0L)
                 .build();
 
         given(productService.findAllByDescription(word, pageable)).willReturn(
@@ -594,6 +760,42 @@ public class ProductControllerTest {
         response.andExpect(MockMvcResultMatchers.status().isInternalServerError());
     }
 
+    @Test
+    public void getByBarcode_ExistingProduct_Return_IsOk() throws Exception {
+        //Given
+        given(productService.findByBarcode("7501030459941")).willReturn(ardillasSaladasGetResponse);
+
+        // When
+        ResultActions response = mockMvc.perform(get(url + "/barcode/{barcode}", "7501030459941"));
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message",
+                        CoreMatchers.is(MessageConstants.FOUND_PRODUCT)));
+
+        response.andExpect(MockMvcResultMatchers.jsonPath("$.data[0].id")
+                        .value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].name",
+                        CoreMatchers.is("Ardillas Saladas")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].inventory.quantityAvailable",
+                        CoreMatchers.is(322)));
+    }
+
+    @Test
+    public void getByBarcode_NonExistingProduct_Return_IsNotFound() throws Exception {
+        //Given
+        given(productService.findByBarcode("7500000000000"))
+                .willThrow(new DataNotFoundException(MessageConstants.PRODUCT_NOT_FOUND));
+
+        // When
+        ResultActions response = mockMvc.perform(get(url + "/barcode/{barcode}", "7500000000000"));
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isNotFound())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[0]",
+                        CoreMatchers.is(MessageConstants.PRODUCT_NOT_FOUND)));
+    }
+
     @Test
     public void save_NonExistingProduct_Return_IsCreated() throws Exception {
         // Given
@@ -641,6 +843,23 @@ public class ProductControllerTest {
                         CoreMatchers.is(MessageConstants.PRODUCT_ALREADY_EXISTS)));
     }
 
+    @Test
+    public void save_DuplicatedBarcodeInDatabase_Return_IsConflict() throws Exception {
+        // Given
+        given(productService.save(any(ProductGenericRequestDto.class)))
+                .willThrow(new DataIntegrityViolationException("duplicate key value violates unique constraint"));
+
+        // When
+        ResultActions response = mockMvc.perform(post(url + "/save")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(vacaCocolateSaveRequest)));
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isConflict())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[0]",
+                        CoreMatchers.is(MessageConstants.DATA_INTEGRITY_VIOLATION)));
+    }
+
     @Test
     public void save_IncompleteRequestProduct_Return_IsBadRequest() throws Exception {
         // When
@@ -654,6 +873,113 @@ public class ProductControllerTest {
                         CoreMatchers.is("subcategory: El campo subcategoría es obligatorio.")));
     }
 
+    @Test
+    public void import_NdjsonWithRejectedRecord_Return_ErrorLinesAndSummary() throws Exception {
+        // Given
+        String body = """
+                {"name":"Vaca de Chocolate","size":"1 L","price":48,"barcode":"7506306417786","subcategory":"Helados"}
+                {"name":"Vaca de Vainilla","size":"1 L","price":48.00,"barcode":"750630641","subcategory":"Helados"}
+                """;
+
+        given(productImportService.importProducts(any(), eq(ProductImportFormat.NDJSON),
+                eq(ProductImportMode.BATCH), any()))
+                .willAnswer(invocation -> {
+                    Consumer<ProductImportErrorResponseDto> errors = invocation.getArgument(3);
+
+                    errors.accept(ProductImportErrorResponseDto.builder()
+                            .line(2)
+                            .barcode("750630641")
+                            .errors(List.of(
+                                    "barcode: El campo código de barras debe estar conformado por 13 dígitos."))
+                            .build());
+
+                    return ProductImportResponseDto.builder().read(2).inserted(1).rejected(1).build();
+                });
+
+        // When
+        ResultActions response = mockMvc.perform(post(url + "/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body));
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.request().asyncStarted());
+
+        String report = mockMvc.perform(asyncDispatch(response.andReturn()))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = report.split("\n");
+
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("line").asLong()).isEqualTo(2);
+        assertThat(objectMapper.readTree(lines[1]).get("message").asText())
+                .isEqualTo(MessageConstants.IMPORTED_PRODUCTS);
+        assertThat(objectMapper.readTree(lines[1]).get("data").get(0).get("inserted").asLong()).isEqualTo(1);
+    }
+
+    @Test
+    public void import_CsvCopyMode_Return_Summary() throws Exception {
+        // Given
+        String body = """
+                name,size,price,barcode,subcategory,quantityAvailable,minimumStock,maximumStock
+                Vaca de Chocolate,1 L,48.00,7506306417786,Helados,12,5,20
+                """;
+
+        given(productImportService.importProducts(any(), eq(ProductImportFormat.CSV),
+                eq(ProductImportMode.COPY), any()))
+                .willReturn(ProductImportResponseDto.builder().read(1).updated(1).build());
+
+        // When
+        ResultActions response = mockMvc.perform(post(url + "/import")
+                .param("mode", "COPY")
+                .contentType("text/csv")
+                .content(body));
+
+        // Then
+        String report = mockMvc.perform(asyncDispatch(response.andReturn()))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(objectMapper.readTree(report).get("data").get(0).get("updated").asLong()).isEqualTo(1);
+    }
+
+    @Test
+    public void export_CsvFormat_Return_CsvAttachment() throws Exception {
+        // Given
+        given(productExportService.exportProducts(eq(ProductExportFormat.CSV), any()))
+                .willAnswer(invocation -> {
+                    OutputStream output = invocation.getArgument(1);
+                    output.write("id,name\n5,\"Vaca de Chocolate\"\n".getBytes(StandardCharsets.UTF_8));
+
+                    return 1L;
+                });
+
+        // When
+        ResultActions response = mockMvc.perform(get(url + "/export")
+                .param("format", "CSV"));
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.request().asyncStarted());
+
+        mockMvc.perform(asyncDispatch(response.andReturn()))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType("text/csv"))
+                .andExpect(MockMvcResultMatchers.header().string("Content-Disposition",
+                        "attachment; filename=\"products.csv\""))
+                .andExpect(MockMvcResultMatchers.content().string("id,name\n5,\"Vaca de Chocolate\"\n"));
+    }
+
+    @Test
+    public void import_UnsupportedContentType_Return_IsUnsupportedMediaType() throws Exception {
+        // When
+        ResultActions response = mockMvc.perform(post(url + "/import")
+                .contentType(MediaType.APPLICATION_XML)
+                .content("<products/>"));
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isUnsupportedMediaType());
+    }
+
     @Test
     public void update_ExistingProduct_Return_IsOk() throws Exception {
         // Given
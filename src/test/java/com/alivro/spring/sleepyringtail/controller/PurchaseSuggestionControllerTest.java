@@ -0,0 +1,121 @@
+package com.alivro.spring.sleepyringtail.controller;
+
+import com.alivro.spring.sleepyringtail.constants.MessageConstants;
+import com.alivro.spring.sleepyringtail.exception.DataNotFoundException;
+import com.alivro.spring.sleepyringtail.model.PurchaseSuggestion;
+import com.alivro.spring.sleepyringtail.model.purchase.response.PurchaseSuggestionResponseDto;
+import com.alivro.spring.sleepyringtail.model.purchase.response.PurchaseSuggestionRunResponseDto;
+import com.alivro.spring.sleepyringtail.model.purchase.response.PurchaseSuggestionSummaryResponseDto;
+import com.alivro.spring.sleepyringtail.service.IPurchaseSuggestionService;
+import com.alivro.spring.sleepyringtail.util.pagination.CustomPageMetadata;
+import com.alivro.spring.sleepyringtail.util.pagination.CustomPaginationData;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext
+public class PurchaseSuggestionControllerTest {
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean
+    private IPurchaseSuggestionService purchaseSuggestionService;
+
+    // URL
+    private static final String url = "/api/v1/purchaseSuggestion";
+
+    @Test
+    public void getLatest_ExistingRun_Return_IsOk() throws Exception {
+        // Given
+        Pageable pageable = PageRequest.of(0, 50, Sort.by("categoryId", "subcategoryId", "productId"));
+        List<PurchaseSuggestionResponseDto> suggestions = List.of(
+                new PurchaseSuggestionResponseDto(
+                        12L, 4, "Vaca Napolitana", 2, "Helado de leche", 5, "Helados", 45, 70, 175, 130)
+        );
+
+        given(purchaseSuggestionService.findLatest(pageable)).willReturn(
+                new CustomPaginationData<PurchaseSuggestionResponseDto, PurchaseSuggestion>(
+                        suggestions, CustomPageMetadata.builder().pageSize(50).hasNext(false).build()));
+
+        // When
+        ResultActions response = mockMvc.perform(get(url + "/latest"));
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message",
+                        CoreMatchers.is(MessageConstants.FOUND_PURCHASE_SUGGESTIONS)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data", hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].quantityToOrder",
+                        CoreMatchers.is(130)));
+    }
+
+    @Test
+    public void getLatest_NonExistingRun_Return_IsNotFound() throws Exception {
+        // Given
+        given(purchaseSuggestionService.findLatest(any()))
+                .willThrow(new DataNotFoundException(MessageConstants.PURCHASE_SUGGESTIONS_NOT_FOUND));
+
+        // When
+        ResultActions response = mockMvc.perform(get(url + "/latest"));
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isNotFound())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[0]",
+                        CoreMatchers.is(MessageConstants.PURCHASE_SUGGESTIONS_NOT_FOUND)));
+    }
+
+    @Test
+    public void getLatestSummary_ExistingRun_Return_IsOk() throws Exception {
+        // Given
+        given(purchaseSuggestionService.findLatestSummary()).willReturn(List.of(
+                new PurchaseSuggestionSummaryResponseDto(1, "Dulces", 2, "Gomitas", 2, 515)
+        ));
+
+        // When
+        ResultActions response = mockMvc.perform(get(url + "/latest/summary"));
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].subcategoryName",
+                        CoreMatchers.is("Gomitas")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].quantityToOrder",
+                        CoreMatchers.is(515)));
+    }
+
+    @Test
+    public void generate_Return_IsCreated() throws Exception {
+        // Given
+        given(purchaseSuggestionService.generate())
+                .willReturn(new PurchaseSuggestionRunResponseDto(12L, OffsetDateTime.now(), 3));
+
+        // When
+        ResultActions response = mockMvc.perform(post(url + "/generate"));
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message",
+                        CoreMatchers.is(MessageConstants.GENERATED_PURCHASE_SUGGESTIONS)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].productCount",
+                        CoreMatchers.is(3)));
+    }
+}
@@ -190,7 +190,7 @@ public class SubcategoryControllerTest {
                 .pageSize(pageSize)
                 .numberOfElements(foundSubcategories.size())
                 .totalPages((int) Math.ceil((double) foundSubcategories.size() / pageSize))
-                .totalElements(foundSubcategories.size())
+                .totalElements((long) foundSubcategories.size())
                 .build();
 
         given(subcategoryService.findAll(pageable)).willReturn(
@@ -251,7 +251,7 @@ public class SubcategoryControllerTest {
                 .pageSize(pageSize)
                 .numberOfElements(0)
                 .totalPages(0)
-                .totalElements(0)
+                .totalElements(0L)
                 .build();
 
         given(subcategoryService.findAll(pageable)).willReturn(
@@ -303,7 +303,7 @@ public class SubcategoryControllerTest {
                 .pageSize(pageSize)
                 .numberOfElements(foundSubcategories.size())
                 .totalPages((int) Math.ceil((double) foundSubcategories.size() / pageSize))
-                .totalElements(foundSubcategories.size())
+                .totalElements((long) foundSubcategories.size())
                 .build();
 
         given(subcategoryService.findAllByName(word, pageable)).willReturn(
@@ -361,7 +361,7 @@ public class SubcategoryControllerTest {
                 .pageSize(pageSize)
                 .numberOfElements(0)
                 .totalPages(0)
-                .totalElements(0)
+                .totalElements(0L)
                 .build();
 
         given(subcategoryService.findAllByName(word, pageable)).willReturn(
@@ -0,0 +1,121 @@
+package com.alivro.spring.sleepyringtail.dao;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pruebas contra la base de datos PostgreSQL del perfil activo; las transacciones se confirman para
+ * que las instantáneas vean los movimientos de otras conexiones.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class InventoryMovementDaoTest {
+    // Producto sin registro en la tabla de productos; el libro no tiene llave foránea
+    private static final int PRODUCT_ID = 999_999;
+
+    private static final String APPEND_MOVEMENT = """
+            INSERT INTO inventory_movements (product_id, movement_type, quantity, created_at)
+            VALUES (?, 'ADJUSTMENT', ?, now())
+            RETURNING movement_id
+            """;
+
+    @Autowired
+    private InventoryMovementDao inventoryMovementDao;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @AfterEach
+    public void cleanup() {
+        jdbcTemplate.update("DELETE FROM inventory_movements WHERE product_id = ?", PRODUCT_ID);
+        jdbcTemplate.update("DELETE FROM inventory_snapshots WHERE product_id = ?", PRODUCT_ID);
+    }
+
+    @Test
+    public void saveSnapshots_InterleavedTransactions_Include_EveryMovementUpToBound() throws Exception {
+        // Given
+        long firstId;
+        long secondId;
+        OffsetDateTime cutoff;
+
+        try (Connection first = transaction(); Connection second = transaction()) {
+            // La primera transacción inicia antes del corte y la segunda después
+            startTransaction(first);
+            Thread.sleep(10);
+            cutoff = jdbcTemplate.queryForObject("SELECT clock_timestamp()", OffsetDateTime.class);
+            Thread.sleep(10);
+            startTransaction(second);
+
+            // La segunda obtiene el ID menor, pero su fecha es posterior al corte
+            secondId = appendMovement(second, 7);
+            firstId = appendMovement(first, 5);
+
+            first.commit();
+            second.commit();
+        }
+
+        // When
+        inventoryMovementDao.saveSnapshots(cutoff);
+        inventoryMovementDao.saveSnapshots(OffsetDateTime.now());
+
+        // Then
+        Map<String, Object> snapshot = jdbcTemplate.queryForMap("""
+                SELECT quantity, last_movement_id
+                FROM inventory_snapshots
+                WHERE product_id = ?
+                ORDER BY taken_at, snapshot_id
+                LIMIT 1
+                """, PRODUCT_ID);
+
+        assertThat(secondId).isLessThan(firstId);
+        assertThat(snapshot).containsEntry("quantity", 12).containsEntry("last_movement_id", firstId);
+        assertThat(inventoryMovementDao.findQuantityAt(PRODUCT_ID, OffsetDateTime.now())).isEqualTo(12);
+    }
+
+    private Connection transaction() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        connection.setAutoCommit(false);
+
+        return connection;
+    }
+
+    // now() devuelve el inicio de la transacción, que se fija con su primera sentencia
+    private static void startTransaction(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT now()")) {
+            statement.executeQuery().close();
+        }
+    }
+
+    private static long appendMovement(Connection connection, int quantity) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(APPEND_MOVEMENT)) {
+            statement.setInt(1, PRODUCT_ID);
+            statement.setInt(2, quantity);
+
+            try (ResultSet result = statement.executeQuery()) {
+                result.next();
+
+                return result.getLong(1);
+            }
+        }
+    }
+}
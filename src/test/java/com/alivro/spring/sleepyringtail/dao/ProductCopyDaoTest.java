@@ -0,0 +1,93 @@
+package com.alivro.spring.sleepyringtail.dao;
+
+import com.alivro.spring.sleepyringtail.model.inventory.request.InventoryGenericRequestDto;
+import com.alivro.spring.sleepyringtail.model.product.request.ProductGenericRequestDto;
+import com.alivro.spring.sleepyringtail.model.product.request.ProductImportRecord;
+import com.alivro.spring.sleepyringtail.model.util.request.SubcategoryRequestDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ProductCopyDaoTest {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private ProductCopyDao productCopyDao;
+
+    @Test
+    public void toCsv_RecordsWithAndWithoutInventory_Return_QuotedTextAndNulls() {
+        // Given
+        ProductImportRecord vacaChocolate = new ProductImportRecord(2, ProductGenericRequestDto.builder()
+                .name("Vaca de Chocolate \"Clásica\", 1 L")
+                .size("1 L")
+                .price(new BigDecimal("48.00"))
+                .barcode("7506306417786")
+                .subcategory(SubcategoryRequestDto.builder().id(15).build())
+                .build(), null);
+        ProductImportRecord osoAlmendrado = new ProductImportRecord(3, ProductGenericRequestDto.builder()
+                .name("Oso Almendrado")
+                .description("")
+                .size("40 g")
+                .price(new BigDecimal("38.5"))
+                .barcode("7501024544295")
+                .subcategory(SubcategoryRequestDto.builder().id(11).build())
+                .build(), InventoryGenericRequestDto.builder()
+                .quantityAvailable(14)
+                .minimumStock(5)
+                .maximumStock(30)
+                .build());
+
+        // When
+        String csv = ProductCopyDao.toCsv(List.of(vacaChocolate, osoAlmendrado));
+
+        // Then
+        assertThat(csv).isEqualTo("""
+                2,"Vaca de Chocolate ""Clásica"", 1 L",,"1 L",48.00,"7506306417786",15,,,
+                3,"Oso Almendrado","","40 g",38.5,"7501024544295",11,14,5,30
+                """);
+    }
+
+    @Test
+    public void copyAndMerge_QuantityAboveSmallint_Stage_IntegerColumns() {
+        // Given
+        ProductImportRecord vacaNapolitana = new ProductImportRecord(2, ProductGenericRequestDto.builder()
+                .name("Vaca Napolitana")
+                .size("1 L")
+                .price(new BigDecimal("48.00"))
+                .barcode("7506306417809")
+                .subcategory(SubcategoryRequestDto.builder().id(15).build())
+                .build(), InventoryGenericRequestDto.builder()
+                .quantityAvailable(40000)
+                .minimumStock(32768)
+                .maximumStock(100000)
+                .build());
+
+        ArgumentCaptor<String> statement = ArgumentCaptor.forClass(String.class);
+
+        // When
+        productCopyDao.copyAndMerge(List.of(vacaNapolitana));
+
+        // Then
+        verify(jdbcTemplate).execute(statement.capture());
+
+        // Las existencias se ampliaron a INTEGER; una columna SMALLINT rechazaría el COPY completo
+        assertThat(statement.getValue())
+                .contains("quantity_available INTEGER")
+                .contains("minimum_stock      INTEGER")
+                .contains("maximum_stock      INTEGER")
+                .doesNotContain("SMALLINT");
+        assertThat(ProductCopyDao.toCsv(List.of(vacaNapolitana))).endsWith(",15,40000,32768,100000\n");
+    }
+}
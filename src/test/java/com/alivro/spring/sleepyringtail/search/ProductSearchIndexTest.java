@@ -0,0 +1,169 @@
+package com.alivro.spring.sleepyringtail.search;
+
+import com.alivro.spring.sleepyringtail.dao.ProductDao;
+import com.alivro.spring.sleepyringtail.model.product.projection.ProductGenericProjection;
+import com.alivro.spring.sleepyringtail.model.product.response.ProductGenericResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class ProductSearchIndexTest {
+    @Mock
+    private ProductDao productDao;
+
+    @InjectMocks
+    private ProductSearchIndex productSearchIndex;
+
+    @BeforeEach
+    public void setup() {
+        List<ProductGenericProjection> products = List.of(
+                product(1, "Ardillas Saladas", "Cacahuates salados"),
+                product(2, "Estrella Marina", "Agua embotellada"),
+                product(3, "Oso Almendrado", "Barra de chocolate con leche y almendras"),
+                product(4, "Vaca Napolitana", "Helado sabor napolitano"),
+                product(5, "Café Molido", "Café de grano molido"),
+                product(6, "Nata Batida", "Crema para batir")
+        );
+
+        given(productDao.findProjectedByIdGreaterThan(eq(0), any())).willReturn(products);
+
+        productSearchIndex.rebuild();
+    }
+
+    @Test
+    public void rebuild_ExistingProducts_Return_ReadyIndex() {
+        // Then
+        assertThat(productSearchIndex.isReady()).isTrue();
+    }
+
+    @Test
+    public void searchByName_AccentedWord_Return_ListOfProductsIgnoringAccents() {
+        // When
+        Page<ProductGenericResponseDto> foundProducts = productSearchIndex.searchByName(
+                "CAFE", PageRequest.of(0, 5));
+
+        // Then
+        assertThat(foundProducts.getContent()).extracting(ProductGenericResponseDto::getName)
+                .containsExactly("Café Molido");
+    }
+
+    @Test
+    public void searchByName_Substring_Return_ListOfProductsByRelevance() {
+        // When
+        Page<ProductGenericResponseDto> foundProducts = productSearchIndex.searchByName(
+                "na", PageRequest.of(0, 5));
+
+        // Then
+        assertThat(foundProducts.getContent()).extracting(ProductGenericResponseDto::getName)
+                .containsExactly("Vaca Napolitana", "Nata Batida", "Estrella Marina");
+        assertThat(foundProducts.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    public void searchByDescription_SeveralWords_Return_ListOfProductsContainingAllWords() {
+        // When
+        Page<ProductGenericResponseDto> foundProducts = productSearchIndex.searchByDescription(
+                "leche chocolate", PageRequest.of(0, 5));
+
+        // Then
+        assertThat(foundProducts.getContent()).extracting(ProductGenericResponseDto::getId)
+                .containsExactly(3);
+    }
+
+    @Test
+    public void searchByName_SecondPage_Return_PageOfProducts() {
+        // When
+        Page<ProductGenericResponseDto> foundProducts = productSearchIndex.searchByName(
+                "a", PageRequest.of(1, 4));
+
+        // Then
+        assertThat(foundProducts.getContent()).hasSize(2);
+        assertThat(foundProducts.getTotalElements()).isEqualTo(6);
+        assertThat(foundProducts.hasNext()).isFalse();
+    }
+
+    @Test
+    public void searchByName_NonExistingProducts_Return_EmptyListOfProducts() {
+        // When
+        Page<ProductGenericResponseDto> foundProducts = productSearchIndex.searchByName(
+                "helado", PageRequest.of(0, 5));
+
+        // Then
+        assertThat(foundProducts.getContent()).isEmpty();
+        assertThat(foundProducts.getTotalElements()).isZero();
+    }
+
+    @Test
+    public void refresh_UpdatedProduct_Return_ProductWithNewName() {
+        // Given
+        given(productDao.findProjectedById(4)).willReturn(
+                Optional.of(product(4, "Vaca de Chocolate", "Helado sabor chocolate")));
+
+        // When
+        productSearchIndex.refresh(4);
+
+        // Then
+        assertThat(productSearchIndex.searchByName("napolitana", PageRequest.of(0, 5))).isEmpty();
+        assertThat(productSearchIndex.searchByName("chocolate", PageRequest.of(0, 5)).getContent())
+                .extracting(ProductGenericResponseDto::getId)
+                .containsExactly(4);
+    }
+
+    @Test
+    public void refreshAll_ImportedProducts_Return_IndexWithProducts() {
+        // Given
+        given(productDao.findProjectedByIdIn(Set.of(4, 7))).willReturn(List.of(
+                product(4, "Vaca de Chocolate", "Helado sabor chocolate"),
+                product(7, "Oso de Chocolate", "Barra de chocolate")));
+
+        // When
+        productSearchIndex.refreshAll(Set.of(4, 7));
+
+        // Then
+        assertThat(productSearchIndex.searchByName("chocolate", PageRequest.of(0, 5)).getContent())
+                .extracting(ProductGenericResponseDto::getId)
+                .containsExactly(4, 7);
+    }
+
+    @Test
+    public void refreshAll_DeletedProducts_Return_IndexWithoutProducts() {
+        // Given
+        given(productDao.findProjectedByIdIn(Set.of(2))).willReturn(List.of());
+
+        // When
+        productSearchIndex.refreshAll(Set.of(2));
+
+        // Then
+        assertThat(productSearchIndex.searchByName("marina", PageRequest.of(0, 5))).isEmpty();
+    }
+
+    @Test
+    public void remove_ExistingProduct_Return_IndexWithoutProduct() {
+        // When
+        productSearchIndex.remove(2);
+
+        // Then
+        assertThat(productSearchIndex.searchByName("marina", PageRequest.of(0, 5))).isEmpty();
+    }
+
+    private static ProductGenericProjection product(Integer id, String name, String description) {
+        return new ProductGenericProjection(
+                id, name, "1 pza", description, BigDecimal.TEN, "75000000000" + id, 1, "Subcategoría");
+    }
+}
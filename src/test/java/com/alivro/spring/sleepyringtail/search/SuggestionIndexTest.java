@@ -0,0 +1,133 @@
+package com.alivro.spring.sleepyringtail.search;
+
+import com.alivro.spring.sleepyringtail.dao.CategoryDao;
+import com.alivro.spring.sleepyringtail.dao.ProductDao;
+import com.alivro.spring.sleepyringtail.dao.SubcategoryDao;
+import com.alivro.spring.sleepyringtail.model.category.projection.CategoryGenericProjection;
+import com.alivro.spring.sleepyringtail.model.product.projection.ProductGenericProjection;
+import com.alivro.spring.sleepyringtail.model.subcategory.projection.SubcategoryGenericProjection;
+import com.alivro.spring.sleepyringtail.model.suggestion.response.SuggestionResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class SuggestionIndexTest {
+    @Mock
+    private ProductDao productDao;
+
+    @Mock
+    private SubcategoryDao subcategoryDao;
+
+    @Mock
+    private CategoryDao categoryDao;
+
+    @InjectMocks
+    private SuggestionIndex suggestionIndex;
+
+    @BeforeEach
+    public void setup() {
+        given(productDao.findProjectedByIdGreaterThan(eq(0), any())).willReturn(List.of(
+                product(1, "Ardillas Saladas"),
+                product(2, "Estrella Marina"),
+                product(3, "Oso Almendrado"),
+                product(4, "Vaca Napolitana"),
+                product(5, "Helado de Limón")
+        ));
+        given(subcategoryDao.findProjectedByIdGreaterThan(eq(0), any())).willReturn(List.of(
+                new SubcategoryGenericProjection(1, "Helado base leche", null, 1, "Helados"),
+                new SubcategoryGenericProjection(2, "Helado base agua", null, 1, "Helados")
+        ));
+        given(categoryDao.findProjectedByIdGreaterThan(eq(0), any())).willReturn(List.of(
+                new CategoryGenericProjection(1, "Helados", null)
+        ));
+
+        suggestionIndex.rebuild();
+    }
+
+    @Test
+    public void suggest_Prefix_Return_ListOfNamesInAlphabeticalOrder() {
+        // When
+        List<SuggestionResponseDto> suggestions = suggestionIndex.suggest("hel", 10);
+
+        // Then
+        assertThat(suggestions).extracting(SuggestionResponseDto::getName)
+                .containsExactly("Helado base agua", "Helado base leche", "Helado de Limón", "Helados");
+        assertThat(suggestions.get(3).getType()).isEqualTo(SuggestionType.CATEGORY);
+    }
+
+    @Test
+    public void suggest_PrefixOfSecondWord_Return_ListOfNames() {
+        // When
+        List<SuggestionResponseDto> suggestions = suggestionIndex.suggest("NAPO", 10);
+
+        // Then
+        assertThat(suggestions).extracting(SuggestionResponseDto::getId).containsExactly(4);
+        assertThat(suggestions.get(0).getType()).isEqualTo(SuggestionType.PRODUCT);
+    }
+
+    @Test
+    public void suggest_AccentedPrefix_Return_ListOfNamesIgnoringAccents() {
+        // When
+        List<SuggestionResponseDto> suggestions = suggestionIndex.suggest("limon", 10);
+
+        // Then
+        assertThat(suggestions).extracting(SuggestionResponseDto::getName).containsExactly("Helado de Limón");
+    }
+
+    @Test
+    public void suggest_Limit_Return_LimitedListOfNames() {
+        // When
+        List<SuggestionResponseDto> suggestions = suggestionIndex.suggest("helado", 2);
+
+        // Then
+        assertThat(suggestions).extracting(SuggestionResponseDto::getName)
+                .containsExactly("Helado base agua", "Helado base leche");
+    }
+
+    @Test
+    public void suggest_NonExistingPrefix_Return_EmptyList() {
+        // When
+        List<SuggestionResponseDto> suggestions = suggestionIndex.suggest("xyz", 10);
+
+        // Then
+        assertThat(suggestions).isEmpty();
+    }
+
+    @Test
+    public void put_UpdatedName_Return_ListWithNewName() {
+        // When
+        suggestionIndex.put(SuggestionType.PRODUCT, 4, "Vaca de Chocolate");
+
+        // Then
+        assertThat(suggestionIndex.suggest("napo", 10)).isEmpty();
+        assertThat(suggestionIndex.suggest("vaca", 10)).extracting(SuggestionResponseDto::getName)
+                .containsExactly("Vaca de Chocolate");
+    }
+
+    @Test
+    public void remove_ExistingName_Return_ListWithoutName() {
+        // When
+        suggestionIndex.remove(SuggestionType.SUBCATEGORY, 1);
+
+        // Then
+        assertThat(suggestionIndex.suggest("helado base", 10)).extracting(SuggestionResponseDto::getName)
+                .containsExactly("Helado base agua");
+    }
+
+    private static ProductGenericProjection product(Integer id, String name) {
+        return new ProductGenericProjection(
+                id, name, "1 pza", null, BigDecimal.TEN, "75000000000" + id, 1, "Subcategoría");
+    }
+}
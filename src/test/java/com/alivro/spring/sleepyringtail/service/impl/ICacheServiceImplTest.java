@@ -0,0 +1,69 @@
+package com.alivro.spring.sleepyringtail.service.impl;
+
+import com.alivro.spring.sleepyringtail.model.cache.response.CacheStatisticsResponseDto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class ICacheServiceImplTest {
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Statistics statistics;
+
+    @Mock
+    private CacheRegionStatistics categoryStatistics;
+
+    @Mock
+    private CacheRegionStatistics subcategoryStatistics;
+
+    private ICacheServiceImpl cacheService;
+
+    @BeforeEach
+    public void setup() {
+        // SessionFactory también es un EntityManagerFactory, por lo que el mock se inyecta explícitamente
+        cacheService = new ICacheServiceImpl(entityManagerFactory);
+    }
+
+    @Test
+    public void findStatistics_Return_StatisticsOrderedByRegion() {
+        // Given
+        given(entityManagerFactory.unwrap(SessionFactory.class)).willReturn(sessionFactory);
+        given(sessionFactory.getStatistics()).willReturn(statistics);
+        given(statistics.getSecondLevelCacheRegionNames())
+                .willReturn(new String[]{"taxonomy-subcategory", "taxonomy-category"});
+        given(statistics.getDomainDataRegionStatistics("taxonomy-category")).willReturn(categoryStatistics);
+        given(statistics.getDomainDataRegionStatistics("taxonomy-subcategory")).willReturn(subcategoryStatistics);
+        given(categoryStatistics.getHitCount()).willReturn(40L);
+        given(categoryStatistics.getMissCount()).willReturn(2L);
+        given(categoryStatistics.getPutCount()).willReturn(2L);
+        given(subcategoryStatistics.getHitCount()).willReturn(95L);
+        given(subcategoryStatistics.getMissCount()).willReturn(5L);
+        given(subcategoryStatistics.getPutCount()).willReturn(5L);
+
+        // When
+        List<CacheStatisticsResponseDto> foundStatistics = cacheService.findStatistics();
+
+        // Then
+        assertThat(foundStatistics).extracting(CacheStatisticsResponseDto::getRegion)
+                .containsExactly("taxonomy-category", "taxonomy-subcategory");
+        assertThat(foundStatistics.get(0).getHitCount()).isEqualTo(40L);
+        assertThat(foundStatistics.get(1).getMissCount()).isEqualTo(5L);
+    }
+}
@@ -1,14 +1,22 @@
 package com.alivro.spring.sleepyringtail.service.impl;
 
+import com.alivro.spring.sleepyringtail.cache.CategoryTreeCache;
+import com.alivro.spring.sleepyringtail.cache.ExistenceFilter;
+import com.alivro.spring.sleepyringtail.cache.UniqueKey;
 import com.alivro.spring.sleepyringtail.constants.MessageConstants;
 import com.alivro.spring.sleepyringtail.dao.CategoryDao;
 import com.alivro.spring.sleepyringtail.exception.DataAlreadyExistsException;
 import com.alivro.spring.sleepyringtail.exception.DataNotFoundException;
+import com.alivro.spring.sleepyringtail.mapper.CategoryMapper;
 import com.alivro.spring.sleepyringtail.model.Category;
+import com.alivro.spring.sleepyringtail.model.category.projection.CategoryGenericProjection;
 import com.alivro.spring.sleepyringtail.model.Subcategory;
 import com.alivro.spring.sleepyringtail.model.category.request.CategoryGenericRequestDto;
 import com.alivro.spring.sleepyringtail.model.category.response.CategoryGenericResponseDto;
 import com.alivro.spring.sleepyringtail.model.category.response.CategoryGetResponseDto;
+import com.alivro.spring.sleepyringtail.model.category.response.SerializedCategoryTreeResponseDto;
+import com.alivro.spring.sleepyringtail.search.SuggestionIndex;
+import com.alivro.spring.sleepyringtail.search.SuggestionType;
 import com.alivro.spring.sleepyringtail.util.pagination.CustomPageMetadata;
 import com.alivro.spring.sleepyringtail.util.pagination.CustomPaginationData;
 import org.hamcrest.MatcherAssert;
@@ -18,12 +26,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -32,6 +40,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
@@ -44,6 +53,15 @@ public class ICategoryServiceImplTest {
     @Mock
     private CategoryDao categoryDao;
 
+    @Mock
+    private SuggestionIndex suggestionIndex;
+
+    @Mock
+    private ExistenceFilter existenceFilter;
+
+    @Mock
+    private CategoryTreeCache categoryTreeCache;
+
     @InjectMocks
     private ICategoryServiceImpl categoryService;
 
@@ -65,7 +83,7 @@ public class ICategoryServiceImplTest {
 
     @BeforeAll
     public static void setup() {
-        ModelMapper modelMapper = new ModelMapper();
+        CategoryMapper categoryMapper = CategoryMapper.INSTANCE;
 
         // Buscar todas las categorías
         Subcategory aguaNatural = Subcategory.builder()
@@ -117,7 +135,7 @@ public class ICategoryServiceImplTest {
                 .name("Vinos")
                 .build();
 
-        vinosToSave = modelMapper.map(vinosSaveRequest, Category.class);
+        vinosToSave = categoryMapper.toEntity(vinosSaveRequest);
 
         vinosSaved = vinosToSave.toBuilder().id(5).build();
 
@@ -126,7 +144,7 @@ public class ICategoryServiceImplTest {
                 .name("Vinos y Licores")
                 .build();
 
-        vinosToUpdate = modelMapper.map(vinosUpdateRequest, Category.class);
+        vinosToUpdate = categoryMapper.toEntity(vinosUpdateRequest);
 
         vinosUpdated = vinosToUpdate.toBuilder().id(5).build();
     }
@@ -138,17 +156,17 @@ public class ICategoryServiceImplTest {
         int pageSize = 5;
         String sortBy = "name";
 
-        List<Category> categories = new ArrayList<>();
-        categories.add(bebidas);
-        categories.add(botanas);
-        categories.add(dulces);
-        categories.add(helados);
+        List<CategoryGenericProjection> categories = new ArrayList<>();
+        categories.add(mapToProjection(bebidas));
+        categories.add(mapToProjection(botanas));
+        categories.add(mapToProjection(dulces));
+        categories.add(mapToProjection(helados));
 
         Pageable pageable = PageRequest.ofSize(pageSize)
                 .withPage(pageNumber)
                 .withSort(Sort.by(sortBy).ascending());
 
-        given(categoryDao.findAll(pageable)).willReturn(
+        given(categoryDao.findAllProjected(pageable)).willReturn(
                 new PageImpl<>(categories, pageable, categories.size())
         );
 
@@ -180,13 +198,13 @@ public class ICategoryServiceImplTest {
         int pageSize = 5;
         String sortBy = "id";
 
-        List<Category> categories = new ArrayList<>();
+        List<CategoryGenericProjection> categories = new ArrayList<>();
 
         Pageable pageable = PageRequest.ofSize(pageSize)
                 .withPage(pageNumber)
                 .withSort(Sort.by(sortBy).ascending());
 
-        given(categoryDao.findAll(pageable)).willReturn(
+        given(categoryDao.findAllProjected(pageable)).willReturn(
                 new PageImpl<>(categories, pageable, 0)
         );
 
@@ -216,15 +234,15 @@ public class ICategoryServiceImplTest {
         int pageSize = 5;
         String sortBy = "name";
 
-        List<Category> categories = new ArrayList<>();
-        categories.add(bebidas);
-        categories.add(botanas);
+        List<CategoryGenericProjection> categories = new ArrayList<>();
+        categories.add(mapToProjection(bebidas));
+        categories.add(mapToProjection(botanas));
 
         Pageable pageable = PageRequest.ofSize(pageSize)
                 .withPage(pageNumber)
                 .withSort(Sort.by(sortBy).ascending());
 
-        given(categoryDao.findByNameContainingIgnoreCase(word, pageable)).willReturn(
+        given(categoryDao.findProjectedByNameContainingIgnoreCase(word, pageable)).willReturn(
                 new PageImpl<>(categories, pageable, categories.size())
         );
 
@@ -256,13 +274,13 @@ public class ICategoryServiceImplTest {
         int pageSize = 5;
         String sortBy = "id";
 
-        List<Category> categories = new ArrayList<>();
+        List<CategoryGenericProjection> categories = new ArrayList<>();
 
         Pageable pageable = PageRequest.ofSize(pageSize)
                 .withPage(pageNumber)
                 .withSort(Sort.by(sortBy).ascending());
 
-        given(categoryDao.findByNameContainingIgnoreCase(word, pageable)).willReturn(
+        given(categoryDao.findProjectedByNameContainingIgnoreCase(word, pageable)).willReturn(
                 new PageImpl<>(categories, pageable, 0)
         );
 
@@ -285,6 +303,21 @@ public class ICategoryServiceImplTest {
         assertThat(meta.getTotalPages()).isEqualTo(0);
     }
 
+    @Test
+    public void findTree_CachedTree_Return_BodyAndETag() {
+        // Given
+        byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+
+        given(categoryTreeCache.get()).willReturn(new CategoryTreeCache.Snapshot(1, body, "\"abc\""));
+
+        // When
+        SerializedCategoryTreeResponseDto tree = categoryService.findTree();
+
+        // Then
+        assertThat(tree.getBody()).isSameAs(body);
+        assertThat(tree.getEtag()).isEqualTo("\"abc\"");
+    }
+
     @Test
     public void findById_ExistingCategory_Return_FoundCategory() {
         // Given
@@ -319,6 +352,7 @@ public class ICategoryServiceImplTest {
     @Test
     public void save_NonExistingCategory_Return_SavedCategory() {
         // Given
+        given(existenceFilter.mightContain(UniqueKey.CATEGORY_NAME, vinosSaveRequest.getName())).willReturn(true);
         given(categoryDao.existsByName(vinosSaveRequest.getName())).willReturn(false);
         given(categoryDao.save(vinosToSave)).willReturn(vinosSaved);
 
@@ -331,9 +365,26 @@ public class ICategoryServiceImplTest {
         assertThat(savedCategory.getDescription()).isEqualTo(null);
     }
 
+    @Test
+    public void save_KeyNotInExistenceFilter_Return_SavedCategoryWithoutExistenceQuery() {
+        // Given
+        given(categoryDao.save(vinosToSave)).willReturn(vinosSaved);
+
+        // When
+        CategoryGenericResponseDto savedCategory = categoryService.save(vinosSaveRequest);
+
+        // Then
+        assertThat(savedCategory).isNotNull();
+        assertThat(savedCategory.getName()).isEqualTo("Vinos");
+        assertThat(savedCategory.getDescription()).isEqualTo(null);
+
+        verify(categoryDao, times(0)).existsByName(anyString());
+    }
+
     @Test
     public void save_ExistingCategory_Throw_DataAlreadyExistsException() {
         // Given
+        given(existenceFilter.mightContain(any(UniqueKey.class), anyString())).willReturn(true);
         given(categoryDao.existsByName(anyString())).willReturn(true);
 
         // When
@@ -385,5 +436,15 @@ public class ICategoryServiceImplTest {
 
         // Then
         verify(categoryDao, times(1)).deleteById(10);
+        verify(suggestionIndex, times(1)).remove(SuggestionType.CATEGORY, 10);
+        verify(categoryTreeCache, times(1)).invalidate();
+    }
+
+    private static CategoryGenericProjection mapToProjection(Category category) {
+        return new CategoryGenericProjection(
+                category.getId(),
+                category.getName(),
+                category.getDescription()
+        );
     }
 }
@@ -1,13 +1,31 @@
 package com.alivro.spring.sleepyringtail.service.impl;
 
+import com.alivro.spring.sleepyringtail.alert.StockAlertPublisher;
+import com.alivro.spring.sleepyringtail.alert.StockLevel;
+import com.alivro.spring.sleepyringtail.buffer.InventoryDeltaBuffer;
+import com.alivro.spring.sleepyringtail.cache.BarcodeCache;
 import com.alivro.spring.sleepyringtail.constants.MessageConstants;
+import com.alivro.spring.sleepyringtail.dao.InventoryBatchDao;
 import com.alivro.spring.sleepyringtail.dao.InventoryDao;
+import com.alivro.spring.sleepyringtail.dao.InventoryMovementDao;
 import com.alivro.spring.sleepyringtail.exception.DataAlreadyExistsException;
 import com.alivro.spring.sleepyringtail.exception.DataNotFoundException;
+import com.alivro.spring.sleepyringtail.exception.InsufficientStockException;
+import com.alivro.spring.sleepyringtail.mapper.InventoryMapper;
 import com.alivro.spring.sleepyringtail.model.Inventory;
+import com.alivro.spring.sleepyringtail.model.InventoryMovement;
+import com.alivro.spring.sleepyringtail.model.MovementType;
+import com.alivro.spring.sleepyringtail.model.inventory.projection.InventoryGenericProjection;
 import com.alivro.spring.sleepyringtail.model.Product;
+import com.alivro.spring.sleepyringtail.model.inventory.projection.InventoryQuantityProjection;
+import com.alivro.spring.sleepyringtail.model.inventory.request.InventoryAdjustRequestDto;
+import com.alivro.spring.sleepyringtail.model.inventory.request.InventoryBasketLineDto;
+import com.alivro.spring.sleepyringtail.model.inventory.request.InventoryBasketRequestDto;
 import com.alivro.spring.sleepyringtail.model.inventory.request.InventoryGenericRequestDto;
+import com.alivro.spring.sleepyringtail.model.inventory.response.InventoryAdjustResponseDto;
 import com.alivro.spring.sleepyringtail.model.inventory.response.InventoryGenericResponseDto;
+import com.alivro.spring.sleepyringtail.model.inventory.response.InventoryMovementResponseDto;
+import com.alivro.spring.sleepyringtail.model.inventory.response.InventoryStockResponseDto;
 import com.alivro.spring.sleepyringtail.model.util.request.ProductRequestDto;
 import com.alivro.spring.sleepyringtail.util.pagination.CustomPageMetadata;
 import com.alivro.spring.sleepyringtail.util.pagination.CustomPaginationData;
@@ -15,25 +33,37 @@ import org.hamcrest.MatcherAssert;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -42,6 +72,26 @@ public class IInventoryServiceImplTest {
     @Mock
     private InventoryDao inventoryDao;
 
+    @Mock
+    private InventoryBatchDao inventoryBatchDao;
+
+    @Mock
+    private InventoryMovementDao inventoryMovementDao;
+
+    @Mock
+    private BarcodeCache barcodeCache;
+
+    @Mock
+    private StockAlertPublisher stockAlertPublisher;
+
+    // Modo de escritura diferida desactivado, salvo en las pruebas que lo activan
+    @Spy
+    private InventoryDeltaBuffer deltaBuffer = new InventoryDeltaBuffer(null, null, false, 1000, "inventory.journal");
+
+    // Las escrituras directas se ejecutan sin una transacción real
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
     @InjectMocks
     private IInventoryServiceImpl inventoryService;
 
@@ -63,7 +113,7 @@ public class IInventoryServiceImplTest {
 
     @BeforeAll
     public static void setup() {
-        ModelMapper modelMapper = new ModelMapper();
+        InventoryMapper inventoryMapper = InventoryMapper.INSTANCE;
 
         // Buscar el inventario de todos los productos
         Product ardillasSaladasProduct = Product.builder()
@@ -88,33 +138,33 @@ public class IInventoryServiceImplTest {
 
         ardillasSaladas = Inventory.builder()
                 .id(1)
-                .quantityAvailable((short) 322)
-                .minimumStock((short) 250)
-                .maximumStock((short) 625)
+                .quantityAvailable(322)
+                .minimumStock(250)
+                .maximumStock(625)
                 .product(ardillasSaladasProduct)
                 .build();
 
         estrellaMarina = Inventory.builder()
                 .id(2)
-                .quantityAvailable((short) 202)
-                .minimumStock((short) 120)
-                .maximumStock((short) 300)
+                .quantityAvailable(202)
+                .minimumStock(120)
+                .maximumStock(300)
                 .product(estrellaMarinaProduct)
                 .build();
 
         osoAlmendrado = Inventory.builder()
                 .id(3)
-                .quantityAvailable((short) 271)
-                .minimumStock((short) 230)
-                .maximumStock((short) 575)
+                .quantityAvailable(271)
+                .minimumStock(230)
+                .maximumStock(575)
                 .product(osoAlmendradoProduct)
                 .build();
 
         vacaNapolitana = Inventory.builder()
                 .id(4)
-                .quantityAvailable((short) 113)
-                .minimumStock((short) 70)
-                .maximumStock((short) 175)
+                .quantityAvailable(113)
+                .minimumStock(70)
+                .maximumStock(175)
                 .product(vacaNapolitanaProduct)
                 .build();
 
@@ -125,25 +175,25 @@ public class IInventoryServiceImplTest {
                 .build();
 
         vacaChocolateSaveRequest = InventoryGenericRequestDto.builder()
-                .quantityAvailable((short) 55)
-                .minimumStock((short) 10)
-                .maximumStock((short) 150)
+                .quantityAvailable(55)
+                .minimumStock(10)
+                .maximumStock(150)
                 .product(vacaChocolateProductRequest)
                 .build();
 
-        vacaChocolateToSave = modelMapper.map(vacaChocolateSaveRequest, Inventory.class);
+        vacaChocolateToSave = inventoryMapper.toEntity(vacaChocolateSaveRequest);
 
         vacaChocolateSaved = vacaChocolateToSave.toBuilder().id(5).build();
 
         // Actualizar el inventario de un producto existente
         vacaChocolateUpdateRequest = InventoryGenericRequestDto.builder()
-                .quantityAvailable((short) 150)
-                .minimumStock((short) 100)
-                .maximumStock((short) 250)
+                .quantityAvailable(150)
+                .minimumStock(100)
+                .maximumStock(250)
                 .product(vacaChocolateProductRequest)
                 .build();
 
-        vacaChocolateToUpdate = modelMapper.map(vacaChocolateUpdateRequest, Inventory.class);
+        vacaChocolateToUpdate = inventoryMapper.toEntity(vacaChocolateUpdateRequest);
 
         vacaChocolateUpdated = vacaChocolateToUpdate.toBuilder().id(5).build();
     }
@@ -155,17 +205,17 @@ public class IInventoryServiceImplTest {
         int pageSize = 5;
         String sortBy = "quantityAvailable";
 
-        List<Inventory> inventoryStocks = new ArrayList<>();
-        inventoryStocks.add(ardillasSaladas);
-        inventoryStocks.add(osoAlmendrado);
-        inventoryStocks.add(estrellaMarina);
-        inventoryStocks.add(vacaNapolitana);
+        List<InventoryGenericProjection> inventoryStocks = new ArrayList<>();
+        inventoryStocks.add(mapToProjection(ardillasSaladas));
+        inventoryStocks.add(mapToProjection(osoAlmendrado));
+        inventoryStocks.add(mapToProjection(estrellaMarina));
+        inventoryStocks.add(mapToProjection(vacaNapolitana));
 
         Pageable pageable = PageRequest.ofSize(pageSize)
                 .withPage(pageNumber)
                 .withSort(Sort.by(sortBy).descending());
 
-        given(inventoryDao.findAll(pageable)).willReturn(
+        given(inventoryDao.findAllProjected(pageable)).willReturn(
                 new PageImpl<>(inventoryStocks, pageable, inventoryStocks.size())
         );
 
@@ -179,10 +229,10 @@ public class IInventoryServiceImplTest {
         CustomPageMetadata meta = inventoryData.getMetadata();
 
         assertThat(data.size()).isEqualTo(4);
-        assertThat(data.get(0).getQuantityAvailable()).isEqualTo((short) 322);
-        assertThat(data.get(1).getQuantityAvailable()).isEqualTo((short) 271);
-        assertThat(data.get(2).getQuantityAvailable()).isEqualTo((short) 202);
-        assertThat(data.get(3).getQuantityAvailable()).isEqualTo((short) 113);
+        assertThat(data.get(0).getQuantityAvailable()).isEqualTo(322);
+        assertThat(data.get(1).getQuantityAvailable()).isEqualTo(271);
+        assertThat(data.get(2).getQuantityAvailable()).isEqualTo(202);
+        assertThat(data.get(3).getQuantityAvailable()).isEqualTo(113);
 
         assertThat(meta.getPageNumber()).isZero();
         assertThat(meta.getPageSize()).isEqualTo(5);
@@ -197,13 +247,13 @@ public class IInventoryServiceImplTest {
         int pageSize = 5;
         String sortBy = "id";
 
-        List<Inventory> inventoryStocks = new ArrayList<>();
+        List<InventoryGenericProjection> inventoryStocks = new ArrayList<>();
 
         Pageable pageable = PageRequest.ofSize(pageSize)
                 .withPage(pageNumber)
                 .withSort(Sort.by(sortBy).ascending());
 
-        given(inventoryDao.findAll(pageable)).willReturn(
+        given(inventoryDao.findAllProjected(pageable)).willReturn(
                 new PageImpl<>(inventoryStocks, pageable, 0)
         );
 
@@ -238,9 +288,9 @@ public class IInventoryServiceImplTest {
         // Then
         assertThat(foundInventory).isNotNull();
         assertThat(foundInventory.getId()).isEqualTo(1);
-        assertThat(foundInventory.getQuantityAvailable()).isEqualTo((short) 322);
-        assertThat(foundInventory.getMinimumStock()).isEqualTo((short) 250);
-        assertThat(foundInventory.getMaximumStock()).isEqualTo((short) 625);
+        assertThat(foundInventory.getQuantityAvailable()).isEqualTo(322);
+        assertThat(foundInventory.getMinimumStock()).isEqualTo(250);
+        assertThat(foundInventory.getMaximumStock()).isEqualTo(625);
         assertThat(foundInventory.getProduct().getName()).isEqualTo("Ardillas Saladas");
     }
 
@@ -268,10 +318,12 @@ public class IInventoryServiceImplTest {
 
         // Then
         assertThat(savedInventory).isNotNull();
-        assertThat(savedInventory.getQuantityAvailable()).isEqualTo((short) 55);
-        assertThat(savedInventory.getMinimumStock()).isEqualTo((short) 10);
-        assertThat(savedInventory.getMaximumStock()).isEqualTo((short) 150);
+        assertThat(savedInventory.getQuantityAvailable()).isEqualTo(55);
+        assertThat(savedInventory.getMinimumStock()).isEqualTo(10);
+        assertThat(savedInventory.getMaximumStock()).isEqualTo(150);
         assertThat(savedInventory.getProduct().getName()).isEqualTo("Vaca de Chocolate");
+
+        verify(stockAlertPublisher, times(1)).stockChanged(vacaChocolateSaved.getProduct().getId(), null, 55, 10, 150);
     }
 
     @Test
@@ -292,7 +344,7 @@ public class IInventoryServiceImplTest {
         // Given
         Integer productId = 5;
 
-        given(inventoryDao.findById(productId)).willReturn(Optional.ofNullable(vacaChocolateToUpdate));
+        given(inventoryDao.findForUpdateById(productId)).willReturn(Optional.ofNullable(vacaChocolateToUpdate));
         given(inventoryDao.save(vacaChocolateToUpdate)).willReturn(vacaChocolateUpdated);
 
         // When
@@ -301,16 +353,35 @@ public class IInventoryServiceImplTest {
         // Then
         assertThat(updatedInventory).isNotNull();
         assertThat(updatedInventory.getId()).isEqualTo(5);
-        assertThat(updatedInventory.getQuantityAvailable()).isEqualTo((short) 150);
-        assertThat(updatedInventory.getMinimumStock()).isEqualTo((short) 100);
-        assertThat(updatedInventory.getMaximumStock()).isEqualTo((short) 250);
+        assertThat(updatedInventory.getQuantityAvailable()).isEqualTo(150);
+        assertThat(updatedInventory.getMinimumStock()).isEqualTo(100);
+        assertThat(updatedInventory.getMaximumStock()).isEqualTo(250);
         assertThat(updatedInventory.getProduct().getName()).isEqualTo("Vaca de Chocolate");
     }
 
+    @Test
+    public void update_ChangedQuantity_Record_AdjustmentMovement() {
+        // Given
+        Inventory stored = vacaChocolateUpdated.toBuilder().quantityAvailable(100).build();
+
+        given(inventoryDao.findForUpdateById(5)).willReturn(Optional.of(stored));
+        given(inventoryDao.save(stored)).willReturn(stored);
+
+        // When
+        inventoryService.update(5, vacaChocolateUpdateRequest);
+
+        // Then
+        verify(inventoryBatchDao, times(1)).appendMovements(List.of(InventoryMovement.builder()
+                .productId(5)
+                .type(MovementType.ADJUSTMENT)
+                .quantity(50)
+                .build()));
+    }
+
     @Test
     public void update_NonExistingInventory_Throw_DataNotFoundException() {
         // Given
-        given(inventoryDao.findById(anyInt())).willReturn(Optional.empty());
+        given(inventoryDao.findForUpdateById(anyInt())).willReturn(Optional.empty());
 
         // When
         Throwable thrown = assertThrows(DataNotFoundException.class,
@@ -320,6 +391,292 @@ public class IInventoryServiceImplTest {
         MatcherAssert.assertThat(thrown.getMessage(), is(MessageConstants.INVENTORY_NOT_FOUND));
     }
 
+    @Test
+    public void adjust_EnoughStock_Return_AdjustedQuantity() {
+        // Given
+        InventoryAdjustRequestDto sale = new InventoryAdjustRequestDto(-2);
+
+        given(inventoryDao.adjustQuantityAvailable(1, -2)).willReturn(Optional.of(quantityProjection(1, 320)));
+
+        // When
+        InventoryAdjustResponseDto adjustedInventory = inventoryService.adjust(1, sale);
+
+        // Then
+        assertThat(adjustedInventory.getId()).isEqualTo(1);
+        assertThat(adjustedInventory.getProductId()).isEqualTo(1);
+        assertThat(adjustedInventory.getQuantityAvailable()).isEqualTo(320);
+
+        verify(barcodeCache, times(1)).invalidateProducts(List.of(1));
+    }
+
+    @Test
+    public void adjust_CrossesMinimumStock_Publish_StockLevelChange() {
+        // Given
+        InventoryAdjustRequestDto sale = new InventoryAdjustRequestDto(-80);
+
+        given(inventoryDao.adjustQuantityAvailable(1, -80)).willReturn(Optional.of(quantityProjection(1, 242)));
+
+        // When
+        inventoryService.adjust(1, sale);
+
+        // Then
+        verify(stockAlertPublisher, times(1)).stockChanged(1, StockLevel.NORMAL, 242, 250, 625);
+    }
+
+    @Test
+    public void adjust_InsufficientStock_Throw_InsufficientStockException() {
+        // Given
+        InventoryAdjustRequestDto sale = new InventoryAdjustRequestDto(-500);
+
+        given(inventoryDao.adjustQuantityAvailable(1, -500)).willReturn(Optional.empty());
+        given(inventoryDao.existsById(1)).willReturn(true);
+
+        // When
+        Throwable thrown = assertThrows(InsufficientStockException.class,
+                () -> inventoryService.adjust(1, sale));
+
+        // Then
+        MatcherAssert.assertThat(thrown.getMessage(), is(MessageConstants.INSUFFICIENT_STOCK));
+    }
+
+    @Test
+    public void adjust_NonExistingInventory_Throw_DataNotFoundException() {
+        // Given
+        InventoryAdjustRequestDto sale = new InventoryAdjustRequestDto(-1);
+
+        given(inventoryDao.adjustQuantityAvailable(100, -1)).willReturn(Optional.empty());
+        given(inventoryDao.existsById(100)).willReturn(false);
+
+        // When
+        Throwable thrown = assertThrows(DataNotFoundException.class,
+                () -> inventoryService.adjust(100, sale));
+
+        // Then
+        MatcherAssert.assertThat(thrown.getMessage(), is(MessageConstants.INVENTORY_NOT_FOUND));
+    }
+
+    @Test
+    public void adjust_WriteBehindEnoughStock_Return_BufferedQuantity() {
+        // Given
+        InventoryAdjustRequestDto sale = new InventoryAdjustRequestDto(-2);
+
+        willReturn(true).given(deltaBuffer).isEnabled();
+        given(inventoryDao.findQuantityById(1)).willReturn(Optional.of(quantityProjection(1, 322)));
+        willReturn(320L).given(deltaBuffer).add(1, 322, -2);
+
+        // When
+        InventoryAdjustResponseDto adjustedInventory = inventoryService.adjust(1, sale);
+
+        // Then
+        assertThat(adjustedInventory.getProductId()).isEqualTo(1);
+        assertThat(adjustedInventory.getQuantityAvailable()).isEqualTo(320);
+
+        verify(inventoryDao, never()).adjustQuantityAvailable(anyInt(), anyInt());
+        verify(transactionTemplate, never()).execute(any());
+    }
+
+    @Test
+    public void adjust_WriteBehindInsufficientStock_Throw_InsufficientStockException() {
+        // Given
+        InventoryAdjustRequestDto sale = new InventoryAdjustRequestDto(-500);
+
+        willReturn(true).given(deltaBuffer).isEnabled();
+        given(inventoryDao.findQuantityById(1)).willReturn(Optional.of(quantityProjection(1, 322)));
+        willReturn(-1L).given(deltaBuffer).add(1, 322, -500);
+
+        // When
+        Throwable thrown = assertThrows(InsufficientStockException.class,
+                () -> inventoryService.adjust(1, sale));
+
+        // Then
+        MatcherAssert.assertThat(thrown.getMessage(), is(MessageConstants.INSUFFICIENT_STOCK));
+    }
+
+    @Test
+    public void findById_PendingDelta_Return_QuantityWithPendingDelta() {
+        // Given
+        given(inventoryDao.findById(1)).willReturn(Optional.of(ardillasSaladas));
+        willReturn(-2L).given(deltaBuffer).pending(1);
+
+        // When
+        InventoryGenericResponseDto foundInventory = inventoryService.findById(1);
+
+        // Then
+        assertThat(foundInventory.getQuantityAvailable()).isEqualTo(320);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void adjustBasket_EnoughStock_Return_AdjustedInventoryOrderedByProduct() {
+        // Given
+        InventoryBasketRequestDto basket = new InventoryBasketRequestDto(List.of(
+                new InventoryBasketLineDto(4, -1),
+                new InventoryBasketLineDto(1, -2),
+                new InventoryBasketLineDto(4, -3)
+        ));
+
+        ArgumentCaptor<Map<Integer, Integer>> deltas = ArgumentCaptor.forClass(Map.class);
+
+        given(inventoryBatchDao.adjustQuantitiesByProduct(deltas.capture())).willReturn(new int[]{1, 1});
+        given(inventoryDao.findProjectedByProductIdIn(any()))
+                .willReturn(List.of(mapToProjection(ardillasSaladas), mapToProjection(vacaNapolitana)));
+
+        // When
+        List<InventoryGenericResponseDto> adjustedInventory = inventoryService.adjustBasket(basket);
+
+        // Then
+        assertThat(deltas.getValue()).containsExactly(Map.entry(1, -2), Map.entry(4, -4));
+
+        assertThat(adjustedInventory).isNotNull();
+        assertThat(adjustedInventory.size()).isEqualTo(2);
+        assertThat(adjustedInventory.get(0).getProduct().getId()).isEqualTo(1);
+        assertThat(adjustedInventory.get(1).getProduct().getId()).isEqualTo(4);
+
+        verify(barcodeCache, times(1)).invalidateProducts(List.of(1, 4));
+    }
+
+    @Test
+    public void adjustBasket_InsufficientStock_Throw_InsufficientStockException() {
+        // Given
+        InventoryBasketRequestDto basket = new InventoryBasketRequestDto(List.of(
+                new InventoryBasketLineDto(1, -2),
+                new InventoryBasketLineDto(2, -500)
+        ));
+
+        given(inventoryBatchDao.adjustQuantitiesByProduct(anyMap())).willReturn(new int[]{1, 0});
+        given(inventoryDao.existsByProductId(2)).willReturn(true);
+
+        // When
+        Throwable thrown = assertThrows(InsufficientStockException.class,
+                () -> inventoryService.adjustBasket(basket));
+
+        // Then
+        MatcherAssert.assertThat(thrown.getMessage(),
+                is(MessageConstants.INSUFFICIENT_STOCK + " " + MessageConstants.ID + ": [2]"));
+
+        verify(barcodeCache, never()).invalidateProducts(any());
+    }
+
+    @Test
+    public void adjustBasket_NonExistingInventory_Throw_DataNotFoundException() {
+        // Given
+        InventoryBasketRequestDto basket = new InventoryBasketRequestDto(List.of(
+                new InventoryBasketLineDto(100, -1)
+        ));
+
+        given(inventoryBatchDao.adjustQuantitiesByProduct(anyMap())).willReturn(new int[]{0});
+        given(inventoryDao.existsByProductId(100)).willReturn(false);
+
+        // When
+        Throwable thrown = assertThrows(DataNotFoundException.class,
+                () -> inventoryService.adjustBasket(basket));
+
+        // Then
+        MatcherAssert.assertThat(thrown.getMessage(),
+                is(MessageConstants.INVENTORY_NOT_FOUND + " " + MessageConstants.ID + ": [100]"));
+    }
+
+    @Test
+    public void findLowStock_Return_LowStockSlice() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("id").ascending());
+        Inventory vacaNapolitanaLow = vacaNapolitana.toBuilder().quantityAvailable(45).build();
+
+        given(inventoryDao.findLowStock(pageable))
+                .willReturn(new SliceImpl<>(List.of(mapToProjection(vacaNapolitanaLow)), pageable, false));
+
+        // When
+        CustomPaginationData<InventoryGenericResponseDto, Inventory> foundInventory =
+                inventoryService.findLowStock(pageable);
+
+        // Then
+        assertThat(foundInventory.getData()).hasSize(1);
+        assertThat(foundInventory.getData().get(0).getQuantityAvailable()).isEqualTo(45);
+        assertThat(foundInventory.getData().get(0).getProduct().getId()).isEqualTo(4);
+        assertThat(foundInventory.getMetadata().getHasNext()).isFalse();
+    }
+
+    @Test
+    public void findLowStock_WriteBehindPendingDeltas_Return_LowStockWithPendingDeltas() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("id").ascending());
+        Inventory vacaNapolitanaLow = vacaNapolitana.toBuilder().quantityAvailable(45).build();
+
+        // Ardillas Saladas queda en existencia baja y Vaca Napolitana deja de estarlo con los ajustes
+        willReturn(Set.of(1)).given(deltaBuffer).pendingDecreases();
+        willReturn(-80L).given(deltaBuffer).pending(1);
+        willReturn(40L).given(deltaBuffer).pending(4);
+
+        given(inventoryDao.findLowStockOrProductIdIn(Set.of(1), pageable)).willReturn(new SliceImpl<>(
+                List.of(mapToProjection(ardillasSaladas), mapToProjection(vacaNapolitanaLow)), pageable, false));
+
+        // When
+        CustomPaginationData<InventoryGenericResponseDto, Inventory> foundInventory =
+                inventoryService.findLowStock(pageable);
+
+        // Then
+        assertThat(foundInventory.getData()).hasSize(1);
+        assertThat(foundInventory.getData().get(0).getProduct().getId()).isEqualTo(1);
+        assertThat(foundInventory.getData().get(0).getQuantityAvailable()).isEqualTo(242);
+
+        verify(inventoryDao, never()).findLowStock(any());
+    }
+
+    @Test
+    public void findMovementsByProductId_Return_MovementsSlice() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("id").descending());
+        OffsetDateTime now = OffsetDateTime.now();
+        List<InventoryMovement> movements = List.of(
+                new InventoryMovement(9L, 1, MovementType.SALE, -2, now),
+                new InventoryMovement(4L, 1, MovementType.RESTOCK, 50, now.minusDays(1))
+        );
+
+        given(inventoryMovementDao.findByProductId(1, pageable)).willReturn(new SliceImpl<>(movements, pageable, true));
+
+        // When
+        CustomPaginationData<InventoryMovementResponseDto, InventoryMovement> foundMovements =
+                inventoryService.findMovementsByProductId(1, pageable);
+
+        // Then
+        assertThat(foundMovements.getData()).extracting(InventoryMovementResponseDto::getId).containsExactly(9L, 4L);
+        assertThat(foundMovements.getData().get(0).getType()).isEqualTo(MovementType.SALE);
+        assertThat(foundMovements.getMetadata().getHasNext()).isTrue();
+    }
+
+    @Test
+    public void findQuantityAt_Return_QuantityFromLedger() {
+        // Given
+        OffsetDateTime at = OffsetDateTime.parse("2026-01-15T10:00:00-06:00");
+
+        given(inventoryDao.existsByProductId(1)).willReturn(true);
+        given(inventoryMovementDao.findQuantityAt(1, at)).willReturn(318);
+
+        // When
+        InventoryStockResponseDto stock = inventoryService.findQuantityAt(1, at);
+
+        // Then
+        assertThat(stock.getProductId()).isEqualTo(1);
+        assertThat(stock.getQuantityAvailable()).isEqualTo(318);
+        assertThat(stock.getAt()).isEqualTo(at);
+    }
+
+    @Test
+    public void findQuantityAt_NonExistingInventory_Throw_DataNotFoundException() {
+        // Given
+        OffsetDateTime at = OffsetDateTime.parse("2026-01-15T10:00:00-06:00");
+
+        given(inventoryDao.existsByProductId(100)).willReturn(false);
+
+        // When
+        Throwable thrown = assertThrows(DataNotFoundException.class,
+                () -> inventoryService.findQuantityAt(100, at));
+
+        // Then
+        MatcherAssert.assertThat(thrown.getMessage(), is(MessageConstants.INVENTORY_NOT_FOUND));
+        verify(inventoryMovementDao, never()).findQuantityAt(anyInt(), any());
+    }
+
     @Test
     public void deleteById_Category_NoReturn() {
         // Given
@@ -331,4 +688,40 @@ public class IInventoryServiceImplTest {
         // Then
         verify(inventoryDao, times(1)).deleteById(10);
     }
+
+    private static InventoryGenericProjection mapToProjection(Inventory inventory) {
+        return new InventoryGenericProjection(
+                inventory.getId(),
+                inventory.getQuantityAvailable(),
+                inventory.getMinimumStock(),
+                inventory.getMaximumStock(),
+                inventory.getProduct().getId(),
+                inventory.getProduct().getName()
+        );
+    }
+
+    // Stock mínimo y máximo de Ardillas Saladas
+    private static InventoryQuantityProjection quantityProjection(Integer productId, Integer quantityAvailable) {
+        return new InventoryQuantityProjection() {
+            @Override
+            public Integer getProductId() {
+                return productId;
+            }
+
+            @Override
+            public Integer getQuantityAvailable() {
+                return quantityAvailable;
+            }
+
+            @Override
+            public Integer getMinimumStock() {
+                return 250;
+            }
+
+            @Override
+            public Integer getMaximumStock() {
+                return 625;
+            }
+        };
+    }
 }
@@ -0,0 +1,95 @@
+package com.alivro.spring.sleepyringtail.service.impl;
+
+import com.alivro.spring.sleepyringtail.dao.ProductExportDao;
+import com.alivro.spring.sleepyringtail.model.product.projection.ProductExportProjection;
+import com.alivro.spring.sleepyringtail.model.product.request.ProductExportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+public class IProductExportServiceImplTest {
+    @Mock
+    private ProductExportDao productExportDao;
+
+    private IProductExportServiceImpl productExportService;
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    @BeforeEach
+    public void setup() {
+        productExportService = new IProductExportServiceImpl(productExportDao, new ObjectMapper());
+
+        willAnswer(invocation -> {
+            Consumer<ProductExportProjection> consumer = invocation.getArgument(0);
+
+            consumer.accept(new ProductExportProjection(5, "Vaca de Chocolate", "Helado sabor chocolate", "1 L",
+                    new BigDecimal("48.00"), "7506306417786", 15, "Helados", 5, "Helados", 12, 5, 20));
+            consumer.accept(new ProductExportProjection(14, "Oso Almendrado, edición especial", null, "40 g",
+                    new BigDecimal("38.50"), "7501024544295", 11, "Chocolates", 4, "Dulces", null, null, null));
+
+            return null;
+        }).given(productExportDao).forEach(any());
+    }
+
+    @Test
+    public void exportProducts_CsvFormat_Write_HeaderAndRows() throws IOException {
+        // When
+        long written = productExportService.exportProducts(ProductExportFormat.CSV, output);
+
+        // Then
+        assertThat(written).isEqualTo(2);
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo("""
+                id,name,description,size,price,barcode,subcategoryId,subcategoryName,categoryId,categoryName,\
+                quantityAvailable,minimumStock,maximumStock
+                5,"Vaca de Chocolate","Helado sabor chocolate","1 L",48.00,7506306417786,15,Helados,5,Helados,12,5,20
+                14,"Oso Almendrado, edición especial",,"40 g",38.50,7501024544295,11,Chocolates,4,Dulces,,,
+                """);
+    }
+
+    @Test
+    public void exportProducts_NdjsonFormat_Write_OneObjectPerLine() throws IOException {
+        // When
+        long written = productExportService.exportProducts(ProductExportFormat.NDJSON, output);
+
+        // Then
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n", -1);
+
+        assertThat(written).isEqualTo(2);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("{\"id\":5,\"name\":\"Vaca de Chocolate\"");
+        assertThat(lines[1]).endsWith("\"quantityAvailable\":null,\"minimumStock\":null,\"maximumStock\":null}");
+        assertThat(lines[2]).isEmpty();
+    }
+
+    @Test
+    public void exportProducts_ClientDisconnects_Throw_IOException() {
+        // Given
+        OutputStream closedOutput = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // When / Then
+        assertThatThrownBy(() -> productExportService.exportProducts(ProductExportFormat.NDJSON, closedOutput))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Broken pipe");
+    }
+}
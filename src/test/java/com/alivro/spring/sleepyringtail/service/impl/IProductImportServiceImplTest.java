@@ -0,0 +1,388 @@
+package com.alivro.spring.sleepyringtail.service.impl;
+
+import com.alivro.spring.sleepyringtail.alert.StockAlertPublisher;
+import com.alivro.spring.sleepyringtail.alert.StockLevel;
+import com.alivro.spring.sleepyringtail.buffer.InventoryDeltaBuffer;
+import com.alivro.spring.sleepyringtail.cache.BarcodeCache;
+import com.alivro.spring.sleepyringtail.cache.CategoryTreeCache;
+import com.alivro.spring.sleepyringtail.cache.ExistenceFilter;
+import com.alivro.spring.sleepyringtail.constants.MessageConstants;
+import com.alivro.spring.sleepyringtail.dao.InventoryBatchDao;
+import com.alivro.spring.sleepyringtail.dao.InventoryDao;
+import com.alivro.spring.sleepyringtail.dao.ProductCopyDao;
+import com.alivro.spring.sleepyringtail.dao.ProductDao;
+import com.alivro.spring.sleepyringtail.dao.SubcategoryDao;
+import com.alivro.spring.sleepyringtail.model.Inventory;
+import com.alivro.spring.sleepyringtail.model.InventoryMovement;
+import com.alivro.spring.sleepyringtail.model.MovementType;
+import com.alivro.spring.sleepyringtail.model.Product;
+import com.alivro.spring.sleepyringtail.model.Subcategory;
+import com.alivro.spring.sleepyringtail.model.product.projection.ProductCopyProjection;
+import com.alivro.spring.sleepyringtail.model.product.request.ProductImportFormat;
+import com.alivro.spring.sleepyringtail.model.product.request.ProductImportMode;
+import com.alivro.spring.sleepyringtail.model.product.request.ProductImportRecord;
+import com.alivro.spring.sleepyringtail.model.product.response.ProductImportErrorResponseDto;
+import com.alivro.spring.sleepyringtail.model.product.response.ProductImportResponseDto;
+import com.alivro.spring.sleepyringtail.model.subcategory.projection.SubcategoryGenericProjection;
+import com.alivro.spring.sleepyringtail.search.ProductSearchIndex;
+import com.alivro.spring.sleepyringtail.search.SuggestionIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class IProductImportServiceImplTest {
+    @Mock
+    private ProductDao productDao;
+
+    @Mock
+    private SubcategoryDao subcategoryDao;
+
+    @Mock
+    private InventoryDao inventoryDao;
+
+    @Mock
+    private InventoryBatchDao inventoryBatchDao;
+
+    @Mock
+    private ProductCopyDao productCopyDao;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private SuggestionIndex suggestionIndex;
+
+    @Mock
+    private BarcodeCache barcodeCache;
+
+    @Mock
+    private ExistenceFilter existenceFilter;
+
+    @Mock
+    private CategoryTreeCache categoryTreeCache;
+
+    @Mock
+    private StockAlertPublisher stockAlertPublisher;
+
+    @Spy
+    private InventoryDeltaBuffer deltaBuffer = new InventoryDeltaBuffer(null, null, false, 1000, "inventory.journal");
+
+    private IProductImportServiceImpl productImportService;
+
+    private final List<ProductImportErrorResponseDto> errors = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        productImportService = new IProductImportServiceImpl(productDao, subcategoryDao,
+                inventoryDao, inventoryBatchDao, productCopyDao, new TransactionTemplate(transactionManager),
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(),
+                productSearchIndex, suggestionIndex, barcodeCache, existenceFilter, categoryTreeCache,
+                deltaBuffer, stockAlertPublisher);
+
+        given(subcategoryDao.findAllProjected(Pageable.unpaged())).willReturn(new PageImpl<>(List.of(
+                new SubcategoryGenericProjection(15, "Helados", null, 5, "Helados"),
+                new SubcategoryGenericProjection(11, "Chocolates", null, 4, "Dulces")
+        )));
+    }
+
+    @Test
+    public void importProducts_CsvNewAndExistingProducts_Return_Summary() throws IOException {
+        // Given
+        String csv = """
+                name,description,size,price,barcode,subcategory
+                Vaca de Chocolate,Helado sabor chocolate,1 L,48.00,7506306417786,Helados
+                "Oso Almendrado, edición especial",,40 g,38.50,7501024544295,Chocolates
+                """;
+
+        Product osoAlmendrado = Product.builder()
+                .id(14)
+                .name("Oso Almendrado")
+                .size("40 g")
+                .price(new BigDecimal("36.00"))
+                .barcode("7501024544295")
+                .build();
+
+        given(productDao.findAllByBarcodeIn(Set.of("7506306417786", "7501024544295")))
+                .willReturn(List.of(osoAlmendrado));
+        given(subcategoryDao.getReferenceById(any())).willAnswer(invocation ->
+                Subcategory.builder().id(invocation.getArgument(0)).build());
+        given(productDao.saveAll(anyCollection())).willAnswer(invocation -> {
+            List<Product> products = invocation.getArgument(0);
+            products.forEach(product -> product.setId(24));
+
+            return products;
+        });
+
+        // When
+        ProductImportResponseDto summary = productImportService.importProducts(
+                body(csv), ProductImportFormat.CSV, ProductImportMode.BATCH, errors::add);
+
+        // Then
+        assertThat(errors).isEmpty();
+        assertThat(summary.getRead()).isEqualTo(2);
+        assertThat(summary.getInserted()).isEqualTo(1);
+        assertThat(summary.getUpdated()).isEqualTo(1);
+        assertThat(summary.getRejected()).isZero();
+
+        assertThat(osoAlmendrado.getName()).isEqualTo("Oso Almendrado, edición especial");
+        assertThat(osoAlmendrado.getDescription()).isNull();
+        assertThat(osoAlmendrado.getPrice()).isEqualByComparingTo("38.50");
+        assertThat(osoAlmendrado.getSubcategory().getId()).isEqualTo(11);
+
+        verify(productDao, times(1)).saveAll(List.of(Product.builder()
+                .id(24)
+                .name("Vaca de Chocolate")
+                .description("Helado sabor chocolate")
+                .size("1 L")
+                .price(new BigDecimal("48.00"))
+                .barcode("7506306417786")
+                .subcategory(Subcategory.builder().id(15).build())
+                .build()));
+        verify(barcodeCache, times(1)).invalidateProducts(Set.of(14));
+        verify(productSearchIndex, times(1)).refreshAll(Set.of(14, 24));
+        verify(categoryTreeCache, times(1)).invalidate();
+    }
+
+    @Test
+    public void importProducts_NdjsonInvalidRecords_Report_ErrorsByLine() throws IOException {
+        // Given
+        String ndjson = """
+                {"name":"Vaca de Chocolate","size":"1 L","price":48.00,"barcode":"7506306417786"
+
+                {"name":"Vaca de Vainilla","size":"1 L","price":48.00,"barcode":"750630641","subcategory":"Helados"}
+                {"name":"Vaca de Nuez","size":"1 L","price":48.00,"barcode":"7506306417793","subcategory":"Nieves"}
+                """;
+
+        // When
+        ProductImportResponseDto summary = productImportService.importProducts(
+                body(ndjson), ProductImportFormat.NDJSON, ProductImportMode.BATCH, errors::add);
+
+        // Then
+        assertThat(summary.getRead()).isEqualTo(3);
+        assertThat(summary.getRejected()).isEqualTo(3);
+        assertThat(errors).extracting(ProductImportErrorResponseDto::getLine).containsExactly(1L, 3L, 4L);
+        assertThat(errors.get(0).getErrors()).containsExactly(MessageConstants.PRODUCT_IMPORT_RECORD_NOT_VALID);
+        assertThat(errors.get(1).getErrors())
+                .containsExactly("barcode: El campo código de barras debe estar conformado por 13 dígitos.");
+        assertThat(errors.get(2).getErrors()).containsExactly(MessageConstants.PRODUCT_IMPORT_SUBCATEGORY_NOT_FOUND);
+
+        verify(productDao, never()).saveAll(anyCollection());
+    }
+
+    @Test
+    public void importProducts_NdjsonInvalidInventory_Report_InventoryErrors() throws IOException {
+        // Given
+        String ndjson = """
+                {"name":"Vaca de Chocolate","size":"1 L","price":48,"barcode":"7506306417786",\
+                "subcategory":"Helados","quantityAvailable":-1}
+                """;
+
+        // When
+        ProductImportResponseDto summary = productImportService.importProducts(
+                body(ndjson), ProductImportFormat.NDJSON, ProductImportMode.BATCH, errors::add);
+
+        // Then
+        assertThat(summary.getRejected()).isEqualTo(1);
+        assertThat(errors.get(0).getErrors()).containsExactly(
+                "maximumStock: El campo stock máximo es obligatorio.",
+                "minimumStock: El campo stock mínimo es obligatorio.",
+                "quantityAvailable: El campo cantidad disponible debe ser un número positivo o cero.");
+    }
+
+    @Test
+    public void importProducts_CsvWithInventory_Save_InventoryAndMovements() throws IOException {
+        // Given
+        String csv = """
+                name,size,price,barcode,subcategory,quantityAvailable,minimumStock,maximumStock
+                Vaca de Chocolate,1 L,48.00,7506306417786,Helados,12,5,20
+                Oso Almendrado,40 g,38.50,7501024544295,Chocolates,14,5,30
+                """;
+
+        Inventory osoAlmendradoInventory = Inventory.builder()
+                .id(3)
+                .quantityAvailable(10)
+                .minimumStock(5)
+                .maximumStock(20)
+                .build();
+        Product osoAlmendrado = Product.builder()
+                .id(14)
+                .barcode("7501024544295")
+                .inventory(osoAlmendradoInventory)
+                .build();
+
+        given(inventoryDao.findForUpdateByProductBarcodeIn(Set.of("7506306417786", "7501024544295")))
+                .willReturn(List.of(osoAlmendradoInventory));
+        given(productDao.findAllByBarcodeIn(anyCollection())).willReturn(List.of(osoAlmendrado));
+        given(productDao.saveAll(anyCollection())).willAnswer(invocation -> {
+            List<Product> products = invocation.getArgument(0);
+            products.forEach(product -> product.setId(24));
+
+            return products;
+        });
+
+        // When
+        ProductImportResponseDto summary = productImportService.importProducts(
+                body(csv), ProductImportFormat.CSV, ProductImportMode.BATCH, errors::add);
+
+        // Then
+        assertThat(errors).isEmpty();
+        assertThat(summary.getInserted()).isEqualTo(1);
+        assertThat(summary.getUpdated()).isEqualTo(1);
+
+        assertThat(osoAlmendradoInventory.getQuantityAvailable()).isEqualTo(14);
+        assertThat(osoAlmendradoInventory.getMaximumStock()).isEqualTo(30);
+
+        verify(inventoryDao, times(1)).saveAll(argThat((List<Inventory> inventories) ->
+                inventories.size() == 1 && inventories.get(0).getQuantityAvailable() == 12
+                        && inventories.get(0).getProduct().getId() == 24));
+        verify(productDao, times(1)).flush();
+        verify(inventoryBatchDao, times(1)).appendMovements(List.of(
+                InventoryMovement.builder().productId(24).type(MovementType.RESTOCK).quantity(12).build(),
+                InventoryMovement.builder().productId(14).type(MovementType.ADJUSTMENT).quantity(4).build()));
+        verify(deltaBuffer, times(1)).exclusive(any());
+        verify(stockAlertPublisher, times(1)).stockChanged(24, null, 12, 5, 20);
+        verify(stockAlertPublisher, times(1)).stockChanged(14, StockLevel.of(10, 5, 20), 14, 5, 30);
+    }
+
+    @Test
+    public void importProducts_CopyModeRepeatedAndConflictingRecords_Report_Conflicts() throws IOException {
+        // Given
+        String ndjson = """
+                {"name":"Vaca de Chocolate","size":"1 L","price":48,"barcode":"7506306417786","subcategory":"Helados"}
+                {"name":"Oso Almendrado","size":"40 g","price":38.5,"barcode":"7501024544295",\
+                "subcategory":"Chocolates","quantityAvailable":14,"minimumStock":5,"maximumStock":30}
+                {"name":"Vaca de Chocolate","size":"2 L","price":90,"barcode":"7506306417786","subcategory":"Helados"}
+                {"name":"Vaca de Nuez","size":"1 L","price":48,"barcode":"7506306417793","subcategory":"Helados"}
+                """;
+
+        given(productCopyDao.copyAndMerge(anyList())).willReturn(List.of(
+                new ProductCopyProjection(2, 14, false, false),
+                new ProductCopyProjection(3, 24, true, false)
+        ));
+
+        // When
+        ProductImportResponseDto summary = productImportService.importProducts(
+                body(ndjson), ProductImportFormat.NDJSON, ProductImportMode.COPY, errors::add);
+
+        // Then
+        assertThat(summary.getRead()).isEqualTo(4);
+        assertThat(summary.getInserted()).isEqualTo(1);
+        assertThat(summary.getUpdated()).isEqualTo(1);
+        assertThat(summary.getRejected()).isEqualTo(2);
+
+        assertThat(errors).extracting(ProductImportErrorResponseDto::getLine).containsExactly(1L, 2L, 4L);
+        assertThat(errors.get(0).getErrors()).containsExactly(MessageConstants.PRODUCT_IMPORT_BARCODE_REPEATED);
+        assertThat(errors.get(1).getErrors()).containsExactly(MessageConstants.PRODUCT_IMPORT_PRODUCT_ID_CONFLICT);
+        assertThat(errors.get(2).getErrors()).containsExactly(MessageConstants.PRODUCT_IMPORT_BARCODE_CONFLICT);
+
+        verify(productCopyDao, times(1)).copyAndMerge(argThat(records ->
+                records.stream().map(ProductImportRecord::line).toList().equals(List.of(3L, 2L, 4L))));
+        verify(productDao, never()).findAllByBarcodeIn(anyCollection());
+        verify(deltaBuffer, times(1)).exclusive(any());
+        verify(barcodeCache, times(1)).invalidateProducts(Set.of(14));
+        verify(productSearchIndex, times(1)).refreshAll(Set.of(14, 24));
+        verify(categoryTreeCache, times(1)).invalidate();
+    }
+
+    @Test
+    public void importProducts_BatchFails_Reject_BatchRecords() throws IOException {
+        // Given
+        String ndjson = """
+                {"name":"Vaca de Chocolate","size":"1 L","price":48,"barcode":"7506306417786","subcategory":"Helados"}
+                """;
+
+        given(productDao.findAllByBarcodeIn(anyCollection()))
+                .willThrow(new IllegalStateException("Conexión cerrada"));
+
+        // When
+        ProductImportResponseDto summary = productImportService.importProducts(
+                body(ndjson), ProductImportFormat.NDJSON, ProductImportMode.BATCH, errors::add);
+
+        // Then
+        assertThat(summary.getInserted()).isZero();
+        assertThat(summary.getRejected()).isEqualTo(1);
+        assertThat(errors.get(0).getBarcode()).isEqualTo("7506306417786");
+        assertThat(errors.get(0).getErrors()).containsExactly(MessageConstants.PRODUCT_IMPORT_BATCH_NOT_SAVED);
+
+        verify(categoryTreeCache, never()).invalidate();
+    }
+
+    @Test
+    public void importProducts_CsvMultilineField_Report_ErrorsByRecordStartLine() throws IOException {
+        // Given
+        String csv = """
+                name,description,size,price,barcode,subcategory
+                Vaca de Chocolate,"Helado sabor chocolate
+                con trozos de galleta",1 L,48.00,7506306417786,Helados
+
+                Vaca de Vainilla,,1 L,cuarenta,7506306417793,Helados
+                Vaca de Nuez,,1 L,48.00,7506306417800,Nieves
+                """;
+
+        given(productDao.findAllByBarcodeIn(anyCollection())).willReturn(List.of());
+        given(productDao.saveAll(anyCollection())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        ProductImportResponseDto summary = productImportService.importProducts(
+                body(csv), ProductImportFormat.CSV, ProductImportMode.BATCH, errors::add);
+
+        // Then
+        assertThat(summary.getRead()).isEqualTo(3);
+        assertThat(summary.getInserted()).isEqualTo(1);
+        assertThat(summary.getRejected()).isEqualTo(2);
+
+        assertThat(errors).extracting(ProductImportErrorResponseDto::getLine).containsExactly(5L, 6L);
+        assertThat(errors.get(0).getErrors()).containsExactly(MessageConstants.PRODUCT_IMPORT_RECORD_NOT_VALID);
+        assertThat(errors.get(1).getErrors()).containsExactly(MessageConstants.PRODUCT_IMPORT_SUBCATEGORY_NOT_FOUND);
+
+        verify(productDao, times(1)).saveAll(argThat((List<Product> products) -> products.size() == 1
+                && products.get(0).getDescription().equals("Helado sabor chocolate\ncon trozos de galleta")));
+    }
+
+    @Test
+    public void importProducts_EmptyCsv_Report_HeaderMissing() throws IOException {
+        // When
+        ProductImportResponseDto summary = productImportService.importProducts(
+                body(""), ProductImportFormat.CSV, ProductImportMode.BATCH, errors::add);
+
+        // Then
+        assertThat(summary.getRead()).isZero();
+        assertThat(errors.get(0).getErrors()).containsExactly(MessageConstants.PRODUCT_IMPORT_HEADER_MISSING);
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,16 +1,29 @@
 package com.alivro.spring.sleepyringtail.service.impl;
 
+import com.alivro.spring.sleepyringtail.buffer.InventoryDeltaBuffer;
+import com.alivro.spring.sleepyringtail.cache.BarcodeCache;
+import com.alivro.spring.sleepyringtail.cache.CategoryTreeCache;
+import com.alivro.spring.sleepyringtail.cache.ExistenceFilter;
+import com.alivro.spring.sleepyringtail.cache.UniqueKey;
 import com.alivro.spring.sleepyringtail.constants.MessageConstants;
 import com.alivro.spring.sleepyringtail.dao.ProductDao;
 import com.alivro.spring.sleepyringtail.exception.DataAlreadyExistsException;
 import com.alivro.spring.sleepyringtail.exception.DataNotFoundException;
+import com.alivro.spring.sleepyringtail.exception.DataNotValidException;
+import com.alivro.spring.sleepyringtail.mapper.ProductMapper;
 import com.alivro.spring.sleepyringtail.model.Inventory;
 import com.alivro.spring.sleepyringtail.model.Product;
+import com.alivro.spring.sleepyringtail.model.product.projection.ProductGenericProjection;
 import com.alivro.spring.sleepyringtail.model.Subcategory;
 import com.alivro.spring.sleepyringtail.model.product.request.ProductGenericRequestDto;
 import com.alivro.spring.sleepyringtail.model.product.response.ProductGenericResponseDto;
 import com.alivro.spring.sleepyringtail.model.product.response.ProductGetResponseDto;
+import com.alivro.spring.sleepyringtail.model.suggestion.response.SuggestionResponseDto;
 import com.alivro.spring.sleepyringtail.model.util.request.SubcategoryRequestDto;
+import com.alivro.spring.sleepyringtail.search.ProductSearchIndex;
+import com.alivro.spring.sleepyringtail.search.SuggestionIndex;
+import com.alivro.spring.sleepyringtail.search.SuggestionType;
+import com.alivro.spring.sleepyringtail.util.pagination.CustomCursor;
 import com.alivro.spring.sleepyringtail.util.pagination.CustomPageMetadata;
 import com.alivro.spring.sleepyringtail.util.pagination.CustomPaginationData;
 import org.hamcrest.MatcherAssert;
@@ -19,11 +32,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
@@ -34,10 +48,12 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.BDDMockito.willReturn;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -46,6 +62,25 @@ public class IProductServiceImplTest {
     @Mock
     private ProductDao productDao;
 
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private SuggestionIndex suggestionIndex;
+
+    @Mock
+    private ExistenceFilter existenceFilter;
+
+    @Mock
+    private CategoryTreeCache categoryTreeCache;
+
+    @Mock
+    private BarcodeCache barcodeCache;
+
+    // Modo de escritura diferida desactivado, salvo en las pruebas que lo activan
+    @Spy
+    private InventoryDeltaBuffer deltaBuffer = new InventoryDeltaBuffer(null, null, false, 1000, "inventory.journal");
+
     @InjectMocks
     private IProductServiceImpl productService;
 
@@ -67,7 +102,7 @@ public class IProductServiceImplTest {
 
     @BeforeAll
     public static void setup() {
-        ModelMapper modelMapper = new ModelMapper();
+        ProductMapper productMapper = ProductMapper.INSTANCE;
 
         // Buscar todos los productos
         Subcategory aguaNatural = Subcategory.builder()
@@ -92,7 +127,7 @@ public class IProductServiceImplTest {
 
         Inventory inventoryProduct = Inventory.builder()
                 .id(1)
-                .quantityAvailable((short) 322)
+                .quantityAvailable(322)
                 .build();
 
         ardillasSaladas = Product.builder()
@@ -151,7 +186,7 @@ public class IProductServiceImplTest {
                 .subcategory(papasFritasRequest)
                 .build();
 
-        vacaCocolateToSave = modelMapper.map(vacaCocolateSaveRequest, Product.class);
+        vacaCocolateToSave = productMapper.toEntity(vacaCocolateSaveRequest);
 
         vacaCocolateSaved = vacaCocolateToSave.toBuilder().id(5).build();
 
@@ -170,7 +205,7 @@ public class IProductServiceImplTest {
                 .subcategory(heladoLecheRequest)
                 .build();
 
-        vacaChocolateToUpdate = modelMapper.map(vacaChocolateUpdateRequest, Product.class);
+        vacaChocolateToUpdate = productMapper.toEntity(vacaChocolateUpdateRequest);
 
         vacaChocolateUpdated = vacaChocolateToUpdate.toBuilder().id(5).build();
     }
@@ -182,17 +217,17 @@ public class IProductServiceImplTest {
         int pageSize = 5;
         String sortBy = "name";
 
-        List<Product> products = new ArrayList<>();
-        products.add(ardillasSaladas);
-        products.add(estrellaMarina);
-        products.add(osoAlmendrado);
-        products.add(vacaNapolitana);
+        List<ProductGenericProjection> products = new ArrayList<>();
+        products.add(mapToProjection(ardillasSaladas));
+        products.add(mapToProjection(estrellaMarina));
+        products.add(mapToProjection(osoAlmendrado));
+        products.add(mapToProjection(vacaNapolitana));
 
         Pageable pageable = PageRequest.ofSize(pageSize)
                 .withPage(pageNumber)
                 .withSort(Sort.by(sortBy).ascending());
 
-        given(productDao.findAll(pageable)).willReturn(
+        given(productDao.findAllProjected(pageable)).willReturn(
                 new PageImpl<>(products, pageable, products.size())
         );
 
@@ -224,13 +259,13 @@ public class IProductServiceImplTest {
         int pageSize = 5;
         String sortBy = "id";
 
-        List<Product> products = new ArrayList<>();
+        List<ProductGenericProjection> products = new ArrayList<>();
 
         Pageable pageable = PageRequest.ofSize(pageSize)
                 .withPage(pageNumber)
                 .withSort(Sort.by(sortBy).ascending());
 
-        given(productDao.findAll(pageable)).willReturn(
+        given(productDao.findAllProjected(pageable)).willReturn(
                 new PageImpl<>(products, pageable, 0)
         );
 
@@ -252,6 +287,79 @@ public class IProductServiceImplTest {
         assertThat(meta.getTotalPages()).isEqualTo(0);
     }
 
+    @Test
+    public void findAllAfter_FirstPage_ExistingNextPage_Return_ListOfProductsAndNextCursor() {
+        // Given
+        int pageSize = 2;
+
+        List<ProductGenericProjection> products = new ArrayList<>();
+        products.add(mapToProjection(ardillasSaladas));
+        products.add(mapToProjection(estrellaMarina));
+        products.add(mapToProjection(osoAlmendrado));
+
+        given(productDao.findProjectedByIdGreaterThan(0, PageRequest.ofSize(pageSize + 1)))
+                .willReturn(products);
+
+        // When
+        CustomPaginationData<ProductGenericResponseDto, Product> productsData =
+                productService.findAllAfter("", pageSize);
+
+        // Then
+        List<ProductGenericResponseDto> data = productsData.getData();
+        CustomPageMetadata meta = productsData.getMetadata();
+
+        assertThat(data.size()).isEqualTo(2);
+        assertThat(data.get(0).getName()).isEqualTo("Ardillas Saladas");
+        assertThat(data.get(1).getName()).isEqualTo("Estrella Marina");
+
+        assertThat(meta.getPageSize()).isEqualTo(2);
+        assertThat(meta.getNumberOfElements()).isEqualTo(2);
+        assertThat(meta.getNextCursor()).isEqualTo(CustomCursor.encode(estrellaMarina.getId()));
+        assertThat(meta.getPageNumber()).isNull();
+        assertThat(meta.getTotalElements()).isNull();
+        assertThat(meta.getTotalPages()).isNull();
+    }
+
+    @Test
+    public void findAllAfter_LastPage_Return_ListOfProductsWithoutNextCursor() {
+        // Given
+        int pageSize = 5;
+        String cursor = CustomCursor.encode(estrellaMarina.getId());
+
+        List<ProductGenericProjection> products = new ArrayList<>();
+        products.add(mapToProjection(osoAlmendrado));
+        products.add(mapToProjection(vacaNapolitana));
+
+        given(productDao.findProjectedByIdGreaterThan(estrellaMarina.getId(), PageRequest.ofSize(pageSize + 1)))
+                .willReturn(products);
+
+        // When
+        CustomPaginationData<ProductGenericResponseDto, Product> productsData =
+                productService.findAllAfter(cursor, pageSize);
+
+        // Then
+        List<ProductGenericResponseDto> data = productsData.getData();
+        CustomPageMetadata meta = productsData.getMetadata();
+
+        assertThat(data.size()).isEqualTo(2);
+        assertThat(data.get(0).getName()).isEqualTo("Oso Almendrado");
+        assertThat(data.get(1).getName()).isEqualTo("Vaca Napolitana");
+
+        assertThat(meta.getPageSize()).isEqualTo(5);
+        assertThat(meta.getNumberOfElements()).isEqualTo(2);
+        assertThat(meta.getNextCursor()).isNull();
+    }
+
+    @Test
+    public void findAllAfter_InvalidCursor_Throw_DataNotValidException() {
+        // When
+        Throwable thrown = assertThrows(DataNotValidException.class,
+                () -> productService.findAllAfter("no-es-un-cursor", 5));
+
+        // Then
+        MatcherAssert.assertThat(thrown.getMessage(), is(MessageConstants.CURSOR_NOT_VALID));
+    }
+
     @Test
     public void findAllByName_OrderByNameAsc_ExistingProducts_Return_ListOfProducts() {
         // Given
@@ -260,15 +368,15 @@ public class IProductServiceImplTest {
         int pageSize = 5;
         String sortBy = "name";
 
-        List<Product> products = new ArrayList<>();
-        products.add(estrellaMarina);
-        products.add(vacaNapolitana);
+        List<ProductGenericProjection> products = new ArrayList<>();
+        products.add(mapToProjection(estrellaMarina));
+        products.add(mapToProjection(vacaNapolitana));
 
         Pageable pageable = PageRequest.ofSize(pageSize)
                 .withPage(pageNumber)
                 .withSort(Sort.by(sortBy).ascending());
 
-        given(productDao.findByNameContainingIgnoreCase(word, pageable)).willReturn(
+        given(productDao.findProjectedByNameContainingIgnoreCase(word, pageable)).willReturn(
                 new PageImpl<>(products, pageable, products.size())
         );
 
@@ -293,6 +401,96 @@ public class IProductServiceImplTest {
         assertThat(meta.getTotalPages()).isEqualTo(1);
     }
 
+    @Test
+    public void findAllByName_WordWithWildcards_Search_EscapedWord() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 5);
+
+        given(productDao.findProjectedByNameContainingIgnoreCase("50\\%\\_a\\\\b", pageable))
+                .willReturn(new PageImpl<>(List.of(), pageable, 0));
+
+        // When
+        CustomPaginationData<ProductGenericResponseDto, Product> productsData =
+                productService.findAllByName("50%_a\\b", pageable);
+
+        // Then
+        assertThat(productsData.getData()).isEmpty();
+    }
+
+    @Test
+    public void findAllByName_ReadySearchIndex_Return_ListOfProductsByRelevance() {
+        // Given
+        String word = "napolitana";
+        Pageable pageable = PageRequest.of(0, 5);
+        ProductMapper productMapper = ProductMapper.INSTANCE;
+
+        List<ProductGenericResponseDto> products = new ArrayList<>();
+        products.add(productMapper.toGenericResponseDto(vacaNapolitana));
+
+        given(productSearchIndex.isReady()).willReturn(true);
+        given(productSearchIndex.searchByName(word, pageable)).willReturn(
+                new PageImpl<>(products, pageable, products.size())
+        );
+
+        // When
+        CustomPaginationData<ProductGenericResponseDto, Product> productsData =
+                productService.findAllByName(word, pageable);
+
+        // Then
+        List<ProductGenericResponseDto> data = productsData.getData();
+        CustomPageMetadata meta = productsData.getMetadata();
+
+        assertThat(data.size()).isEqualTo(1);
+        assertThat(data.get(0).getName()).isEqualTo("Vaca Napolitana");
+
+        assertThat(meta.getTotalElements()).isEqualTo(1);
+        assertThat(meta.getTotalPages()).isEqualTo(1);
+
+        verify(productDao, times(0)).findProjectedByNameContainingIgnoreCase(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    public void findSliceByName_ExistingNextPage_Return_ListOfProductsWithoutTotals() {
+        // Given
+        String word = "a";
+        int pageNumber = 0;
+        int pageSize = 2;
+        String sortBy = "name";
+
+        List<ProductGenericProjection> products = new ArrayList<>();
+        products.add(mapToProjection(ardillasSaladas));
+        products.add(mapToProjection(estrellaMarina));
+
+        Pageable pageable = PageRequest.ofSize(pageSize)
+                .withPage(pageNumber)
+                .withSort(Sort.by(sortBy).ascending());
+
+        given(productDao.findSlicedByNameContainingIgnoreCase(word, pageable)).willReturn(
+                new SliceImpl<>(products, pageable, true)
+        );
+
+        // When
+        CustomPaginationData<ProductGenericResponseDto, Product> productsData = productService.findSliceByName(
+                "a",
+                PageRequest.of(0, 2, Sort.by("name").ascending())
+        );
+
+        // Then
+        List<ProductGenericResponseDto> data = productsData.getData();
+        CustomPageMetadata meta = productsData.getMetadata();
+
+        assertThat(data.size()).isEqualTo(2);
+        assertThat(data.get(0).getName()).isEqualTo("Ardillas Saladas");
+        assertThat(data.get(1).getName()).isEqualTo("Estrella Marina");
+
+        assertThat(meta.getPageNumber()).isZero();
+        assertThat(meta.getPageSize()).isEqualTo(2);
+        assertThat(meta.getNumberOfElements()).isEqualTo(2);
+        assertThat(meta.getHasNext()).isTrue();
+        assertThat(meta.getTotalElements()).isNull();
+        assertThat(meta.getTotalPages()).isNull();
+    }
+
     @Test
     public void findAllByName_NonExistingProducts_Return_EmptyListOfProducts() {
         String word = "nu";
@@ -300,13 +498,13 @@ public class IProductServiceImplTest {
         int pageSize = 5;
         String sortBy = "id";
 
-        List<Product> products = new ArrayList<>();
+        List<ProductGenericProjection> products = new ArrayList<>();
 
         Pageable pageable = PageRequest.ofSize(pageSize)
                 .withPage(pageNumber)
                 .withSort(Sort.by(sortBy).ascending());
 
-        given(productDao.findByNameContainingIgnoreCase(word, pageable)).willReturn(
+        given(productDao.findProjectedByNameContainingIgnoreCase(word, pageable)).willReturn(
                 new PageImpl<>(products, pageable, 0)
         );
 
@@ -337,15 +535,15 @@ public class IProductServiceImplTest {
         int pageSize = 5;
         String sortBy = "name";
 
-        List<Product> products = new ArrayList<>();
-        products.add(ardillasSaladas);
-        products.add(estrellaMarina);
+        List<ProductGenericProjection> products = new ArrayList<>();
+        products.add(mapToProjection(ardillasSaladas));
+        products.add(mapToProjection(estrellaMarina));
 
         Pageable pageable = PageRequest.ofSize(pageSize)
                 .withPage(pageNumber)
                 .withSort(Sort.by(sortBy).ascending());
 
-        given(productDao.findByDescriptionContainingIgnoreCase(word, pageable)).willReturn(
+        given(productDao.findProjectedByDescriptionContainingIgnoreCase(word, pageable)).willReturn(
                 new PageImpl<>(products, pageable, products.size())
         );
 
@@ -379,13 +577,13 @@ public class IProductServiceImplTest {
         int pageSize = 5;
         String sortBy = "id";
 
-        List<Product> products = new ArrayList<>();
+        List<ProductGenericProjection> products = new ArrayList<>();
 
         Pageable pageable = PageRequest.ofSize(pageSize)
                 .withPage(pageNumber)
                 .withSort(Sort.by(sortBy).ascending());
 
-        given(productDao.findByDescriptionContainingIgnoreCase(word, pageable)).willReturn(
+        given(productDao.findProjectedByDescriptionContainingIgnoreCase(word, pageable)).willReturn(
                 new PageImpl<>(products, pageable, 0)
         );
 
@@ -408,6 +606,26 @@ public class IProductServiceImplTest {
         assertThat(meta.getTotalPages()).isEqualTo(0);
     }
 
+    @Test
+    public void suggest_NonReadySuggestionIndex_Return_ListOfProductsFromDatabase() {
+        // Given
+        List<ProductGenericProjection> products = new ArrayList<>();
+        products.add(mapToProjection(vacaNapolitana));
+
+        given(productDao.findSlicedByNameContainingIgnoreCase("napo", PageRequest.ofSize(10))).willReturn(
+                new SliceImpl<>(products, PageRequest.ofSize(10), false)
+        );
+
+        // When
+        List<SuggestionResponseDto> suggestions = productService.suggest("napo", 10);
+
+        // Then
+        assertThat(suggestions.size()).isEqualTo(1);
+        assertThat(suggestions.get(0).getType()).isEqualTo(SuggestionType.PRODUCT);
+        assertThat(suggestions.get(0).getId()).isEqualTo(4);
+        assertThat(suggestions.get(0).getName()).isEqualTo("Vaca Napolitana");
+    }
+
     @Test
     public void findById_ExistingProduct_Return_FoundProduct() {
         // Given
@@ -425,7 +643,20 @@ public class IProductServiceImplTest {
         assertThat(foundProduct.getPrice()).isEqualTo(BigDecimal.valueOf(21.00));
         assertThat(foundProduct.getBarcode()).isEqualTo("7501030459941");
         assertThat(foundProduct.getSubcategory().getName()).isEqualTo("Papas fritas");
-        assertThat(foundProduct.getInventory().getQuantityAvailable()).isEqualTo((short) 322);
+        assertThat(foundProduct.getInventory().getQuantityAvailable()).isEqualTo(322);
+    }
+
+    @Test
+    public void findById_WriteBehindPendingDelta_Return_CurrentQuantity() {
+        // Given
+        given(productDao.findById(1)).willReturn(Optional.of(ardillasSaladas));
+        willReturn(-2L).given(deltaBuffer).pending(1);
+
+        // When
+        ProductGetResponseDto foundProduct = productService.findById(1);
+
+        // Then
+        assertThat(foundProduct.getInventory().getQuantityAvailable()).isEqualTo(320);
     }
 
     @Test
@@ -441,9 +672,74 @@ public class IProductServiceImplTest {
         MatcherAssert.assertThat(thrown.getMessage(), is(MessageConstants.PRODUCT_NOT_FOUND));
     }
 
+    @Test
+    public void findByBarcode_CachedProduct_Return_FoundProductWithoutQuery() {
+        // Given
+        ProductGetResponseDto cachedProduct = ProductMapper.INSTANCE.toGetResponseDto(ardillasSaladas);
+
+        given(barcodeCache.get("7501030459941")).willReturn(cachedProduct);
+
+        // When
+        ProductGetResponseDto foundProduct = productService.findByBarcode("7501030459941");
+
+        // Then
+        assertThat(foundProduct.getName()).isEqualTo("Ardillas Saladas");
+
+        verify(productDao, times(0)).findByBarcode(anyString());
+    }
+
+    @Test
+    public void findByBarcode_CachedProductWithPendingDelta_Return_CurrentQuantityWithoutChangingCache() {
+        // Given
+        ProductGetResponseDto cachedProduct = ProductMapper.INSTANCE.toGetResponseDto(ardillasSaladas);
+
+        given(barcodeCache.get("7501030459941")).willReturn(cachedProduct);
+        willReturn(-2L).given(deltaBuffer).pending(1);
+
+        // When
+        ProductGetResponseDto foundProduct = productService.findByBarcode("7501030459941");
+
+        // Then
+        assertThat(foundProduct.getInventory().getQuantityAvailable()).isEqualTo(320);
+        assertThat(foundProduct.getSubcategory().getName()).isEqualTo("Papas fritas");
+        assertThat(cachedProduct.getInventory().getQuantityAvailable()).isEqualTo(322);
+    }
+
+    @Test
+    public void findByBarcode_NonCachedProduct_Return_FoundProductAndCacheIt() {
+        // Given
+        given(barcodeCache.version()).willReturn(7L);
+        given(productDao.findByBarcode("7501030459941")).willReturn(Optional.of(ardillasSaladas));
+
+        // When
+        ProductGetResponseDto foundProduct = productService.findByBarcode("7501030459941");
+
+        // Then
+        assertThat(foundProduct.getId()).isEqualTo(1);
+        assertThat(foundProduct.getName()).isEqualTo("Ardillas Saladas");
+        assertThat(foundProduct.getSubcategory().getName()).isEqualTo("Papas fritas");
+        assertThat(foundProduct.getInventory().getQuantityAvailable()).isEqualTo(322);
+
+        verify(barcodeCache, times(1)).put(foundProduct, 7L);
+    }
+
+    @Test
+    public void findByBarcode_NonExistingProduct_Throw_DataNotFoundException() {
+        // Given
+        given(productDao.findByBarcode(anyString())).willReturn(Optional.empty());
+
+        // When
+        Throwable thrown = assertThrows(DataNotFoundException.class,
+                () -> productService.findByBarcode("7500000000000"));
+
+        // Then
+        MatcherAssert.assertThat(thrown.getMessage(), is(MessageConstants.PRODUCT_NOT_FOUND));
+    }
+
     @Test
     public void save_NonExistingProduct_Return_SavedProduct() {
         // Given
+        given(existenceFilter.mightContain(UniqueKey.BARCODE, vacaCocolateSaveRequest.getBarcode())).willReturn(true);
         given(productDao.existsByBarcode(vacaCocolateSaveRequest.getBarcode())).willReturn(false);
         given(productDao.save(vacaCocolateToSave)).willReturn(vacaCocolateSaved);
 
@@ -460,9 +756,30 @@ public class IProductServiceImplTest {
         assertThat(savedProduct.getSubcategory().getName()).isEqualTo("Papas fritas");
     }
 
+    @Test
+    public void save_KeyNotInExistenceFilter_Return_SavedProductWithoutExistenceQuery() {
+        // Given
+        given(productDao.save(vacaCocolateToSave)).willReturn(vacaCocolateSaved);
+
+        // When
+        ProductGenericResponseDto savedProduct = productService.save(vacaCocolateSaveRequest);
+
+        // Then
+        assertThat(savedProduct).isNotNull();
+        assertThat(savedProduct.getName()).isEqualTo("Vaca de Cocolate");
+        assertThat(savedProduct.getDescription()).isEqualTo("Helado");
+        assertThat(savedProduct.getSize()).isEqualTo("500 ml");
+        assertThat(savedProduct.getPrice()).isEqualTo(BigDecimal.valueOf(42.00));
+        assertThat(savedProduct.getBarcode()).isEqualTo("7506306417854");
+        assertThat(savedProduct.getSubcategory().getName()).isEqualTo("Papas fritas");
+
+        verify(productDao, times(0)).existsByBarcode(anyString());
+    }
+
     @Test
     public void save_ExistingProduct_Throw_DataAlreadyExistsException() {
         // Given
+        given(existenceFilter.mightContain(any(UniqueKey.class), anyString())).willReturn(true);
         given(productDao.existsByBarcode(anyString())).willReturn(true);
 
         // When
@@ -518,5 +835,21 @@ public class IProductServiceImplTest {
 
         // Then
         verify(productDao, times(1)).deleteById(10);
+        verify(productSearchIndex, times(1)).remove(10);
+        verify(barcodeCache, times(1)).invalidateProduct(10);
+        verify(suggestionIndex, times(1)).remove(SuggestionType.PRODUCT, 10);
+    }
+
+    private static ProductGenericProjection mapToProjection(Product product) {
+        return new ProductGenericProjection(
+                product.getId(),
+                product.getName(),
+                product.getSize(),
+                product.getDescription(),
+                product.getPrice(),
+                product.getBarcode(),
+                product.getSubcategory().getId(),
+                product.getSubcategory().getName()
+        );
     }
 }
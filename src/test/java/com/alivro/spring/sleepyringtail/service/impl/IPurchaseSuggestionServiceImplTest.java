@@ -0,0 +1,159 @@
+package com.alivro.spring.sleepyringtail.service.impl;
+
+import com.alivro.spring.sleepyringtail.constants.MessageConstants;
+import com.alivro.spring.sleepyringtail.dao.PurchaseSuggestionDao;
+import com.alivro.spring.sleepyringtail.dao.PurchaseSuggestionRunDao;
+import com.alivro.spring.sleepyringtail.exception.DataNotFoundException;
+import com.alivro.spring.sleepyringtail.model.PurchaseSuggestion;
+import com.alivro.spring.sleepyringtail.model.PurchaseSuggestionRun;
+import com.alivro.spring.sleepyringtail.model.purchase.projection.PurchaseSuggestionSummaryProjection;
+import com.alivro.spring.sleepyringtail.model.purchase.response.PurchaseSuggestionResponseDto;
+import com.alivro.spring.sleepyringtail.model.purchase.response.PurchaseSuggestionRunResponseDto;
+import com.alivro.spring.sleepyringtail.model.purchase.response.PurchaseSuggestionSummaryResponseDto;
+import com.alivro.spring.sleepyringtail.util.pagination.CustomPaginationData;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class IPurchaseSuggestionServiceImplTest {
+    @Mock
+    private PurchaseSuggestionDao purchaseSuggestionDao;
+
+    @Mock
+    private PurchaseSuggestionRunDao purchaseSuggestionRunDao;
+
+    private IPurchaseSuggestionServiceImpl purchaseSuggestionService;
+
+    @BeforeEach
+    public void setup() {
+        // Se conservan las últimas 3 ejecuciones
+        purchaseSuggestionService = new IPurchaseSuggestionServiceImpl(
+                purchaseSuggestionDao, purchaseSuggestionRunDao, 3);
+    }
+
+    @Test
+    public void generate_ExistingLowStock_Return_RunAndDeleteOldRuns() {
+        // Given
+        given(purchaseSuggestionRunDao.save(any(PurchaseSuggestionRun.class))).willAnswer(invocation -> {
+            PurchaseSuggestionRun run = invocation.getArgument(0);
+            run.setId(12L);
+
+            return run;
+        });
+        given(purchaseSuggestionDao.saveSuggestions(12L)).willReturn(4);
+        given(purchaseSuggestionRunDao.findIds(PageRequest.of(2, 1))).willReturn(List.of(10L));
+
+        // When
+        PurchaseSuggestionRunResponseDto run = purchaseSuggestionService.generate();
+
+        // Then
+        assertThat(run.getId()).isEqualTo(12L);
+        assertThat(run.getProductCount()).isEqualTo(4);
+
+        verify(purchaseSuggestionDao, times(1)).deleteByRunIdLessThan(10L);
+        verify(purchaseSuggestionRunDao, times(1)).deleteByIdLessThan(10L);
+    }
+
+    @Test
+    public void generate_FewerRunsThanRetained_NotDelete() {
+        // Given
+        given(purchaseSuggestionRunDao.save(any(PurchaseSuggestionRun.class))).willAnswer(invocation -> {
+            PurchaseSuggestionRun run = invocation.getArgument(0);
+            run.setId(1L);
+
+            return run;
+        });
+        given(purchaseSuggestionRunDao.findIds(PageRequest.of(2, 1))).willReturn(List.of());
+
+        // When
+        purchaseSuggestionService.generate();
+
+        // Then
+        verify(purchaseSuggestionDao, never()).deleteByRunIdLessThan(anyLong());
+        verify(purchaseSuggestionRunDao, never()).deleteByIdLessThan(anyLong());
+    }
+
+    @Test
+    public void findLatest_ExistingRun_Return_SuggestionsSlice() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 2);
+        PurchaseSuggestionRun run = new PurchaseSuggestionRun(12L, OffsetDateTime.now(), 3);
+        List<PurchaseSuggestion> suggestions = List.of(
+                new PurchaseSuggestion(1L, 12L, 4, "Vaca Napolitana", 2, "Helado de leche", 5, "Helados",
+                        45, 70, 175, 130),
+                new PurchaseSuggestion(2L, 12L, 1, "Ardillas Saladas", 3, "Papas fritas", 3, "Botanas",
+                        240, 250, 625, 385)
+        );
+
+        given(purchaseSuggestionRunDao.findFirstByOrderByIdDesc()).willReturn(Optional.of(run));
+        given(purchaseSuggestionDao.findByRunId(12L, pageable))
+                .willReturn(new SliceImpl<>(suggestions, pageable, true));
+
+        // When
+        CustomPaginationData<PurchaseSuggestionResponseDto, PurchaseSuggestion> foundSuggestions =
+                purchaseSuggestionService.findLatest(pageable);
+
+        // Then
+        assertThat(foundSuggestions.getData())
+                .extracting(PurchaseSuggestionResponseDto::getQuantityToOrder)
+                .containsExactly(130, 385);
+        assertThat(foundSuggestions.getData())
+                .extracting(PurchaseSuggestionResponseDto::getSubcategoryName)
+                .containsExactly("Helado de leche", "Papas fritas");
+        assertThat(foundSuggestions.getMetadata().getHasNext()).isTrue();
+    }
+
+    @Test
+    public void findLatestSummary_ExistingRun_Return_TotalsBySubcategory() {
+        // Given
+        PurchaseSuggestionRun run = new PurchaseSuggestionRun(12L, OffsetDateTime.now(), 3);
+
+        given(purchaseSuggestionRunDao.findFirstByOrderByIdDesc()).willReturn(Optional.of(run));
+        given(purchaseSuggestionDao.summarizeByRunId(12L)).willReturn(List.of(
+                new PurchaseSuggestionSummaryProjection(1, "Dulces", 2, "Gomitas", 2, 515)
+        ));
+
+        // When
+        List<PurchaseSuggestionSummaryResponseDto> summary = purchaseSuggestionService.findLatestSummary();
+
+        // Then
+        assertThat(summary).hasSize(1);
+        assertThat(summary.get(0).getSubcategoryName()).isEqualTo("Gomitas");
+        assertThat(summary.get(0).getQuantityToOrder()).isEqualTo(515);
+    }
+
+    @Test
+    public void findLatest_NonExistingRun_Throw_DataNotFoundException() {
+        // Given
+        given(purchaseSuggestionRunDao.findFirstByOrderByIdDesc()).willReturn(Optional.empty());
+
+        // When
+        DataNotFoundException thrown = assertThrows(DataNotFoundException.class, () -> {
+            purchaseSuggestionService.findLatest(PageRequest.of(0, 5));
+        });
+
+        // Then
+        MatcherAssert.assertThat(thrown.getMessage(), is(MessageConstants.PURCHASE_SUGGESTIONS_NOT_FOUND));
+    }
+}
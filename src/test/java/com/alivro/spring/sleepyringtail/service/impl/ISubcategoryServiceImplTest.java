@@ -1,16 +1,26 @@
 package com.alivro.spring.sleepyringtail.service.impl;
 
+import com.alivro.spring.sleepyringtail.cache.BarcodeCache;
+import com.alivro.spring.sleepyringtail.cache.CategoryTreeCache;
+import com.alivro.spring.sleepyringtail.cache.ExistenceFilter;
+import com.alivro.spring.sleepyringtail.cache.UniqueKey;
 import com.alivro.spring.sleepyringtail.constants.MessageConstants;
+import com.alivro.spring.sleepyringtail.dao.ProductDao;
 import com.alivro.spring.sleepyringtail.dao.SubcategoryDao;
 import com.alivro.spring.sleepyringtail.exception.DataAlreadyExistsException;
 import com.alivro.spring.sleepyringtail.exception.DataNotFoundException;
+import com.alivro.spring.sleepyringtail.mapper.SubcategoryMapper;
 import com.alivro.spring.sleepyringtail.model.Category;
 import com.alivro.spring.sleepyringtail.model.Product;
 import com.alivro.spring.sleepyringtail.model.Subcategory;
+import com.alivro.spring.sleepyringtail.model.subcategory.projection.SubcategoryGenericProjection;
 import com.alivro.spring.sleepyringtail.model.subcategory.request.SubcategoryGenericRequestDto;
 import com.alivro.spring.sleepyringtail.model.subcategory.response.SubcategoryGenericResponseDto;
 import com.alivro.spring.sleepyringtail.model.subcategory.response.SubcategoryGetResponseDto;
 import com.alivro.spring.sleepyringtail.model.util.request.CategoryRequestDto;
+import com.alivro.spring.sleepyringtail.search.ProductSearchIndex;
+import com.alivro.spring.sleepyringtail.search.SuggestionIndex;
+import com.alivro.spring.sleepyringtail.search.SuggestionType;
 import com.alivro.spring.sleepyringtail.util.pagination.CustomPageMetadata;
 import com.alivro.spring.sleepyringtail.util.pagination.CustomPaginationData;
 import org.hamcrest.MatcherAssert;
@@ -20,7 +30,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -34,6 +43,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
@@ -46,6 +56,24 @@ public class ISubcategoryServiceImplTest {
     @Mock
     private SubcategoryDao subcategoryDao;
 
+    @Mock
+    private ProductDao productDao;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private SuggestionIndex suggestionIndex;
+
+    @Mock
+    private ExistenceFilter existenceFilter;
+
+    @Mock
+    private CategoryTreeCache categoryTreeCache;
+
+    @Mock
+    private BarcodeCache barcodeCache;
+
     @InjectMocks
     private ISubcategoryServiceImpl subcategoryService;
 
@@ -67,7 +95,7 @@ public class ISubcategoryServiceImplTest {
 
     @BeforeAll
     public static void setup() {
-        ModelMapper modelMapper = new ModelMapper();
+        SubcategoryMapper subcategoryMapper = SubcategoryMapper.INSTANCE;
 
         // Buscar todas las subcategorías
         Category bebidas = Category.builder()
@@ -134,7 +162,7 @@ public class ISubcategoryServiceImplTest {
                 .category(botanasRequest)
                 .build();
 
-        gomitasToSave = modelMapper.map(gomitasSaveRequest, Subcategory.class);
+        gomitasToSave = subcategoryMapper.toEntity(gomitasSaveRequest);
 
         gomitasSaved = gomitasToSave.toBuilder().id(5).build();
 
@@ -149,7 +177,7 @@ public class ISubcategoryServiceImplTest {
                 .category(dulcesRequest)
                 .build();
 
-        gomitasToUpdate = modelMapper.map(gomitasUpdateRequest, Subcategory.class);
+        gomitasToUpdate = subcategoryMapper.toEntity(gomitasUpdateRequest);
 
         gomitasUpdated = gomitasToUpdate.toBuilder().id(5).build();
     }
@@ -161,17 +189,17 @@ public class ISubcategoryServiceImplTest {
         int pageSize = 5;
         String sortBy = "name";
 
-        List<Subcategory> subcategories = new ArrayList<>();
-        subcategories.add(aguaNatural);
-        subcategories.add(chocolate);
-        subcategories.add(heladoLeche);
-        subcategories.add(papasFritas);
+        List<SubcategoryGenericProjection> subcategories = new ArrayList<>();
+        subcategories.add(mapToProjection(aguaNatural));
+        subcategories.add(mapToProjection(chocolate));
+        subcategories.add(mapToProjection(heladoLeche));
+        subcategories.add(mapToProjection(papasFritas));
 
         Pageable pageable = PageRequest.ofSize(pageSize)
                 .withPage(pageNumber)
                 .withSort(Sort.by(sortBy).ascending());
 
-        given(subcategoryDao.findAll(pageable)).willReturn(
+        given(subcategoryDao.findAllProjected(pageable)).willReturn(
                 new PageImpl<>(subcategories, pageable, subcategories.size())
         );
 
@@ -203,13 +231,13 @@ public class ISubcategoryServiceImplTest {
         int pageSize = 5;
         String sortBy = "id";
 
-        List<Subcategory> subcategories = new ArrayList<>();
+        List<SubcategoryGenericProjection> subcategories = new ArrayList<>();
 
         Pageable pageable = PageRequest.ofSize(pageSize)
                 .withPage(pageNumber)
                 .withSort(Sort.by(sortBy).ascending());
 
-        given(subcategoryDao.findAll(pageable)).willReturn(
+        given(subcategoryDao.findAllProjected(pageable)).willReturn(
                 new PageImpl<>(subcategories, pageable, 0)
         );
 
@@ -239,15 +267,15 @@ public class ISubcategoryServiceImplTest {
         int pageSize = 5;
         String sortBy = "name";
 
-        List<Subcategory> subcategories = new ArrayList<>();
-        subcategories.add(chocolate);
-        subcategories.add(heladoLeche);
+        List<SubcategoryGenericProjection> subcategories = new ArrayList<>();
+        subcategories.add(mapToProjection(chocolate));
+        subcategories.add(mapToProjection(heladoLeche));
 
         Pageable pageable = PageRequest.ofSize(pageSize)
                 .withPage(pageNumber)
                 .withSort(Sort.by(sortBy).ascending());
 
-        given(subcategoryDao.findByNameContainingIgnoreCase(word, pageable)).willReturn(
+        given(subcategoryDao.findProjectedByNameContainingIgnoreCase(word, pageable)).willReturn(
                 new PageImpl<>(subcategories, pageable, subcategories.size())
         );
 
@@ -279,13 +307,13 @@ public class ISubcategoryServiceImplTest {
         int pageSize = 5;
         String sortBy = "id";
 
-        List<Subcategory> subcategories = new ArrayList<>();
+        List<SubcategoryGenericProjection> subcategories = new ArrayList<>();
 
         Pageable pageable = PageRequest.ofSize(pageSize)
                 .withPage(pageNumber)
                 .withSort(Sort.by(sortBy).ascending());
 
-        given(subcategoryDao.findByNameContainingIgnoreCase(word, pageable)).willReturn(
+        given(subcategoryDao.findProjectedByNameContainingIgnoreCase(word, pageable)).willReturn(
                 new PageImpl<>(subcategories, pageable, 0)
         );
 
@@ -343,6 +371,7 @@ public class ISubcategoryServiceImplTest {
     @Test
     public void save_NonExistingSubcategory_Return_SavedSubcategory() {
         // Given
+        given(existenceFilter.mightContain(UniqueKey.SUBCATEGORY_NAME, gomitasSaveRequest.getName())).willReturn(true);
         given(subcategoryDao.existsByName(gomitasSaveRequest.getName())).willReturn(false);
         given(subcategoryDao.save(gomitasToSave)).willReturn(gomitasSaved);
 
@@ -356,9 +385,27 @@ public class ISubcategoryServiceImplTest {
         assertThat(savedSubcategory.getCategory().getName()).isEqualTo("Botanas");
     }
 
+    @Test
+    public void save_KeyNotInExistenceFilter_Return_SavedSubcategoryWithoutExistenceQuery() {
+        // Given
+        given(subcategoryDao.save(gomitasToSave)).willReturn(gomitasSaved);
+
+        // When
+        SubcategoryGenericResponseDto savedSubcategory = subcategoryService.save(gomitasSaveRequest);
+
+        // Then
+        assertThat(savedSubcategory).isNotNull();
+        assertThat(savedSubcategory.getName()).isEqualTo("Gomitas");
+        assertThat(savedSubcategory.getDescription()).isEqualTo(null);
+        assertThat(savedSubcategory.getCategory().getName()).isEqualTo("Botanas");
+
+        verify(subcategoryDao, times(0)).existsByName(anyString());
+    }
+
     @Test
     public void save_ExistingSubcategory_Throw_DataAlreadyExistsException() {
         // Given
+        given(existenceFilter.mightContain(any(UniqueKey.class), anyString())).willReturn(true);
         given(subcategoryDao.existsByName(anyString())).willReturn(true);
 
         // When
@@ -376,6 +423,7 @@ public class ISubcategoryServiceImplTest {
 
         given(subcategoryDao.findById(subcategoryId)).willReturn(Optional.ofNullable(gomitasToUpdate));
         given(subcategoryDao.save(gomitasToUpdate)).willReturn(gomitasUpdated);
+        given(productDao.findIdsBySubcategoryId(subcategoryId)).willReturn(List.of(21, 22));
 
         // When
         SubcategoryGenericResponseDto updatedSubcategory = subcategoryService.update(5, gomitasUpdateRequest);
@@ -386,6 +434,9 @@ public class ISubcategoryServiceImplTest {
         assertThat(updatedSubcategory.getName()).isEqualTo("Caramelos de goma");
         assertThat(updatedSubcategory.getDescription()).isEqualTo(null);
         assertThat(updatedSubcategory.getCategory().getName()).isEqualTo("Dulces");
+
+        verify(productSearchIndex, times(1)).refreshAll(List.of(21, 22));
+        verify(barcodeCache, times(1)).invalidateProducts(List.of(21, 22));
     }
 
     @Test
@@ -411,5 +462,16 @@ public class ISubcategoryServiceImplTest {
 
         // Then
         verify(subcategoryDao, times(1)).deleteById(10);
+        verify(suggestionIndex, times(1)).remove(SuggestionType.SUBCATEGORY, 10);
+    }
+
+    private static SubcategoryGenericProjection mapToProjection(Subcategory subcategory) {
+        return new SubcategoryGenericProjection(
+                subcategory.getId(),
+                subcategory.getName(),
+                subcategory.getDescription(),
+                subcategory.getCategory().getId(),
+                subcategory.getCategory().getName()
+        );
     }
 }